@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the functionality of the enum {@link ChangePayload}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class ChangePayloadTest {
+
+    /**
+     * Tests the functionality of the fromPayloads-method, if only payloads of the type {@link
+     * ChangePayload} are given.
+     */
+    @Test
+    public final void testFromPayloads() {
+        List<Object> payloads = Arrays.<Object>asList(ChangePayload.SELECTION,
+                ChangePayload.ITEM_STATE, ChangePayload.SELECTION);
+        Set<ChangePayload> result = ChangePayload.fromPayloads(payloads);
+        assertEquals(EnumSet.of(ChangePayload.SELECTION, ChangePayload.ITEM_STATE), result);
+    }
+
+    /**
+     * Tests, that the fromPayloads-method returns null, if no payloads are given.
+     */
+    @Test
+    public final void testFromPayloadsReturnsNullWhenPayloadsAreEmpty() {
+        assertNull(ChangePayload.fromPayloads(new ArrayList<Object>()));
+    }
+
+    /**
+     * Tests, that the fromPayloads-method returns null, if an unknown payload is given.
+     */
+    @Test
+    public final void testFromPayloadsReturnsNullWhenPayloadIsUnknown() {
+        List<Object> payloads = Arrays.<Object>asList(ChangePayload.EXPANSION, false);
+        assertNull(ChangePayload.fromPayloads(payloads));
+        assertNull(ChangePayload.fromPayloads(Collections.<Object>singletonList("payload")));
+    }
+
+}
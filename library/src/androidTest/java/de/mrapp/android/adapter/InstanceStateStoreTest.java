@@ -0,0 +1,123 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import android.content.Context;
+import android.os.Bundle;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link InstanceStateStore}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class InstanceStateStoreTest {
+
+    /**
+     * Creates and returns a store, which writes to the cache directory of the test context.
+     *
+     * @return The store, which has been created, as an instance of the class {@link
+     * InstanceStateStore}
+     */
+    private InstanceStateStore createStore() {
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        return new InstanceStateStore(context);
+    }
+
+    /**
+     * Deletes all files, which have been written by the tests.
+     */
+    @After
+    public final void tearDown() {
+        createStore().clear();
+    }
+
+    /**
+     * Tests the functionality of the constructor, which expects a context as a parameter.
+     */
+    @Test
+    public final void testConstructor() {
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        InstanceStateStore store = new InstanceStateStore(context);
+        assertEquals(new File(context.getCacheDir(), InstanceStateStore.DEFAULT_DIRECTORY_NAME),
+                store.getDirectory());
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to write and read saved states.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testWriteAndRead() throws IOException {
+        InstanceStateStore store = createStore();
+        Bundle savedState = new Bundle();
+        savedState.putInt("key", 1);
+        savedState.putString("key2", "value");
+        Bundle handle = store.write(savedState);
+        assertTrue(InstanceStateStore.isHandle(handle));
+        assertFalse(InstanceStateStore.isHandle(savedState));
+        assertFalse(handle.containsKey("key"));
+        Bundle restoredState = store.read(handle);
+        assertEquals(1, restoredState.getInt("key"));
+        assertEquals("value", restoredState.getString("key2"));
+    }
+
+    /**
+     * Tests, that the read-method returns null, if the file has been deleted.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testReadWhenFileHasBeenDeleted() throws IOException {
+        InstanceStateStore store = createStore();
+        Bundle handle = store.write(new Bundle());
+        assertTrue(store.delete(handle));
+        assertNull(store.read(handle));
+    }
+
+    /**
+     * Tests the functionality of the clear-method.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testClear() throws IOException {
+        InstanceStateStore store = createStore();
+        Bundle handle1 = store.write(new Bundle());
+        Bundle handle2 = store.write(new Bundle());
+        store.clear();
+        assertNull(store.read(handle1));
+        assertNull(store.read(handle2));
+    }
+
+}
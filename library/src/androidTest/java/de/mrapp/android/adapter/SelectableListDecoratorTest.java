@@ -21,6 +21,8 @@ import android.view.ViewGroup;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.EnumSet;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
@@ -150,6 +152,35 @@ public class SelectableListDecoratorTest {
         assertEquals(selected, selectableListDecorator.selected);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testApplyDecoratorPartially() {
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        SelectableListAdapter<Object> adapter = mock(SelectableListAdapter.class);
+        View view = new View(context);
+        Object item = new Object();
+        int index = 1;
+        boolean enabled = true;
+        int state = 1;
+        boolean filtered = true;
+        boolean selected = true;
+        SelectableListDecoratorImplementation selectableListDecorator =
+                new SelectableListDecoratorImplementation();
+        selectableListDecorator
+                .applyDecoratorPartially(context, adapter, view, item, index, enabled, state,
+                        filtered, selected, EnumSet.of(ChangePayload.SELECTION));
+        assertEquals(context, selectableListDecorator.context);
+        assertEquals(adapter, selectableListDecorator.adapter);
+        assertEquals(view, selectableListDecorator.view);
+        assertEquals(item, selectableListDecorator.item);
+        assertEquals(0, selectableListDecorator.viewType);
+        assertEquals(index, selectableListDecorator.index);
+        assertEquals(enabled, selectableListDecorator.enabled);
+        assertEquals(state, selectableListDecorator.state);
+        assertEquals(filtered, selectableListDecorator.filtered);
+        assertEquals(selected, selectableListDecorator.selected);
+    }
+
     @Test
     public final void testGetViewType() {
         Object item = new Object();
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import android.content.Context;
+import android.os.Bundle;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+import de.mrapp.android.adapter.datastructure.Restorable;
+import de.mrapp.android.adapter.datastructure.item.CompactItemList;
+import de.mrapp.android.adapter.datastructure.item.Item;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the functionality of the class {@link SnapshotFile}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class SnapshotFileTest {
+
+    /**
+     * The name of the file, which is used by the tests.
+     */
+    private static final String NAME = "test";
+
+    /**
+     * Creates and returns a snapshot file, which is located within the files directory of the
+     * test context.
+     *
+     * @param version
+     *         The version of the snapshot as an {@link Integer} value
+     * @return The snapshot file, which has been created, as an instance of the class {@link
+     * SnapshotFile}
+     */
+    private SnapshotFile createSnapshotFile(final int version) {
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        return new SnapshotFile(context, NAME, version);
+    }
+
+    /**
+     * Creates and returns a mocked adapter, which saves a specific value as its instance state.
+     *
+     * @param value
+     *         The value, which should be saved, as an {@link Integer} value
+     * @return The adapter, which has been created, as an instance of the type {@link Restorable}
+     */
+    private Restorable createAdapter(final int value) {
+        Restorable adapter = mock(Restorable.class);
+        doAnswer(new Answer<Void>() {
+
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                Bundle outState = (Bundle) invocation.getArguments()[0];
+                String key = (String) invocation.getArguments()[1];
+                Bundle savedState = new Bundle();
+                savedState.putInt("key", value);
+                outState.putBundle(key, savedState);
+                return null;
+            }
+
+        }).when(adapter).onSaveInstanceState(any(Bundle.class), anyString());
+        return adapter;
+    }
+
+    /**
+     * Deletes the file, which has been written by the tests.
+     */
+    @After
+    public final void tearDown() {
+        createSnapshotFile(1).delete();
+    }
+
+    /**
+     * Tests the functionality of the constructor, which expects a context as a parameter.
+     */
+    @Test
+    public final void testConstructor() {
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        SnapshotFile snapshotFile = new SnapshotFile(context, NAME, 2);
+        assertEquals(new File(new File(context.getFilesDir(), SnapshotFile.DEFAULT_DIRECTORY_NAME),
+                NAME), snapshotFile.getFile());
+        assertEquals(2, snapshotFile.getVersion());
+        assertFalse(snapshotFile.exists());
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to write and read snapshots.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testWriteAndRead() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(1);
+        snapshotFile.write(createAdapter(1));
+        assertTrue(snapshotFile.exists());
+        snapshotFile.write(createAdapter(2));
+        Bundle savedState = snapshotFile.read();
+        assertEquals(2, savedState.getInt("key"));
+    }
+
+    /**
+     * Tests, that the values of different types, which are contained by a saved state, are
+     * retained, when writing and reading a snapshot.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testWriteAndReadValues() throws IOException {
+        List<Item<String>> items = new ArrayList<>();
+        items.add(new Item<>("foo"));
+        items.add(new Item<>("bar"));
+        items.get(1).setSelected(true);
+        final Bundle parameters = new Bundle();
+        parameters.putString("string", "foo");
+        final Bundle savedState = new Bundle();
+        savedState.putBoolean("boolean", true);
+        savedState.putLong("long", 2L);
+        savedState.putByteArray("byteArray", new byte[]{1, 2});
+        savedState.putIntArray("intArray", new int[]{3, 4});
+        savedState.putBundle("bundle", parameters);
+        savedState.putParcelable("items", new CompactItemList<>(items));
+        Restorable adapter = mock(Restorable.class);
+        doAnswer(new Answer<Void>() {
+
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                Bundle outState = (Bundle) invocation.getArguments()[0];
+                outState.putBundle((String) invocation.getArguments()[1], savedState);
+                return null;
+            }
+
+        }).when(adapter).onSaveInstanceState(any(Bundle.class), anyString());
+        SnapshotFile snapshotFile = createSnapshotFile(1);
+        snapshotFile.write(adapter);
+        Bundle result = snapshotFile.read();
+        assertTrue(result.getBoolean("boolean"));
+        assertEquals(2L, result.getLong("long"));
+        assertArrayEquals(new byte[]{1, 2}, result.getByteArray("byteArray"));
+        assertArrayEquals(new int[]{3, 4}, result.getIntArray("intArray"));
+        assertEquals("foo", result.getBundle("bundle").getString("string"));
+        CompactItemList<String> compactItems = result.getParcelable("items");
+        assertEquals(2, compactItems.getItems().size());
+        assertEquals("foo", compactItems.getItems().get(0).getData());
+        assertEquals("bar", compactItems.getItems().get(1).getData());
+        assertEquals(items.get(1).getId(), compactItems.getItems().get(1).getId());
+        assertTrue(compactItems.getItems().get(1).isSelected());
+    }
+
+    /**
+     * Tests, that an exception is thrown by the write-method, if the data of the items, which are
+     * contained by the saved state, is only parcelable.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test(expected = IOException.class)
+    public final void testWriteThrowsExceptionWhenItemsAreNotSerializable() throws IOException {
+        List<Item<ParcelableImplementation>> items = new ArrayList<>();
+        items.add(new Item<>(new ParcelableImplementation(1)));
+        final Bundle savedState = new Bundle();
+        savedState.putParcelable("items", new CompactItemList<>(items));
+        Restorable adapter = mock(Restorable.class);
+        doAnswer(new Answer<Void>() {
+
+            @Override
+            public Void answer(final InvocationOnMock invocation) {
+                Bundle outState = (Bundle) invocation.getArguments()[0];
+                outState.putBundle((String) invocation.getArguments()[1], savedState);
+                return null;
+            }
+
+        }).when(adapter).onSaveInstanceState(any(Bundle.class), anyString());
+        createSnapshotFile(1).write(adapter);
+    }
+
+    /**
+     * Tests the functionality of the writeAsync-method.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testWriteAsync() throws IOException {
+        final SnapshotFile snapshotFile = createSnapshotFile(1);
+        final Restorable adapter = createAdapter(3);
+        final SnapshotFile.WriteCallback callback = mock(SnapshotFile.WriteCallback.class);
+        when(adapter.getRestoreExecutor()).thenReturn(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                command.run();
+            }
+
+        });
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                snapshotFile.writeAsync(adapter, callback);
+            }
+
+        });
+        InstrumentationRegistry.getInstrumentation().waitForIdleSync();
+        verify(callback).onSnapshotWritten(snapshotFile);
+        verify(callback, never())
+                .onSnapshotWriteFailed(any(SnapshotFile.class), any(Exception.class));
+        assertEquals(3, snapshotFile.read().getInt("key"));
+    }
+
+    /**
+     * Tests, that the read-method returns null, if no snapshot has been written.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testReadWhenFileDoesNotExist() throws IOException {
+        assertNull(createSnapshotFile(1).read());
+    }
+
+    /**
+     * Tests, that the read-method returns null, if the snapshot has been written with a different
+     * version.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testReadWhenVersionDiffers() throws IOException {
+        createSnapshotFile(1).write(createAdapter(1));
+        assertNull(createSnapshotFile(2).read());
+    }
+
+    /**
+     * Tests the functionality of the restore-method.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testRestore() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(1);
+        Restorable adapter = mock(Restorable.class);
+        assertFalse(snapshotFile.restore(adapter));
+        verify(adapter, never()).onRestoreInstanceStateAsync(any(Bundle.class), anyString());
+        snapshotFile.write(createAdapter(1));
+        assertTrue(snapshotFile.restore(adapter));
+        ArgumentCaptor<Bundle> captor = ArgumentCaptor.forClass(Bundle.class);
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(adapter).onRestoreInstanceStateAsync(captor.capture(), keyCaptor.capture());
+        Bundle handle = captor.getValue().getBundle(keyCaptor.getValue());
+        assertTrue(SnapshotFile.isHandle(handle));
+        assertEquals(1, SnapshotFile.read(handle, null).getInt("key"));
+    }
+
+    /**
+     * Tests the functionality of the delete-method.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testDelete() throws IOException {
+        SnapshotFile snapshotFile = createSnapshotFile(1);
+        snapshotFile.write(createAdapter(1));
+        assertTrue(snapshotFile.delete());
+        assertFalse(snapshotFile.exists());
+    }
+
+}
@@ -63,6 +63,31 @@ public class AbstractAdapterItemTest {
         new AbstractAdapterItemImplementation<>(null);
     }
 
+    @Test
+    public final void testGetId() {
+        AbstractAdapterItem<Object> abstractAdapterItem1 =
+                new AbstractAdapterItemImplementation<>(new Object());
+        AbstractAdapterItem<Object> abstractAdapterItem2 =
+                new AbstractAdapterItemImplementation<>(new Object());
+        assertTrue(abstractAdapterItem1.getId() >= 1);
+        assertTrue(abstractAdapterItem2.getId() > abstractAdapterItem1.getId());
+    }
+
+    @Test
+    public final void testSetId() {
+        AbstractAdapterItem<Object> abstractAdapterItem =
+                new AbstractAdapterItemImplementation<>(new Object());
+        long id = abstractAdapterItem.getId() + 1000;
+        abstractAdapterItem.setId(id);
+        assertEquals(id, abstractAdapterItem.getId());
+        assertTrue(new AbstractAdapterItemImplementation<>(new Object()).getId() > id);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testSetIdThrowsException() {
+        new AbstractAdapterItemImplementation<>(new Object()).setId(0);
+    }
+
     @Test
     public final void testCompareTo() {
         int mockedResult = 1;
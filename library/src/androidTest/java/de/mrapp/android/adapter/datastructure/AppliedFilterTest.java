@@ -26,6 +26,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -136,6 +137,48 @@ public class AppliedFilterTest {
         parcel.recycle();
     }
 
+    @Test
+    public final void testCreatorCreateFromMarshalledParcel() {
+        String query = "query";
+        int flags = 2;
+        AppliedFilter<Object> appliedFilter = new AppliedFilter<>(query, flags);
+        Parcel parcel = Parcel.obtain();
+        appliedFilter.writeToParcel(parcel, 0);
+        byte[] bytes = parcel.marshall();
+        parcel.recycle();
+        parcel = Parcel.obtain();
+        parcel.unmarshall(bytes, 0, bytes.length);
+        parcel.setDataPosition(0);
+        AppliedFilter<?> restoredAppliedFilter = AppliedFilter.CREATOR.createFromParcel(parcel);
+        assertEquals(query, restoredAppliedFilter.getQuery());
+        assertEquals(flags, restoredAppliedFilter.getFlags());
+        assertNull(restoredAppliedFilter.getFilter());
+        parcel.recycle();
+    }
+
+    @Test
+    public final void testCreatorCreateFromParcelWithParcelableFilter() {
+        String query = "query";
+        int flags = 3;
+        String prefix = "prefix";
+        AppliedFilter<Object> appliedFilter =
+                new AppliedFilter<>(query, flags, new ParcelableFilterImplementation(prefix));
+        Parcel parcel = Parcel.obtain();
+        appliedFilter.writeToParcel(parcel, 0);
+        byte[] bytes = parcel.marshall();
+        parcel.recycle();
+        parcel = Parcel.obtain();
+        parcel.unmarshall(bytes, 0, bytes.length);
+        parcel.setDataPosition(0);
+        AppliedFilter<?> restoredAppliedFilter = AppliedFilter.CREATOR.createFromParcel(parcel);
+        assertEquals(query, restoredAppliedFilter.getQuery());
+        assertEquals(flags, restoredAppliedFilter.getFlags());
+        assertTrue(restoredAppliedFilter.getFilter() instanceof ParcelableFilterImplementation);
+        assertEquals(prefix,
+                ((ParcelableFilterImplementation) restoredAppliedFilter.getFilter()).getPrefix());
+        parcel.recycle();
+    }
+
     @Test
     public final void testCreatorNewArray() {
         int size = 1;
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import de.mrapp.android.adapter.RefinableFilter;
+import de.mrapp.android.adapter.datastructure.item.Item;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the functionality of the class {@link FilterResultCache}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class FilterResultCacheTest {
+
+    /**
+     * An implementation of the interface {@link RefinableFilter}, which is needed for test
+     * purposes. A query refines another one, if it starts with the other query.
+     */
+    private static class RefinableFilterImplementation implements RefinableFilter<String> {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public boolean match(@NonNull final String data, @NonNull final String query,
+                             final int flags) {
+            return data.startsWith(query);
+        }
+
+        @Override
+        public boolean isRefinement(@NonNull final String query, final int flags,
+                                    @NonNull final String previousQuery, final int previousFlags) {
+            return flags == previousFlags && query.startsWith(previousQuery);
+        }
+
+    }
+
+    /**
+     * Creates and returns a list, which contains items with specific data.
+     *
+     * @param data
+     *         An array, which contains the data of the items, as a {@link String} array
+     * @return The list, which has been created, as an instance of the type {@link List}
+     */
+    private List<Item<String>> createItems(final String... data) {
+        List<Item<String>> items = new ArrayList<>();
+
+        for (String item : data) {
+            items.add(new Item<>(item));
+        }
+
+        return items;
+    }
+
+    /**
+     * Tests, that an empty cache can be queried and cleared.
+     */
+    @Test
+    public final void testEmptyCache() {
+        FilterResultCache<String> cache = new FilterResultCache<>(2);
+        List<AppliedFilter<String>> filters =
+                Collections.singletonList(new AppliedFilter<String>("a", 0));
+        List<AppliedFilter<String>> noFilters = Collections.emptyList();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(filters));
+        assertNull(cache.getRefinedResult(noFilters, new AppliedFilter<String>("a", 0)));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Tests the functionality of the put- and get-method.
+     */
+    @Test
+    public final void testPutAndGet() {
+        FilterResultCache<String> cache = new FilterResultCache<>(2);
+        AppliedFilter<String> filter = new AppliedFilter<>("a", 0);
+        List<Item<String>> items = createItems("a", "ab");
+        cache.put(Collections.singletonList(filter), items, new int[]{0, 2});
+        FilterResultCache.Result<String> result =
+                cache.get(Collections.singletonList(new AppliedFilter<String>("a", 0)));
+        assertNotNull(result);
+        assertEquals(items, result.getItems());
+        assertEquals(2, result.getUnfilteredIndices()[1]);
+        assertNull(cache.get(Collections.singletonList(new AppliedFilter<String>("b", 0))));
+    }
+
+    /**
+     * Tests, that the least recently used result is evicted, if the capacity is exceeded.
+     */
+    @Test
+    public final void testEviction() {
+        FilterResultCache<String> cache = new FilterResultCache<>(2);
+        List<AppliedFilter<String>> filters1 =
+                Collections.singletonList(new AppliedFilter<String>("a", 0));
+        List<AppliedFilter<String>> filters2 =
+                Collections.singletonList(new AppliedFilter<String>("b", 0));
+        List<AppliedFilter<String>> filters3 =
+                Collections.singletonList(new AppliedFilter<String>("c", 0));
+        cache.put(filters1, createItems("a"), new int[]{0});
+        cache.put(filters2, createItems("b"), new int[]{1});
+        cache.get(filters1);
+        cache.put(filters3, createItems("c"), new int[]{2});
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(filters1));
+        assertNull(cache.get(filters2));
+        assertNotNull(cache.get(filters3));
+    }
+
+    /**
+     * Tests the functionality of the getRefinedResult-method.
+     */
+    @Test
+    public final void testGetRefinedResult() {
+        RefinableFilterImplementation filter = new RefinableFilterImplementation();
+        FilterResultCache<String> cache = new FilterResultCache<>(4);
+        AppliedFilter<String> previousFilter1 = new AppliedFilter<String>("j", 0, filter);
+        AppliedFilter<String> previousFilter2 = new AppliedFilter<String>("jo", 0, filter);
+        cache.put(Collections.singletonList(previousFilter1), createItems("jo", "joe", "jim"),
+                new int[]{0, 1, 2});
+        cache.put(Collections.singletonList(previousFilter2), createItems("jo", "joe"),
+                new int[]{0, 1});
+        List<AppliedFilter<String>> noFilters = Collections.emptyList();
+        FilterResultCache.Result<String> result =
+                cache.getRefinedResult(noFilters, new AppliedFilter<>("joe", 0, filter));
+        assertNotNull(result);
+        assertSame(cache.get(Collections.singletonList(previousFilter2)), result);
+        assertNull(cache.getRefinedResult(noFilters, new AppliedFilter<>("a", 0, filter)));
+        assertNull(cache.getRefinedResult(noFilters,
+                new AppliedFilter<>("joe", 0, new RefinableFilterImplementation())));
+        assertNull(cache.getRefinedResult(
+                Arrays.asList(new AppliedFilter<String>("x", 0)),
+                new AppliedFilter<>("joe", 0, filter)));
+    }
+
+    /**
+     * Tests the functionality of the clear-method.
+     */
+    @Test
+    public final void testClear() {
+        FilterResultCache<String> cache = new FilterResultCache<>(2);
+        List<AppliedFilter<String>> filters =
+                Collections.singletonList(new AppliedFilter<String>("a", 0));
+        cache.put(filters, createItems("a"), new int[]{0});
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(filters));
+    }
+
+}
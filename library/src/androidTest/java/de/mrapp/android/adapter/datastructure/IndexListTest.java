@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link IndexList}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class IndexListTest {
+
+    /**
+     * Tests the functionality of the methods, which allow to access the indices.
+     */
+    @Test
+    public final void testAccessIndices() {
+        IndexList indexList = new IndexList(new int[]{1, 4, 7});
+        assertEquals(3, indexList.size());
+        assertFalse(indexList.isEmpty());
+        assertEquals(1, indexList.get(0));
+        assertEquals(7, indexList.get(2));
+        assertTrue(indexList.contains(4));
+        assertFalse(indexList.contains(5));
+        assertTrue(new IndexList(new int[0]).isEmpty());
+    }
+
+    /**
+     * Tests, that the array, which is returned by the toArray-method, is a copy.
+     */
+    @Test
+    public final void testToArray() {
+        IndexList indexList = new IndexList(new int[]{1, 2});
+        int[] indices = indexList.toArray();
+        assertArrayEquals(new int[]{1, 2}, indices);
+        indices[0] = 3;
+        assertEquals(1, indexList.get(0));
+    }
+
+    /**
+     * Tests the functionality of the equals- and hashCode-method.
+     */
+    @Test
+    public final void testEqualsAndHashCode() {
+        IndexList indexList1 = new IndexList(new int[]{1, 2});
+        IndexList indexList2 = new IndexList(new int[]{1, 2});
+        IndexList indexList3 = new IndexList(new int[]{1, 3});
+        assertEquals(indexList1, indexList2);
+        assertEquals(indexList1.hashCode(), indexList2.hashCode());
+        assertNotEquals(indexList1, indexList3);
+        assertNotEquals(indexList1, null);
+    }
+
+}
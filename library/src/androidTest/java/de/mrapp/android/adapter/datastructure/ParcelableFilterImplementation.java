@@ -0,0 +1,94 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.Filter;
+
+/**
+ * An implementation of the interface {@link Filter}, which implements the interface {@link
+ * Parcelable} and is needed for test purposes.
+ *
+ * @author Michael Rapp
+ */
+public class ParcelableFilterImplementation implements Filter<Object>, Parcelable {
+
+    /**
+     * A creator, which allows to create instances of the class {@link
+     * ParcelableFilterImplementation} from parcels.
+     */
+    public static final Creator<ParcelableFilterImplementation> CREATOR =
+            new Creator<ParcelableFilterImplementation>() {
+
+                @Override
+                public ParcelableFilterImplementation createFromParcel(final Parcel source) {
+                    return new ParcelableFilterImplementation(source.readString());
+                }
+
+                @Override
+                public ParcelableFilterImplementation[] newArray(final int size) {
+                    return new ParcelableFilterImplementation[size];
+                }
+
+            };
+
+    /**
+     * The constant serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The prefix, items must start with in order to match the filter.
+     */
+    private final String prefix;
+
+    /**
+     * Creates a new filter, which implements the interface {@link Parcelable}.
+     *
+     * @param prefix
+     *         The prefix, items must start with in order to match the filter, as a {@link String}
+     */
+    public ParcelableFilterImplementation(final String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Returns the prefix, items must start with in order to match the filter.
+     *
+     * @return The prefix, items must start with in order to match the filter, as a {@link String}
+     */
+    public final String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public final boolean match(@NonNull final Object data, @NonNull final String query,
+                               final int flags) {
+        return data.toString().startsWith(prefix);
+    }
+
+    @Override
+    public final int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public final void writeToParcel(final Parcel dest, final int flags) {
+        dest.writeString(prefix);
+    }
+
+}
@@ -29,6 +29,9 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -80,6 +83,26 @@ public class GroupTest {
         assertEquals(childAdapter, group.getChildAdapter());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testChildAdapterFactory() {
+        MultipleChoiceListAdapter<Object> childAdapter = mock(MultipleChoiceListAdapter.class);
+        ChildAdapterFactory<Object> factory = mock(ChildAdapterFactory.class);
+        when(factory.createChildAdapter()).thenReturn(childAdapter);
+        when(childAdapter.getCount()).thenReturn(2);
+        Group<Object, Object> group = new Group<>(new Object());
+        group.setChildAdapterFactory(factory);
+        assertFalse(group.hasChildAdapter());
+        assertEquals(0, group.getChildCount());
+        assertFalse(group.match("", Group.FLAG_FILTER_EMPTY_GROUPS));
+        verify(factory, never()).createChildAdapter();
+        assertEquals(childAdapter, group.getChildAdapter());
+        assertTrue(group.hasChildAdapter());
+        assertEquals(2, group.getChildCount());
+        assertEquals(childAdapter, group.getChildAdapter());
+        verify(factory, times(1)).createChildAdapter();
+    }
+
     @Test
     public final void testSetExpanded() {
         boolean expanded = true;
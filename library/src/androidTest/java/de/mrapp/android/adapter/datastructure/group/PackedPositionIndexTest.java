@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.group;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link PackedPositionIndex}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class PackedPositionIndexTest {
+
+    /**
+     * Creates and returns an index, which contains groups with specific sizes.
+     *
+     * @param sizes
+     *         An array, which contains the sizes of the groups, as an {@link Integer} array
+     * @return The index, which has been created, as an instance of the class {@link
+     * PackedPositionIndex}
+     */
+    private PackedPositionIndex createIndex(final int... sizes) {
+        PackedPositionIndex index = new PackedPositionIndex();
+        index.reset(sizes.length);
+
+        for (int i = 0; i < sizes.length; i++) {
+            index.setSize(i, sizes[i]);
+        }
+
+        index.build();
+        return index;
+    }
+
+    /**
+     * Asserts, that an index maps all positions to the groups, which are given by specific sizes.
+     *
+     * @param index
+     *         The index, which should be tested, as an instance of the class {@link
+     *         PackedPositionIndex}
+     * @param sizes
+     *         An array, which contains the expected sizes of the groups, as an {@link Integer}
+     *         array
+     */
+    private void assertIndex(final PackedPositionIndex index, final int... sizes) {
+        int position = 0;
+
+        for (int i = 0; i < sizes.length; i++) {
+            assertEquals(position, index.getPosition(i));
+            assertEquals(sizes[i], index.getSize(i));
+
+            for (int j = 0; j < sizes[i]; j++) {
+                assertEquals(i, index.getGroupIndex(position + j));
+            }
+
+            position += sizes[i];
+        }
+
+        assertEquals(sizes.length, index.getGroupCount());
+        assertEquals(position, index.getTotalSize());
+        assertEquals(-1, index.getGroupIndex(-1));
+        assertEquals(-1, index.getGroupIndex(position));
+    }
+
+    /**
+     * Tests the functionality of the constructor.
+     */
+    @Test
+    public final void testConstructor() {
+        PackedPositionIndex index = new PackedPositionIndex();
+        assertFalse(index.isValid());
+        assertEquals(0, index.getGroupCount());
+    }
+
+    /**
+     * Tests the functionality of the build-method.
+     */
+    @Test
+    public final void testBuild() {
+        PackedPositionIndex index = createIndex(1, 3, 1, 5, 2, 1, 1, 4, 1, 1, 2, 7, 1, 1, 1, 1, 3);
+        assertTrue(index.isValid());
+        assertIndex(index, 1, 3, 1, 5, 2, 1, 1, 4, 1, 1, 2, 7, 1, 1, 1, 1, 3);
+    }
+
+    /**
+     * Tests the functionality of the build-method, if the index does not contain any groups.
+     */
+    @Test
+    public final void testBuildWhenEmpty() {
+        PackedPositionIndex index = createIndex();
+        assertTrue(index.isValid());
+        assertIndex(index);
+    }
+
+    /**
+     * Tests the functionality of the update-method.
+     */
+    @Test
+    public final void testUpdate() {
+        PackedPositionIndex index = createIndex(1, 1, 1, 1, 1);
+        index.update(1, 4);
+        index.update(3, 2);
+        assertIndex(index, 1, 4, 1, 2, 1);
+        index.update(1, 1);
+        assertIndex(index, 1, 1, 1, 2, 1);
+    }
+
+    /**
+     * Tests the functionality of the append-method.
+     */
+    @Test
+    public final void testAppend() {
+        PackedPositionIndex index = createIndex();
+        int[] sizes = new int[40];
+
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = i % 3 + 1;
+            index.append(sizes[i]);
+        }
+
+        assertIndex(index, sizes);
+    }
+
+    /**
+     * Tests the functionality of the removeLast-method.
+     */
+    @Test
+    public final void testRemoveLast() {
+        PackedPositionIndex index = createIndex(2, 3, 1, 4);
+        index.removeLast();
+        assertIndex(index, 2, 3, 1);
+        index.append(5);
+        assertIndex(index, 2, 3, 1, 5);
+    }
+
+    /**
+     * Tests the functionality of the getPosition-method, if the given index is greater than the
+     * number of groups.
+     */
+    @Test
+    public final void testGetPositionWhenIndexIsGreaterThanGroupCount() {
+        PackedPositionIndex index = createIndex(2, 3);
+        assertEquals(5, index.getPosition(2));
+        assertEquals(7, index.getPosition(4));
+    }
+
+    /**
+     * Tests the functionality of the invalidate-method.
+     */
+    @Test
+    public final void testInvalidate() {
+        PackedPositionIndex index = createIndex(1, 2);
+        index.invalidate();
+        assertFalse(index.isValid());
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import android.os.Bundle;
+import android.os.Parcel;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import de.mrapp.android.adapter.ItemCodec;
+import de.mrapp.android.adapter.datastructure.group.Group;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link CompactItemList}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class CompactItemListTest {
+
+    /**
+     * An implementation of the interface {@link ItemCodec}, which encodes strings and is needed
+     * for test purposes.
+     */
+    private static class StringCodec implements ItemCodec<String> {
+
+        @Override
+        public void encode(@NonNull final String data, @NonNull final DataOutput output)
+                throws IOException {
+            output.writeUTF(data);
+        }
+
+        @NonNull
+        @Override
+        public String decode(@NonNull final DataInput input) throws IOException {
+            return input.readUTF();
+        }
+
+    }
+
+    /**
+     * Writes a specific list of items to a parcel and reads it again.
+     *
+     * @param items
+     *         The list, which should be written, as an instance of the class {@link
+     *         CompactItemList}. The list may not be null
+     * @return The list, which has been read, as an instance of the class {@link CompactItemList}.
+     * The list may not be null
+     */
+    private CompactItemList<?> writeAndRead(final CompactItemList<?> items) {
+        Parcel parcel = Parcel.obtain();
+
+        try {
+            items.writeToParcel(parcel, 0);
+            parcel.setDataPosition(0);
+            return CompactItemList.CREATOR.createFromParcel(parcel);
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to pack flags into bit sets.
+     */
+    @Test
+    public final void testPackFlags() {
+        boolean[] flags = new boolean[70];
+        flags[0] = true;
+        flags[63] = true;
+        flags[65] = true;
+        long[] bits = CompactItemList.packFlags(flags);
+        assertEquals(2, bits.length);
+        assertEquals(0, CompactItemList.packFlags(new boolean[0]).length);
+
+        for (int i = 0; i < flags.length; i++) {
+            assertEquals(flags[i], CompactItemList.isFlagSet(bits, i));
+        }
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to run-length encode values.
+     */
+    @Test
+    public final void testRunLengthEncoding() {
+        int[] values = new int[]{0, 0, 0, 2, 2, 1, 0};
+        int[] runs = CompactItemList.encodeRuns(values);
+        assertArrayEquals(new int[]{0, 3, 2, 2, 1, 1, 0, 1}, runs);
+        assertArrayEquals(values, CompactItemList.decodeRuns(runs, values.length));
+        assertEquals(0, CompactItemList.encodeRuns(new int[0]).length);
+    }
+
+    /**
+     * Tests, that a list of items, whose data is of the same class, is restored from a parcel.
+     */
+    @Test
+    public final void testWriteToParcelWhenDataIsHomogeneous() {
+        List<Item<Bundle>> items = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            Bundle data = new Bundle();
+            data.putInt("key", i);
+            Item<Bundle> item = new Item<>(data);
+            item.setSelected(i == 1);
+            item.setEnabled(i != 2);
+            item.setState(i == 0 ? 0 : 1);
+            items.add(item);
+        }
+
+        List<? extends Item<?>> restoredItems =
+                writeAndRead(new CompactItemList<>(items)).getItems();
+        assertEquals(items.size(), restoredItems.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            Item<Bundle> item = items.get(i);
+            Item<?> restoredItem = restoredItems.get(i);
+            assertEquals(item.getId(), restoredItem.getId());
+            assertEquals(item.isSelected(), restoredItem.isSelected());
+            assertEquals(item.isEnabled(), restoredItem.isEnabled());
+            assertEquals(item.getState(), restoredItem.getState());
+            assertEquals(i, ((Bundle) restoredItem.getData()).getInt("key"));
+        }
+    }
+
+    /**
+     * Tests, that a list of items, whose data is of different classes, is restored from a parcel.
+     */
+    @Test
+    public final void testWriteToParcelWhenDataIsHeterogeneous() {
+        List<Item<Object>> items = new ArrayList<>();
+        items.add(new Item<Object>(new Bundle()));
+        items.add(new Item<Object>("data"));
+        List<? extends Item<?>> restoredItems =
+                writeAndRead(new CompactItemList<>(items)).getItems();
+        assertEquals(2, restoredItems.size());
+        assertTrue(restoredItems.get(0).getData() instanceof Bundle);
+        assertEquals("data", restoredItems.get(1).getData());
+        assertEquals(items.get(1).getId(), restoredItems.get(1).getId());
+    }
+
+    /**
+     * Tests, that a list of items, whose data are groups, is restored from a parcel.
+     */
+    @Test
+    public final void testWriteToParcelWhenDataAreGroups() {
+        List<Item<Group<Bundle, Object>>> items = new ArrayList<>();
+        Group<Bundle, Object> group1 = new Group<>(new Bundle());
+        Group<Bundle, Object> group2 = new Group<>(new Bundle());
+        group2.setExpanded(true);
+        items.add(new Item<>(group1));
+        items.add(new Item<>(group2));
+        items.get(1).setSelected(true);
+        List<? extends Item<?>> restoredItems =
+                writeAndRead(new CompactItemList<>(items)).getItems();
+        assertEquals(2, restoredItems.size());
+        Group<?, ?> restoredGroup1 = (Group<?, ?>) restoredItems.get(0).getData();
+        Group<?, ?> restoredGroup2 = (Group<?, ?>) restoredItems.get(1).getData();
+        assertEquals(group1.getId(), restoredGroup1.getId());
+        assertEquals(group2.getId(), restoredGroup2.getId());
+        assertFalse(restoredGroup1.isExpanded());
+        assertTrue(restoredGroup2.isExpanded());
+        assertFalse(restoredItems.get(0).isSelected());
+        assertTrue(restoredItems.get(1).isSelected());
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to write a list of items to a stream and
+     * to read it again.
+     *
+     * @throws IOException
+     *         The exception, which is thrown, if an I/O error occurs
+     */
+    @Test
+    public final void testWriteToAndReadFrom() throws IOException {
+        List<Item<String>> items = new ArrayList<>();
+
+        for (int i = 0; i < 70; i++) {
+            Item<String> item = new Item<>("item" + i);
+            item.setSelected(i % 3 == 0);
+            item.setEnabled(i != 65);
+            item.setState(i < 10 ? 1 : 0);
+            items.add(item);
+        }
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new CompactItemList<>(items).writeTo(new DataOutputStream(stream), new StringCodec());
+        DataInputStream input =
+                new DataInputStream(new ByteArrayInputStream(stream.toByteArray()));
+        List<Item<String>> restoredItems =
+                CompactItemList.readFrom(input, new StringCodec()).getItems();
+        assertEquals(items.size(), restoredItems.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            Item<String> item = items.get(i);
+            Item<String> restoredItem = restoredItems.get(i);
+            assertEquals(item.getData(), restoredItem.getData());
+            assertEquals(item.getId(), restoredItem.getId());
+            assertEquals(item.isSelected(), restoredItem.isSelected());
+            assertEquals(item.isEnabled(), restoredItem.isEnabled());
+            assertEquals(item.getState(), restoredItem.getState());
+        }
+    }
+
+    /**
+     * Tests, that an empty list of items is restored from a parcel.
+     */
+    @Test
+    public final void testWriteToParcelWhenEmpty() {
+        List<Item<Bundle>> items = new ArrayList<>();
+        assertTrue(writeAndRead(new CompactItemList<>(items)).getItems().isEmpty());
+    }
+
+}
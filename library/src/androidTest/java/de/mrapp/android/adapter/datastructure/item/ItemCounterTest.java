@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link ItemCounter}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class ItemCounterTest {
+
+    /**
+     * Tests the functionality of the rebuild-method.
+     */
+    @Test
+    public final void testRebuild() {
+        List<Item<String>> items = new ArrayList<>();
+        Item<String> item1 = new Item<>("a");
+        Item<String> item2 = new Item<>("b");
+        Item<String> item3 = new Item<>("c");
+        item1.setSelected(true);
+        item2.setEnabled(false);
+        item3.setState(3);
+        items.add(item1);
+        items.add(item2);
+        items.add(item3);
+        ItemCounter counter = new ItemCounter();
+        assertFalse(counter.isValid());
+        counter.rebuild(items);
+        assertTrue(counter.isValid());
+        assertEquals(1, counter.getSelectedCount());
+        assertEquals(2, counter.getEnabledCount());
+        assertEquals(2, counter.getStateCount(0));
+        assertEquals(1, counter.getStateCount(3));
+        assertEquals(0, counter.getStateCount(1));
+        assertEquals(0, counter.getStateCount(5));
+        counter.invalidate();
+        assertFalse(counter.isValid());
+    }
+
+    /**
+     * Tests, that the counter is updated incrementally, if items are added or removed.
+     */
+    @Test
+    public final void testItemAddedAndRemoved() {
+        ItemCounter counter = new ItemCounter();
+        counter.rebuild(new ArrayList<Item<String>>());
+        Item<String> item = new Item<>("a");
+        item.setSelected(true);
+        item.setState(2);
+        counter.onItemAdded(item);
+        assertEquals(1, counter.getSelectedCount());
+        assertEquals(1, counter.getEnabledCount());
+        assertEquals(1, counter.getStateCount(2));
+        counter.onItemRemoved(item);
+        assertEquals(0, counter.getSelectedCount());
+        assertEquals(0, counter.getEnabledCount());
+        assertEquals(0, counter.getStateCount(2));
+    }
+
+    /**
+     * Tests, that the counter is updated incrementally, if items are selected, enabled or disabled
+     * or if their states are changed.
+     */
+    @Test
+    public final void testFlagsChanged() {
+        List<Item<String>> items = new ArrayList<>();
+        items.add(new Item<>("a"));
+        items.add(new Item<>("b"));
+        ItemCounter counter = new ItemCounter();
+        counter.rebuild(items);
+        counter.onSelectionChanged(true);
+        counter.onEnableStateChanged(false);
+        counter.onStateChanged(0, 1);
+        assertEquals(1, counter.getSelectedCount());
+        assertEquals(1, counter.getEnabledCount());
+        assertEquals(1, counter.getStateCount(0));
+        assertEquals(1, counter.getStateCount(1));
+    }
+
+    /**
+     * Tests, that an invalid counter is not updated.
+     */
+    @Test
+    public final void testInvalidCounterIsNotUpdated() {
+        ItemCounter counter = new ItemCounter();
+        counter.onItemAdded(new Item<>("a"));
+        counter.onSelectionChanged(true);
+        assertEquals(0, counter.getSelectedCount());
+        assertEquals(0, counter.getEnabledCount());
+    }
+
+}
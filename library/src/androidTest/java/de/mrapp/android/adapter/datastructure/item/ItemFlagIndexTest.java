@@ -0,0 +1,234 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link ItemFlagIndex}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class ItemFlagIndexTest {
+
+    /**
+     * Creates and returns a list, which contains a specific number of items.
+     *
+     * @param count
+     *         The number of items as an {@link Integer} value
+     * @return The list, which has been created, as an instance of the type {@link List}
+     */
+    private List<Item<String>> createItems(final int count) {
+        List<Item<String>> items = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            items.add(new Item<>("item" + i));
+        }
+
+        return items;
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to validate and rebuild the index.
+     */
+    @Test
+    public final void testRebuildAndInvalidate() {
+        ItemFlagIndex index = new ItemFlagIndex();
+        assertFalse(index.isValid());
+        index.rebuild(createItems(3));
+        assertEquals(3, index.size());
+        assertTrue(index.isValid());
+        index.invalidate();
+        assertFalse(index.isValid());
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to search for selected items, if the
+     * items span multiple words.
+     */
+    @Test
+    public final void testSelectedIndices() {
+        List<Item<String>> items = createItems(130);
+        items.get(3).setSelected(true);
+        items.get(64).setSelected(true);
+        items.get(129).setSelected(true);
+        ItemFlagIndex index = new ItemFlagIndex();
+        index.rebuild(items);
+        assertEquals(3, index.nextSelectedIndex(0, true));
+        assertEquals(64, index.nextSelectedIndex(4, true));
+        assertEquals(129, index.nextSelectedIndex(65, true));
+        assertEquals(-1, index.nextSelectedIndex(130, true));
+        assertEquals(129, index.previousSelectedIndex(129, true));
+        assertEquals(64, index.previousSelectedIndex(128, true));
+        assertEquals(-1, index.previousSelectedIndex(2, true));
+        assertEquals(0, index.nextSelectedIndex(0, false));
+        assertEquals(4, index.nextSelectedIndex(3, false));
+        assertEquals(128, index.previousSelectedIndex(129, false));
+    }
+
+    /**
+     * Tests, that no index beyond the number of items is returned, when searching for items,
+     * which are not enabled.
+     */
+    @Test
+    public final void testDisabledIndicesDoNotExceedSize() {
+        ItemFlagIndex index = new ItemFlagIndex();
+        index.rebuild(createItems(10));
+        assertEquals(-1, index.nextEnabledIndex(0, false));
+        assertEquals(-1, index.previousEnabledIndex(9, false));
+        assertEquals(9, index.previousEnabledIndex(20, true));
+    }
+
+    /**
+     * Tests, that the index is updated incrementally, if items are selected, enabled, or disabled
+     * or if their states are changed.
+     */
+    @Test
+    public final void testIncrementalUpdates() {
+        ItemFlagIndex index = new ItemFlagIndex();
+        index.rebuild(createItems(70));
+        index.onSelectionChanged(65, true);
+        index.onEnableStateChanged(2, false);
+        index.onStateChanged(66, 2);
+        index.onStateChanged(1, 2);
+        assertEquals(65, index.nextSelectedIndex(0, true));
+        assertEquals(2, index.nextEnabledIndex(0, false));
+        assertEquals(1, index.nextIndexWithState(0, 2));
+        assertEquals(66, index.nextIndexWithState(2, 2));
+        assertEquals(66, index.previousIndexWithState(69, 2));
+        index.onSelectionChanged(65, false);
+        assertEquals(-1, index.nextSelectedIndex(0, true));
+    }
+
+    /**
+     * Asserts, that an index contains the same flags as an index, which is rebuilt from a specific
+     * list of items.
+     *
+     * @param items
+     *         The list, which contains the items, as an instance of the type {@link List}
+     * @param index
+     *         The index, which should be checked, as an instance of the class {@link
+     *         ItemFlagIndex}
+     */
+    private void assertIndexEquals(final List<Item<String>> items, final ItemFlagIndex index) {
+        ItemFlagIndex expected = new ItemFlagIndex();
+        expected.rebuild(items);
+        assertEquals(expected.size(), index.size());
+        assertArrayEquals(expected.getSelectedIndices(true), index.getSelectedIndices(true));
+        assertArrayEquals(expected.getSelectedIndices(false), index.getSelectedIndices(false));
+        assertArrayEquals(expected.getEnabledIndices(false), index.getEnabledIndices(false));
+        assertArrayEquals(expected.getIndicesWithState(1), index.getIndicesWithState(1));
+        assertEquals(expected.previousEnabledIndex(items.size(), false),
+                index.previousEnabledIndex(items.size(), false));
+    }
+
+    /**
+     * Tests, that the index is updated incrementally, if items are added, removed or replaced
+     * across word boundaries.
+     */
+    @Test
+    public final void testStructuralUpdates() {
+        List<Item<String>> items = createItems(130);
+
+        for (int i = 0; i < items.size(); i += 3) {
+            items.get(i).setSelected(true);
+        }
+
+        items.get(63).setEnabled(false);
+        items.get(64).setState(1);
+        ItemFlagIndex index = new ItemFlagIndex();
+        index.rebuild(items);
+        Item<String> item = new Item<>("added");
+        item.setSelected(true);
+        item.setEnabled(false);
+        item.setState(1);
+        items.add(5, item);
+        index.onItemAdded(5, item);
+        assertIndexEquals(items, index);
+        List<Item<String>> addedItems = createItems(70);
+        addedItems.get(0).setSelected(true);
+        addedItems.get(69).setEnabled(false);
+        items.addAll(60, addedItems);
+        index.onItemsAdded(60, addedItems);
+        assertIndexEquals(items, index);
+        items.add(item);
+        index.onItemAdded(items.size() - 1, item);
+        assertIndexEquals(items, index);
+        items.remove(0);
+        index.onItemRemoved(0);
+        assertIndexEquals(items, index);
+        items.remove(64);
+        index.onItemRemoved(64);
+        assertIndexEquals(items, index);
+        items.remove(items.size() - 1);
+        index.onItemRemoved(items.size());
+        assertIndexEquals(items, index);
+        items.set(100, item);
+        index.onItemReplaced(100, item);
+        assertIndexEquals(items, index);
+
+        while (!items.isEmpty()) {
+            int position = items.size() / 2;
+            items.remove(position);
+            index.onItemRemoved(position);
+        }
+
+        assertIndexEquals(items, index);
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to retrieve the indices of all items,
+     * which are selected, enabled or have a specific state.
+     */
+    @Test
+    public final void testGetIndices() {
+        List<Item<String>> items = createItems(66);
+        items.get(1).setSelected(true);
+        items.get(65).setSelected(true);
+        items.get(64).setEnabled(false);
+        items.get(3).setState(1);
+        ItemFlagIndex index = new ItemFlagIndex();
+        index.rebuild(items);
+        assertArrayEquals(new int[]{1, 65}, index.getSelectedIndices(true));
+        assertEquals(64, index.getSelectedIndices(false).length);
+        assertArrayEquals(new int[]{64}, index.getEnabledIndices(false));
+        assertEquals(65, index.getEnabledIndices(true).length);
+        assertArrayEquals(new int[]{3}, index.getIndicesWithState(1));
+        assertEquals(0, index.getIndicesWithState(2).length);
+    }
+
+    /**
+     * Ensures, that an {@link IndexOutOfBoundsException} is thrown, if an invalid index is passed
+     * to the index.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void testUpdateThrowsExceptionWhenIndexIsInvalid() {
+        ItemFlagIndex index = new ItemFlagIndex();
+        index.rebuild(createItems(2));
+        index.onSelectionChanged(2, true);
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link ItemHashIndex}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class ItemHashIndexTest {
+
+    /**
+     * Creates and returns a list, which contains items with specific data.
+     *
+     * @param data
+     *         An array, which contains the data of the items, as a {@link String} array
+     * @return The list, which has been created, as an instance of the type {@link List}
+     */
+    private List<Item<String>> createItems(final String... data) {
+        List<Item<String>> items = new ArrayList<>();
+
+        for (String item : data) {
+            items.add(new Item<>(item));
+        }
+
+        return items;
+    }
+
+    /**
+     * Tests the functionality of the constructor.
+     */
+    @Test
+    public final void testConstructor() {
+        ItemHashIndex<String> index = new ItemHashIndex<>();
+        assertFalse(index.isValid(0));
+    }
+
+    /**
+     * Tests the functionality of the rebuild-method.
+     */
+    @Test
+    public final void testRebuild() {
+        ItemHashIndex<String> index = new ItemHashIndex<>();
+        index.rebuild(createItems("a", "b", "a", "c"));
+        assertTrue(index.isValid(4));
+        assertFalse(index.isValid(3));
+        assertEquals(0, index.indexOf("a"));
+        assertEquals(2, index.lastIndexOf("a"));
+        assertEquals(1, index.indexOf("b"));
+        assertEquals(1, index.lastIndexOf("b"));
+        assertEquals(-1, index.indexOf("d"));
+        assertEquals(-1, index.lastIndexOf("d"));
+        assertTrue(index.contains("c"));
+        assertFalse(index.contains("d"));
+    }
+
+    /**
+     * Tests the functionality of the onItemAdded-method.
+     */
+    @Test
+    public final void testOnItemAdded() {
+        ItemHashIndex<String> index = new ItemHashIndex<>();
+        index.rebuild(createItems("a", "b"));
+        index.onItemAdded("a", 2);
+        assertTrue(index.isValid(3));
+        assertEquals(0, index.indexOf("a"));
+        assertEquals(2, index.lastIndexOf("a"));
+        index.onItemAdded("c", 0);
+        assertTrue(index.isValid(4));
+        assertEquals(0, index.indexOf("c"));
+        assertEquals(1, index.indexOf("a"));
+        assertEquals(3, index.lastIndexOf("a"));
+        assertEquals(2, index.indexOf("b"));
+        index.onItemAdded("d", 6);
+        assertFalse(index.isValid(5));
+    }
+
+    /**
+     * Tests the functionality of the onItemsAdded-method.
+     */
+    @Test
+    public final void testOnItemsAdded() {
+        ItemHashIndex<String> index = new ItemHashIndex<>();
+        index.rebuild(createItems("a", "b"));
+        List<String> data = new ArrayList<>();
+        data.add("c");
+        data.add("a");
+        index.onItemsAdded(data, 1);
+        assertTrue(index.isValid(4));
+        assertEquals(0, index.indexOf("a"));
+        assertEquals(2, index.lastIndexOf("a"));
+        assertEquals(1, index.indexOf("c"));
+        assertEquals(3, index.indexOf("b"));
+    }
+
+    /**
+     * Tests the functionality of the onItemRemoved-method.
+     */
+    @Test
+    public final void testOnItemRemoved() {
+        ItemHashIndex<String> index = new ItemHashIndex<>();
+        index.rebuild(createItems("a", "b", "a"));
+        index.onItemRemoved("a", 2);
+        assertTrue(index.isValid(2));
+        assertEquals(0, index.lastIndexOf("a"));
+        index.onItemRemoved("a", 0);
+        assertTrue(index.isValid(1));
+        assertFalse(index.contains("a"));
+        assertEquals(0, index.indexOf("b"));
+        index.onItemRemoved("c", 0);
+        assertFalse(index.isValid(0));
+    }
+
+    /**
+     * Tests the functionality of the onItemReplaced-method.
+     */
+    @Test
+    public final void testOnItemReplaced() {
+        ItemHashIndex<String> index = new ItemHashIndex<>();
+        index.rebuild(createItems("a", "b", "c"));
+        index.onItemReplaced("b", "c", 1);
+        assertTrue(index.isValid(3));
+        assertFalse(index.contains("b"));
+        assertEquals(1, index.indexOf("c"));
+        assertEquals(2, index.lastIndexOf("c"));
+    }
+
+    /**
+     * Tests the functionality of the invalidate-method.
+     */
+    @Test
+    public final void testInvalidate() {
+        ItemHashIndex<String> index = new ItemHashIndex<>();
+        index.rebuild(createItems("a"));
+        index.invalidate();
+        assertFalse(index.isValid(1));
+    }
+
+}
@@ -103,6 +103,13 @@ public class ItemTest {
         assertEquals(clonedItem.getState(), state);
     }
 
+    @Test
+    public final void testCloneRetainsId() throws CloneNotSupportedException {
+        Item<CloneableImplementation> item = new Item<>(new CloneableImplementation());
+        Item<CloneableImplementation> clonedItem = item.clone();
+        assertEquals(item.getId(), clonedItem.getId());
+    }
+
     @Test(expected = CloneNotSupportedException.class)
     public final void testCloneThrowsCloneNotSupportedException()
             throws CloneNotSupportedException {
@@ -184,6 +191,17 @@ public class ItemTest {
         parcel.recycle();
     }
 
+    @Test
+    public final void testCreatorCreateFromParcelRetainsId() {
+        Item<Bundle> item = new Item<>(new Bundle());
+        Parcel parcel = Parcel.obtain();
+        item.writeToParcel(parcel, 1);
+        parcel.setDataPosition(0);
+        Item<?> restoredItem = Item.CREATOR.createFromParcel(parcel);
+        assertEquals(item.getId(), restoredItem.getId());
+        parcel.recycle();
+    }
+
     @Test
     public final void testCreatorNewArray() {
         int size = 1;
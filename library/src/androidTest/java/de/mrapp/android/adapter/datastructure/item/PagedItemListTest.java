@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link PagedItemList}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class PagedItemListTest {
+
+    /**
+     * Tests the functionality of the constructor.
+     */
+    @Test
+    public final void testConstructor() {
+        PagedItemList<String> items = new PagedItemList<>(2, 3);
+        assertEquals(2, items.getPageSize());
+        assertEquals(3, items.getMaxResidentPages());
+        assertEquals(0, items.getItemCount());
+        assertEquals(0, items.getPageCount());
+        assertEquals(0, items.getResidentPageCount());
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to map item indices to pages.
+     */
+    @Test
+    public final void testPageIndices() {
+        PagedItemList<String> items = new PagedItemList<>(2, 3);
+        items.reset(5);
+        assertEquals(3, items.getPageCount());
+        assertEquals(0, items.getPageIndex(1));
+        assertEquals(2, items.getPageIndex(4));
+        assertEquals(4, items.getPageOffset(2));
+        assertEquals(2, items.getPageItemCount(1));
+        assertEquals(1, items.getPageItemCount(2));
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to request and store pages.
+     */
+    @Test
+    public final void testRequestAndPutPage() {
+        PagedItemList<String> items = new PagedItemList<>(2, 3);
+        items.reset(5);
+        assertNull(items.getData(2));
+        assertFalse(items.isResident(2));
+        assertTrue(items.request(1));
+        assertFalse(items.request(1));
+        assertFalse(items.request(3));
+        assertTrue(items.isRequested(1));
+        assertEquals(-1, items.putPage(1, Arrays.asList("c", "d")));
+        assertFalse(items.isRequested(1));
+        assertFalse(items.request(1));
+        assertTrue(items.isResident(2));
+        assertEquals("c", items.getData(2));
+        assertEquals("d", items.getData(3));
+    }
+
+    /**
+     * Tests, that the least recently used page is evicted, if the maximum number of resident pages
+     * is exceeded.
+     */
+    @Test
+    public final void testEviction() {
+        PagedItemList<String> items = new PagedItemList<>(2, 2);
+        items.reset(6);
+        items.putPage(0, Arrays.asList("a", "b"));
+        items.putPage(1, Arrays.asList("c", "d"));
+        items.getData(0);
+        assertEquals(1, items.putPage(2, Arrays.asList("e", "f")));
+        assertEquals(2, items.getResidentPageCount());
+        assertEquals("a", items.getData(0));
+        assertNull(items.getData(2));
+        assertEquals("e", items.getData(4));
+    }
+
+    /**
+     * Tests the functionality of the discardRequest-method.
+     */
+    @Test
+    public final void testDiscardRequest() {
+        PagedItemList<String> items = new PagedItemList<>(2, 2);
+        items.reset(4);
+        items.request(0);
+        items.discardRequest(0);
+        assertFalse(items.isRequested(0));
+        assertTrue(items.request(0));
+    }
+
+    /**
+     * Tests, that the states of items are retained, if they are not resident.
+     */
+    @Test
+    public final void testItemStates() {
+        PagedItemList<String> items = new PagedItemList<>(2, 1);
+        items.reset(4);
+        items.setSelected(3, true);
+        items.setEnabled(1, false);
+        items.setItemState(2, 2);
+        items.putPage(0, Arrays.asList("a", "b"));
+        items.putPage(1, Arrays.asList("c", "d"));
+        assertFalse(items.isResident(1));
+        assertTrue(items.isSelected(3));
+        assertFalse(items.isSelected(2));
+        assertEquals(1, items.getSelectedItemCount());
+        assertFalse(items.isEnabled(1));
+        assertTrue(items.isEnabled(0));
+        assertEquals(3, items.getEnabledItemCount());
+        assertEquals(2, items.getItemState(2));
+        assertEquals(0, items.getItemState(0));
+    }
+
+    /**
+     * Tests the functionality of the clearStates-method.
+     */
+    @Test
+    public final void testClearStates() {
+        PagedItemList<String> items = new PagedItemList<>(2, 1);
+        items.reset(4);
+        items.setSelected(0, true);
+        items.setEnabled(1, false);
+        items.setItemState(2, 1);
+        items.clearStates();
+        assertEquals(0, items.getSelectedItemCount());
+        assertEquals(4, items.getEnabledItemCount());
+        assertEquals(0, items.getItemState(2));
+    }
+
+    /**
+     * Tests the functionality of the reset-method.
+     */
+    @Test
+    public final void testReset() {
+        PagedItemList<String> items = new PagedItemList<>(2, 2);
+        items.reset(4);
+        items.putPage(0, Arrays.asList("a", "b"));
+        items.request(1);
+        items.setSelected(0, true);
+        items.setSelected(3, true);
+        items.setItemState(3, 1);
+        items.reset(3);
+        assertEquals(3, items.getItemCount());
+        assertEquals(0, items.getResidentPageCount());
+        assertFalse(items.isRequested(1));
+        assertTrue(items.isSelected(0));
+        assertEquals(1, items.getSelectedItemCount());
+        items.reset(4);
+        assertFalse(items.isSelected(3));
+        assertEquals(0, items.getItemState(3));
+    }
+
+}
@@ -42,6 +42,7 @@ import de.mrapp.android.adapter.Filter;
 import de.mrapp.android.adapter.FilterQuery;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
 import de.mrapp.android.adapter.Order;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.group.Group;
 import de.mrapp.android.adapter.expandablelist.enablestate.ExpandableListEnableStateListener;
 import de.mrapp.android.adapter.expandablelist.filterable.ExpandableListFilterListener;
@@ -223,6 +224,11 @@ public class AbstractExpandableListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getEnabledGroupIndexList() {
+            return null;
+        }
+
         @Override
         public List<Object> getEnabledGroups() {
             return null;
@@ -233,6 +239,11 @@ public class AbstractExpandableListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getDisabledGroupIndexList() {
+            return null;
+        }
+
         @Override
         public List<Object> getDisabledGroups() {
             return null;
@@ -398,6 +409,11 @@ public class AbstractExpandableListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getEnabledChildIndexList(@NonNull Object group) {
+            return null;
+        }
+
         @Override
         public List<Object> getEnabledChildren(@NonNull Object group) {
             return null;
@@ -408,6 +424,11 @@ public class AbstractExpandableListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getEnabledChildIndexList(int groupIndex) {
+            return null;
+        }
+
         @Override
         public List<Object> getEnabledChildren(int groupIndex) {
             return null;
@@ -423,6 +444,11 @@ public class AbstractExpandableListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getDisabledChildIndexList(@NonNull Object group) {
+            return null;
+        }
+
         @Override
         public List<Object> getDisabledChildren(@NonNull Object group) {
             return null;
@@ -433,6 +459,11 @@ public class AbstractExpandableListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getDisabledChildIndexList(int groupIndex) {
+            return null;
+        }
+
         @Override
         public List<Object> getDisabledChildren(int groupIndex) {
             return null;
@@ -860,6 +891,11 @@ public class AbstractExpandableListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getGroupIndexListWithSpecificState(int state) {
+            return null;
+        }
+
         @Override
         public List<Object> getGroupsWithSpecificState(int state) {
             return null;
@@ -1035,11 +1071,21 @@ public class AbstractExpandableListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getChildIndexListWithSpecificState(@NonNull Object group, int state) {
+            return null;
+        }
+
         @Override
         public List<Integer> getChildIndicesWithSpecificState(int groupIndex, int state) {
             return null;
         }
 
+        @Override
+        public IndexList getChildIndexListWithSpecificState(int groupIndex, int state) {
+            return null;
+        }
+
         @Override
         public List<Object> getChildrenWithSpecificState(int state) {
             return null;
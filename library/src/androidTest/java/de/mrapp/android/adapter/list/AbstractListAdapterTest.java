@@ -24,8 +24,12 @@ import android.widget.ListView;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -33,20 +37,28 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 import androidx.test.platform.app.InstrumentationRegistry;
 import de.mrapp.android.adapter.DataSetObserver;
 import de.mrapp.android.adapter.Filter;
 import de.mrapp.android.adapter.FilterQuery;
+import de.mrapp.android.adapter.InstanceStateStore;
+import de.mrapp.android.adapter.ItemCodec;
+import de.mrapp.android.adapter.ItemIdProvider;
 import de.mrapp.android.adapter.ListDecorator;
 import de.mrapp.android.adapter.Order;
 import de.mrapp.android.adapter.ParcelableImplementation;
 import de.mrapp.android.adapter.R;
 import de.mrapp.android.adapter.RestoreInstanceStateException;
+import de.mrapp.android.adapter.datastructure.IndexList;
+import de.mrapp.android.adapter.datastructure.Snapshot;
 import de.mrapp.android.adapter.datastructure.item.Item;
+import de.mrapp.android.adapter.datastructure.item.CompactItemList;
 import de.mrapp.android.adapter.list.enablestate.ListEnableStateListener;
 import de.mrapp.android.adapter.list.filterable.ListFilterListener;
 import de.mrapp.android.adapter.list.itemstate.ListItemStateListener;
@@ -58,6 +70,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -198,6 +211,11 @@ public class AbstractListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getEnabledIndexList() {
+            return null;
+        }
+
         @Override
         public List<Object> getEnabledItems() {
             return null;
@@ -208,6 +226,11 @@ public class AbstractListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getDisabledIndexList() {
+            return null;
+        }
+
         @Override
         public List<Object> getDisabledItems() {
             return null;
@@ -243,6 +266,11 @@ public class AbstractListAdapterTest {
 
         }
 
+        @Override
+        public void setRangeEnabled(final int start, final int end, final boolean enabled) {
+
+        }
+
         @Override
         public void triggerAllEnableStates() {
 
@@ -363,6 +391,11 @@ public class AbstractListAdapterTest {
             return false;
         }
 
+        @Override
+        public boolean setRangeItemState(final int start, final int end, final int state) {
+            return false;
+        }
+
         @Override
         public int triggerItemState(final int index) {
             return 0;
@@ -408,6 +441,11 @@ public class AbstractListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getIndexListWithSpecificState(final int state) {
+            return null;
+        }
+
         @Override
         public List<Object> getItemsWithSpecificState(final int state) {
             return null;
@@ -462,6 +500,27 @@ public class AbstractListAdapterTest {
             return null;
         }
 
+        @Override
+        public void applyFilterAsync(@NonNull final String query, final int flags) {
+
+        }
+
+        @Override
+        public void applyFilterAsync(@NonNull final String query, final int flags,
+                                     @NonNull final Filter<Object> filter) {
+
+        }
+
+        @Override
+        public boolean isFilterPending() {
+            return false;
+        }
+
+        @Override
+        public void setFilterExecutor(@NonNull final Executor executor) {
+
+        }
+
         @Override
         public boolean resetFilter(@NonNull final String query, final int flags) {
             return false;
@@ -603,6 +662,38 @@ public class AbstractListAdapterTest {
 
     }
 
+    /**
+     * An implementation of the interface {@link ListAdapterBatchListener}, which is needed for
+     * test purposes.
+     */
+    private class BatchListenerImplementation implements ListAdapterBatchListener<Object> {
+
+        @Override
+        public void onItemAdded(@NonNull final ListAdapter<Object> adapter,
+                                @NonNull final Object item, final int index) {
+
+        }
+
+        @Override
+        public void onItemRemoved(@NonNull final ListAdapter<Object> adapter,
+                                  @NonNull final Object item, final int index) {
+
+        }
+
+        @Override
+        public void onItemsAdded(@NonNull final ListAdapter<Object> adapter,
+                                 @NonNull final List<Object> items, final int index) {
+
+        }
+
+        @Override
+        public void onItemsRemoved(@NonNull final ListAdapter<Object> adapter,
+                                   @NonNull final List<Object> items, final int index) {
+
+        }
+
+    }
+
     /**
      * Creates and returns an instance of the class {@link AbstractListAdapterImplementation}, which
      * can be used for test purposes.
@@ -743,6 +834,17 @@ public class AbstractListAdapterTest {
         assertEquals(logLevel, abstractListAdapter.getLogLevel());
     }
 
+    @Test
+    public final void testIsLoggable() {
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.setLogLevel(LogLevel.INFO);
+        assertFalse(abstractListAdapter.isLoggable(LogLevel.DEBUG));
+        assertTrue(abstractListAdapter.isLoggable(LogLevel.INFO));
+        assertTrue(abstractListAdapter.isLoggable(LogLevel.ERROR));
+        abstractListAdapter.setLogLevel(LogLevel.OFF);
+        assertFalse(abstractListAdapter.isLoggable(LogLevel.ERROR));
+    }
+
     @Test
     public final void testSetParameters() {
         AbstractListAdapterImplementation abstractListAdapter = createAdapter();
@@ -759,6 +861,27 @@ public class AbstractListAdapterTest {
         assertEquals(allowDuplicates, abstractListAdapter.areDuplicatesAllowed());
     }
 
+    @Test
+    public final void testUseHashIndex() {
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        assertFalse(abstractListAdapter.isHashIndexUsed());
+        boolean useHashIndex = true;
+        abstractListAdapter.useHashIndex(useHashIndex);
+        assertEquals(useHashIndex, abstractListAdapter.isHashIndexUsed());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testSetDiffCallback() {
+        DiffUtil.ItemCallback<Object> diffCallback = mock(DiffUtil.ItemCallback.class);
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        assertNull(abstractListAdapter.getDiffCallback());
+        abstractListAdapter.setDiffCallback(diffCallback);
+        assertEquals(diffCallback, abstractListAdapter.getDiffCallback());
+        abstractListAdapter.setDiffCallback(null);
+        assertNull(abstractListAdapter.getDiffCallback());
+    }
+
     @Test
     public final void testNotifyOnChange() {
         DataSetObserver dataSetObserver = new DataSetObserver();
@@ -872,6 +995,16 @@ public class AbstractListAdapterTest {
     }
 
     @SuppressWarnings("unchecked")
+    @Test
+    public final void testAddItemWhenDuplicatesAreNotAllowedAndHashIndexIsUsed() {
+        Object item = new Object();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter(false);
+        abstractListAdapter.useHashIndex(true);
+        assertEquals(0, abstractListAdapter.addItem(item));
+        assertEquals(-1, abstractListAdapter.addItem(item));
+        assertEquals(1, abstractListAdapter.getCount());
+    }
+
     @Test
     public final void testAddItemAtSpecificIndex() {
         Object item1 = new Object();
@@ -1440,6 +1573,26 @@ public class AbstractListAdapterTest {
         assertTrue(dataSetObserver.hasOnChangedBeenCalled());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testRemoveAllItemsFromCollectionWhenItemsAreNotConsecutive() {
+        List<Object> items = new ArrayList<>();
+        items.add("a");
+        items.add("c");
+        ListAdapterListener<Object> listAdapterListener = mock(ListAdapterListener.class);
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.useHashIndex(true);
+        abstractListAdapter.addAllItems("a", "b", "c", "d");
+        abstractListAdapter.addAdapterListener(listAdapterListener);
+        boolean removed = abstractListAdapter.removeAllItems(items);
+        assertTrue(removed);
+        assertEquals(2, abstractListAdapter.getCount());
+        assertEquals("b", abstractListAdapter.getItem(0));
+        assertEquals("d", abstractListAdapter.getItem(1));
+        verify(listAdapterListener, times(1)).onItemRemoved(abstractListAdapter, "a", 0);
+        verify(listAdapterListener, times(1)).onItemRemoved(abstractListAdapter, "c", 2);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public final void testRemoveAllItemsFromCollectionThrowsExceptionWhenCollectionIsNull() {
         AbstractListAdapterImplementation abstractListAdapter = createAdapter();
@@ -1583,6 +1736,107 @@ public class AbstractListAdapterTest {
         assertTrue(dataSetObserver.hasOnChangedBeenCalled());
     }
 
+    /**
+     * Ensures, that listeners, which implement the interface {@link ListAdapterBatchListener},
+     * are notified only once, when multiple items are added at once.
+     */
+    @Test
+    public final void testAddAllItemsNotifiesBatchListenerOnce() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        Object item3 = new Object();
+        final List<List<Object>> addedItems = new ArrayList<>();
+        final List<Integer> indices = new ArrayList<>();
+        DataSetObserver dataSetObserver = new DataSetObserver();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem(item1);
+        abstractListAdapter.addAdapterListener(new BatchListenerImplementation() {
+
+            @Override
+            public void onItemsAdded(@NonNull final ListAdapter<Object> adapter,
+                                     @NonNull final List<Object> items, final int index) {
+                addedItems.add(new ArrayList<>(items));
+                indices.add(index);
+            }
+
+        });
+        abstractListAdapter.registerDataSetObserver(dataSetObserver);
+        abstractListAdapter.addAllItems(0, Arrays.asList(item2, item3));
+        assertEquals(1, addedItems.size());
+        assertEquals(2, addedItems.get(0).size());
+        assertEquals(item2, addedItems.get(0).get(0));
+        assertEquals(item3, addedItems.get(0).get(1));
+        assertEquals(0, (int) indices.get(0));
+        assertEquals(item2, abstractListAdapter.getItem(0));
+        assertEquals(item3, abstractListAdapter.getItem(1));
+        assertEquals(item1, abstractListAdapter.getItem(2));
+        assertTrue(dataSetObserver.hasOnChangedBeenCalled());
+    }
+
+    /**
+     * Ensures, that listeners, which implement the interface {@link ListAdapterBatchListener},
+     * are notified once for each range of consecutive items, when multiple items are removed at
+     * once.
+     */
+    @Test
+    public final void testRemoveAllItemsNotifiesBatchListenerOncePerRange() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        Object item3 = new Object();
+        Object item4 = new Object();
+        final List<List<Object>> removedItems = new ArrayList<>();
+        final List<Integer> indices = new ArrayList<>();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addAllItems(item1, item2, item3, item4);
+        abstractListAdapter.addAdapterListener(new BatchListenerImplementation() {
+
+            @Override
+            public void onItemsRemoved(@NonNull final ListAdapter<Object> adapter,
+                                       @NonNull final List<Object> items, final int index) {
+                removedItems.add(new ArrayList<>(items));
+                indices.add(index);
+            }
+
+        });
+        assertTrue(abstractListAdapter.removeAllItems(item1, item2, item4));
+        assertEquals(1, abstractListAdapter.getCount());
+        assertEquals(item3, abstractListAdapter.getItem(0));
+        assertEquals(2, removedItems.size());
+        assertEquals(1, removedItems.get(0).size());
+        assertEquals(item4, removedItems.get(0).get(0));
+        assertEquals(3, (int) indices.get(0));
+        assertEquals(2, removedItems.get(1).size());
+        assertEquals(item1, removedItems.get(1).get(0));
+        assertEquals(item2, removedItems.get(1).get(1));
+        assertEquals(0, (int) indices.get(1));
+    }
+
+    /**
+     * Ensures, that listeners, which implement the interface {@link ListAdapterBatchListener},
+     * are notified only once, when all items are removed.
+     */
+    @Test
+    public final void testClearItemsNotifiesBatchListenerOnce() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        final List<List<Object>> removedItems = new ArrayList<>();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addAllItems(item1, item2);
+        abstractListAdapter.addAdapterListener(new BatchListenerImplementation() {
+
+            @Override
+            public void onItemsRemoved(@NonNull final ListAdapter<Object> adapter,
+                                       @NonNull final List<Object> items, final int index) {
+                removedItems.add(new ArrayList<>(items));
+            }
+
+        });
+        abstractListAdapter.clearItems();
+        assertTrue(abstractListAdapter.isEmpty());
+        assertEquals(1, removedItems.size());
+        assertEquals(2, removedItems.get(0).size());
+    }
+
     @Test
     public final void testIterator() {
         Object item1 = new Object();
@@ -1699,6 +1953,31 @@ public class AbstractListAdapterTest {
         assertEquals(2, abstractListAdapter.lastIndexOf(item2));
     }
 
+    @Test
+    public final void testIndexOfWhenHashIndexIsUsed() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        Object item3 = new Object();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter(true);
+        abstractListAdapter.useHashIndex(true);
+        abstractListAdapter.addItem(item1);
+        abstractListAdapter.addItem(item2);
+        abstractListAdapter.addItem(item2);
+        assertEquals(1, abstractListAdapter.indexOf(item2));
+        assertEquals(2, abstractListAdapter.lastIndexOf(item2));
+        assertEquals(-1, abstractListAdapter.indexOf(item3));
+        abstractListAdapter.addItem(0, item3);
+        assertEquals(0, abstractListAdapter.indexOf(item3));
+        assertEquals(2, abstractListAdapter.indexOf(item2));
+        abstractListAdapter.replaceItem(1, item2);
+        assertEquals(1, abstractListAdapter.indexOf(item2));
+        assertEquals(-1, abstractListAdapter.indexOf(item1));
+        abstractListAdapter.removeItem(3);
+        assertEquals(2, abstractListAdapter.lastIndexOf(item2));
+        assertTrue(abstractListAdapter.containsItem(item3));
+        assertFalse(abstractListAdapter.containsItem(item1));
+    }
+
     @Test
     public final void testLastIndexOfWhenAdapterDoesNotContainItem() {
         Object item1 = new Object();
@@ -1824,6 +2103,96 @@ public class AbstractListAdapterTest {
         assertEquals(item2, iterator.next());
     }
 
+    @Test
+    public final void testGetSnapshot() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem(item1);
+        abstractListAdapter.addItem(item2);
+        Snapshot<Object> snapshot = abstractListAdapter.getSnapshot();
+        assertSame(snapshot, abstractListAdapter.getSnapshot());
+        assertEquals(2, snapshot.size());
+        assertEquals(item1, snapshot.get(0));
+        assertEquals(item2, snapshot.get(1));
+    }
+
+    @Test
+    public final void testGetSnapshotIsNotAffectedByModifications() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        Object item3 = new Object();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem(item1);
+        abstractListAdapter.addItem(item2);
+        Snapshot<Object> snapshot = abstractListAdapter.getSnapshot();
+        abstractListAdapter.addItem(item3);
+        abstractListAdapter.removeItem(item1);
+        assertEquals(2, snapshot.size());
+        assertEquals(item1, snapshot.get(0));
+        assertEquals(item2, snapshot.get(1));
+        Snapshot<Object> currentSnapshot = abstractListAdapter.getSnapshot();
+        assertNotSame(snapshot, currentSnapshot);
+        assertTrue(currentSnapshot.getVersion() > snapshot.getVersion());
+        assertEquals(2, currentSnapshot.size());
+        assertEquals(item2, currentSnapshot.get(0));
+        assertEquals(item3, currentSnapshot.get(1));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public final void testGetSnapshotIsUnmodifiable() {
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.getSnapshot().add(new Object());
+    }
+
+    @Test
+    public final void testGetMutationQueue() {
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        MutationQueue<Object> mutationQueue = abstractListAdapter.getMutationQueue();
+        assertNotNull(mutationQueue);
+        assertSame(mutationQueue, abstractListAdapter.getMutationQueue());
+        assertFalse(mutationQueue.hasPendingMutations());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testMutationQueueFlush() {
+        final Object item1 = new Object();
+        final Object item2 = new Object();
+        final Object item3 = new Object();
+        final Object item4 = new Object();
+        final AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        ListAdapterBatchListener<Object> listAdapterListener =
+                mock(ListAdapterBatchListener.class);
+        abstractListAdapter.addAdapterListener(listAdapterListener);
+        final boolean[] pendingMutations = new boolean[2];
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                MutationQueue<Object> mutationQueue = abstractListAdapter.getMutationQueue();
+                mutationQueue.addItem(item1);
+                mutationQueue.addItem(item2);
+                mutationQueue.addItem(item3);
+                mutationQueue.removeItem(item2);
+                mutationQueue.replaceItem(item3, item4);
+                pendingMutations[0] = mutationQueue.hasPendingMutations();
+                mutationQueue.flush();
+                pendingMutations[1] = mutationQueue.hasPendingMutations();
+            }
+
+        });
+
+        assertTrue(pendingMutations[0]);
+        assertFalse(pendingMutations[1]);
+
+        assertEquals(2, abstractListAdapter.getCount());
+        assertEquals(item1, abstractListAdapter.getItem(0));
+        assertEquals(item4, abstractListAdapter.getItem(1));
+        verify(listAdapterListener, times(1))
+                .onItemsAdded(abstractListAdapter, Arrays.asList(item1, item2, item3), 0);
+    }
+
     @Test
     public final void testIsEmptyWhenAdapterIsEmpty() {
         AbstractListAdapterImplementation abstractListAdapter = createAdapter();
@@ -1925,6 +2294,38 @@ public class AbstractListAdapterTest {
         assertNotSame(0, abstractListAdapter.getItemId(0));
     }
 
+    @Test
+    public final void testGetItemIdIsRetainedWhenItemIsMoved() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem(item1);
+        abstractListAdapter.addItem(item2);
+        long itemId = abstractListAdapter.getItemId(1);
+        assertNotSame(abstractListAdapter.getItemId(0), itemId);
+        abstractListAdapter.removeItem(item1);
+        assertEquals(itemId, abstractListAdapter.getItemId(0));
+    }
+
+    @Test
+    public final void testSetItemIdProvider() {
+        final long itemId = 42L;
+        ItemIdProvider<Object> itemIdProvider = new ItemIdProvider<Object>() {
+
+            @Override
+            public long getItemId(@NonNull final Object data) {
+                return itemId;
+            }
+
+        };
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem(new Object());
+        assertNull(abstractListAdapter.getItemIdProvider());
+        abstractListAdapter.setItemIdProvider(itemIdProvider);
+        assertEquals(itemIdProvider, abstractListAdapter.getItemIdProvider());
+        assertEquals(itemId, abstractListAdapter.getItemId(0));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public final void testGetView() {
@@ -1984,8 +2385,9 @@ public class AbstractListAdapterTest {
         abstractListAdapter.setLogLevel(logLevel);
         abstractListAdapter.onSaveInstanceState(outState, key);
         Bundle savedState = outState.getBundle(key);
-        ArrayList<Item<ParcelableImplementation>> savedItems =
-                savedState.getParcelableArrayList(AbstractListAdapter.PARCELABLE_ITEMS_BUNDLE_KEY);
+        CompactItemList<ParcelableImplementation> compactItems =
+                savedState.getParcelable(AbstractListAdapter.COMPACT_ITEMS_BUNDLE_KEY);
+        ArrayList<Item<ParcelableImplementation>> savedItems = compactItems.getItems();
         Bundle savedParameters = savedState.getBundle(AbstractListAdapter.PARAMETERS_BUNDLE_KEY);
         boolean savedAllowDuplicates =
                 savedState.getBoolean(AbstractListAdapter.ALLOW_DUPLICATES_BUNDLE_KEY);
@@ -2139,6 +2541,86 @@ public class AbstractListAdapterTest {
         assertTrue(dataSetObserver.hasOnChangedBeenCalled());
     }
 
+    @Test
+    public final void testOnRestoreInstanceStateWhenItemCodecIsSet()
+            throws RestoreInstanceStateException {
+        String key = "adapterkey";
+        ItemCodec<Object> itemCodec = new ItemCodec<Object>() {
+
+            @Override
+            public void encode(@NonNull final Object data, @NonNull final DataOutput output)
+                    throws IOException {
+                output.writeUTF((String) data);
+            }
+
+            @NonNull
+            @Override
+            public Object decode(@NonNull final DataInput input) throws IOException {
+                return input.readUTF();
+            }
+
+        };
+        Bundle outState = new Bundle();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.setItemCodec(itemCodec);
+        abstractListAdapter.addItem("item1");
+        abstractListAdapter.addItem("item2");
+        abstractListAdapter.onSaveInstanceState(outState, key);
+        Bundle savedState = outState.getBundle(key);
+        assertTrue(savedState.containsKey(AbstractListAdapter.ENCODED_ITEMS_BUNDLE_KEY));
+        assertFalse(savedState.containsKey(AbstractListAdapter.SERIALIZABLE_ITEMS_BUNDLE_KEY));
+        AbstractListAdapterImplementation restoredAdapter = createAdapter();
+        restoredAdapter.setItemCodec(itemCodec);
+        restoredAdapter.onRestoreInstanceState(outState, key);
+        assertEquals(2, restoredAdapter.getCount());
+        assertEquals("item1", restoredAdapter.getItem(0));
+        assertEquals("item2", restoredAdapter.getItem(1));
+    }
+
+    @Test
+    public final void testOnRestoreInstanceStateWhenInstanceStateStoreIsUsed()
+            throws RestoreInstanceStateException {
+        String key = "adapterkey";
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        InstanceStateStore instanceStateStore = new InstanceStateStore(context);
+        Bundle outState = new Bundle();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.setInstanceStateStore(instanceStateStore);
+        abstractListAdapter.addItem("item1");
+        abstractListAdapter.addItem("item2");
+        abstractListAdapter.onSaveInstanceState(outState, key);
+        Bundle handle = outState.getBundle(key);
+        assertTrue(InstanceStateStore.isHandle(handle));
+        assertFalse(handle.containsKey(AbstractListAdapter.SERIALIZABLE_ITEMS_BUNDLE_KEY));
+        AbstractListAdapterImplementation restoredAdapter = createAdapter();
+        restoredAdapter.setInstanceStateStore(instanceStateStore);
+        restoredAdapter.onRestoreInstanceState(outState, key);
+        assertEquals(2, restoredAdapter.getCount());
+        assertEquals("item1", restoredAdapter.getItem(0));
+        assertEquals("item2", restoredAdapter.getItem(1));
+        instanceStateStore.clear();
+    }
+
+    @Test
+    public final void testOnRestoreInstanceStateWhenInstanceStateFileIsGone()
+            throws RestoreInstanceStateException {
+        String key = "adapterkey";
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        InstanceStateStore instanceStateStore = new InstanceStateStore(context);
+        Bundle outState = new Bundle();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.setInstanceStateStore(instanceStateStore);
+        abstractListAdapter.addItem("item1");
+        abstractListAdapter.onSaveInstanceState(outState, key);
+        instanceStateStore.clear();
+        AbstractListAdapterImplementation restoredAdapter = createAdapter();
+        restoredAdapter.setInstanceStateStore(instanceStateStore);
+        restoredAdapter.addItem("item2");
+        restoredAdapter.onRestoreInstanceState(outState, key);
+        assertEquals(1, restoredAdapter.getCount());
+        assertEquals("item2", restoredAdapter.getItem(0));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public final void testOnRestoreInstanceStateThrowsExceptionWhenBundleIsNull()
             throws RestoreInstanceStateException {
@@ -2160,6 +2642,162 @@ public class AbstractListAdapterTest {
         abstractListAdapter.onRestoreInstanceState(new Bundle(), "");
     }
 
+    @Test
+    public final void testOnRestoreInstanceStateAsync() {
+        final String key = "adapterkey";
+        final Bundle outState = new Bundle();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem("item1");
+        abstractListAdapter.addItem("item2");
+        abstractListAdapter.onSaveInstanceState(outState, key);
+        final List<Runnable> runnables = new ArrayList<>();
+        final AbstractListAdapterImplementation restoredAdapter = createAdapter();
+        restoredAdapter.setRestoreExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                runnables.add(command);
+            }
+
+        });
+        assertFalse(restoredAdapter.isRestoring());
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                restoredAdapter.onRestoreInstanceStateAsync(outState, key);
+                assertTrue(restoredAdapter.isRestoring());
+                assertEquals(0, restoredAdapter.getCount());
+                assertEquals(1, runnables.size());
+                runnables.get(0).run();
+            }
+
+        });
+        assertFalse(restoredAdapter.isRestoring());
+        assertEquals(2, restoredAdapter.getCount());
+        assertEquals("item1", restoredAdapter.getItem(0));
+        assertEquals("item2", restoredAdapter.getItem(1));
+    }
+
+    @Test
+    public final void testOnRestoreInstanceStateAsyncWhenSuperseded() {
+        final String key = "adapterkey";
+        final Bundle outState1 = new Bundle();
+        final Bundle outState2 = new Bundle();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem("item1");
+        abstractListAdapter.onSaveInstanceState(outState1, key);
+        abstractListAdapter.addItem("item2");
+        abstractListAdapter.onSaveInstanceState(outState2, key);
+        final List<Runnable> runnables = new ArrayList<>();
+        final AbstractListAdapterImplementation restoredAdapter = createAdapter();
+        restoredAdapter.setRestoreExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                runnables.add(command);
+            }
+
+        });
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                restoredAdapter.onRestoreInstanceStateAsync(outState1, key);
+
+                try {
+                    restoredAdapter.onRestoreInstanceState(outState2, key);
+                } catch (RestoreInstanceStateException e) {
+                    throw new RuntimeException(e);
+                }
+
+                runnables.get(0).run();
+            }
+
+        });
+        assertFalse(restoredAdapter.isRestoring());
+        assertEquals(2, restoredAdapter.getCount());
+    }
+
+    @Test
+    public final void testOnRestoreInstanceStateAsyncReplacesItems() {
+        final String key = "adapterkey";
+        final Bundle outState = new Bundle();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem("item1");
+        abstractListAdapter.addItem("item2");
+        abstractListAdapter.onSaveInstanceState(outState, key);
+        final List<Runnable> runnables = new ArrayList<>();
+        final AbstractListAdapterImplementation restoredAdapter = createAdapter();
+        restoredAdapter.addItem("item3");
+        restoredAdapter.setRestoreExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                runnables.add(command);
+            }
+
+        });
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                restoredAdapter.onRestoreInstanceStateAsync(outState, key);
+                runnables.get(0).run();
+            }
+
+        });
+        assertEquals(2, restoredAdapter.getCount());
+        assertEquals("item1", restoredAdapter.getItem(0));
+        assertEquals("item2", restoredAdapter.getItem(1));
+    }
+
+    @Test
+    public final void testOnRestoreInstanceStateAsyncWhenItemsModified() {
+        final String key = "adapterkey";
+        final Bundle outState = new Bundle();
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.addItem("item1");
+        abstractListAdapter.addItem("item2");
+        abstractListAdapter.onSaveInstanceState(outState, key);
+        final List<Runnable> runnables = new ArrayList<>();
+        final AbstractListAdapterImplementation restoredAdapter = createAdapter();
+        restoredAdapter.setRestoreExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                runnables.add(command);
+            }
+
+        });
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                restoredAdapter.onRestoreInstanceStateAsync(outState, key);
+                restoredAdapter.addItem("item1");
+                assertFalse(restoredAdapter.isRestoring());
+                runnables.get(0).run();
+            }
+
+        });
+        assertFalse(restoredAdapter.isRestoring());
+        assertEquals(1, restoredAdapter.getCount());
+        assertEquals("item1", restoredAdapter.getItem(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testOnRestoreInstanceStateAsyncThrowsExceptionWhenKeyIsEmpty() {
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.onRestoreInstanceStateAsync(new Bundle(), "");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void testSetRestoreExecutorThrowsExceptionWhenExecutorIsNull() {
+        AbstractListAdapterImplementation abstractListAdapter = createAdapter();
+        abstractListAdapter.setRestoreExecutor(null);
+    }
+
     @Test
     public final void testHashCode() {
         AbstractListAdapterImplementation abstractListAdapter1 = createAdapter();
@@ -30,6 +30,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -40,6 +41,7 @@ import de.mrapp.android.adapter.Filter;
 import de.mrapp.android.adapter.FilterQuery;
 import de.mrapp.android.adapter.ListDecorator;
 import de.mrapp.android.adapter.Order;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.item.Item;
 import de.mrapp.android.adapter.list.ListAdapter;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
@@ -261,6 +263,11 @@ public class AbstractEnableStateListAdapterTest {
             return false;
         }
 
+        @Override
+        public boolean setRangeItemState(final int start, final int end, final int state) {
+            return false;
+        }
+
         @Override
         public int triggerItemState(final int index) {
             return 0;
@@ -301,6 +308,11 @@ public class AbstractEnableStateListAdapterTest {
             return null;
         }
 
+        @Override
+        public IndexList getIndexListWithSpecificState(final int state) {
+            return null;
+        }
+
         @Override
         public List<Object> getItemsWithSpecificState(final int state) {
             return null;
@@ -350,6 +362,27 @@ public class AbstractEnableStateListAdapterTest {
             return null;
         }
 
+        @Override
+        public void applyFilterAsync(@NonNull final String query, final int flags) {
+
+        }
+
+        @Override
+        public void applyFilterAsync(@NonNull final String query, final int flags,
+                                     @NonNull final Filter<Object> filter) {
+
+        }
+
+        @Override
+        public boolean isFilterPending() {
+            return false;
+        }
+
+        @Override
+        public void setFilterExecutor(@NonNull final Executor executor) {
+
+        }
+
         @Override
         public boolean resetFilter(@NonNull final String query, final int flags) {
             return false;
@@ -1537,6 +1570,41 @@ public class AbstractEnableStateListAdapterTest {
         assertTrue(dataSetObserver.hasOnChangedBeenCalled());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testSetRangeEnabled() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        Object item3 = new Object();
+        ListEnableStateBatchListener<Object> listEnableStateBatchListener =
+                mock(ListEnableStateBatchListener.class);
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        AbstractEnableStateListAdapterImplementation abstractEnableStateListAdapter =
+                new AbstractEnableStateListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<Object>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<Object>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<Object>>(),
+                        new LinkedHashSet<ListAdapterListener<Object>>(),
+                        new LinkedHashSet<ListEnableStateListener<Object>>());
+        abstractEnableStateListAdapter.addEnableStateListener(listEnableStateBatchListener);
+        abstractEnableStateListAdapter.addItem(item1);
+        abstractEnableStateListAdapter.addItem(item2);
+        abstractEnableStateListAdapter.addItem(item3);
+        abstractEnableStateListAdapter.setEnabled(1, false);
+        abstractEnableStateListAdapter.setRangeEnabled(0, 2, false);
+        assertFalse(abstractEnableStateListAdapter.isEnabled(0));
+        assertFalse(abstractEnableStateListAdapter.isEnabled(1));
+        assertTrue(abstractEnableStateListAdapter.isEnabled(2));
+        assertEquals(1, abstractEnableStateListAdapter.getEnabledItemCount());
+        verify(listEnableStateBatchListener, times(1))
+                .onItemsDisabled(abstractEnableStateListAdapter, new IndexList(new int[]{0}));
+        abstractEnableStateListAdapter.setRangeEnabled(0, 3, true);
+        assertEquals(3, abstractEnableStateListAdapter.getEnabledItemCount());
+        verify(listEnableStateBatchListener, times(1))
+                .onItemsEnabled(abstractEnableStateListAdapter, new IndexList(new int[]{0, 1}));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public final void testTriggerAllEnableStates() {
@@ -15,6 +15,7 @@ package de.mrapp.android.adapter.list.filterable;
 
 import android.content.Context;
 import android.os.Bundle;
+import android.os.Parcel;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -29,6 +30,9 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -39,6 +43,7 @@ import de.mrapp.android.adapter.Filter;
 import de.mrapp.android.adapter.Filterable;
 import de.mrapp.android.adapter.ListDecorator;
 import de.mrapp.android.adapter.Order;
+import de.mrapp.android.adapter.RefinableFilter;
 import de.mrapp.android.adapter.RestoreInstanceStateException;
 import de.mrapp.android.adapter.datastructure.AppliedFilter;
 import de.mrapp.android.adapter.datastructure.item.Item;
@@ -276,6 +281,70 @@ public class AbstractFilterableListAdapterTest {
 
     }
 
+    /**
+     * An implementation of the interface {@link ListFilterCompletionListener}, which is needed for
+     * test purposes.
+     */
+    private class FilterListenerImplementation
+            implements ListFilterCompletionListener<FilterableImplementation> {
+
+        @Override
+        public void onApplyFilter(@NonNull final ListAdapter<FilterableImplementation> adapter,
+                                  @NonNull final String query, final int flags,
+                                  @Nullable final Filter<FilterableImplementation> filter,
+                                  @NonNull final List<FilterableImplementation> filteredItems,
+                                  @NonNull final List<FilterableImplementation> unfilteredItems) {
+
+        }
+
+        @Override
+        public void onResetFilter(@NonNull final ListAdapter<FilterableImplementation> adapter,
+                                  @NonNull final String query, final int flags,
+                                  @NonNull final List<FilterableImplementation> unfilteredItems) {
+
+        }
+
+        @Override
+        public void onFilterCompleted(@NonNull final ListAdapter<FilterableImplementation> adapter,
+                                      @NonNull final String query, final int flags,
+                                      final boolean cancelled) {
+
+        }
+
+    }
+
+    /**
+     * An implementation of the interface {@link RefinableFilter}, which is needed for test
+     * purposes. It counts the number of items, which have been matched.
+     */
+    private class RefinableFilterImplementation
+            implements RefinableFilter<FilterableImplementation> {
+
+        /**
+         * The constant serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The number of items, which have been matched.
+         */
+        private int matchCount;
+
+        @Override
+        public boolean match(@NonNull final FilterableImplementation data,
+                             @NonNull final String query, final int flags) {
+            matchCount++;
+            return data.value.startsWith(query);
+        }
+
+        @Override
+        public boolean isRefinement(@NonNull final String query, final int flags,
+                                    @NonNull final String previousQuery, final int previousFlags) {
+            return flags == previousFlags && query.startsWith(previousQuery);
+        }
+
+    }
+
     @Test
     public final void testConstructor() {
         Set<ListFilterListener<FilterableImplementation>> filterListeners = new LinkedHashSet<>();
@@ -1195,7 +1264,6 @@ public class AbstractFilterableListAdapterTest {
         assertEquals(0, abstractFilterableListAdapter.getItemState(0));
     }
 
-    @SuppressWarnings("unchecked")
     @Test
     public final void testOnSaveInstanceState() {
         Bundle outState = new Bundle();
@@ -1216,9 +1284,9 @@ public class AbstractFilterableListAdapterTest {
                         new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
         abstractFilterableListAdapter.applyFilter(query, flags);
         abstractFilterableListAdapter.onSaveInstanceState(outState);
-        LinkedHashSet<AppliedFilter<FilterableImplementation>> savedAppliedFilters =
-                (LinkedHashSet<AppliedFilter<FilterableImplementation>>) outState
-                        .getSerializable(AbstractFilterableListAdapter.APPLIED_FILTERS_BUNDLE_KEY);
+        ArrayList<AppliedFilter<FilterableImplementation>> savedAppliedFilters = outState
+                .getParcelableArrayList(
+                        AbstractFilterableListAdapter.PARCELABLE_APPLIED_FILTERS_BUNDLE_KEY);
         Iterator<AppliedFilter<FilterableImplementation>> appliedFiltersIterator =
                 savedAppliedFilters.iterator();
         assertEquals(new AppliedFilter<FilterableImplementation>(query, flags),
@@ -1277,6 +1345,333 @@ public class AbstractFilterableListAdapterTest {
         assertTrue(dataSetObserver.hasOnChangedBeenCalled());
     }
 
+    @Test
+    public final void testOnRestoreInstanceStateFromMarshalledParcel()
+            throws RestoreInstanceStateException {
+        String key = "keyadapter";
+        String query = "querystring";
+        int flags = 2;
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        AbstractFilterableListAdapterImplementation abstractFilterableListAdapter =
+                new AbstractFilterableListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<FilterableImplementation>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListEnableStateListener<FilterableImplementation>>(), 1,
+                        false, new LinkedHashSet<ListItemStateListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListSortingListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListFilterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
+        abstractFilterableListAdapter.applyFilter(query, flags);
+        Bundle savedInstanceState = new Bundle();
+        abstractFilterableListAdapter.onSaveInstanceState(savedInstanceState, key);
+        Parcel parcel = Parcel.obtain();
+        savedInstanceState.writeToParcel(parcel, 0);
+        byte[] bytes = parcel.marshall();
+        parcel.recycle();
+        parcel = Parcel.obtain();
+        parcel.unmarshall(bytes, 0, bytes.length);
+        parcel.setDataPosition(0);
+        Bundle restoredInstanceState = parcel.readBundle(getClass().getClassLoader());
+        parcel.recycle();
+        abstractFilterableListAdapter =
+                new AbstractFilterableListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<FilterableImplementation>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListEnableStateListener<FilterableImplementation>>(), 1,
+                        false, new LinkedHashSet<ListItemStateListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListSortingListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListFilterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
+        abstractFilterableListAdapter.onRestoreInstanceState(restoredInstanceState, key);
+        Iterator<AppliedFilter<FilterableImplementation>> appliedFiltersIterator =
+                abstractFilterableListAdapter.getAppliedFilters().iterator();
+        AppliedFilter<FilterableImplementation> restoredAppliedFilter =
+                appliedFiltersIterator.next();
+        assertEquals(query, restoredAppliedFilter.getQuery());
+        assertEquals(flags, restoredAppliedFilter.getFlags());
+        assertFalse(appliedFiltersIterator.hasNext());
+    }
+
+    @Test
+    public final void testApplyFilterAsync() throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final boolean[] cancelled = new boolean[]{true};
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        AbstractFilterableListAdapterImplementation abstractFilterableListAdapter =
+                new AbstractFilterableListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<FilterableImplementation>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListEnableStateListener<FilterableImplementation>>(), 1,
+                        false, new LinkedHashSet<ListItemStateListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListSortingListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListFilterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
+        abstractFilterableListAdapter.setFilterExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                command.run();
+            }
+
+        });
+        abstractFilterableListAdapter
+                .addFilterListener(new FilterListenerImplementation() {
+
+                    @Override
+                    public void onFilterCompleted(
+                            @NonNull final ListAdapter<FilterableImplementation> adapter,
+                            @NonNull final String query, final int flags,
+                            final boolean wasCancelled) {
+                        cancelled[0] = wasCancelled;
+                        latch.countDown();
+                    }
+
+                });
+        FilterableImplementation item1 = new FilterableImplementation("abcdefghij");
+        FilterableImplementation item2 = new FilterableImplementation("abcquerystringdef");
+        FilterableImplementation item3 = new FilterableImplementation("abcdef");
+        FilterableImplementation item4 = new FilterableImplementation("querystring");
+        abstractFilterableListAdapter.addItem(item1);
+        abstractFilterableListAdapter.addItem(item2);
+        abstractFilterableListAdapter.addItem(item3);
+        abstractFilterableListAdapter.addItem(item4);
+        abstractFilterableListAdapter.applyFilterAsync("querystring", 0);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(cancelled[0]);
+        assertFalse(abstractFilterableListAdapter.isFilterPending());
+        assertTrue(abstractFilterableListAdapter.isFilterApplied("querystring", 0));
+        assertEquals(2, abstractFilterableListAdapter.getCount());
+        assertEquals(item2, abstractFilterableListAdapter.getItem(0));
+        assertEquals(item4, abstractFilterableListAdapter.getItem(1));
+        assertEquals(1, abstractFilterableListAdapter.getUnfilteredIndex(0));
+        assertEquals(3, abstractFilterableListAdapter.getUnfilteredIndex(1));
+        assertEquals(4, abstractFilterableListAdapter.getAllItems().size());
+    }
+
+    @Test
+    public final void testApplyFilterAsyncWhenSuperseded() throws InterruptedException {
+        final List<Runnable> pendingTasks = new ArrayList<>();
+        final List<String> cancelledQueries = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        AbstractFilterableListAdapterImplementation abstractFilterableListAdapter =
+                new AbstractFilterableListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<FilterableImplementation>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListEnableStateListener<FilterableImplementation>>(), 1,
+                        false, new LinkedHashSet<ListItemStateListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListSortingListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListFilterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
+        abstractFilterableListAdapter.setFilterExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+                pendingTasks.add(command);
+            }
+
+        });
+        abstractFilterableListAdapter
+                .addFilterListener(new FilterListenerImplementation() {
+
+                    @Override
+                    public void onFilterCompleted(
+                            @NonNull final ListAdapter<FilterableImplementation> adapter,
+                            @NonNull final String query, final int flags,
+                            final boolean cancelled) {
+                        if (cancelled) {
+                            cancelledQueries.add(query);
+                        } else {
+                            latch.countDown();
+                        }
+                    }
+
+                });
+        FilterableImplementation item1 = new FilterableImplementation("abc");
+        FilterableImplementation item2 = new FilterableImplementation("def");
+        abstractFilterableListAdapter.addItem(item1);
+        abstractFilterableListAdapter.addItem(item2);
+        abstractFilterableListAdapter.applyFilterAsync("a", 0);
+        assertTrue(abstractFilterableListAdapter.isFilterPending());
+        abstractFilterableListAdapter.applyFilterAsync("d", 0);
+        assertEquals(1, cancelledQueries.size());
+        assertEquals("a", cancelledQueries.get(0));
+
+        for (Runnable task : pendingTasks) {
+            task.run();
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertFalse(abstractFilterableListAdapter.isFilterApplied("a", 0));
+        assertTrue(abstractFilterableListAdapter.isFilterApplied("d", 0));
+        assertEquals(1, abstractFilterableListAdapter.getCount());
+        assertEquals(item2, abstractFilterableListAdapter.getItem(0));
+    }
+
+    @Test
+    public final void testResetFilterCancelsPendingFilter() {
+        final List<String> cancelledQueries = new ArrayList<>();
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        AbstractFilterableListAdapterImplementation abstractFilterableListAdapter =
+                new AbstractFilterableListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<FilterableImplementation>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListEnableStateListener<FilterableImplementation>>(), 1,
+                        false, new LinkedHashSet<ListItemStateListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListSortingListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListFilterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
+        abstractFilterableListAdapter.setFilterExecutor(new Executor() {
+
+            @Override
+            public void execute(@NonNull final Runnable command) {
+
+            }
+
+        });
+        abstractFilterableListAdapter
+                .addFilterListener(new FilterListenerImplementation() {
+
+                    @Override
+                    public void onFilterCompleted(
+                            @NonNull final ListAdapter<FilterableImplementation> adapter,
+                            @NonNull final String query, final int flags,
+                            final boolean cancelled) {
+                        if (cancelled) {
+                            cancelledQueries.add(query);
+                        }
+                    }
+
+                });
+        abstractFilterableListAdapter.addItem(new FilterableImplementation("abc"));
+        abstractFilterableListAdapter.applyFilterAsync("a", 0);
+        abstractFilterableListAdapter.resetAllFilters();
+        assertFalse(abstractFilterableListAdapter.isFilterPending());
+        assertEquals(1, cancelledQueries.size());
+        assertEquals(1, abstractFilterableListAdapter.getCount());
+    }
+
+    @Test
+    public final void testApplyFilterWhenQueryIsRefined() {
+        RefinableFilterImplementation filter = new RefinableFilterImplementation();
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        AbstractFilterableListAdapterImplementation abstractFilterableListAdapter =
+                new AbstractFilterableListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<FilterableImplementation>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListEnableStateListener<FilterableImplementation>>(), 1,
+                        false, new LinkedHashSet<ListItemStateListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListSortingListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListFilterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
+        FilterableImplementation item1 = new FilterableImplementation("jo");
+        FilterableImplementation item2 = new FilterableImplementation("john");
+        FilterableImplementation item3 = new FilterableImplementation("jim");
+        FilterableImplementation item4 = new FilterableImplementation("anna");
+        abstractFilterableListAdapter.addItem(item1);
+        abstractFilterableListAdapter.addItem(item2);
+        abstractFilterableListAdapter.addItem(item3);
+        abstractFilterableListAdapter.addItem(item4);
+        abstractFilterableListAdapter.applyFilter("jo", 0, filter);
+        assertEquals(4, filter.matchCount);
+        assertEquals(2, abstractFilterableListAdapter.getCount());
+        abstractFilterableListAdapter.resetFilter("jo", 0);
+        filter.matchCount = 0;
+        abstractFilterableListAdapter.applyFilter("joh", 0, filter);
+        assertEquals(2, filter.matchCount);
+        assertEquals(1, abstractFilterableListAdapter.getCount());
+        assertEquals(item2, abstractFilterableListAdapter.getItem(0));
+    }
+
+    @Test
+    public final void testApplyFilterWhenResultIsCached() {
+        RefinableFilterImplementation filter = new RefinableFilterImplementation();
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        AbstractFilterableListAdapterImplementation abstractFilterableListAdapter =
+                new AbstractFilterableListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<FilterableImplementation>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListEnableStateListener<FilterableImplementation>>(), 1,
+                        false, new LinkedHashSet<ListItemStateListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListSortingListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListFilterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
+        FilterableImplementation item1 = new FilterableImplementation("jo");
+        FilterableImplementation item2 = new FilterableImplementation("john");
+        FilterableImplementation item3 = new FilterableImplementation("jim");
+        abstractFilterableListAdapter.addItem(item1);
+        abstractFilterableListAdapter.addItem(item2);
+        abstractFilterableListAdapter.addItem(item3);
+        abstractFilterableListAdapter.applyFilter("jo", 0, filter);
+        abstractFilterableListAdapter.resetFilter("jo", 0);
+        abstractFilterableListAdapter.applyFilter("joh", 0, filter);
+        abstractFilterableListAdapter.resetFilter("joh", 0);
+        filter.matchCount = 0;
+        abstractFilterableListAdapter.applyFilter("jo", 0, filter);
+        assertEquals(0, filter.matchCount);
+        assertEquals(2, abstractFilterableListAdapter.getCount());
+        assertEquals(item1, abstractFilterableListAdapter.getItem(0));
+        assertEquals(item2, abstractFilterableListAdapter.getItem(1));
+        abstractFilterableListAdapter.addItem(new FilterableImplementation("joanna"));
+        abstractFilterableListAdapter.resetFilter("jo", 0);
+        filter.matchCount = 0;
+        abstractFilterableListAdapter.applyFilter("jo", 0, filter);
+        assertEquals(4, filter.matchCount);
+        assertEquals(3, abstractFilterableListAdapter.getCount());
+    }
+
+    @Test
+    public final void testResetFilterWhenResultIsCached() {
+        RefinableFilterImplementation filter = new RefinableFilterImplementation();
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        AbstractFilterableListAdapterImplementation abstractFilterableListAdapter =
+                new AbstractFilterableListAdapterImplementation(context,
+                        new ListDecoratorImplementation(), LogLevel.ALL,
+                        new ArrayList<Item<FilterableImplementation>>(), false, true,
+                        new LinkedHashSet<ListAdapterItemClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterItemLongClickListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListAdapterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListEnableStateListener<FilterableImplementation>>(), 1,
+                        false, new LinkedHashSet<ListItemStateListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListSortingListener<FilterableImplementation>>(),
+                        new LinkedHashSet<ListFilterListener<FilterableImplementation>>(),
+                        new LinkedHashSet<AppliedFilter<FilterableImplementation>>());
+        FilterableImplementation item1 = new FilterableImplementation("jo");
+        FilterableImplementation item2 = new FilterableImplementation("john");
+        FilterableImplementation item3 = new FilterableImplementation("jim");
+        abstractFilterableListAdapter.addItem(item1);
+        abstractFilterableListAdapter.addItem(item2);
+        abstractFilterableListAdapter.addItem(item3);
+        abstractFilterableListAdapter.applyFilter("j", 0, filter);
+        abstractFilterableListAdapter.applyFilter("joh", 0, filter);
+        filter.matchCount = 0;
+        abstractFilterableListAdapter.resetFilter("joh", 0);
+        assertEquals(0, filter.matchCount);
+        assertEquals(3, abstractFilterableListAdapter.getCount());
+        assertEquals(item3, abstractFilterableListAdapter.getItem(2));
+    }
+
     @Test
     public final void testHashCode() {
         Context context = InstrumentationRegistry.getInstrumentation().getContext();
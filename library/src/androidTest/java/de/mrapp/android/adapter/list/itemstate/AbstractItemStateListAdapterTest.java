@@ -30,6 +30,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -240,6 +241,27 @@ public class AbstractItemStateListAdapterTest {
             return null;
         }
 
+        @Override
+        public void applyFilterAsync(@NonNull final String query, final int flags) {
+
+        }
+
+        @Override
+        public void applyFilterAsync(@NonNull final String query, final int flags,
+                                     @NonNull final Filter<Object> filter) {
+
+        }
+
+        @Override
+        public boolean isFilterPending() {
+            return false;
+        }
+
+        @Override
+        public void setFilterExecutor(@NonNull final Executor executor) {
+
+        }
+
         @Override
         public boolean resetFilter(@NonNull final String query, final int flags) {
             return false;
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list.paged;
+
+import android.database.Cursor;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import de.mrapp.android.adapter.CursorQuery;
+import de.mrapp.android.adapter.CursorRowMapper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the functionality of the class {@link CursorPageLoader}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class CursorPageLoaderTest {
+
+    /**
+     * A row mapper, which maps the rows of a cursor to their positions.
+     */
+    private static class PositionRowMapper implements CursorRowMapper<String> {
+
+        @NonNull
+        @Override
+        public String map(@NonNull final Cursor cursor) {
+            return "row" + cursor.getPosition();
+        }
+
+    }
+
+    /**
+     * Creates and returns a mocked cursor, which contains a specific number of rows.
+     *
+     * @param count
+     *         The number of rows as an {@link Integer} value
+     * @return The cursor, which has been created, as an instance of the type {@link Cursor}
+     */
+    private Cursor createCursor(final int count) {
+        Cursor cursor = mock(Cursor.class);
+        final int[] position = new int[]{-1};
+        when(cursor.getCount()).thenReturn(count);
+        when(cursor.getPosition()).thenAnswer(new Answer<Integer>() {
+
+            @Override
+            public Integer answer(final InvocationOnMock invocation) {
+                return position[0];
+            }
+
+        });
+        when(cursor.moveToPosition(anyInt())).thenAnswer(new Answer<Boolean>() {
+
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                position[0] = (Integer) invocation.getArguments()[0];
+                return position[0] >= 0 && position[0] < count;
+            }
+
+        });
+        when(cursor.moveToNext()).thenAnswer(new Answer<Boolean>() {
+
+            @Override
+            public Boolean answer(final InvocationOnMock invocation) {
+                position[0]++;
+                return position[0] < count;
+            }
+
+        });
+        return cursor;
+    }
+
+    /**
+     * Tests the functionality of the getItemCount-method.
+     */
+    @Test
+    public final void testGetItemCount() {
+        Cursor cursor = createCursor(5);
+        CursorQuery query = mock(CursorQuery.class);
+        when(query.query(any(String.class), any(String[].class), any(String.class)))
+                .thenReturn(cursor);
+        CursorPageLoader<String> loader = new CursorPageLoader<>(query, new PositionRowMapper());
+        assertEquals(5, loader.getItemCount());
+        assertEquals(5, loader.getItemCount());
+        verify(query, times(1)).query(any(String.class), any(String[].class), any(String.class));
+    }
+
+    /**
+     * Tests the functionality of the loadPage-method.
+     */
+    @Test
+    public final void testLoadPage() {
+        Cursor cursor = createCursor(5);
+        CursorQuery query = mock(CursorQuery.class);
+        when(query.query(any(String.class), any(String[].class), any(String.class)))
+                .thenReturn(cursor);
+        CursorPageLoader<String> loader = new CursorPageLoader<>(query, new PositionRowMapper());
+        List<String> page = loader.loadPage(2, 2);
+        assertEquals(2, page.size());
+        assertEquals("row2", page.get(0));
+        assertEquals("row3", page.get(1));
+        page = loader.loadPage(4, 2);
+        assertEquals(1, page.size());
+        assertEquals("row4", page.get(0));
+        assertTrue(loader.loadPage(6, 2).isEmpty());
+    }
+
+    /**
+     * Tests, that the query is executed again, if the selection or order has been changed.
+     */
+    @Test
+    public final void testRequeryOnChangedParameters() {
+        Cursor cursor1 = createCursor(5);
+        Cursor cursor2 = createCursor(2);
+        CursorQuery query = mock(CursorQuery.class);
+        when(query.query(any(String.class), any(String[].class), any(String.class)))
+                .thenReturn(cursor1);
+        when(query.query(eq("name LIKE ?"), any(String[].class), eq("name ASC")))
+                .thenReturn(cursor2);
+        CursorPageLoader<String> loader = new CursorPageLoader<>(query, new PositionRowMapper());
+        assertNull(loader.getSelection());
+        assertNull(loader.getOrderBy());
+        assertEquals(5, loader.getItemCount());
+        loader.setSelection("name LIKE ?", new String[]{"a%"});
+        loader.setOrderBy("name ASC");
+        assertEquals("name LIKE ?", loader.getSelection());
+        assertEquals("a%", loader.getSelectionArgs()[0]);
+        assertEquals("name ASC", loader.getOrderBy());
+        assertEquals(2, loader.getItemCount());
+        verify(cursor1).close();
+        verify(query).query(eq("name LIKE ?"), any(String[].class), eq("name ASC"));
+    }
+
+    /**
+     * Tests the functionality of the close-method.
+     */
+    @Test
+    public final void testClose() {
+        Cursor cursor = createCursor(5);
+        CursorQuery query = mock(CursorQuery.class);
+        when(query.query((String) isNull(), (String[]) isNull(), (String) isNull()))
+                .thenReturn(cursor);
+        CursorPageLoader<String> loader = new CursorPageLoader<>(query, new PositionRowMapper());
+        loader.getItemCount();
+        loader.close();
+        verify(cursor).close();
+        loader.getItemCount();
+        verify(query, times(2)).query((String) isNull(), (String[]) isNull(),
+                (String) isNull());
+    }
+
+}
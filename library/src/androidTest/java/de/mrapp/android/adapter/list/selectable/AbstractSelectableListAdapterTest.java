@@ -283,10 +283,10 @@ public class AbstractSelectableListAdapterTest {
                         new LinkedHashSet<AppliedFilter<Object>>(), false,
                         new LinkedHashSet<ListSelectionListener<Object>>());
         ListSelectionListener<Object> listSelectionListener = mock(ListSelectionListener.class);
-        assertEquals(1, abstractSelectableListAdapter.getSelectionListeners().size());
+        assertTrue(abstractSelectableListAdapter.getSelectionListeners().isEmpty());
         abstractSelectableListAdapter.addSelectionListener(listSelectionListener);
         abstractSelectableListAdapter.addSelectionListener(listSelectionListener);
-        assertEquals(2, abstractSelectableListAdapter.getSelectionListeners().size());
+        assertEquals(1, abstractSelectableListAdapter.getSelectionListeners().size());
         assertTrue(abstractSelectableListAdapter.getSelectionListeners()
                 .contains(listSelectionListener));
     }
@@ -330,9 +330,9 @@ public class AbstractSelectableListAdapterTest {
                         new LinkedHashSet<ListSelectionListener<Object>>());
         abstractSelectableListAdapter.removeSelectionListener(listSelectionListener);
         abstractSelectableListAdapter.addSelectionListener(listSelectionListener);
-        assertEquals(2, abstractSelectableListAdapter.getSelectionListeners().size());
-        abstractSelectableListAdapter.removeSelectionListener(listSelectionListener);
         assertEquals(1, abstractSelectableListAdapter.getSelectionListeners().size());
+        abstractSelectableListAdapter.removeSelectionListener(listSelectionListener);
+        assertTrue(abstractSelectableListAdapter.getSelectionListeners().isEmpty());
     }
 
     @Test(expected = IllegalArgumentException.class)
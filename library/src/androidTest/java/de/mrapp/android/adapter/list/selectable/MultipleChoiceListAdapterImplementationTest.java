@@ -38,6 +38,7 @@ import de.mrapp.android.adapter.Filterable;
 import de.mrapp.android.adapter.R;
 import de.mrapp.android.adapter.SelectableListDecorator;
 import de.mrapp.android.adapter.datastructure.AppliedFilter;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.item.Item;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
 import de.mrapp.android.adapter.list.ListAdapterItemLongClickListener;
@@ -540,6 +541,29 @@ public class MultipleChoiceListAdapterImplementationTest {
         assertTrue(indices.isEmpty());
     }
 
+    @Test
+    public final void testGetSelectedIndexList() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        Object item3 = new Object();
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        MultipleChoiceListAdapterImplementation<Object> multipleChoiceListAdapterImplementation =
+                new MultipleChoiceListAdapterImplementation<>(context,
+                        new SelectableListDecoratorImplementation());
+        multipleChoiceListAdapterImplementation.addItem(item1);
+        multipleChoiceListAdapterImplementation.addItem(item2);
+        multipleChoiceListAdapterImplementation.addItem(item3);
+        multipleChoiceListAdapterImplementation.setSelected(item1, true);
+        multipleChoiceListAdapterImplementation.setSelected(item3, true);
+        IndexList indices = multipleChoiceListAdapterImplementation.getSelectedIndexList();
+        assertEquals(2, indices.size());
+        assertEquals(0, indices.get(0));
+        assertEquals(2, indices.get(1));
+        indices = multipleChoiceListAdapterImplementation.getUnselectedIndexList();
+        assertEquals(1, indices.size());
+        assertEquals(1, indices.get(0));
+    }
+
     @Test
     public final void testGetSelectedItems() {
         Object item1 = new Object();
@@ -1024,6 +1048,51 @@ public class MultipleChoiceListAdapterImplementationTest {
         assertTrue(dataSetObserver.hasOnChangedBeenCalled());
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public final void testSetRangeSelected() {
+        Object item1 = new Object();
+        Object item2 = new Object();
+        Object item3 = new Object();
+        Object item4 = new Object();
+        DataSetObserver dataSetObserver = new DataSetObserver();
+        ListSelectionBatchListener<Object> listSelectionBatchListener =
+                mock(ListSelectionBatchListener.class);
+        Context context = InstrumentationRegistry.getInstrumentation().getContext();
+        MultipleChoiceListAdapterImplementation<Object> multipleChoiceListAdapterImplementation =
+                new MultipleChoiceListAdapterImplementation<>(context,
+                        new SelectableListDecoratorImplementation());
+        multipleChoiceListAdapterImplementation.registerDataSetObserver(dataSetObserver);
+        multipleChoiceListAdapterImplementation.addSelectionListener(listSelectionBatchListener);
+        multipleChoiceListAdapterImplementation.addItem(item1);
+        multipleChoiceListAdapterImplementation.addItem(item2);
+        multipleChoiceListAdapterImplementation.addItem(item3);
+        multipleChoiceListAdapterImplementation.addItem(item4);
+        multipleChoiceListAdapterImplementation.setEnabled(item2, false);
+        dataSetObserver.reset();
+        boolean changedAll = multipleChoiceListAdapterImplementation.setRangeSelected(0, 3, true);
+        assertFalse(changedAll);
+        assertTrue(multipleChoiceListAdapterImplementation.isSelected(0));
+        assertFalse(multipleChoiceListAdapterImplementation.isSelected(1));
+        assertTrue(multipleChoiceListAdapterImplementation.isSelected(2));
+        assertFalse(multipleChoiceListAdapterImplementation.isSelected(3));
+        assertEquals(2, multipleChoiceListAdapterImplementation.getSelectedItemCount());
+        verify(listSelectionBatchListener, times(1))
+                .onItemsSelected(multipleChoiceListAdapterImplementation,
+                        new IndexList(new int[]{0, 2}));
+        verify(listSelectionBatchListener, times(0))
+                .onItemSelected(multipleChoiceListAdapterImplementation, item1, 0);
+        assertTrue(dataSetObserver.hasOnChangedBeenCalled());
+        dataSetObserver.reset();
+        changedAll = multipleChoiceListAdapterImplementation.setRangeSelected(2, 4, false);
+        assertFalse(changedAll);
+        assertFalse(multipleChoiceListAdapterImplementation.isSelected(2));
+        verify(listSelectionBatchListener, times(1))
+                .onItemsUnselected(multipleChoiceListAdapterImplementation,
+                        new IndexList(new int[]{2}));
+        assertTrue(dataSetObserver.hasOnChangedBeenCalled());
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     public final void testSetAllSelectedWhenItemIsAlreadySelected() {
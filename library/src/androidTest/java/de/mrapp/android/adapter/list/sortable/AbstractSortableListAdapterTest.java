@@ -28,6 +28,7 @@ import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -180,6 +181,27 @@ public class AbstractSortableListAdapterTest {
             return null;
         }
 
+        @Override
+        public void applyFilterAsync(@NonNull final String query, final int flags) {
+
+        }
+
+        @Override
+        public void applyFilterAsync(@NonNull final String query, final int flags,
+                                     @NonNull final Filter<ComparableImplementation> filter) {
+
+        }
+
+        @Override
+        public boolean isFilterPending() {
+            return false;
+        }
+
+        @Override
+        public void setFilterExecutor(@NonNull final Executor executor) {
+
+        }
+
         @Override
         public boolean resetFilter(@NonNull final String query, final int flags) {
             return false;
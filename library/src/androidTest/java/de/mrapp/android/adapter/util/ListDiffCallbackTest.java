@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.util;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the functionality of the class {@link ListDiffCallback}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class ListDiffCallbackTest {
+
+    /**
+     * A callback, which considers strings to represent the same item, if their first characters
+     * are equal, and their contents to be the same, if the strings are equal.
+     */
+    private static class ItemCallbackImplementation extends DiffUtil.ItemCallback<String> {
+
+        @Override
+        public boolean areItemsTheSame(@NonNull final String oldItem,
+                                       @NonNull final String newItem) {
+            return oldItem.charAt(0) == newItem.charAt(0);
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull final String oldItem,
+                                          @NonNull final String newItem) {
+            return oldItem.equals(newItem);
+        }
+
+        @Nullable
+        @Override
+        public Object getChangePayload(@NonNull final String oldItem,
+                                       @NonNull final String newItem) {
+            return oldItem.equals(newItem) ? null : newItem;
+        }
+
+    }
+
+    /**
+     * Tests the functionality of the constructor.
+     */
+    @Test
+    public final void testConstructor() {
+        List<String> oldList = Arrays.asList("a1", "b1", "c1");
+        List<String> newList = Collections.singletonList("a1");
+        ListDiffCallback<String> callback =
+                new ListDiffCallback<>(oldList, newList, new ItemCallbackImplementation());
+        assertEquals(oldList.size(), callback.getOldListSize());
+        assertEquals(newList.size(), callback.getNewListSize());
+    }
+
+    /**
+     * Ensures, that a {@link IllegalArgumentException} is thrown by the constructor, if the old
+     * list is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenOldListIsNull() {
+        new ListDiffCallback<>(null, Collections.<String>emptyList(),
+                new ItemCallbackImplementation());
+    }
+
+    /**
+     * Ensures, that a {@link IllegalArgumentException} is thrown by the constructor, if the item
+     * callback is null.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructorThrowsExceptionWhenItemCallbackIsNull() {
+        new ListDiffCallback<>(Collections.<String>emptyList(), Collections.<String>emptyList(),
+                null);
+    }
+
+    /**
+     * Tests the functionality of the methods, which allow to compare items.
+     */
+    @Test
+    public final void testCompareItems() {
+        List<String> oldList = Arrays.asList("a1", "b1");
+        List<String> newList = Arrays.asList("b2", "a1");
+        ListDiffCallback<String> callback =
+                new ListDiffCallback<>(oldList, newList, new ItemCallbackImplementation());
+        assertTrue(callback.areItemsTheSame(0, 1));
+        assertTrue(callback.areContentsTheSame(0, 1));
+        assertNull(callback.getChangePayload(0, 1));
+        assertTrue(callback.areItemsTheSame(1, 0));
+        assertFalse(callback.areContentsTheSame(1, 0));
+        assertEquals("b2", callback.getChangePayload(1, 0));
+        assertFalse(callback.areItemsTheSame(0, 0));
+    }
+
+    /**
+     * Tests the functionality of the method, which allows to check, whether the difference between
+     * two lists should be calculated.
+     */
+    @Test
+    public final void testIsDiffFeasible() {
+        assertTrue(ListDiffCallback.isDiffFeasible(0, 0));
+        assertTrue(ListDiffCallback.isDiffFeasible(ListDiffCallback.MAX_ITEM_COUNT, 0));
+        assertFalse(ListDiffCallback.isDiffFeasible(ListDiffCallback.MAX_ITEM_COUNT, 1));
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.util;
+
+import android.view.ViewGroup;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+import de.mrapp.android.adapter.ChangePayload;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the functionality of the class {@link NotificationScheduler}.
+ *
+ * @author Michael Rapp
+ */
+@RunWith(AndroidJUnit4.class)
+public class NotificationSchedulerTest {
+
+    /**
+     * An implementation of the abstract class {@link RecyclerView.Adapter}, which does not contain
+     * any items.
+     */
+    private static class AdapterImplementation
+            extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+
+        @NonNull
+        @Override
+        public RecyclerView.ViewHolder onCreateViewHolder(@NonNull final ViewGroup parent,
+                                                          final int viewType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull final RecyclerView.ViewHolder holder,
+                                     final int position) {
+
+        }
+
+        @Override
+        public int getItemCount() {
+            return 0;
+        }
+
+    }
+
+    /**
+     * Runs a specific runnable on the UI thread and waits until it has been finished.
+     *
+     * @param runnable
+     *         The runnable, which should be run, as an instance of the type {@link Runnable}
+     */
+    private void runOnMainSync(@NonNull final Runnable runnable) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(runnable);
+    }
+
+    /**
+     * Tests, that notifications about changed items are merged into consecutive ranges.
+     */
+    @Test
+    public final void testScheduleItemRangeChanged() {
+        RecyclerView.Adapter<?> adapter = new AdapterImplementation();
+        RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        adapter.registerAdapterDataObserver(observer);
+        final NotificationScheduler scheduler = new NotificationScheduler(adapter);
+        final Object payload = new Object();
+        final boolean[] pendingNotifications = new boolean[2];
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                scheduler.scheduleItemRangeChanged(0, 1, payload);
+                scheduler.scheduleItemRangeChanged(1, 2, payload);
+                scheduler.scheduleItemRangeChanged(5, 1, payload);
+                pendingNotifications[0] = scheduler.hasPendingNotifications();
+                scheduler.flushNow();
+                pendingNotifications[1] = scheduler.hasPendingNotifications();
+            }
+
+        });
+
+        assertTrue(pendingNotifications[0]);
+        assertFalse(pendingNotifications[1]);
+        verify(observer, times(1)).onItemRangeChanged(0, 3, payload);
+        verify(observer, times(1)).onItemRangeChanged(5, 1, payload);
+        verify(observer, never()).onChanged();
+    }
+
+    /**
+     * Tests, that no payload is dispatched, if items with different payloads are merged.
+     */
+    @Test
+    public final void testScheduleItemRangeChangedWithDifferentPayloads() {
+        RecyclerView.Adapter<?> adapter = new AdapterImplementation();
+        RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        adapter.registerAdapterDataObserver(observer);
+        final NotificationScheduler scheduler = new NotificationScheduler(adapter);
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                scheduler.scheduleItemRangeChanged(0, 1, new Object());
+                scheduler.scheduleItemRangeChanged(1, 1, new Object());
+                scheduler.flushNow();
+            }
+
+        });
+
+        verify(observer, times(1)).onItemRangeChanged(eq(0), eq(2), isNull());
+    }
+
+    /**
+     * Tests, that items with different change payloads are notified once per payload.
+     */
+    @Test
+    public final void testScheduleItemRangeChangedWithDifferentChangePayloads() {
+        RecyclerView.Adapter<?> adapter = new AdapterImplementation();
+        RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        adapter.registerAdapterDataObserver(observer);
+        final NotificationScheduler scheduler = new NotificationScheduler(adapter);
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                scheduler.scheduleItemRangeChanged(0, 2, ChangePayload.SELECTION);
+                scheduler.scheduleItemRangeChanged(1, 2, ChangePayload.ENABLE_STATE);
+                scheduler.scheduleItemRangeChanged(5, 1, ChangePayload.SELECTION);
+                scheduler.scheduleItemRangeChanged(5, 1, null);
+                scheduler.flushNow();
+            }
+
+        });
+
+        verify(observer, times(1)).onItemRangeChanged(0, 2, ChangePayload.SELECTION);
+        verify(observer, times(1)).onItemRangeChanged(1, 2, ChangePayload.ENABLE_STATE);
+        verify(observer, times(1)).onItemRangeChanged(eq(5), eq(1), isNull());
+        verify(observer, never()).onItemRangeChanged(5, 1, ChangePayload.SELECTION);
+        verify(observer, never()).onChanged();
+    }
+
+    /**
+     * Tests, that a full notification supersedes notifications about changed items.
+     */
+    @Test
+    public final void testScheduleDataSetChanged() {
+        RecyclerView.Adapter<?> adapter = new AdapterImplementation();
+        RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        adapter.registerAdapterDataObserver(observer);
+        final NotificationScheduler scheduler = new NotificationScheduler(adapter);
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                scheduler.scheduleItemRangeChanged(0, 1, null);
+                scheduler.scheduleDataSetChanged();
+                scheduler.scheduleDataSetChanged();
+                scheduler.scheduleItemRangeChanged(2, 1, null);
+                scheduler.flushNow();
+            }
+
+        });
+
+        verify(observer, times(1)).onChanged();
+        verify(observer, never()).onItemRangeChanged(anyInt(), anyInt(), any());
+    }
+
+    /**
+     * Tests the functionality of the discard-method.
+     */
+    @Test
+    public final void testDiscard() {
+        RecyclerView.Adapter<?> adapter = new AdapterImplementation();
+        RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        adapter.registerAdapterDataObserver(observer);
+        final NotificationScheduler scheduler = new NotificationScheduler(adapter);
+        final boolean[] pendingNotifications = new boolean[1];
+        runOnMainSync(new Runnable() {
+
+            @Override
+            public void run() {
+                scheduler.scheduleItemRangeChanged(0, 1, null);
+                scheduler.scheduleDataSetChanged();
+                scheduler.discard();
+                pendingNotifications[0] = scheduler.hasPendingNotifications();
+                scheduler.flushNow();
+            }
+
+        });
+
+        assertFalse(pendingNotifications[0]);
+        verify(observer, never()).onChanged();
+        verify(observer, never()).onItemRangeChanged(anyInt(), anyInt(), any());
+    }
+
+}
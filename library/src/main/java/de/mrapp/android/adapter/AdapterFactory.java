@@ -21,8 +21,11 @@ import de.mrapp.android.adapter.expandablelist.ExpandableListAdapterImplementati
 import de.mrapp.android.adapter.expandablelist.selectable.MultipleChoiceExpandableListAdapterImplementation;
 import de.mrapp.android.adapter.expandablelist.selectable.SingleChoiceExpandableListAdapterImplementation;
 import de.mrapp.android.adapter.list.NoChoiceListAdapterImplementation;
+import de.mrapp.android.adapter.list.paged.CursorListAdapter;
+import de.mrapp.android.adapter.list.paged.PagedListAdapter;
 import de.mrapp.android.adapter.list.selectable.MultipleChoiceListAdapterImplementation;
 import de.mrapp.android.adapter.list.selectable.SingleChoiceListAdapterImplementation;
+import de.mrapp.util.Condition;
 
 /**
  * An utility class, which offers factory methods, which allow to initialize instances of the types
@@ -66,6 +69,61 @@ public final class AdapterFactory {
         return new NoChoiceListAdapterImplementation<>(context, decorator);
     }
 
+    /**
+     * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary
+     * items.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         ListDecorator}. The decorator may not be null
+     * @param useHashIndex
+     *         True, if a hash index should be used to look up the positions of items, false
+     *         otherwise
+     * @return The adapter, which has been created, as an instance of the type {@link
+     * NoChoiceListAdapter}
+     */
+    public static <DataType> NoChoiceListAdapter<DataType> createListAdapter(
+            @NonNull final Context context, @NonNull final ListDecorator<DataType> decorator,
+            final boolean useHashIndex) {
+        NoChoiceListAdapter<DataType> adapter = createListAdapter(context, decorator);
+        adapter.useHashIndex(useHashIndex);
+        return adapter;
+    }
+
+    /**
+     * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary
+     * items. The adapter's items are encoded by using a specific codec, when its state is saved.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         ListDecorator}. The decorator may not be null
+     * @param itemCodec
+     *         The codec, which should be used to encode the adapter's items, as an instance of the
+     *         type {@link ItemCodec}. The codec may not be null
+     * @return The adapter, which has been created, as an instance of the type {@link
+     * NoChoiceListAdapter}
+     */
+    public static <DataType> NoChoiceListAdapter<DataType> createListAdapter(
+            @NonNull final Context context, @NonNull final ListDecorator<DataType> decorator,
+            @NonNull final ItemCodec<DataType> itemCodec) {
+        Condition.INSTANCE.ensureNotNull(itemCodec, "The item codec may not be null");
+        NoChoiceListAdapter<DataType> adapter = createListAdapter(context, decorator);
+        adapter.setItemCodec(itemCodec);
+        return adapter;
+    }
+
     /**
      * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary
      * items, of which only one single item can be selected at once.
@@ -88,6 +146,66 @@ public final class AdapterFactory {
         return new SingleChoiceListAdapterImplementation<>(context, decorator);
     }
 
+    /**
+     * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary
+     * items, of which only one single item can be selected at once.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         ListDecorator}. The decorator may not be null
+     * @param useHashIndex
+     *         True, if a hash index should be used to look up the positions of items, false
+     *         otherwise
+     * @return The adapter, which has been created, as an instance of the type {@link
+     * SingleChoiceListAdapter}
+     */
+    public static <DataType> SingleChoiceListAdapter<DataType> createSingleChoiceListAdapter(
+            @NonNull final Context context,
+            @NonNull final SelectableListDecorator<DataType> decorator,
+            final boolean useHashIndex) {
+        SingleChoiceListAdapter<DataType> adapter =
+                createSingleChoiceListAdapter(context, decorator);
+        adapter.useHashIndex(useHashIndex);
+        return adapter;
+    }
+
+    /**
+     * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary
+     * items, of which only one single item can be selected at once. The adapter's items are
+     * encoded by using a specific codec, when its state is saved.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         SelectableListDecorator}. The decorator may not be null
+     * @param itemCodec
+     *         The codec, which should be used to encode the adapter's items, as an instance of the
+     *         type {@link ItemCodec}. The codec may not be null
+     * @return The adapter, which has been created, as an instance of the type {@link
+     * SingleChoiceListAdapter}
+     */
+    public static <DataType> SingleChoiceListAdapter<DataType> createSingleChoiceListAdapter(
+            @NonNull final Context context,
+            @NonNull final SelectableListDecorator<DataType> decorator,
+            @NonNull final ItemCodec<DataType> itemCodec) {
+        Condition.INSTANCE.ensureNotNull(itemCodec, "The item codec may not be null");
+        SingleChoiceListAdapter<DataType> adapter =
+                createSingleChoiceListAdapter(context, decorator);
+        adapter.setItemCodec(itemCodec);
+        return adapter;
+    }
+
     /**
      * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary
      * items, of which multiple items can be selected at once.
@@ -110,6 +228,135 @@ public final class AdapterFactory {
         return new MultipleChoiceListAdapterImplementation<>(context, decorator);
     }
 
+    /**
+     * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary
+     * items, of which multiple items can be selected at once.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         ListDecorator}. The decorator may not be null
+     * @param useHashIndex
+     *         True, if a hash index should be used to look up the positions of items, false
+     *         otherwise
+     * @return The adapter, which has been created, as an instance of the type {@link
+     * MultipleChoiceListAdapter}
+     */
+    public static <DataType> MultipleChoiceListAdapter<DataType> createMultipleChoiceListAdapter(
+            @NonNull final Context context,
+            @NonNull final SelectableListDecorator<DataType> decorator,
+            final boolean useHashIndex) {
+        MultipleChoiceListAdapter<DataType> adapter =
+                createMultipleChoiceListAdapter(context, decorator);
+        adapter.useHashIndex(useHashIndex);
+        return adapter;
+    }
+
+    /**
+     * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary
+     * items, of which multiple items can be selected at once. The adapter's items are encoded by
+     * using a specific codec, when its state is saved.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         SelectableListDecorator}. The decorator may not be null
+     * @param itemCodec
+     *         The codec, which should be used to encode the adapter's items, as an instance of the
+     *         type {@link ItemCodec}. The codec may not be null
+     * @return The adapter, which has been created, as an instance of the type {@link
+     * MultipleChoiceListAdapter}
+     */
+    public static <DataType> MultipleChoiceListAdapter<DataType> createMultipleChoiceListAdapter(
+            @NonNull final Context context,
+            @NonNull final SelectableListDecorator<DataType> decorator,
+            @NonNull final ItemCodec<DataType> itemCodec) {
+        Condition.INSTANCE.ensureNotNull(itemCodec, "The item codec may not be null");
+        MultipleChoiceListAdapter<DataType> adapter =
+                createMultipleChoiceListAdapter(context, decorator);
+        adapter.setItemCodec(itemCodec);
+        return adapter;
+    }
+
+    /**
+     * Creates and returns an adapter, whose underlying data is loaded in pages of a fixed size,
+     * instead of being held in memory as a whole.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         PagedListDecorator}. The decorator may not be null
+     * @param pageLoader
+     *         The loader, which should be used to load the adapter's underlying data, as an
+     *         instance of the type {@link PageLoader}. The loader may not be null
+     * @param pageSize
+     *         The number of items per page as an {@link Integer} value. The number of items must be
+     *         at least 1
+     * @param maxResidentPages
+     *         The maximum number of pages, which should be resident at once, as an {@link Integer}
+     *         value. The number of pages must be at least 1
+     * @return The adapter, which has been created, as an instance of the class {@link
+     * PagedListAdapter}
+     */
+    public static <DataType> PagedListAdapter<DataType> createPagedListAdapter(
+            @NonNull final Context context, @NonNull final PagedListDecorator<DataType> decorator,
+            @NonNull final PageLoader<DataType> pageLoader, final int pageSize,
+            final int maxResidentPages) {
+        return new PagedListAdapter<>(context, decorator, pageLoader, pageSize, maxResidentPages);
+    }
+
+    /**
+     * Creates and returns an adapter, whose underlying data is read from a cursor, e.g. from a
+     * SQLite database. The rows of the cursor are mapped to items lazily, when they are about to be
+     * shown.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         PagedListDecorator}. The decorator may not be null
+     * @param query
+     *         The query, which should be used to obtain the cursor, as an instance of the type
+     *         {@link CursorQuery}. The query may not be null
+     * @param rowMapper
+     *         The mapper, which should be used to map the rows of the cursor to items, as an
+     *         instance of the type {@link CursorRowMapper}. The mapper may not be null
+     * @param pageSize
+     *         The number of items per page as an {@link Integer} value. The number of items must be
+     *         at least 1
+     * @param maxResidentPages
+     *         The maximum number of pages, which should be resident at once, as an {@link Integer}
+     *         value. The number of pages must be at least 1
+     * @return The adapter, which has been created, as an instance of the class {@link
+     * CursorListAdapter}
+     */
+    public static <DataType> CursorListAdapter<DataType> createCursorListAdapter(
+            @NonNull final Context context, @NonNull final PagedListDecorator<DataType> decorator,
+            @NonNull final CursorQuery query, @NonNull final CursorRowMapper<DataType> rowMapper,
+            final int pageSize, final int maxResidentPages) {
+        return new CursorListAdapter<>(context, decorator, query, rowMapper, pageSize,
+                maxResidentPages);
+    }
+
     /**
      * Creates and returns an adapter, whose underlying data is managed as a list of arbitrary group
      * and child items.
@@ -128,7 +375,8 @@ public final class AdapterFactory {
      * @return The adapter, which has been created, as an instance of the type {@link
      * ExpandableListAdapter}
      */
-    public static <GroupType, ChildType> NoChoiceExpandableListAdapter<GroupType, ChildType> createExpandableListAdapter(
+    public static <GroupType, ChildType> NoChoiceExpandableListAdapter<GroupType, ChildType>
+    createExpandableListAdapter(
             @NonNull final Context context,
             @NonNull final ExpandableListDecorator<GroupType, ChildType> decorator) {
         return new ExpandableListAdapterImplementation<>(context, decorator);
@@ -156,7 +404,8 @@ public final class AdapterFactory {
      * @return The adapter, which has been created, as an instance of the type {@link
      * SingleChoiceExpandableListAdapter}
      */
-    public static <GroupType, ChildType> SingleChoiceExpandableListAdapter<GroupType, ChildType> createSingleChoiceExpandableListAdapter(
+    public static <GroupType, ChildType> SingleChoiceExpandableListAdapter<GroupType, ChildType>
+    createSingleChoiceExpandableListAdapter(
             @NonNull final Context context,
             @NonNull final SelectableExpandableListDecorator<GroupType, ChildType> decorator,
             @NonNull final ChoiceMode choiceMode) {
@@ -186,7 +435,8 @@ public final class AdapterFactory {
      * @return The adapter, which has been created, as an instance of the type {@link
      * MultipleChoiceExpandableListAdapter}
      */
-    public static <GroupType, ChildType> MultipleChoiceExpandableListAdapter<GroupType, ChildType> createMultipleChoiceExpandableListAdapter(
+    public static <GroupType, ChildType> MultipleChoiceExpandableListAdapter<GroupType, ChildType>
+    createMultipleChoiceExpandableListAdapter(
             @NonNull final Context context,
             @NonNull final SelectableExpandableListDecorator<GroupType, ChildType> decorator,
             @NonNull final ChoiceMode choiceMode) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Contains all payloads, which may be passed to the observers of an adapter, when items have been
+ * changed. A payload specifies which property of the items has been changed. This allows to update
+ * only the affected parts of the views, which are used to visualize the items, instead of
+ * rebinding them completely.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public enum ChangePayload {
+
+    /**
+     * Specifies, that items have been selected or unselected.
+     */
+    SELECTION,
+
+    /**
+     * Specifies, that items have been enabled or disabled.
+     */
+    ENABLE_STATE,
+
+    /**
+     * Specifies, that the states of items have been changed.
+     */
+    ITEM_STATE,
+
+    /**
+     * Specifies, that groups have been expanded or collapsed.
+     */
+    EXPANSION;
+
+    /**
+     * Returns a set, which contains the payloads, which are contained by a specific list, which has
+     * been passed to an adapter in order to bind a view. If the list is empty, or if it contains
+     * any other payload, the view must be bound completely.
+     *
+     * @param payloads
+     *         A list, which contains the payloads, as an instance of the type {@link List}. The
+     *         list may not be null
+     * @return A set, which contains the payloads, as an instance of the type {@link Set} or null,
+     * if the view must be bound completely
+     */
+    @Nullable
+    public static Set<ChangePayload> fromPayloads(@NonNull final List<Object> payloads) {
+        if (payloads.isEmpty()) {
+            return null;
+        }
+
+        Set<ChangePayload> result = EnumSet.noneOf(ChangePayload.class);
+
+        for (Object payload : payloads) {
+            if (payload instanceof ChangePayload) {
+                result.add((ChangePayload) payload);
+            } else {
+                return null;
+            }
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Defines the interface, a class, which should allow to query the underlying data of a cursor-
+ * backed adapter, e.g. from a SQLite database, must implement. Filtering and sorting is pushed
+ * down to the query by passing a selection, respectively an order. Queries are executed on a
+ * background thread.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface CursorQuery {
+
+    /**
+     * Executes the query. This method is invoked on a background thread.
+     *
+     * @param selection
+     *         The selection, which should be used to filter the rows, formatted as a SQL WHERE
+     *         clause (excluding the WHERE itself), as a {@link String} or null, if all rows should
+     *         be returned
+     * @param selectionArgs
+     *         An array, which contains the arguments, which should replace the question marks in
+     *         the selection, as a {@link String} array or null, if the selection does not contain
+     *         any arguments
+     * @param orderBy
+     *         The order of the rows, formatted as a SQL ORDER BY clause (excluding the ORDER BY
+     *         itself), as a {@link String} or null, if the default order should be used
+     * @return The cursor, which allows to access the rows, which have been queried, as an instance
+     * of the type {@link Cursor}. The cursor may not be null
+     */
+    @NonNull
+    Cursor query(@Nullable String selection, @Nullable String[] selectionArgs,
+                 @Nullable String orderBy);
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should allow to map the rows of a cursor to the underlying
+ * data of a cursor-backed adapter, must implement.
+ *
+ * @param <DataType>
+ *         The type of the data, the rows are mapped to
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface CursorRowMapper<DataType> {
+
+    /**
+     * Maps the row, the given cursor is currently positioned at, to an item. This method is
+     * invoked on a background thread. It must not move the cursor.
+     *
+     * @param cursor
+     *         The cursor as an instance of the type {@link Cursor}. The cursor may not be null
+     * @return The item, the row has been mapped to, as an instance of the generic type DataType.
+     * The item may not be null
+     */
+    @NonNull
+    DataType map(@NonNull Cursor cursor);
+
+}
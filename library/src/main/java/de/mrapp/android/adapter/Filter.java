@@ -19,7 +19,9 @@ import java.io.Serializable;
 
 /**
  * Defines the interface, a class, which should allow to filter instances of a specific type by
- * using a regular expression, must implement.
+ * using a regular expression, must implement. In order to avoid Java serialization, when the state
+ * of an adapter is saved, a filter may additionally implement the interface {@link
+ * android.os.Parcelable}.
  *
  * @param <DataType>
  *         The type of the instances, which should be filtered
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Parcel;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.adapter.util.FileUtil;
+import de.mrapp.util.Condition;
+
+/**
+ * A store, which allows to write the saved state of adapters to files instead of passing it
+ * through the bundle, which is used to save the instance state of an activity or fragment. Instead
+ * of the saved state, only a small handle, which refers to the file, is put into the bundle. This
+ * prevents the size limit of the binder from being exceeded by adapters, which contain many items.
+ * The saved state is still marshalled and written synchronously, i.e. the store does not reduce
+ * the time, which is spent on the UI thread when saving the state of an adapter, but only the
+ * amount of data, which is passed to the system.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class InstanceStateStore {
+
+    /**
+     * The name of the directory within the app's cache directory, the files are written to by
+     * default.
+     */
+    public static final String DEFAULT_DIRECTORY_NAME = "adapter_instance_state";
+
+    /**
+     * The key, which is used to store the token, which identifies a file, within a handle.
+     */
+    private static final String TOKEN_BUNDLE_KEY =
+            InstanceStateStore.class.getSimpleName() + "::Token";
+
+    /**
+     * The suffix of the files, the saved states are written to.
+     */
+    private static final String FILE_SUFFIX = ".state";
+
+    /**
+     * The directory, the files are written to.
+     */
+    private final File directory;
+
+    /**
+     * The class loader, which is used to read the saved states.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * Returns the file, which corresponds to a specific handle.
+     *
+     * @param handle
+     *         The handle as an instance of the class {@link Bundle}. The handle may not be null
+     * @return The file, which corresponds to the given handle, as an instance of the class {@link
+     * File}. The file may not be null
+     */
+    @NonNull
+    private File getFile(@NonNull final Bundle handle) {
+        String token = handle.getString(TOKEN_BUNDLE_KEY);
+        Condition.INSTANCE.ensureNotNull(token, "The bundle is not a handle");
+        return new File(directory, new File(token).getName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Creates a new store, which writes the saved state of adapters to files within the app's
+     * cache directory.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     */
+    public InstanceStateStore(@NonNull final Context context) {
+        this(new File(context.getCacheDir(), DEFAULT_DIRECTORY_NAME), context.getClassLoader());
+    }
+
+    /**
+     * Creates a new store, which writes the saved state of adapters to files within a specific
+     * directory.
+     *
+     * @param directory
+     *         The directory, the files should be written to, as an instance of the class {@link
+     *         File}. The directory may not be null
+     * @param classLoader
+     *         The class loader, which should be used to read the saved states, as an instance of
+     *         the class {@link ClassLoader} or null, if the default class loader should be used
+     */
+    public InstanceStateStore(@NonNull final File directory,
+                              @Nullable final ClassLoader classLoader) {
+        Condition.INSTANCE.ensureNotNull(directory, "The directory may not be null");
+        this.directory = directory;
+        this.classLoader =
+                classLoader != null ? classLoader : InstanceStateStore.class.getClassLoader();
+    }
+
+    /**
+     * Returns, whether a specific bundle is a handle, which has been returned by the method {@link
+     * #write(Bundle)}, or not.
+     *
+     * @param bundle
+     *         The bundle, which should be checked, as an instance of the class {@link Bundle}. The
+     *         bundle may not be null
+     * @return True, if the given bundle is a handle, false otherwise
+     */
+    public static boolean isHandle(@NonNull final Bundle bundle) {
+        Condition.INSTANCE.ensureNotNull(bundle, "The bundle may not be null");
+        return bundle.containsKey(TOKEN_BUNDLE_KEY);
+    }
+
+    /**
+     * Returns the directory, the files are written to.
+     *
+     * @return The directory, the files are written to, as an instance of the class {@link File}.
+     * The directory may not be null
+     */
+    @NonNull
+    public final File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Writes a saved state to a new file. The saved state is marshalled and written on the
+     * calling thread, which is usually the UI thread, as the file must exist, when the bundle,
+     * which contains the returned handle, is used to restore the state.
+     *
+     * @param savedState
+     *         The saved state, which should be written, as an instance of the class {@link
+     *         Bundle}. The saved state may not be null
+     * @return A handle, which refers to the file and should be put into the bundle instead of the
+     * saved state, as an instance of the class {@link Bundle}. The handle may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the file could not be written
+     */
+    @NonNull
+    public final Bundle write(@NonNull final Bundle savedState) throws IOException {
+        Condition.INSTANCE.ensureNotNull(savedState, "The saved state may not be null");
+        byte[] data;
+        Parcel parcel = Parcel.obtain();
+
+        try {
+            parcel.writeBundle(savedState);
+            data = parcel.marshall();
+        } finally {
+            parcel.recycle();
+        }
+
+        Bundle handle = new Bundle();
+        handle.putString(TOKEN_BUNDLE_KEY, UUID.randomUUID().toString());
+        FileUtil.write(getFile(handle), data, false);
+        return handle;
+    }
+
+    /**
+     * Reads the saved state, a specific handle refers to.
+     *
+     * @param handle
+     *         The handle, which has been returned by the method {@link #write(Bundle)}, as an
+     *         instance of the class {@link Bundle}. The handle may not be null
+     * @return The saved state, which has been read, as an instance of the class {@link Bundle} or
+     * null, if the file, the given handle refers to, does not exist anymore
+     * @throws IOException
+     *         The exception, which is thrown, if the file could not be read
+     */
+    @Nullable
+    public final Bundle read(@NonNull final Bundle handle) throws IOException {
+        Condition.INSTANCE.ensureNotNull(handle, "The handle may not be null");
+        File file = getFile(handle);
+
+        if (!file.isFile()) {
+            return null;
+        }
+
+        byte[] data = FileUtil.read(file);
+        Parcel parcel = Parcel.obtain();
+
+        try {
+            parcel.unmarshall(data, 0, data.length);
+            parcel.setDataPosition(0);
+            return parcel.readBundle(classLoader);
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * Deletes the file, a specific handle refers to.
+     *
+     * @param handle
+     *         The handle, which has been returned by the method {@link #write(Bundle)}, as an
+     *         instance of the class {@link Bundle}. The handle may not be null
+     * @return True, if the file has been deleted, false otherwise
+     */
+    public final boolean delete(@NonNull final Bundle handle) {
+        Condition.INSTANCE.ensureNotNull(handle, "The handle may not be null");
+        return getFile(handle).delete();
+    }
+
+    /**
+     * Deletes all files, which have been written to the store's directory.
+     */
+    public final void clear() {
+        File[] files = directory.listFiles();
+
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().endsWith(FILE_SUFFIX)) {
+                    file.delete();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should allow to encode the data of the items of an adapter
+ * to a compact binary form and to decode it again, must implement. If a codec is set, it is used to
+ * store the items, when the state of an adapter is saved, instead of Java serialization or
+ * parcels.
+ *
+ * @param <DataType>
+ *         The type of the items' data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface ItemCodec<DataType> {
+
+    /**
+     * Encodes the data of a specific item.
+     *
+     * @param data
+     *         The data, which should be encoded, as an instance of the generic type DataType. The
+     *         data may not be null
+     * @param output
+     *         The output, the encoded data should be written to, as an instance of the type {@link
+     *         DataOutput}. The output may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the data could not be written
+     */
+    void encode(@NonNull DataType data, @NonNull DataOutput output) throws IOException;
+
+    /**
+     * Decodes the data of an item, which has been encoded by using the method {@link
+     * #encode(Object, DataOutput)}.
+     *
+     * @param input
+     *         The input, the encoded data should be read from, as an instance of the type {@link
+     *         DataInput}. The input may not be null
+     * @return The decoded data as an instance of the generic type DataType. The data may not be
+     * null
+     * @throws IOException
+     *         The exception, which is thrown, if the data could not be read
+     */
+    @NonNull
+    DataType decode(@NonNull DataInput input) throws IOException;
+
+}
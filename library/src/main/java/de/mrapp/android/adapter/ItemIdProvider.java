@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should allow to derive stable IDs from the data of the
+ * items of an adapter, must implement. The IDs should be derived from a key, which uniquely
+ * identifies an item and does not change, when the item is modified, cloned or restored.
+ *
+ * @param <DataType>
+ *         The type of the items' data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface ItemIdProvider<DataType> {
+
+    /**
+     * Returns the ID of a specific item.
+     *
+     * @param data
+     *         The data of the item, whose ID should be returned, as an instance of the generic
+     *         type DataType. The data may not be null
+     * @return The ID of the given item as a {@link Long} value. The ID must be unique among all
+     * items of the adapter
+     */
+    long getItemId(@NonNull DataType data);
+
+}
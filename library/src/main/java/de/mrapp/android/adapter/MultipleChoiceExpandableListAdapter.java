@@ -20,6 +20,7 @@ import android.widget.ExpandableListView;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.expandablelist.selectable.SelectableExpandableListAdapter;
 
 /**
@@ -110,6 +111,15 @@ public interface MultipleChoiceExpandableListAdapter<GroupType, ChildType>
      */
     List<Integer> getSelectedGroupIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently selected group items.
+     *
+     * @return A list, which contains the indices of all currently selected group items, as an
+     * instance of the class {@link IndexList} or an empty list, if no group item is currently
+     * selected
+     */
+    IndexList getSelectedGroupIndexList();
+
     /**
      * Returns a list, which contains all currently selected groups.
      *
@@ -126,6 +136,16 @@ public interface MultipleChoiceExpandableListAdapter<GroupType, ChildType>
      */
     List<Integer> getUnselectedGroupIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently unselected group
+     * items.
+     *
+     * @return A list, which contains the indices of all currently unselected group items, as an
+     * instance of the class {@link IndexList} or an empty list, if no group item is currently
+     * selected
+     */
+    IndexList getUnselectedGroupIndexList();
+
     /**
      * Returns a list, which contains all currently unselected group items.
      *
@@ -466,6 +486,20 @@ public interface MultipleChoiceExpandableListAdapter<GroupType, ChildType>
      */
     List<Integer> getSelectedChildIndices(@NonNull GroupType group);
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently selected child items
+     * of a specific group.
+     *
+     * @param group
+     *         The group, the child items, whose indices should be returned, belong to, as an
+     *         instance of the generic type GroupType. The group may not be null. If the group does
+     *         not belong to the adapter, a {@link NoSuchElementException} will be thrown
+     * @return A list, which contains the indices of all currently selected child items of the given
+     * group, as an instance of the class {@link IndexList} or an empty list, if no child item is
+     * currently selected
+     */
+    IndexList getSelectedChildIndexList(@NonNull GroupType group);
+
     /**
      * Returns a list, which contains the indices of all currently selected child items of the
      * group, which belongs to a specific index.
@@ -481,6 +515,21 @@ public interface MultipleChoiceExpandableListAdapter<GroupType, ChildType>
      */
     List<Integer> getSelectedChildIndices(int groupIndex);
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently selected child items
+     * of the group, which belongs to a specific index.
+     *
+     * @param groupIndex
+     *         The index of the group, the child items, whose indices should be returned, belong to,
+     *         as an {@link Integer} value. The index must be between 0 and the value of the method
+     *         <code>getGroupCount():int</code> - 1, otherwise an {@link IndexOutOfBoundsException}
+     *         will be thrown
+     * @return A list, which contains the indices of all currently selected child items of the given
+     * group, as an instance of the class {@link IndexList} or an empty list, if no child item is
+     * currently selected
+     */
+    IndexList getSelectedChildIndexList(int groupIndex);
+
     /**
      * Returns a list, which contains all currently selected child items.
      *
@@ -537,6 +586,20 @@ public interface MultipleChoiceExpandableListAdapter<GroupType, ChildType>
      */
     List<Integer> getUnselectedChildIndices(@NonNull GroupType group);
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently unselected child items
+     * of a specific group.
+     *
+     * @param group
+     *         The group, the child items, whose indices should be returned, belong to, as an
+     *         instance of the generic type GroupType. The group may not be null. If the group does
+     *         not belong to the adapter, a {@link NoSuchElementException} will be thrown
+     * @return A list, which contains the indices of all currently unselected child items of the
+     * given group, as an instance of the class {@link IndexList} or an empty list, if no child item
+     * is currently unselected
+     */
+    IndexList getUnselectedChildIndexList(@NonNull GroupType group);
+
     /**
      * Returns a list, which contains the indices of all currently unselected child items of the
      * group, which belongs to a specific index.
@@ -552,6 +615,21 @@ public interface MultipleChoiceExpandableListAdapter<GroupType, ChildType>
      */
     List<Integer> getUnselectedChildIndices(int groupIndex);
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently unselected child items
+     * of the group, which belongs to a specific index.
+     *
+     * @param groupIndex
+     *         The index of the group, the child items, whose indices should be returned, belong to,
+     *         as an {@link Integer} value. The index must be between 0 and the value of the method
+     *         <code>getGroupCount():int</code> - 1, otherwise an {@link IndexOutOfBoundsException}
+     *         will be thrown
+     * @return A list, which contains the indices of all currently unselected child items of the
+     * given group, as an instance of the class {@link IndexList} or an empty list, if no child item
+     * is currently unselected
+     */
+    IndexList getUnselectedChildIndexList(int groupIndex);
+
     /**
      * Returns a list, which contains all currently unselected child items.
      *
@@ -19,6 +19,7 @@ import android.widget.AbsListView;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.list.selectable.SelectableListAdapter;
 
 /**
@@ -101,6 +102,14 @@ public interface MultipleChoiceListAdapter<DataType> extends SelectableListAdapt
      */
     List<Integer> getSelectedIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently selected items.
+     *
+     * @return A list, which contains the indices of all currently selected items, as an instance of
+     * the class {@link IndexList} or an empty list, if no item is currently selected
+     */
+    IndexList getSelectedIndexList();
+
     /**
      * Returns a list, which contains all currently selected items.
      *
@@ -117,6 +126,14 @@ public interface MultipleChoiceListAdapter<DataType> extends SelectableListAdapt
      */
     List<Integer> getUnselectedIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently unselected items.
+     *
+     * @return A list, which contains the indices of all currently unselected items, as an instance
+     * of the class {@link IndexList} or an empty list, if no item is currently selected
+     */
+    IndexList getUnselectedIndexList();
+
     /**
      * Returns a list, which contains all currently unselected items.
      *
@@ -190,6 +207,26 @@ public interface MultipleChoiceListAdapter<DataType> extends SelectableListAdapt
      */
     boolean setAllSelected(boolean selected);
 
+    /**
+     * Sets the selection of all items within a specific range, if they are currently enabled. The
+     * listeners and observers are notified only once.
+     *
+     * @param start
+     *         The index of the first item, which should be affected, as an {@link Integer} value.
+     *         The index must be between 0 and the value of the method <code>getCount():int</code>,
+     *         otherwise an {@link IndexOutOfBoundsException} will be thrown
+     * @param end
+     *         The index after the last item, which should be affected, as an {@link Integer} value.
+     *         The index must be between the given start index and the value of the method
+     *         <code>getCount():int</code>, otherwise an {@link IndexOutOfBoundsException} will be
+     *         thrown
+     * @param selected
+     *         True, if the items should be selected, false otherwise
+     * @return True, if the selections of all items within the range have been changed, false
+     * otherwise
+     */
+    boolean setRangeSelected(int start, int end, boolean selected);
+
     /**
      * Triggers the selections of all items, if they are currently enabled. This causes an item to
      * become unselected, if it is currently selected and vice versa.
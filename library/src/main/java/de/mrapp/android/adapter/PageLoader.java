@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a class, which should allow to load the underlying data of a paged
+ * adapter in pages of a fixed size, must implement. Pages are loaded on a background thread,
+ * therefore implementations must not access any views.
+ *
+ * @param <DataType>
+ *         The type of the loaded data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface PageLoader<DataType> {
+
+    /**
+     * Returns the total number of items, which can be loaded.
+     *
+     * @return The total number of items, which can be loaded, as an {@link Integer} value. The
+     * number of items must be at least 0
+     */
+    int getItemCount();
+
+    /**
+     * Loads a specific page. This method is invoked on a background thread.
+     *
+     * @param offset
+     *         The index of the first item, which should be loaded, as an {@link Integer} value
+     * @param count
+     *         The number of items, which should be loaded, as an {@link Integer} value
+     * @return A list, which contains the items, which have been loaded, in the order of their
+     * indices, as an instance of the type {@link List}. The list may not be null and should contain
+     * exactly <code>count</code> items
+     */
+    @NonNull
+    List<DataType> loadPage(int offset, int count);
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.decorator.AbstractListDecorator;
+import de.mrapp.android.adapter.list.paged.PagedListAdapter;
+
+/**
+ * An abstract base class for all decorators, which should allow to customize the appearance of the
+ * view, which is used to visualize the items of a {@link PagedListAdapter}. In addition to the
+ * items, whose data has been loaded, such a decorator must be able to visualize placeholders for
+ * items, whose data has not been loaded yet.
+ *
+ * @param <DataType>
+ *         The type of the adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public abstract class PagedListDecorator<DataType> extends AbstractListDecorator<DataType> {
+
+    /**
+     * The method, which is invoked by an adapter to apply the decorator to an item, whose data has
+     * been loaded. It initializes the view holder pattern, which is provided by the decorator and
+     * then delegates the method call to the decorator's custom implementation of the method
+     * <code>onShowItem(...):void</code>.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the class
+     *         {@link PagedListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the item, as an instance of the class {@link
+     *         View}. The view may not be null
+     * @param item
+     *         The item, which should be visualized, as an instance of the generic type DataType.
+     *         The item may not be null
+     * @param index
+     *         The index of the item, which should be visualized, as an {@link Integer} value
+     * @param enabled
+     *         True, if the item, which should be visualized, is currently enabled, false otherwise
+     * @param state
+     *         The current state of the item, which should be visualized, as an {@link Integer}
+     *         value
+     * @param selected
+     *         True, if the item, which should be visualized, is currently selected, false
+     *         otherwise
+     */
+    public final void applyDecorator(@NonNull final Context context,
+                                     @NonNull final PagedListAdapter<DataType> adapter,
+                                     @NonNull final View view, @NonNull final DataType item,
+                                     final int index, final boolean enabled, final int state,
+                                     final boolean selected) {
+        setCurrentParentView(view);
+        int viewType = getViewType(item);
+        adaptViewState(view, enabled, selected);
+        onShowItem(context, adapter, view, item, viewType, index, enabled, state, selected);
+    }
+
+    /**
+     * The method, which is invoked by an adapter to apply the decorator to an item, whose data has
+     * not been loaded yet. It initializes the view holder pattern, which is provided by the
+     * decorator and then delegates the method call to the decorator's custom implementation of the
+     * method <code>onShowPlaceholder(...):void</code>.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the class
+     *         {@link PagedListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the placeholder, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param index
+     *         The index of the item, whose placeholder should be visualized, as an {@link Integer}
+     *         value
+     * @param enabled
+     *         True, if the item, whose placeholder should be visualized, is currently enabled,
+     *         false otherwise
+     * @param state
+     *         The current state of the item, whose placeholder should be visualized, as an {@link
+     *         Integer} value
+     * @param selected
+     *         True, if the item, whose placeholder should be visualized, is currently selected,
+     *         false otherwise
+     */
+    public final void applyPlaceholderDecorator(@NonNull final Context context,
+                                                @NonNull final PagedListAdapter<DataType> adapter,
+                                                @NonNull final View view, final int index,
+                                                final boolean enabled, final int state,
+                                                final boolean selected) {
+        setCurrentParentView(view);
+        adaptViewState(view, enabled, selected);
+        onShowPlaceholder(context, adapter, view, index, enabled, state, selected);
+    }
+
+    /**
+     * Returns the view type, which is used to visualize placeholders for items, whose data has not
+     * been loaded yet. This method may be overridden by custom decorators, which use a dedicated
+     * view type for placeholders.
+     *
+     * @return The view type, which is used to visualize placeholders, as an {@link Integer} value
+     */
+    public int getPlaceholderViewType() {
+        return 0;
+    }
+
+    /**
+     * The method which is invoked, when the view, which is used to visualize an item, whose data
+     * has been loaded, should be shown, respectively when it should be refreshed.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the class
+     *         {@link PagedListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the item, as an instance of the class {@link
+     *         View}. The view may not be null
+     * @param item
+     *         The item, which should be visualized, as an instance of the generic type DataType.
+     *         The item may not be null
+     * @param viewType
+     *         The view type of the item, which should be visualized, as an {@link Integer} value
+     * @param index
+     *         The index of the item, which should be visualized, as an {@link Integer} value
+     * @param enabled
+     *         True, if the item, which should be visualized, is currently enabled, false otherwise
+     * @param state
+     *         The current state of the item, which should be visualized, as an {@link Integer}
+     *         value
+     * @param selected
+     *         True, if the item, which should be visualized, is currently selected, false
+     *         otherwise
+     */
+    public abstract void onShowItem(@NonNull Context context,
+                                    @NonNull PagedListAdapter<DataType> adapter,
+                                    @NonNull View view, @NonNull DataType item, int viewType,
+                                    int index, boolean enabled, int state, boolean selected);
+
+    /**
+     * The method which is invoked, when the view, which is used to visualize the placeholder of an
+     * item, whose data has not been loaded yet, should be shown. The view is rebound, as soon as
+     * the item's data has been loaded.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the class
+     *         {@link PagedListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the placeholder, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param index
+     *         The index of the item, whose placeholder should be visualized, as an {@link Integer}
+     *         value
+     * @param enabled
+     *         True, if the item, whose placeholder should be visualized, is currently enabled,
+     *         false otherwise
+     * @param state
+     *         The current state of the item, whose placeholder should be visualized, as an {@link
+     *         Integer} value
+     * @param selected
+     *         True, if the item, whose placeholder should be visualized, is currently selected,
+     *         false otherwise
+     */
+    public abstract void onShowPlaceholder(@NonNull Context context,
+                                           @NonNull PagedListAdapter<DataType> adapter,
+                                           @NonNull View view, int index, boolean enabled,
+                                           int state, boolean selected);
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, a filter, which allows to recognize whether a query refines another one,
+ * must implement. A query refines another one, if all instances, which match the query, also match
+ * the other one. This allows adapters to only match the instances, which have matched the other
+ * query, instead of all instances, when the query is refined, e.g. while the user is typing.
+ *
+ * @param <DataType>
+ *         The type of the instances, which should be filtered
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface RefinableFilter<DataType> extends Filter<DataType> {
+
+    /**
+     * Returns, whether a specific query refines another query, which has been used by the same
+     * filter before, or not.
+     *
+     * @param query
+     *         The query, which should be checked, as a {@link String}. The query may not be null
+     * @param flags
+     *         The flags, which are used together with the query, as an {@link Integer} value or 0,
+     *         if no flags are used
+     * @param previousQuery
+     *         The query, which has been used before, as a {@link String}. The query may not be null
+     * @param previousFlags
+     *         The flags, which have been used together with the previous query, as an {@link
+     *         Integer} value or 0, if no flags have been used
+     * @return True, if all instances, which match the given query, also match the previous query,
+     * false otherwise
+     */
+    boolean isRefinement(@NonNull String query, int flags, @NonNull String previousQuery,
+                         int previousFlags);
+
+}
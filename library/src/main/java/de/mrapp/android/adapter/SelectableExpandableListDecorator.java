@@ -17,6 +17,8 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import android.view.View;
 
+import java.util.Set;
+
 import de.mrapp.android.adapter.decorator.AbstractExpandableListDecorator;
 import de.mrapp.android.adapter.expandablelist.selectable.SelectableExpandableListAdapter;
 
@@ -85,6 +87,64 @@ public abstract class SelectableExpandableListDecorator<GroupType, ChildType>
                 filtered, selected);
     }
 
+    /**
+     * The method, which is invoked by an adapter to apply the decorator on a group item, when
+     * only specific properties of the group item have been changed. The enable state and
+     * selection of the view are only adapted, if they have been changed. Afterwards, the
+     * method call is delegated to the method <code>onUpdateGroup(...):void</code>.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the type
+     *         {@link SelectableExpandableListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the group item, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param group
+     *         The group item, which should be visualized, as an instance of the generic type
+     *         GroupType. The group item may not be null
+     * @param index
+     *         The index of the group item, which should be visualized, as an {@link Integer} value
+     * @param expanded
+     *         True, if the group item, which should be visualized, is currently expanded, false
+     *         otherwise
+     * @param enabled
+     *         True, if the group item, which should be visualized, is currently enabled, false
+     *         otherwise
+     * @param state
+     *         The current state of the group item, which should be visualized, as an {@link
+     *         Integer} value
+     * @param filtered
+     *         True, if at least one filter is currently applied on the adapter's group items, false
+     *         otherwise
+     * @param selected
+     *         True, if the group item, which should be visualized, is currently selected, false
+     *         otherwise
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the group item,
+     *         which have been changed, as an instance of the type {@link Set}. The set may not
+     *         be null
+     */
+    public final void applyDecoratorOnGroupPartially(
+            @NonNull final Context context,
+            @NonNull final SelectableExpandableListAdapter<GroupType, ChildType> adapter,
+            @NonNull final View view, @NonNull final GroupType group, final int index,
+            final boolean expanded, final boolean enabled, final int state, final boolean filtered,
+            final boolean selected, @NonNull final Set<ChangePayload> payloads) {
+        setCurrentParentView(view);
+        int viewType = getGroupType(group);
+
+        if (payloads.contains(ChangePayload.SELECTION) ||
+                payloads.contains(ChangePayload.ENABLE_STATE)) {
+            adaptViewState(view, enabled, selected);
+        }
+
+        onUpdateGroup(context, adapter, view, group, viewType, index, expanded, enabled, state,
+                filtered, selected, payloads);
+    }
+
     /**
      * The method, which is invoked by an adapter to apply the decorator on a child item. It
      * initializes the view holder pattern, which is provided by the decorator and then delegates
@@ -138,6 +198,68 @@ public abstract class SelectableExpandableListDecorator<GroupType, ChildType>
                 state, filtered, selected);
     }
 
+    /**
+     * The method, which is invoked by an adapter to apply the decorator on a child item, when
+     * only specific properties of the child item have been changed. The enable state and
+     * selection of the view are only adapted, if they have been changed. Afterwards, the
+     * method call is delegated to the method <code>onUpdateChild(...):void</code>.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the type
+     *         {@link SelectableExpandableListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the child item, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param child
+     *         The child item, which should be visualized, as an instance of the generic type
+     *         ChildType. The child item may not be null
+     * @param childIndex
+     *         The index of the child item, which should be visualized, as an {@link Integer} value
+     * @param group
+     *         The group item, the child, which should be visualized, belongs to, as an instance of
+     *         the generic type GroupType. The group item may not be null
+     * @param groupIndex
+     *         The index of the group item, the child, which should be visualized, belongs to, as an
+     *         {@link Integer} value
+     * @param enabled
+     *         True, if the child item, which should be visualized, is currently enabled, false
+     *         otherwise
+     * @param state
+     *         The current state of the child item, which should be visualized, as an {@link
+     *         Integer} value
+     * @param filtered
+     *         True, if at least one filter is currently applied on the adapter's child items, false
+     *         otherwise
+     * @param selected
+     *         True, if the child item, which should be visualized, is currently selected, false
+     *         otherwise
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the child item,
+     *         which have been changed, as an instance of the type {@link Set}. The set may not
+     *         be null
+     */
+    public final void applyDecoratorOnChildPartially(
+            @NonNull final Context context,
+            @NonNull final SelectableExpandableListAdapter<GroupType, ChildType> adapter,
+            @NonNull final View view, @NonNull final ChildType child, final int childIndex,
+            @NonNull final GroupType group, final int groupIndex, final boolean enabled,
+            final int state, final boolean filtered, final boolean selected,
+            @NonNull final Set<ChangePayload> payloads) {
+        setCurrentParentView(view);
+        int viewType = getChildType(child);
+
+        if (payloads.contains(ChangePayload.SELECTION) ||
+                payloads.contains(ChangePayload.ENABLE_STATE)) {
+            adaptViewState(view, enabled, selected);
+        }
+
+        onUpdateChild(context, adapter, view, child, viewType, childIndex, group, groupIndex,
+                enabled, state, filtered, selected, payloads);
+    }
+
     /**
      * The method which is invoked, when the view, which is used to visualize a group item, should
      * be shown, respectively when it should be refreshed. The purpose of this method is to
@@ -183,6 +305,61 @@ public abstract class SelectableExpandableListDecorator<GroupType, ChildType>
                                      int index, boolean expanded, boolean enabled, int state,
                                      boolean filtered, boolean selected);
 
+    /**
+     * The method, which is invoked, when only specific properties of a group item, e.g. whether
+     * it is expanded, have been changed. It may be overridden in order to only update the
+     * affected parts of the view, which is used to visualize the group item, e.g. an indicator,
+     * instead of refreshing it completely. By default, the method
+     * <code>onShowGroup(...):void</code> is invoked.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the type
+     *         {@link SelectableExpandableListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the group item, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param group
+     *         The group item, which should be visualized, as an instance of the generic type
+     *         GroupType. The group item may not be null
+     * @param viewType
+     *         The view type of the group item, which should be visualized, as an {@link Integer}
+     *         value
+     * @param index
+     *         The index of the group item, which should be visualized, as an {@link Integer} value
+     * @param expanded
+     *         True, if the group item, which should be visualized, is currently expanded, false
+     *         otherwise
+     * @param enabled
+     *         True, if the group item, which should be visualized, is currently enabled, false
+     *         otherwise
+     * @param state
+     *         The current state of the group item, which should be visualized, as an {@link
+     *         Integer} value
+     * @param filtered
+     *         True, if at least one filter is currently applied on the adapter's group items, false
+     *         otherwise
+     * @param selected
+     *         True, if the group item, which should be visualized, is currently selected, false
+     *         otherwise
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the group item,
+     *         which have been changed, as an instance of the type {@link Set}. The set may not
+     *         be null
+     */
+    public void onUpdateGroup(
+            @NonNull final Context context,
+            @NonNull final SelectableExpandableListAdapter<GroupType, ChildType> adapter,
+            @NonNull final View view, @NonNull final GroupType group, final int viewType,
+            final int index, final boolean expanded, final boolean enabled, final int state,
+            final boolean filtered, final boolean selected,
+            @NonNull final Set<ChangePayload> payloads) {
+        onShowGroup(context, adapter, view, group, viewType, index, expanded, enabled, state,
+                filtered, selected);
+    }
+
     /**
      * The method which is invoked, when the view, which is used to visualize a child item, should
      * be shown, respectively when it should be refreshed. The purpose of this method is to
@@ -232,4 +409,61 @@ public abstract class SelectableExpandableListDecorator<GroupType, ChildType>
                                      boolean enabled, int state, boolean filtered,
                                      boolean selected);
 
+    /**
+     * The method, which is invoked, when only specific properties of a child item, e.g. its
+     * state, have been changed. It may be overridden in order to only update the affected
+     * parts of the view, which is used to visualize the child item, instead of refreshing it
+     * completely. By default, the method <code>onShowChild(...):void</code> is invoked.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the type
+     *         {@link SelectableExpandableListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the child item, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param child
+     *         The child item, which should be visualized, as an instance of the generic type
+     *         ChildType. The child item may not be null
+     * @param viewType
+     *         The view type of the child item, which should be visualized, as an {@link Integer}
+     *         value
+     * @param childIndex
+     *         The index of the child item, which should be visualized, as an {@link Integer} value
+     * @param group
+     *         The group item, the child, which should be visualized, belongs to, as an instance of
+     *         the generic type GroupType. The group item may not be null
+     * @param groupIndex
+     *         The index of the group item, the child, which should be visualized, belongs to, as an
+     *         {@link Integer} value
+     * @param enabled
+     *         True, if the child item, which should be visualized, is currently enabled, false
+     *         otherwise
+     * @param state
+     *         The current state of the child item, which should be visualized, as an {@link
+     *         Integer} value
+     * @param filtered
+     *         True, if at least one filter is currently applied on the adapter's child items, false
+     *         otherwise
+     * @param selected
+     *         True, if the child item, which should be visualized, is currently selected, false
+     *         otherwise
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the child item,
+     *         which have been changed, as an instance of the type {@link Set}. The set may not
+     *         be null
+     */
+    public void onUpdateChild(
+            @NonNull final Context context,
+            @NonNull final SelectableExpandableListAdapter<GroupType, ChildType> adapter,
+            @NonNull final View view, @NonNull final ChildType child, final int viewType,
+            final int childIndex, @NonNull final GroupType group, final int groupIndex,
+            final boolean enabled, final int state, final boolean filtered, final boolean selected,
+            @NonNull final Set<ChangePayload> payloads) {
+        onShowChild(context, adapter, view, child, viewType, childIndex, group, groupIndex, enabled,
+                state, filtered, selected);
+    }
+
 }
\ No newline at end of file
@@ -17,6 +17,8 @@ import android.content.Context;
 import androidx.annotation.NonNull;
 import android.view.View;
 
+import java.util.Set;
+
 import de.mrapp.android.adapter.decorator.AbstractListDecorator;
 import de.mrapp.android.adapter.list.selectable.SelectableListAdapter;
 
@@ -73,6 +75,57 @@ public abstract class SelectableListDecorator<DataType> extends AbstractListDeco
                 selected);
     }
 
+    /**
+     * The method, which is invoked by an adapter to apply the decorator, when only specific
+     * properties of an item have been changed. The enable state and selection of the view are only
+     * adapted, if they have been changed. Afterwards, the method call is delegated to the method
+     * <code>onUpdateItem(...):void</code>.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the type
+     *         {@link SelectableListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the item, as an instance of the class {@link
+     *         View}. The view may not be null
+     * @param item
+     *         The item, which should be visualized, as an instance of the generic type DataType.
+     *         The item may not be null
+     * @param index
+     *         The index of the item, which should be visualized, as an {@link Integer} value
+     * @param enabled
+     *         True, if the item, which should be visualized, is currently enabled, false otherwise
+     * @param state
+     *         The current state of the item, which should be visualized, as an {@link Integer}
+     *         value
+     * @param filtered
+     *         True, if at least one filter is currently applied on the adapter, false otherwise
+     * @param selected
+     *         True, if the item, which should be visualized, is currently selected, false
+     *         otherwise
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the item, which
+     *         have been changed, as an instance of the type {@link Set}. The set may not be null
+     */
+    public final void applyDecoratorPartially(
+            @NonNull final Context context, @NonNull final SelectableListAdapter<DataType> adapter,
+            final View view, @NonNull final DataType item, final int index, final boolean enabled,
+            final int state, final boolean filtered, final boolean selected,
+            @NonNull final Set<ChangePayload> payloads) {
+        setCurrentParentView(view);
+        int viewType = getViewType(item);
+
+        if (payloads.contains(ChangePayload.SELECTION) ||
+                payloads.contains(ChangePayload.ENABLE_STATE)) {
+            adaptViewState(view, enabled, selected);
+        }
+
+        onUpdateItem(context, adapter, view, item, viewType, index, enabled, state, filtered,
+                selected, payloads);
+    }
+
     /**
      * The method which is invoked, when the view, which is used to visualize an item, should be
      * shown, respectively when it should be refreshed. The purpose of this method is to customize
@@ -112,4 +165,50 @@ public abstract class SelectableListDecorator<DataType> extends AbstractListDeco
                                     int index, boolean enabled, int state, boolean filtered,
                                     boolean selected);
 
+    /**
+     * The method, which is invoked, when only specific properties of an item, e.g. its selection,
+     * have been changed. It may be overridden in order to only update the affected parts of the
+     * view, which is used to visualize the item, e.g. a checkbox, instead of refreshing it
+     * completely. By default, the method <code>onShowItem(...):void</code> is invoked.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param adapter
+     *         The adapter, whose items are visualized by the decorator, as an instance of the type
+     *         {@link SelectableListAdapter}. The adapter may not be null
+     * @param view
+     *         The view, which is used to visualize the item, as an instance of the class {@link
+     *         View}. The view may not be null
+     * @param item
+     *         The item, which should be visualized, as an instance of the generic type DataType.
+     *         The item may not be null
+     * @param viewType
+     *         The view type of the item, which should be visualized, as an {@link Integer} value
+     * @param index
+     *         The index of the item, which should be visualized, as an {@link Integer} value
+     * @param enabled
+     *         True, if the item, which should be visualized, is currently enabled, false otherwise
+     * @param state
+     *         The current state of the item, which should be visualized, as an {@link Integer}
+     *         value
+     * @param filtered
+     *         True, if at least one filter is currently applied on the adapter, false otherwise
+     * @param selected
+     *         True, if the item, which should be visualized, is currently selected, false
+     *         otherwise
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the item, which
+     *         have been changed, as an instance of the type {@link Set}. The set may not be null
+     */
+    public void onUpdateItem(@NonNull final Context context,
+                             @NonNull final SelectableListAdapter<DataType> adapter,
+                             @NonNull final View view, @NonNull final DataType item,
+                             final int viewType, final int index, final boolean enabled,
+                             final int state, final boolean filtered, final boolean selected,
+                             @NonNull final Set<ChangePayload> payloads) {
+        onShowItem(context, adapter, view, item, viewType, index, enabled, state, filtered,
+                selected);
+    }
+
 }
\ No newline at end of file
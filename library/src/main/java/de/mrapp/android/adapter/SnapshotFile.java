@@ -0,0 +1,1087 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Parcelable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.adapter.datastructure.Restorable;
+import de.mrapp.android.adapter.datastructure.item.CompactItemList;
+import de.mrapp.android.adapter.datastructure.item.Item;
+import de.mrapp.android.adapter.util.FileUtil;
+import de.mrapp.android.adapter.util.ThreadUtil;
+import de.mrapp.util.Condition;
+
+/**
+ * A file, which allows to persist a snapshot of an adapter's contents across launches of the app.
+ * The snapshot contains everything, an adapter stores when saving its instance state, e.g. its
+ * items, which are encoded by the adapter's {@link ItemCodec}, if one is set, whether they are
+ * selected or enabled, their order, the applied filters and the groups and children of expandable
+ * adapters. If no codec is set, the data of the items must implement the interface {@link
+ * Serializable}. Unlike parcels, the file format does not depend on the version of the platform.
+ * The state of the adapter view, the adapter is attached to, is not part of a snapshot. A snapshot
+ * is tagged with a version, which should be increased whenever the adapter's data type or codec
+ * changes. Stale snapshots are ignored. When writing a snapshot by using the method {@link
+ * #writeAsync(Restorable, WriteCallback)}, only the adapter's saved state is captured on the UI
+ * thread, while it is encoded and written to the file in the background. The file is read and
+ * decoded in the background, when restoring an adapter. This allows to show its contents before
+ * the actual data, e.g. from a database, has been loaded.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class SnapshotFile {
+
+    /**
+     * Defines the interface, a class, which should be notified, when a snapshot, which is written
+     * in the background, has been written, must implement. The methods are invoked on the UI
+     * thread.
+     */
+    public interface WriteCallback {
+
+        /**
+         * The method, which is invoked, when the snapshot has been written to the file.
+         *
+         * @param snapshotFile
+         *         The file, the snapshot has been written to, as an instance of the class {@link
+         *         SnapshotFile}. The file may not be null
+         */
+        void onSnapshotWritten(@NonNull SnapshotFile snapshotFile);
+
+        /**
+         * The method, which is invoked, when the snapshot could not be written to the file. A
+         * previously written snapshot is retained in this case.
+         *
+         * @param snapshotFile
+         *         The file, the snapshot should have been written to, as an instance of the class
+         *         {@link SnapshotFile}. The file may not be null
+         * @param exception
+         *         The exception, which caused the snapshot not to be written, as an instance of the
+         *         class {@link Exception}. The exception may not be null
+         */
+        void onSnapshotWriteFailed(@NonNull SnapshotFile snapshotFile,
+                                   @NonNull Exception exception);
+
+    }
+
+    /**
+     * An input stream, which allows to read Java serialized objects by using a specific class
+     * loader.
+     */
+    private static class ClassLoaderObjectInputStream extends ObjectInputStream {
+
+        /**
+         * The class loader, which is used to resolve classes.
+         */
+        private final ClassLoader classLoader;
+
+        /**
+         * Creates a new input stream, which allows to read Java serialized objects by using a
+         * specific class loader.
+         *
+         * @param stream
+         *         The stream, the objects should be read from, as an instance of the class {@link
+         *         InputStream}. The stream may not be null
+         * @param classLoader
+         *         The class loader, which should be used to resolve classes, as an instance of the
+         *         class {@link ClassLoader}. The class loader may not be null
+         * @throws IOException
+         *         The exception, which is thrown, if the stream could not be read
+         */
+        ClassLoaderObjectInputStream(@NonNull final InputStream stream,
+                                     @NonNull final ClassLoader classLoader) throws IOException {
+            super(stream);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass description)
+                throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(description.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(description);
+            }
+        }
+
+    }
+
+    /**
+     * The name of the directory within the app's files directory, snapshots are written to by
+     * default.
+     */
+    public static final String DEFAULT_DIRECTORY_NAME = "adapter_snapshots";
+
+    /**
+     * The version of the file format.
+     */
+    public static final int FORMAT_VERSION = 3;
+
+    /**
+     * The number, which is written to the beginning of each snapshot file.
+     */
+    private static final int MAGIC_NUMBER = 0x41445053;
+
+    /**
+     * The size of the header of a snapshot file in bytes.
+     */
+    private static final int HEADER_SIZE = 12;
+
+    /**
+     * The key, which is used to store the saved state of an adapter within a bundle.
+     */
+    private static final String SAVED_STATE_BUNDLE_KEY =
+            SnapshotFile.class.getSimpleName() + "::SavedState";
+
+    /**
+     * The key, which is used to store the path of the file, a handle refers to, within a bundle.
+     */
+    private static final String PATH_BUNDLE_KEY = SnapshotFile.class.getSimpleName() + "::Path";
+
+    /**
+     * The key, which is used to store the version of the snapshot, a handle refers to, within a
+     * bundle.
+     */
+    private static final String VERSION_BUNDLE_KEY =
+            SnapshotFile.class.getSimpleName() + "::Version";
+
+    /**
+     * The charset, which is used to encode strings.
+     */
+    private static final Charset CHARSET = Charset.forName("UTF-8");
+
+    /**
+     * The tag, which identifies null values.
+     */
+    private static final int TAG_NULL = 0;
+
+    /**
+     * The tag, which identifies {@link Boolean} values.
+     */
+    private static final int TAG_BOOLEAN = 1;
+
+    /**
+     * The tag, which identifies {@link Integer} values.
+     */
+    private static final int TAG_INT = 2;
+
+    /**
+     * The tag, which identifies {@link Long} values.
+     */
+    private static final int TAG_LONG = 3;
+
+    /**
+     * The tag, which identifies {@link Float} values.
+     */
+    private static final int TAG_FLOAT = 4;
+
+    /**
+     * The tag, which identifies {@link Double} values.
+     */
+    private static final int TAG_DOUBLE = 5;
+
+    /**
+     * The tag, which identifies {@link String} values.
+     */
+    private static final int TAG_STRING = 6;
+
+    /**
+     * The tag, which identifies {@link Byte} arrays.
+     */
+    private static final int TAG_BYTE_ARRAY = 7;
+
+    /**
+     * The tag, which identifies {@link Integer} arrays.
+     */
+    private static final int TAG_INT_ARRAY = 8;
+
+    /**
+     * The tag, which identifies {@link Long} arrays.
+     */
+    private static final int TAG_LONG_ARRAY = 9;
+
+    /**
+     * The tag, which identifies {@link Boolean} arrays.
+     */
+    private static final int TAG_BOOLEAN_ARRAY = 10;
+
+    /**
+     * The tag, which identifies nested bundles.
+     */
+    private static final int TAG_BUNDLE = 11;
+
+    /**
+     * The tag, which identifies lists of items.
+     */
+    private static final int TAG_ITEM_LIST = 12;
+
+    /**
+     * The tag, which identifies other values, which are written by using Java serialization.
+     */
+    private static final int TAG_SERIALIZABLE = 13;
+
+    /**
+     * The file, the snapshot is written to.
+     */
+    private final File file;
+
+    /**
+     * The version of the snapshot.
+     */
+    private final int version;
+
+    /**
+     * The class loader, which is used to read the snapshot.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * Writes a specific string to a stream.
+     *
+     * @param output
+     *         The stream, the string should be written to, as an instance of the type {@link
+     *         DataOutput}. The stream may not be null
+     * @param string
+     *         The string, which should be written, as a {@link String}. The string may not be
+     *         null
+     * @throws IOException
+     *         The exception, which is thrown, if the string could not be written
+     */
+    private static void writeString(@NonNull final DataOutput output,
+                                    @NonNull final String string) throws IOException {
+        byte[] bytes = string.getBytes(CHARSET);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads a string, which has been written by using the method {@link #writeString(DataOutput,
+     * String)}, from a stream.
+     *
+     * @param input
+     *         The stream, the string should be read from, as an instance of the type {@link
+     *         DataInput}. The stream may not be null
+     * @return The string, which has been read, as a {@link String}. The string may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the string could not be read
+     */
+    @NonNull
+    private static String readString(@NonNull final DataInput input) throws IOException {
+        return new String(readByteArray(input), CHARSET);
+    }
+
+    /**
+     * Reads a byte array, which has been written together with its length, from a stream.
+     *
+     * @param input
+     *         The stream, the array should be read from, as an instance of the type {@link
+     *         DataInput}. The stream may not be null
+     * @return The array, which has been read, as a {@link Byte} array. The array may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the array could not be read
+     */
+    @NonNull
+    private static byte[] readByteArray(@NonNull final DataInput input) throws IOException {
+        byte[] bytes = new byte[readLength(input)];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes a specific object to a stream by using Java serialization.
+     *
+     * @param output
+     *         The stream, the object should be written to, as an instance of the type {@link
+     *         DataOutput}. The stream may not be null
+     * @param object
+     *         The object, which should be written, as an instance of the type {@link
+     *         Serializable}. The object may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the object could not be written
+     */
+    private static void writeSerializable(@NonNull final DataOutput output,
+                                          @NonNull final Serializable object) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(stream);
+
+        try {
+            objectOutputStream.writeObject(object);
+        } finally {
+            objectOutputStream.close();
+        }
+
+        byte[] bytes = stream.toByteArray();
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads an object, which has been written by using the method {@link
+     * #writeSerializable(DataOutput, Serializable)}, from a stream.
+     *
+     * @param input
+     *         The stream, the object should be read from, as an instance of the type {@link
+     *         DataInput}. The stream may not be null
+     * @param classLoader
+     *         The class loader, which should be used to resolve classes, as an instance of the
+     *         class {@link ClassLoader}. The class loader may not be null
+     * @return The object, which has been read, as an instance of the type {@link Serializable}
+     * @throws IOException
+     *         The exception, which is thrown, if the object could not be read
+     */
+    private static Serializable readSerializable(@NonNull final DataInput input,
+                                                 @NonNull final ClassLoader classLoader)
+            throws IOException {
+        ObjectInputStream stream = new ClassLoaderObjectInputStream(
+                new ByteArrayInputStream(readByteArray(input)), classLoader);
+
+        try {
+            return (Serializable) stream.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Failed to resolve class", e);
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Writes a specific bundle to a stream. Values, which are parcelable, but not serializable,
+     * e.g. the state of views, are omitted.
+     *
+     * @param output
+     *         The stream, the bundle should be written to, as an instance of the type {@link
+     *         DataOutput}. The stream may not be null
+     * @param bundle
+     *         The bundle, which should be written, as an instance of the class {@link Bundle}. The
+     *         bundle may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the bundle could not be written
+     */
+    @SuppressWarnings("deprecation")
+    private static void writeBundle(@NonNull final DataOutput output,
+                                    @NonNull final Bundle bundle) throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+
+        for (String key : bundle.keySet()) {
+            Object value = bundle.get(key);
+
+            if (!(value instanceof Parcelable) || value instanceof Bundle ||
+                    value instanceof CompactItemList || value instanceof Serializable) {
+                values.put(key, value);
+            }
+        }
+
+        output.writeInt(values.size());
+
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            writeString(output, entry.getKey());
+            writeValue(output, entry.getValue());
+        }
+    }
+
+    /**
+     * Reads a bundle, which has been written by using the method {@link #writeBundle(DataOutput,
+     * Bundle)}, from a stream.
+     *
+     * @param input
+     *         The stream, the bundle should be read from, as an instance of the type {@link
+     *         DataInput}. The stream may not be null
+     * @param classLoader
+     *         The class loader, which should be used to resolve classes, as an instance of the
+     *         class {@link ClassLoader}. The class loader may not be null
+     * @return The bundle, which has been read, as an instance of the class {@link Bundle}. The
+     * bundle may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the bundle could not be read
+     */
+    @NonNull
+    private static Bundle readBundle(@NonNull final DataInput input,
+                                     @NonNull final ClassLoader classLoader) throws IOException {
+        int size = input.readInt();
+
+        if (size < 0) {
+            throw new IOException("Invalid size: " + size);
+        }
+
+        Bundle bundle = new Bundle(classLoader);
+
+        for (int i = 0; i < size; i++) {
+            readValue(input, classLoader, bundle, readString(input));
+        }
+
+        return bundle;
+    }
+
+    /**
+     * Writes a specific value of a bundle to a stream.
+     *
+     * @param output
+     *         The stream, the value should be written to, as an instance of the type {@link
+     *         DataOutput}. The stream may not be null
+     * @param value
+     *         The value, which should be written, as an instance of the class {@link Object} or
+     *         null
+     * @throws IOException
+     *         The exception, which is thrown, if the value could not be written
+     */
+    private static void writeValue(@NonNull final DataOutput output, @Nullable final Object value)
+            throws IOException {
+        if (value == null) {
+            output.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            output.writeByte(TAG_BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(TAG_INT);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(TAG_LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(TAG_FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(TAG_DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            output.writeByte(TAG_STRING);
+            writeString(output, (String) value);
+        } else if (value instanceof byte[]) {
+            byte[] array = (byte[]) value;
+            output.writeByte(TAG_BYTE_ARRAY);
+            output.writeInt(array.length);
+            output.write(array);
+        } else if (value instanceof int[]) {
+            int[] array = (int[]) value;
+            output.writeByte(TAG_INT_ARRAY);
+            output.writeInt(array.length);
+
+            for (int element : array) {
+                output.writeInt(element);
+            }
+        } else if (value instanceof long[]) {
+            long[] array = (long[]) value;
+            output.writeByte(TAG_LONG_ARRAY);
+            output.writeInt(array.length);
+
+            for (long element : array) {
+                output.writeLong(element);
+            }
+        } else if (value instanceof boolean[]) {
+            boolean[] array = (boolean[]) value;
+            output.writeByte(TAG_BOOLEAN_ARRAY);
+            output.writeInt(array.length);
+
+            for (boolean element : array) {
+                output.writeBoolean(element);
+            }
+        } else if (value instanceof Bundle) {
+            output.writeByte(TAG_BUNDLE);
+            writeBundle(output, (Bundle) value);
+        } else if (value instanceof CompactItemList) {
+            ArrayList<? extends Item<?>> items = ((CompactItemList<?>) value).getItems();
+            ensureSerializable(items);
+            output.writeByte(TAG_ITEM_LIST);
+            writeSerializable(output, items);
+        } else if (value instanceof Serializable) {
+            output.writeByte(TAG_SERIALIZABLE);
+            writeSerializable(output, (Serializable) value);
+        } else {
+            throw new IOException(
+                    "Values of type " + value.getClass().getName() + " are not supported");
+        }
+    }
+
+    /**
+     * Reads a value, which has been written by using the method {@link #writeValue(DataOutput,
+     * Object)}, from a stream and puts it into a specific bundle.
+     *
+     * @param input
+     *         The stream, the value should be read from, as an instance of the type {@link
+     *         DataInput}. The stream may not be null
+     * @param classLoader
+     *         The class loader, which should be used to resolve classes, as an instance of the
+     *         class {@link ClassLoader}. The class loader may not be null
+     * @param bundle
+     *         The bundle, the value should be put into, as an instance of the class {@link
+     *         Bundle}. The bundle may not be null
+     * @param key
+     *         The key of the value as a {@link String}. The key may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the value could not be read
+     */
+    @SuppressWarnings("unchecked")
+    private static void readValue(@NonNull final DataInput input,
+                                  @NonNull final ClassLoader classLoader,
+                                  @NonNull final Bundle bundle, @NonNull final String key)
+            throws IOException {
+        int tag = input.readByte();
+
+        switch (tag) {
+            case TAG_NULL:
+                bundle.putString(key, null);
+                break;
+            case TAG_BOOLEAN:
+                bundle.putBoolean(key, input.readBoolean());
+                break;
+            case TAG_INT:
+                bundle.putInt(key, input.readInt());
+                break;
+            case TAG_LONG:
+                bundle.putLong(key, input.readLong());
+                break;
+            case TAG_FLOAT:
+                bundle.putFloat(key, input.readFloat());
+                break;
+            case TAG_DOUBLE:
+                bundle.putDouble(key, input.readDouble());
+                break;
+            case TAG_STRING:
+                bundle.putString(key, readString(input));
+                break;
+            case TAG_BYTE_ARRAY:
+                bundle.putByteArray(key, readByteArray(input));
+                break;
+            case TAG_INT_ARRAY:
+                int[] intArray = new int[readLength(input)];
+
+                for (int i = 0; i < intArray.length; i++) {
+                    intArray[i] = input.readInt();
+                }
+
+                bundle.putIntArray(key, intArray);
+                break;
+            case TAG_LONG_ARRAY:
+                long[] longArray = new long[readLength(input)];
+
+                for (int i = 0; i < longArray.length; i++) {
+                    longArray[i] = input.readLong();
+                }
+
+                bundle.putLongArray(key, longArray);
+                break;
+            case TAG_BOOLEAN_ARRAY:
+                boolean[] booleanArray = new boolean[readLength(input)];
+
+                for (int i = 0; i < booleanArray.length; i++) {
+                    booleanArray[i] = input.readBoolean();
+                }
+
+                bundle.putBooleanArray(key, booleanArray);
+                break;
+            case TAG_BUNDLE:
+                bundle.putBundle(key, readBundle(input, classLoader));
+                break;
+            case TAG_ITEM_LIST:
+                bundle.putParcelable(key, new CompactItemList<>(
+                        (ArrayList<Item<Object>>) readSerializable(input, classLoader)));
+                break;
+            case TAG_SERIALIZABLE:
+                bundle.putSerializable(key, readSerializable(input, classLoader));
+                break;
+            default:
+                throw new IOException("Invalid tag: " + tag);
+        }
+    }
+
+    /**
+     * Reads the length of an array from a stream.
+     *
+     * @param input
+     *         The stream, the length should be read from, as an instance of the type {@link
+     *         DataInput}. The stream may not be null
+     * @return The length, which has been read, as an {@link Integer} value
+     * @throws IOException
+     *         The exception, which is thrown, if the length could not be read or if it is invalid
+     */
+    private static int readLength(@NonNull final DataInput input) throws IOException {
+        int length = input.readInt();
+
+        if (length < 0) {
+            throw new IOException("Invalid length: " + length);
+        }
+
+        return length;
+    }
+
+    /**
+     * Ensures, that the data of all items, which are contained by a specific list, implements the
+     * interface {@link Serializable}. Items, whose data is only parcelable, can not be written to a
+     * snapshot, because the format of parcels depends on the version of the platform.
+     *
+     * @param items
+     *         A list, which contains the items, which should be checked, as an instance of the
+     *         type {@link List}. The list may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the data of an item is not serializable
+     */
+    private static void ensureSerializable(@NonNull final List<? extends Item<?>> items)
+            throws IOException {
+        for (Item<?> item : items) {
+            if (!item.isSerializable()) {
+                throw new IOException("Items of type " + item.getData().getClass().getName() +
+                        " can not be written to a snapshot, because they do not implement the " +
+                        "interface " + Serializable.class.getName() + ". An " +
+                        ItemCodec.class.getSimpleName() + " must be set instead");
+            }
+        }
+    }
+
+    /**
+     * Creates and returns a copy of a specific list of items. The copied items refer to the same
+     * data as the original items, but they are not affected, if the original items are selected,
+     * enabled or their state is changed afterwards.
+     *
+     * @param items
+     *         A list, which contains the items, which should be copied, as an instance of the type
+     *         {@link List}. The list may not be null
+     * @return A list, which contains the copied items, as an instance of the class {@link
+     * ArrayList}. The list may not be null
+     */
+    @NonNull
+    private static ArrayList<Item<Object>> copyItems(@NonNull final List<Item<Object>> items) {
+        ArrayList<Item<Object>> copiedItems = new ArrayList<>(items.size());
+
+        for (Item<Object> item : items) {
+            Item<Object> copiedItem = new Item<>(item.getData());
+            copiedItem.setId(item.getId());
+            copiedItem.setSelected(item.isSelected());
+            copiedItem.setEnabled(item.isEnabled());
+            copiedItem.setState(item.getState());
+            copiedItems.add(copiedItem);
+        }
+
+        return copiedItems;
+    }
+
+    /**
+     * Creates and returns a copy of a specific bundle, which can be encoded in the background,
+     * while the adapter, the bundle has been obtained from, is modified on the UI thread. Nested
+     * bundles, e.g. the adapter's parameters, and lists of items are copied as well. This method
+     * must be called on the UI thread.
+     *
+     * @param bundle
+     *         The bundle, which should be copied, as an instance of the class {@link Bundle}. The
+     *         bundle may not be null
+     * @return The copy of the given bundle as an instance of the class {@link Bundle}. The bundle
+     * may not be null
+     */
+    @SuppressWarnings({"deprecation", "unchecked"})
+    @NonNull
+    private static Bundle copyBundle(@NonNull final Bundle bundle) {
+        Bundle copy = new Bundle(bundle);
+
+        for (String key : bundle.keySet()) {
+            Object value = bundle.get(key);
+
+            if (value instanceof Bundle) {
+                copy.putBundle(key, copyBundle((Bundle) value));
+            } else if (value instanceof CompactItemList) {
+                copy.putParcelable(key, new CompactItemList<>(
+                        copyItems(((CompactItemList<Object>) value).getItems())));
+            } else if (value instanceof ArrayList && !((ArrayList<?>) value).isEmpty() &&
+                    ((ArrayList<?>) value).get(0) instanceof Item) {
+                copy.putSerializable(key, copyItems((ArrayList<Item<Object>>) value));
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * Captures the saved state of a specific adapter. If the adapter writes its saved state to an
+     * {@link InstanceStateStore}, only the handle, which refers to the store's file, is returned.
+     * Otherwise, a copy of the saved state, which is independent of the adapter, is returned. This
+     * method must be called on the UI thread.
+     *
+     * @param adapter
+     *         The adapter, whose saved state should be captured, as an instance of the type {@link
+     *         Restorable}. The adapter may not be null
+     * @return The saved state or the handle as an instance of the class {@link Bundle}. The bundle
+     * may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the adapter did not save its instance state
+     */
+    @NonNull
+    private static Bundle captureSavedState(@NonNull final Restorable adapter) throws IOException {
+        Bundle outState = new Bundle();
+        adapter.onSaveInstanceState(outState, SAVED_STATE_BUNDLE_KEY);
+        Bundle savedState = outState.getBundle(SAVED_STATE_BUNDLE_KEY);
+
+        if (savedState == null) {
+            throw new IOException("The adapter did not save its instance state");
+        }
+
+        return InstanceStateStore.isHandle(savedState) ? savedState : copyBundle(savedState);
+    }
+
+    /**
+     * Resolves a saved state, which has been captured by using the method {@link
+     * #captureSavedState(Restorable)}. If it is a handle, which refers to the file of an {@link
+     * InstanceStateStore}, the file is read and deleted afterwards. This method may be called on
+     * any thread.
+     *
+     * @param savedState
+     *         The saved state or handle, which has been captured, as an instance of the class
+     *         {@link Bundle}. The bundle may not be null
+     * @param instanceStateStore
+     *         The store, the adapter has written its saved state to, as an instance of the class
+     *         {@link InstanceStateStore} or null, if the adapter does not use a store
+     * @return The saved state as an instance of the class {@link Bundle}. The saved state may not
+     * be null
+     * @throws IOException
+     *         The exception, which is thrown, if the file of the store could not be read
+     */
+    @NonNull
+    private static Bundle resolveSavedState(@NonNull final Bundle savedState,
+                                            @Nullable final InstanceStateStore instanceStateStore)
+            throws IOException {
+        if (InstanceStateStore.isHandle(savedState)) {
+            Bundle resolvedState =
+                    instanceStateStore != null ? instanceStateStore.read(savedState) : null;
+
+            if (resolvedState == null) {
+                throw new IOException("Failed to read the saved state of the adapter");
+            }
+
+            instanceStateStore.delete(savedState);
+            return resolvedState;
+        }
+
+        return savedState;
+    }
+
+    /**
+     * Encodes a specific saved state and writes it to the file. This method may be called on any
+     * thread.
+     *
+     * @param savedState
+     *         The saved state, which should be written, as an instance of the class {@link
+     *         Bundle}. The saved state may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the saved state could not be written
+     */
+    private void writeSavedState(@NonNull final Bundle savedState) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(stream);
+
+        try {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(version);
+            writeBundle(output, savedState);
+        } finally {
+            output.close();
+        }
+
+        FileUtil.write(file, stream.toByteArray(), true);
+    }
+
+    /**
+     * Notifies a specific callback about the result of writing a snapshot on the UI thread.
+     *
+     * @param callback
+     *         The callback, which should be notified, as an instance of the type {@link
+     *         WriteCallback} or null, if no callback should be notified
+     * @param exception
+     *         The exception, which caused the snapshot not to be written, as an instance of the
+     *         class {@link Exception} or null, if the snapshot has been written
+     */
+    private void notifyWriteCallback(@Nullable final WriteCallback callback,
+                                     @Nullable final Exception exception) {
+        if (callback != null) {
+            ThreadUtil.postOnUiThread(new Runnable() {
+
+                @Override
+                public void run() {
+                    if (exception != null) {
+                        callback.onSnapshotWriteFailed(SnapshotFile.this, exception);
+                    } else {
+                        callback.onSnapshotWritten(SnapshotFile.this);
+                    }
+                }
+
+            });
+        }
+    }
+
+    /**
+     * Creates a new file, which allows to persist a snapshot of an adapter's contents, within the
+     * app's files directory.
+     *
+     * @param context
+     *         The context, which should be used, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param name
+     *         The name of the file as a {@link String}. The name may neither be null, nor empty
+     * @param version
+     *         The version of the snapshot as an {@link Integer} value
+     */
+    public SnapshotFile(@NonNull final Context context, @NonNull final String name,
+                        final int version) {
+        this(new File(new File(context.getFilesDir(), DEFAULT_DIRECTORY_NAME), name), version,
+                context.getClassLoader());
+    }
+
+    /**
+     * Creates a new file, which allows to persist a snapshot of an adapter's contents.
+     *
+     * @param file
+     *         The file, the snapshot should be written to, as an instance of the class {@link
+     *         File}. The file may not be null
+     * @param version
+     *         The version of the snapshot as an {@link Integer} value
+     * @param classLoader
+     *         The class loader, which should be used to read the snapshot, as an instance of the
+     *         class {@link ClassLoader} or null, if the default class loader should be used
+     */
+    public SnapshotFile(@NonNull final File file, final int version,
+                        @Nullable final ClassLoader classLoader) {
+        Condition.INSTANCE.ensureNotNull(file, "The file may not be null");
+        Condition.INSTANCE.ensureNotEmpty(file.getName(), "The name may not be empty");
+        this.file = file;
+        this.version = version;
+        this.classLoader = classLoader != null ? classLoader : SnapshotFile.class.getClassLoader();
+    }
+
+    /**
+     * Returns the file, the snapshot is written to.
+     *
+     * @return The file, the snapshot is written to, as an instance of the class {@link File}. The
+     * file may not be null
+     */
+    @NonNull
+    public final File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the version of the snapshot.
+     *
+     * @return The version of the snapshot as an {@link Integer} value
+     */
+    public final int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns, whether a snapshot has been written to the file, or not. The snapshot might still
+     * be stale.
+     *
+     * @return True, if a snapshot has been written to the file, false otherwise
+     */
+    public final boolean exists() {
+        return file.isFile();
+    }
+
+    /**
+     * Returns, whether a specific bundle is a handle, which has been passed to an adapter by using
+     * the method {@link #restore(Restorable)}, or not.
+     *
+     * @param bundle
+     *         The bundle, which should be checked, as an instance of the class {@link Bundle}. The
+     *         bundle may not be null
+     * @return True, if the given bundle is a handle, false otherwise
+     */
+    public static boolean isHandle(@NonNull final Bundle bundle) {
+        Condition.INSTANCE.ensureNotNull(bundle, "The bundle may not be null");
+        return bundle.containsKey(PATH_BUNDLE_KEY);
+    }
+
+    /**
+     * Reads the snapshot, a specific handle, which has been passed to an adapter by using the
+     * method {@link #restore(Restorable)}, refers to. This method should not be called on the UI
+     * thread.
+     *
+     * @param handle
+     *         The handle as an instance of the class {@link Bundle}. The handle may not be null
+     * @param classLoader
+     *         The class loader, which should be used to read the snapshot, as an instance of the
+     *         class {@link ClassLoader} or null, if the default class loader should be used
+     * @return The saved state of the adapter, the snapshot has been written from, as an instance of
+     * the class {@link Bundle} or null, if the file does not exist anymore or if the snapshot is
+     * stale
+     * @throws IOException
+     *         The exception, which is thrown, if the file could not be read
+     */
+    @Nullable
+    public static Bundle read(@NonNull final Bundle handle,
+                              @Nullable final ClassLoader classLoader) throws IOException {
+        Condition.INSTANCE.ensureNotNull(handle, "The handle may not be null");
+        Condition.INSTANCE.ensureTrue(isHandle(handle), "The bundle is not a handle");
+        String path = handle.getString(PATH_BUNDLE_KEY);
+        return new SnapshotFile(new File(path), handle.getInt(VERSION_BUNDLE_KEY), classLoader)
+                .read();
+    }
+
+    /**
+     * Writes a snapshot of a specific adapter's contents to the file and blocks until it has been
+     * synced to the storage device. A previously written snapshot is only replaced, once the new
+     * snapshot has been written completely. This method must be called on the UI thread. As it
+     * encodes the adapter's saved state and syncs the file, it takes time proportional to the
+     * number of items. Therefore, the method {@link #writeAsync(Restorable, WriteCallback)} should
+     * be preferred.
+     *
+     * @param adapter
+     *         The adapter, whose contents should be written, as an instance of the type {@link
+     *         Restorable}. The adapter may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the snapshot could not be written, e.g. because
+     *         no codec is set and the data of the items is not serializable
+     */
+    public final void write(@NonNull final Restorable adapter) throws IOException {
+        Condition.INSTANCE.ensureNotNull(adapter, "The adapter may not be null");
+        writeSavedState(
+                resolveSavedState(captureSavedState(adapter), adapter.getInstanceStateStore()));
+    }
+
+    /**
+     * Writes a snapshot of a specific adapter's contents to the file in the background. Only the
+     * adapter's saved state is captured on the UI thread. It is encoded, written to the file and
+     * synced to the storage device by the adapter's restore executor. A previously written
+     * snapshot is only replaced, once the new snapshot has been written completely. This method
+     * must be called on the UI thread.
+     *
+     * @param adapter
+     *         The adapter, whose contents should be written, as an instance of the type {@link
+     *         Restorable}. The adapter may not be null
+     * @param callback
+     *         The callback, which should be notified on the UI thread, when the snapshot has been
+     *         written or if it could not be written, e.g. because no codec is set and the data of
+     *         the items is not serializable, as an instance of the type {@link WriteCallback} or
+     *         null, if no callback should be notified
+     */
+    public final void writeAsync(@NonNull final Restorable adapter,
+                                 @Nullable final WriteCallback callback) {
+        Condition.INSTANCE.ensureNotNull(adapter, "The adapter may not be null");
+        final InstanceStateStore instanceStateStore = adapter.getInstanceStateStore();
+        final Bundle savedState;
+
+        try {
+            savedState = captureSavedState(adapter);
+        } catch (IOException e) {
+            notifyWriteCallback(callback, e);
+            return;
+        }
+
+        adapter.getRestoreExecutor().execute(new Runnable() {
+
+            @Override
+            public void run() {
+                Exception exception = null;
+
+                try {
+                    writeSavedState(resolveSavedState(savedState, instanceStateStore));
+                } catch (Exception e) {
+                    exception = e;
+                }
+
+                notifyWriteCallback(callback, exception);
+            }
+
+        });
+    }
+
+    /**
+     * Reads the snapshot from the file. This method should not be called on the UI thread.
+     *
+     * @return The saved state of the adapter, the snapshot has been written from, as an instance of
+     * the class {@link Bundle} or null, if no snapshot has been written to the file or if the
+     * snapshot is stale
+     * @throws IOException
+     *         The exception, which is thrown, if the file could not be read
+     */
+    @Nullable
+    public final Bundle read() throws IOException {
+        if (!exists()) {
+            return null;
+        }
+
+        DataInputStream input =
+                new DataInputStream(new ByteArrayInputStream(FileUtil.read(file)));
+
+        try {
+            if (input.available() < HEADER_SIZE || input.readInt() != MAGIC_NUMBER ||
+                    input.readInt() != FORMAT_VERSION || input.readInt() != version) {
+                return null;
+            }
+
+            return readBundle(input, classLoader);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Restores the contents of a specific adapter from the snapshot. Only a handle, which refers
+     * to the file, is passed to the adapter by using the method {@link
+     * Restorable#onRestoreInstanceStateAsync(Bundle, String)}. The file is read and decoded by the
+     * adapter's restore executor and the snapshot is swapped in afterwards. If the snapshot turns
+     * out to be stale, the adapter's current contents are retained. This method must be called on
+     * the UI thread.
+     *
+     * @param adapter
+     *         The adapter, whose contents should be restored, as an instance of the type {@link
+     *         Restorable}. The adapter may not be null
+     * @return True, if the adapter's contents are restored from the snapshot, false, if no
+     * snapshot has been written to the file
+     */
+    public final boolean restore(@NonNull final Restorable adapter) {
+        Condition.INSTANCE.ensureNotNull(adapter, "The adapter may not be null");
+
+        if (exists()) {
+            Bundle handle = new Bundle();
+            handle.putString(PATH_BUNDLE_KEY, file.getAbsolutePath());
+            handle.putInt(VERSION_BUNDLE_KEY, version);
+            Bundle savedInstanceState = new Bundle();
+            savedInstanceState.putBundle(SAVED_STATE_BUNDLE_KEY, handle);
+            adapter.onRestoreInstanceStateAsync(savedInstanceState, SAVED_STATE_BUNDLE_KEY);
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Deletes the snapshot.
+     *
+     * @return True, if the snapshot has been deleted, false otherwise
+     */
+    public final boolean delete() {
+        return file.delete();
+    }
+
+}
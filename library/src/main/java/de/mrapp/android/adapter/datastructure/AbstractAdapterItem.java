@@ -16,7 +16,10 @@ package de.mrapp.android.adapter.datastructure;
 import android.os.Parcel;
 import android.os.Parcelable;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
 
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
@@ -42,11 +45,64 @@ public abstract class AbstractAdapterItem<DataType>
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The counter, which is used to generate the IDs of items. It is shared by all items in order
+     * to ensure, that their IDs are unique within the current process.
+     */
+    private static final AtomicLong ID_COUNTER = new AtomicLong(0);
+
     /**
      * The item's data.
      */
     private DataType data;
 
+    /**
+     * The item's ID.
+     */
+    private long id;
+
+    /**
+     * Generates and returns a new, unique ID.
+     *
+     * @return The ID, which has been generated, as a {@link Long} value. The ID must be at least 1
+     */
+    private static long generateId() {
+        return ID_COUNTER.incrementAndGet();
+    }
+
+    /**
+     * Ensures, that IDs, which are generated subsequently, are greater than a specific ID, which
+     * has been restored.
+     *
+     * @param id
+     *         The ID, which has been restored, as a {@link Long} value
+     */
+    private static void ensureIdIsReserved(final long id) {
+        long current = ID_COUNTER.get();
+
+        while (current < id && !ID_COUNTER.compareAndSet(current, id)) {
+            current = ID_COUNTER.get();
+        }
+    }
+
+    /**
+     * Restores the item from a specific stream. This method is invoked, when the item is
+     * deserialized.
+     *
+     * @param stream
+     *         The stream, the item should be restored from, as an instance of the class {@link
+     *         ObjectInputStream}. The stream may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if reading from the stream failed
+     * @throws ClassNotFoundException
+     *         The exception, which is thrown, if the class of a serialized object cannot be found
+     */
+    private void readObject(@NonNull final ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        setId(id > 0 ? id : generateId());
+    }
+
     /**
      * Creates a new data structure, which holds the data on an item of an adapter.
      *
@@ -61,6 +117,8 @@ public abstract class AbstractAdapterItem<DataType>
             ClassLoader classLoader = clazz.getClassLoader();
             setData((DataType) source.readParcelable(classLoader));
         }
+
+        setId(source.readLong());
     }
 
     /**
@@ -72,6 +130,7 @@ public abstract class AbstractAdapterItem<DataType>
      */
     public AbstractAdapterItem(@NonNull final DataType data) {
         setData(data);
+        setId(generateId());
     }
 
     /**
@@ -96,6 +155,29 @@ public abstract class AbstractAdapterItem<DataType>
         this.data = data;
     }
 
+    /**
+     * Returns the item's ID. The ID is unique within the current process and it is retained, when
+     * the item is cloned or restored from a {@link Parcel}.
+     *
+     * @return The item's ID as a {@link Long} value. The ID must be at least 1
+     */
+    public final long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the item's ID. IDs, which are generated for new items subsequently, are guaranteed to
+     * be greater than the given ID.
+     *
+     * @param id
+     *         The ID, which should be set, as a {@link Long} value. The ID must be at least 1
+     */
+    public final void setId(final long id) {
+        Condition.INSTANCE.ensureAtLeast(id, 1, "The id must be at least 1");
+        this.id = id;
+        ensureIdIsReserved(id);
+    }
+
     /**
      * Returns, whether the item's data implements the interface {@link Parcelable}, or not.
      *
@@ -172,6 +254,8 @@ public abstract class AbstractAdapterItem<DataType>
         } else {
             dest.writeInt(0);
         }
+
+        dest.writeLong(getId());
     }
 
     @Override
@@ -14,6 +14,7 @@
 package de.mrapp.android.adapter.datastructure;
 
 import android.os.Parcel;
+import android.os.Parcelable;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -24,7 +25,10 @@ import de.mrapp.util.ClassUtil;
 import de.mrapp.util.Condition;
 
 /**
- * A representation of a filter, which has been applied on an adapter's underlying data.
+ * A representation of a filter, which has been applied on an adapter's underlying data. When it is
+ * written to a parcel, the filter, which has been used to match the items, is written by using its
+ * own implementation of the interface {@link Parcelable}, if available. Otherwise, it is
+ * serialized.
  *
  * @param <DataType>
  *         The type of the a filtered adapter's underlying data
@@ -56,6 +60,23 @@ public class AppliedFilter<DataType> implements FilterQuery {
      */
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The format, which is written to a parcel, if no filter has been used.
+     */
+    private static final int FILTER_FORMAT_NONE = 0;
+
+    /**
+     * The format, which is written to a parcel, if the filter, which has been used, implements the
+     * interface {@link Parcelable}.
+     */
+    private static final int FILTER_FORMAT_PARCELABLE = 1;
+
+    /**
+     * The format, which is written to a parcel, if the filter, which has been used, must be
+     * serialized.
+     */
+    private static final int FILTER_FORMAT_SERIALIZABLE = 2;
+
     /**
      * The query, which has been used to filter the adapter's data.
      */
@@ -80,11 +101,36 @@ public class AppliedFilter<DataType> implements FilterQuery {
      *         The source, the filter should be created from, as an instance of the class {@link
      *         Parcel}. The source may not be null
      */
-    @SuppressWarnings("unchecked")
     private AppliedFilter(@NonNull final Parcel source) {
         this.query = source.readString();
         this.flags = source.readInt();
-        this.filter = (Filter<DataType>) source.readSerializable();
+        this.filter = readFilter(source);
+    }
+
+    /**
+     * Reads the filter, which has been used to match the adapter's single items to the regular
+     * expression, from a specific parcel.
+     *
+     * @param source
+     *         The parcel, the filter should be read from, as an instance of the class {@link
+     *         Parcel}. The parcel may not be null
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     * @return The filter, which has been read, as an instance of the type {@link Filter} or null,
+     * if no filter has been used
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private static <DataType> Filter<DataType> readFilter(@NonNull final Parcel source) {
+        int format = source.readInt();
+
+        if (format == FILTER_FORMAT_PARCELABLE) {
+            return source.readParcelable(AppliedFilter.class.getClassLoader());
+        } else if (format == FILTER_FORMAT_SERIALIZABLE) {
+            return (Filter<DataType>) source.readSerializable();
+        }
+
+        return null;
     }
 
     /**
@@ -191,8 +237,17 @@ public class AppliedFilter<DataType> implements FilterQuery {
     @Override
     public final void writeToParcel(final Parcel dest, final int flags) {
         dest.writeString(query);
-        dest.writeInt(flags);
-        dest.writeSerializable(filter);
+        dest.writeInt(this.flags);
+
+        if (filter == null) {
+            dest.writeInt(FILTER_FORMAT_NONE);
+        } else if (filter instanceof Parcelable) {
+            dest.writeInt(FILTER_FORMAT_PARCELABLE);
+            dest.writeParcelable((Parcelable) filter, flags);
+        } else {
+            dest.writeInt(FILTER_FORMAT_SERIALIZABLE);
+            dest.writeSerializable(filter);
+        }
     }
 
 }
\ No newline at end of file
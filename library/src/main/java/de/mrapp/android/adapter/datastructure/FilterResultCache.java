@@ -0,0 +1,265 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.adapter.Filter;
+import de.mrapp.android.adapter.RefinableFilter;
+import de.mrapp.android.adapter.datastructure.item.Item;
+import de.mrapp.util.Condition;
+
+/**
+ * A cache, which stores the results of filters, which have been applied on an adapter's underlying
+ * data. The results are mapped to the sequence of filters, which have been applied to obtain them.
+ * If the cache exceeds its capacity, the least recently used results are evicted. The cache must be
+ * cleared, whenever the adapter's unfiltered data is modified.
+ *
+ * @param <DataType>
+ *         The type of the filtered adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class FilterResultCache<DataType> {
+
+    /**
+     * The result of filters, which have been applied on an adapter's underlying data.
+     *
+     * @param <DataType>
+     *         The type of the filtered adapter's underlying data
+     */
+    public static final class Result<DataType> {
+
+        /**
+         * A list, which contains the items, which have matched the filters.
+         */
+        private final List<Item<DataType>> items;
+
+        /**
+         * An array, which contains the unfiltered indices of the items, which have matched the
+         * filters.
+         */
+        private final int[] unfilteredIndices;
+
+        /**
+         * Creates a new result of filters, which have been applied on an adapter's underlying
+         * data.
+         *
+         * @param items
+         *         A list, which contains the items, which have matched the filters, as an instance
+         *         of the type {@link List}. The list may not be null
+         * @param unfilteredIndices
+         *         An array, which contains the unfiltered indices of the items, which have matched
+         *         the filters, as an {@link Integer} array. The array may not be null
+         */
+        private Result(@NonNull final List<Item<DataType>> items,
+                       @NonNull final int[] unfilteredIndices) {
+            this.items = items;
+            this.unfilteredIndices = unfilteredIndices;
+        }
+
+        /**
+         * Returns the items, which have matched the filters.
+         *
+         * @return A list, which contains the items, which have matched the filters, as an instance
+         * of the type {@link List}. The list may not be null
+         */
+        @NonNull
+        public List<Item<DataType>> getItems() {
+            return items;
+        }
+
+        /**
+         * Returns the unfiltered indices of the items, which have matched the filters.
+         *
+         * @return An array, which contains the unfiltered indices of the items, which have matched
+         * the filters, as an {@link Integer} array. The array may not be null
+         */
+        @NonNull
+        public int[] getUnfilteredIndices() {
+            return unfilteredIndices;
+        }
+
+    }
+
+    /**
+     * A map, which contains the cached results, mapped to the filters, which have been applied to
+     * obtain them, in the order of their last access. The map is created lazily, when the first
+     * result is cached.
+     */
+    private Map<List<AppliedFilter<DataType>>, Result<DataType>> results;
+
+    /**
+     * The maximum number of results, which are cached.
+     */
+    private final int capacity;
+
+    /**
+     * Returns, whether a specific filter refines another filter, or not.
+     *
+     * @param filter
+     *         The filter, which should be checked, as an instance of the class {@link
+     *         AppliedFilter}. The filter may not be null
+     * @param previousFilter
+     *         The other filter as an instance of the class {@link AppliedFilter}. The filter may
+     *         not be null
+     * @return True, if the given filter refines the other filter, false otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private boolean isRefinement(@NonNull final AppliedFilter<DataType> filter,
+                                 @NonNull final AppliedFilter<DataType> previousFilter) {
+        Filter<DataType> wrappedFilter = filter.getFilter();
+        return wrappedFilter instanceof RefinableFilter &&
+                wrappedFilter.equals(previousFilter.getFilter()) &&
+                ((RefinableFilter<DataType>) wrappedFilter)
+                        .isRefinement(filter.getQuery(), filter.getFlags(),
+                                previousFilter.getQuery(), previousFilter.getFlags());
+    }
+
+    /**
+     * Creates a new cache, which stores the results of filters, which have been applied on an
+     * adapter's underlying data.
+     *
+     * @param capacity
+     *         The maximum number of results, which should be cached, as an {@link Integer} value.
+     *         The capacity must be at least 1
+     */
+    public FilterResultCache(final int capacity) {
+        Condition.INSTANCE.ensureAtLeast(capacity, 1, "The capacity must be at least 1");
+        this.capacity = capacity;
+        this.results = null;
+    }
+
+    /**
+     * Caches the result of a specific sequence of filters.
+     *
+     * @param filters
+     *         A list, which contains the filters, which have been applied to obtain the result, in
+     *         the order of their application, as an instance of the type {@link List}. The list
+     *         may not be null
+     * @param items
+     *         A list, which contains the items, which have matched the filters, as an instance of
+     *         the type {@link List}. The list may not be null
+     * @param unfilteredIndices
+     *         An array, which contains the unfiltered indices of the items, which have matched the
+     *         filters, as an {@link Integer} array. The array may not be null
+     */
+    public final void put(@NonNull final List<AppliedFilter<DataType>> filters,
+                          @NonNull final List<Item<DataType>> items,
+                          @NonNull final int[] unfilteredIndices) {
+        Condition.INSTANCE.ensureNotNull(filters, "The filters may not be null");
+        Condition.INSTANCE.ensureNotNull(items, "The items may not be null");
+        Condition.INSTANCE.ensureNotNull(unfilteredIndices, "The indices may not be null");
+
+        if (results == null) {
+            results = new LinkedHashMap<>(capacity + 1, 1f, true);
+        }
+
+        results.put(new ArrayList<>(filters),
+                new Result<>(new ArrayList<>(items), unfilteredIndices));
+
+        if (results.size() > capacity) {
+            Iterator<List<AppliedFilter<DataType>>> iterator = results.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Returns the cached result of a specific sequence of filters.
+     *
+     * @param filters
+     *         A list, which contains the filters, in the order of their application, as an
+     *         instance of the type {@link List}. The list may not be null
+     * @return The cached result as an instance of the class {@link Result} or null, if no result
+     * is cached for the given filters
+     */
+    @Nullable
+    public final Result<DataType> get(@NonNull final List<AppliedFilter<DataType>> filters) {
+        Condition.INSTANCE.ensureNotNull(filters, "The filters may not be null");
+        return results != null ? results.get(filters) : null;
+    }
+
+    /**
+     * Returns the smallest cached result of a sequence of filters, which consists of a specific
+     * sequence of filters, followed by a filter, which is refined by a specific filter. All items,
+     * which match the given filter, are guaranteed to be contained by such a result.
+     *
+     * @param filters
+     *         A list, which contains the filters, which have been applied before the given filter,
+     *         in the order of their application, as an instance of the type {@link List}. The list
+     *         may not be null
+     * @param filter
+     *         The filter, which should be applied, as an instance of the class {@link
+     *         AppliedFilter}. The filter may not be null
+     * @return The cached result as an instance of the class {@link Result} or null, if no such
+     * result is cached
+     */
+    @Nullable
+    public final Result<DataType> getRefinedResult(
+            @NonNull final List<AppliedFilter<DataType>> filters,
+            @NonNull final AppliedFilter<DataType> filter) {
+        Condition.INSTANCE.ensureNotNull(filters, "The filters may not be null");
+        Condition.INSTANCE.ensureNotNull(filter, "The filter may not be null");
+
+        if (results == null) {
+            return null;
+        }
+
+        Result<DataType> refinedResult = null;
+
+        for (Map.Entry<List<AppliedFilter<DataType>>, Result<DataType>> entry : results
+                .entrySet()) {
+            List<AppliedFilter<DataType>> key = entry.getKey();
+            int size = key.size();
+
+            if (size == filters.size() + 1 && key.subList(0, size - 1).equals(filters) &&
+                    isRefinement(filter, key.get(size - 1))) {
+                Result<DataType> result = entry.getValue();
+
+                if (refinedResult == null ||
+                        result.getItems().size() < refinedResult.getItems().size()) {
+                    refinedResult = result;
+                }
+            }
+        }
+
+        return refinedResult;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public final void clear() {
+        if (results != null) {
+            results.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return The number of cached results as an {@link Integer} value
+     */
+    public final int size() {
+        return results != null ? results.size() : 0;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * An immutable list of indices, which are stored as an array of primitive values. Unlike a {@link
+ * java.util.List} of {@link Integer} values, no object must be allocated per index. The indices are
+ * sorted in ascending order.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class IndexList implements Unmodifiable {
+
+    /**
+     * The array, which contains the indices.
+     */
+    private final int[] indices;
+
+    /**
+     * Creates a new immutable list of indices. The given array is not copied and must not be
+     * modified afterwards.
+     *
+     * @param indices
+     *         An array, which contains the indices, sorted in ascending order, as an {@link Integer}
+     *         array. The array may not be null
+     */
+    public IndexList(@NonNull final int[] indices) {
+        Condition.INSTANCE.ensureNotNull(indices, "The indices may not be null");
+        this.indices = indices;
+    }
+
+    /**
+     * Returns the number of indices, which are contained by the list.
+     *
+     * @return The number of indices, which are contained by the list, as an {@link Integer} value
+     */
+    public final int size() {
+        return indices.length;
+    }
+
+    /**
+     * Returns, whether the list is empty, or not.
+     *
+     * @return True, if the list is empty, false otherwise
+     */
+    public final boolean isEmpty() {
+        return indices.length == 0;
+    }
+
+    /**
+     * Returns the index at a specific position of the list.
+     *
+     * @param position
+     *         The position of the index, which should be returned, as an {@link Integer} value
+     * @return The index at the given position as an {@link Integer} value
+     */
+    public final int get(final int position) {
+        return indices[position];
+    }
+
+    /**
+     * Returns, whether the list contains a specific index, or not. The index is searched for in
+     * logarithmic time.
+     *
+     * @param index
+     *         The index, which should be checked, as an {@link Integer} value
+     * @return True, if the list contains the given index, false otherwise
+     */
+    public final boolean contains(final int index) {
+        return Arrays.binarySearch(indices, index) >= 0;
+    }
+
+    /**
+     * Returns an array, which contains the indices of the list. The array is a copy and may be
+     * modified.
+     *
+     * @return An array, which contains the indices of the list, as an {@link Integer} array. The
+     * array may not be null
+     */
+    @NonNull
+    public final int[] toArray() {
+        return indices.clone();
+    }
+
+    @Override
+    public final String toString() {
+        return "IndexList " + Arrays.toString(indices);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Arrays.hashCode(indices);
+    }
+
+    @Override
+    public final boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        IndexList other = (IndexList) obj;
+        return Arrays.equals(indices, other.indices);
+    }
+
+}
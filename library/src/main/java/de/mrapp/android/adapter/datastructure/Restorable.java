@@ -15,7 +15,11 @@ package de.mrapp.android.adapter.datastructure;
 
 import android.os.Bundle;
 
+import java.util.concurrent.Executor;
+
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.adapter.InstanceStateStore;
 import de.mrapp.android.adapter.RestoreInstanceStateException;
 
 /**
@@ -58,4 +62,75 @@ public interface Restorable {
     void onRestoreInstanceState(@NonNull Bundle savedInstanceState, @NonNull String key)
             throws RestoreInstanceStateException;
 
+    /**
+     * This method may be called to restore a previously saved state of the adapter in the
+     * background. The saved state is read and decoded on a background thread into a data
+     * structure, which is not yet used by the adapter. Afterwards, it is applied on the UI thread
+     * at once and all observers are notified a single time. While the state is restored, the
+     * method {@link #isRestoring()} returns true, which allows to show placeholders. Adapters,
+     * whose underlying data is managed as a list, discard the restored state, if their items are
+     * modified in the meantime. The given bundle is only accessed on the calling thread, before
+     * this method returns. If the state can not be restored, an error is logged.
+     *
+     * @param savedInstanceState
+     *         The bundle, which contains the previously saved state, as an instance of the class
+     *         {@link Bundle}. The bundle may not be null
+     * @param key
+     *         The key, which previously has been used to store the saved state, as a {@link
+     *         String}. The key may neither be null, nor empty
+     */
+    void onRestoreInstanceStateAsync(@NonNull Bundle savedInstanceState, @NonNull String key);
+
+    /**
+     * Returns, whether a previously saved state of the adapter is currently restored in the
+     * background, or not.
+     *
+     * @return True, if a previously saved state is currently restored in the background, false
+     * otherwise
+     */
+    boolean isRestoring();
+
+    /**
+     * Sets the executor, which should be used to restore a previously saved state of the adapter
+     * in the background. By default, a single background thread, which is shared by all adapters,
+     * is used.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor}. The
+     *         executor may not be null
+     */
+    void setRestoreExecutor(@NonNull Executor executor);
+
+    /**
+     * Returns the executor, which is used to restore a previously saved state of the adapter in
+     * the background. It is also used to write snapshots of the adapter in the background.
+     *
+     * @return The executor, which is used to restore a previously saved state of the adapter in
+     * the background, as an instance of the type {@link Executor}. The executor may not be null
+     */
+    @NonNull
+    Executor getRestoreExecutor();
+
+    /**
+     * Returns the store, which is used to write the saved state to a file instead of putting it
+     * into the bundle.
+     *
+     * @return The store, which is used to write the saved state to a file, as an instance of the
+     * class {@link InstanceStateStore} or null, if the saved state is put into the bundle
+     */
+    @Nullable
+    InstanceStateStore getInstanceStateStore();
+
+    /**
+     * Sets the store, which should be used to write the saved state to a file instead of putting
+     * it into the bundle. If a store is used, only a handle, which refers to the file, is put into
+     * the bundle. If the file does not exist anymore when the state should be restored, the
+     * current state is retained.
+     *
+     * @param instanceStateStore
+     *         The store, which should be set, as an instance of the class {@link
+     *         InstanceStateStore} or null, if the saved state should be put into the bundle
+     */
+    void setInstanceStateStore(@Nullable InstanceStateStore instanceStateStore);
+
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure;
+
+import java.util.List;
+
+/**
+ * Defines the interface, a list, which represents an immutable snapshot of an adapter's underlying
+ * data, must implement. A snapshot is not affected by modifications of the adapter, it has been
+ * obtained from. Therefore, it can safely be read from any thread without further
+ * synchronization. Each snapshot is tagged with a version, which allows to tell, whether two
+ * snapshots have been obtained from the same state of an adapter.
+ *
+ * @param <DataType>
+ *         The type of the snapshot's items
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface Snapshot<DataType> extends List<DataType>, Unmodifiable {
+
+    /**
+     * Returns the version of the snapshot. The version is increased by the adapter, the snapshot
+     * has been obtained from, whenever its underlying data is modified.
+     *
+     * @return The version of the snapshot as a {@link Long} value
+     */
+    long getVersion();
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.group;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.MultipleChoiceListAdapter;
+
+/**
+ * Defines the interface, a class, which allows to create the adapters, which manage the child
+ * items of groups, when they are needed for the first time, must implement.
+ *
+ * @param <ChildType>
+ *         The type of the child items' data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface ChildAdapterFactory<ChildType> {
+
+    /**
+     * Creates and returns an adapter, which may be used to manage the child items of a group.
+     *
+     * @return The adapter, which has been created, as an instance of the type {@link
+     * MultipleChoiceListAdapter}. The adapter may not be null
+     */
+    @NonNull
+    MultipleChoiceListAdapter<ChildType> createChildAdapter();
+
+}
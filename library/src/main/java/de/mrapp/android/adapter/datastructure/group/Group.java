@@ -25,7 +25,9 @@ import de.mrapp.android.adapter.datastructure.AbstractAdapterItem;
 
 /**
  * A data structure, which categorizes multiple items of an adapter. A group has all properties of
- * an item, but additionally it does contain an adapter, which manages the group's child items.
+ * an item, but additionally it does contain an adapter, which manages the group's child items. If
+ * a {@link ChildAdapterFactory} is set, the adapter is only created, when it is accessed for the
+ * first time. Groups, which never contain any children, do not require an adapter therefore.
  *
  * @param <GroupType>
  *         The type of the groups's data
@@ -69,6 +71,12 @@ public class Group<GroupType, ChildType> extends AbstractAdapterItem<GroupType>
      */
     private transient MultipleChoiceListAdapter<ChildType> childAdapter;
 
+    /**
+     * The factory, which is used to create the adapter, which manages the group's child items,
+     * when it is accessed for the first time, or null, if no factory is set.
+     */
+    private transient ChildAdapterFactory<ChildType> childAdapterFactory;
+
     /**
      * True, if the group is expanded, false otherwise.
      */
@@ -116,15 +124,54 @@ public class Group<GroupType, ChildType> extends AbstractAdapterItem<GroupType>
     }
 
     /**
-     * Returns the adapter, which manages the group's child items.
+     * Returns the adapter, which manages the group's child items. If the adapter has not been
+     * created yet, it is created by using the group's {@link ChildAdapterFactory}, if any.
      *
      * @return The adapter, which manages the group's child items, as an instance of the type {@link
      * MultipleChoiceListAdapter} or null, if no adapter has been set
      */
     public final MultipleChoiceListAdapter<ChildType> getChildAdapter() {
+        if (childAdapter == null && childAdapterFactory != null) {
+            childAdapter = childAdapterFactory.createChildAdapter();
+        }
+
         return childAdapter;
     }
 
+    /**
+     * Returns, whether the adapter, which manages the group's child items, has already been
+     * created or set, or not.
+     *
+     * @return True, if the adapter has already been created or set, false otherwise
+     */
+    public final boolean hasChildAdapter() {
+        return childAdapter != null;
+    }
+
+    /**
+     * Returns the number of the group's child items. Unlike the method
+     * <code>getChildAdapter():MultipleChoiceListAdapter</code>, this method does not create the
+     * adapter, which manages the group's child items.
+     *
+     * @return The number of the group's child items as an {@link Integer} value
+     */
+    public final int getChildCount() {
+        return childAdapter != null ? childAdapter.getCount() : 0;
+    }
+
+    /**
+     * Sets the factory, which should be used to create the adapter, which manages the group's
+     * child items, when it is accessed for the first time.
+     *
+     * @param childAdapterFactory
+     *         The factory, which should be set, as an instance of the type {@link
+     *         ChildAdapterFactory} or null, if no factory should be set
+     */
+    public final void setChildAdapterFactory(
+            @Nullable final ChildAdapterFactory<ChildType> childAdapterFactory) {
+        this.childAdapterFactory = childAdapterFactory;
+    }
+
     /**
      * Sets the adapter, which manages the group's child items.
      *
@@ -184,7 +231,9 @@ public class Group<GroupType, ChildType> extends AbstractAdapterItem<GroupType>
             }
 
             clonedGroup.setChildAdapter(clonedChildAdapter);
+            clonedGroup.setChildAdapterFactory(childAdapterFactory);
             clonedGroup.setExpanded(expanded);
+            clonedGroup.setId(getId());
             return clonedGroup;
         } catch (Exception e) {
             throw new CloneNotSupportedException();
@@ -194,7 +243,7 @@ public class Group<GroupType, ChildType> extends AbstractAdapterItem<GroupType>
     @Override
     public final boolean match(@NonNull final String query, final int flags) {
         if (flags == FLAG_FILTER_EMPTY_GROUPS) {
-            return !(getChildAdapter() == null || getChildAdapter().isEmpty());
+            return getChildCount() > 0;
         } else {
             return super.match(query, flags);
         }
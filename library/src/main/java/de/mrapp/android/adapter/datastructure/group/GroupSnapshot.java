@@ -0,0 +1,56 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.group;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.datastructure.Snapshot;
+
+/**
+ * An immutable snapshot of a list, which contains items of the type {@link Group}. Such a snapshot
+ * encapsulates the snapshot of the adapter, which manages the groups, and shares its version. The
+ * snapshots of the groups' children must be obtained separately.
+ *
+ * @param <GroupType>
+ *         The type of the underlying data of the snapshot's group items
+ * @param <ChildType>
+ *         The type of the underlying data of the snapshot's child items
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class GroupSnapshot<GroupType, ChildType>
+        extends UnmodifiableGroupList<GroupType, ChildType> implements Snapshot<GroupType> {
+
+    /**
+     * The version of the snapshot.
+     */
+    private final long version;
+
+    /**
+     * Creates a new immutable snapshot of a list, which contains items of the type {@link Group}.
+     *
+     * @param groupSnapshot
+     *         The snapshot of the groups, which should be encapsulated, as an instance of the type
+     *         {@link Snapshot}. The snapshot may not be null
+     */
+    public GroupSnapshot(@NonNull final Snapshot<Group<GroupType, ChildType>> groupSnapshot) {
+        super(groupSnapshot);
+        this.version = groupSnapshot.getVersion();
+    }
+
+    @Override
+    public final long getVersion() {
+        return version;
+    }
+
+}
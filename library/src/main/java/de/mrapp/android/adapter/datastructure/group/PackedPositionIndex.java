@@ -0,0 +1,334 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.group;
+
+import java.util.Arrays;
+
+import de.mrapp.util.Condition;
+
+/**
+ * A data structure, which maps the flattened positions of the groups and children of an expandable
+ * list to the corresponding group and child indices and vice versa. The number of positions, which
+ * are occupied by a group, is given by its size, i.e. 1 for the group itself plus the number of its
+ * visible children. The sizes are managed by using a Fenwick tree (binary indexed tree), which
+ * allows to update the size of a single group, as well as to look up positions, in logarithmic
+ * time without allocating any objects.
+ *
+ * As inserting or removing groups at arbitrary indices would require to shift the sizes of all
+ * subsequent groups, the index may be invalidated in such cases. An invalid index must be rebuilt
+ * by using the methods <code>reset(int):void</code>, <code>setSize(int, int):void</code> and
+ * <code>build():void</code>, which requires linear time.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class PackedPositionIndex {
+
+    /**
+     * The initial capacity of the index.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * An array, which contains the sizes of the groups.
+     */
+    private int[] sizes;
+
+    /**
+     * An array, which contains the nodes of the Fenwick tree. The array uses 1-based indices,
+     * i.e. the first element is not used.
+     */
+    private int[] tree;
+
+    /**
+     * The number of groups, which are contained by the index.
+     */
+    private int groupCount;
+
+    /**
+     * The total number of positions, which are occupied by all groups.
+     */
+    private int totalSize;
+
+    /**
+     * True, if the index is valid, false otherwise.
+     */
+    private boolean valid;
+
+    /**
+     * Ensures, that the index's arrays are able to store a specific number of groups.
+     *
+     * @param capacity
+     *         The number of groups, which should be able to be stored, as an {@link Integer} value
+     */
+    private void ensureCapacity(final int capacity) {
+        if (sizes.length < capacity) {
+            int newCapacity = Math.max(capacity, sizes.length * 2);
+            sizes = Arrays.copyOf(sizes, newCapacity);
+            tree = Arrays.copyOf(tree, newCapacity + 1);
+        }
+    }
+
+    /**
+     * Returns the sum of the sizes of the groups, whose indices are less than a specific index.
+     *
+     * @param groupIndex
+     *         The index as an {@link Integer} value. The index must be between 0 and the number of
+     *         groups
+     * @return The sum of the sizes as an {@link Integer} value
+     */
+    private int prefixSum(final int groupIndex) {
+        int sum = 0;
+
+        for (int i = groupIndex; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Ensures, that the index is currently valid.
+     */
+    private void ensureValid() {
+        Condition.INSTANCE.ensureTrue(valid, "The index must be rebuilt", IllegalStateException.class);
+    }
+
+    /**
+     * Creates a new, invalid index.
+     */
+    public PackedPositionIndex() {
+        this.sizes = new int[INITIAL_CAPACITY];
+        this.tree = new int[INITIAL_CAPACITY + 1];
+        this.groupCount = 0;
+        this.totalSize = 0;
+        this.valid = false;
+    }
+
+    /**
+     * Returns, whether the index is currently valid, or not.
+     *
+     * @return True, if the index is currently valid, false otherwise
+     */
+    public final boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Marks the index as invalid. It must be rebuilt before it can be used again.
+     */
+    public final void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Resets the index in order to rebuild it for a specific number of groups. The sizes of all
+     * groups are set to 0 and must be specified by using the method <code>setSize(int,
+     * int):void</code> before calling the method <code>build():void</code>.
+     *
+     * @param groupCount
+     *         The number of groups as an {@link Integer} value. The number of groups must be at
+     *         least 0
+     */
+    public final void reset(final int groupCount) {
+        Condition.INSTANCE.ensureAtLeast(groupCount, 0, "The group count must be at least 0");
+        ensureCapacity(groupCount);
+        Arrays.fill(sizes, 0, groupCount, 0);
+        this.groupCount = groupCount;
+        this.totalSize = 0;
+        this.valid = false;
+    }
+
+    /**
+     * Sets the size of a specific group while the index is rebuilt.
+     *
+     * @param groupIndex
+     *         The index of the group as an {@link Integer} value. The index must be between 0 and
+     *         the number of groups - 1
+     * @param size
+     *         The size of the group as an {@link Integer} value. The size must be at least 0
+     */
+    public final void setSize(final int groupIndex, final int size) {
+        Condition.INSTANCE.ensureAtLeast(size, 0, "The size must be at least 0");
+        sizes[groupIndex] = size;
+    }
+
+    /**
+     * Builds the Fenwick tree from the sizes, which have previously been specified by using the
+     * method <code>setSize(int, int):void</code>, in linear time and marks the index as valid.
+     */
+    public final void build() {
+        int sum = 0;
+
+        for (int i = 1; i <= groupCount; i++) {
+            tree[i] = sizes[i - 1];
+            sum += sizes[i - 1];
+        }
+
+        for (int i = 1; i <= groupCount; i++) {
+            int parent = i + (i & -i);
+
+            if (parent <= groupCount) {
+                tree[parent] += tree[i];
+            }
+        }
+
+        totalSize = sum;
+        valid = true;
+    }
+
+    /**
+     * Updates the size of a specific group in logarithmic time.
+     *
+     * @param groupIndex
+     *         The index of the group as an {@link Integer} value. The index must be between 0 and
+     *         the number of groups - 1
+     * @param size
+     *         The new size of the group as an {@link Integer} value. The size must be at least 0
+     */
+    public final void update(final int groupIndex, final int size) {
+        ensureValid();
+        Condition.INSTANCE.ensureAtLeast(groupIndex, 0, "The group index must be at least 0",
+                IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureAtMaximum(groupIndex, groupCount - 1,
+                "The group index must be at maximum " + (groupCount - 1),
+                IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureAtLeast(size, 0, "The size must be at least 0");
+        int delta = size - sizes[groupIndex];
+
+        if (delta != 0) {
+            sizes[groupIndex] = size;
+            totalSize += delta;
+
+            for (int i = groupIndex + 1; i <= groupCount; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Appends a group with a specific size to the end of the index in logarithmic time.
+     *
+     * @param size
+     *         The size of the group as an {@link Integer} value. The size must be at least 0
+     */
+    public final void append(final int size) {
+        ensureValid();
+        Condition.INSTANCE.ensureAtLeast(size, 0, "The size must be at least 0");
+        ensureCapacity(groupCount + 1);
+        int index = groupCount + 1;
+        sizes[groupCount] = size;
+        tree[index] = size + prefixSum(groupCount) - prefixSum(index - (index & -index));
+        groupCount++;
+        totalSize += size;
+    }
+
+    /**
+     * Removes the last group from the index in constant time.
+     */
+    public final void removeLast() {
+        ensureValid();
+        Condition.INSTANCE.ensureAtLeast(groupCount, 1, "The index does not contain any groups");
+        groupCount--;
+        totalSize -= sizes[groupCount];
+        sizes[groupCount] = 0;
+        tree[groupCount + 1] = 0;
+    }
+
+    /**
+     * Returns the number of groups, which are contained by the index.
+     *
+     * @return The number of groups as an {@link Integer} value
+     */
+    public final int getGroupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Returns the size of a specific group.
+     *
+     * @param groupIndex
+     *         The index of the group as an {@link Integer} value. The index must be between 0 and
+     *         the number of groups - 1
+     * @return The size of the group as an {@link Integer} value
+     */
+    public final int getSize(final int groupIndex) {
+        ensureValid();
+        return sizes[groupIndex];
+    }
+
+    /**
+     * Returns the total number of positions, which are occupied by all groups.
+     *
+     * @return The total number of positions as an {@link Integer} value
+     */
+    public final int getTotalSize() {
+        ensureValid();
+        return totalSize;
+    }
+
+    /**
+     * Returns the flattened position of a specific group, i.e. the sum of the sizes of all
+     * preceding groups. Indices, which are greater than the number of groups, are treated as if
+     * each of the missing groups had a size of 1.
+     *
+     * @param groupIndex
+     *         The index of the group as an {@link Integer} value. The index must be at least 0
+     * @return The flattened position of the group as an {@link Integer} value
+     */
+    public final int getPosition(final int groupIndex) {
+        ensureValid();
+        Condition.INSTANCE.ensureAtLeast(groupIndex, 0, "The group index must be at least 0");
+
+        if (groupIndex >= groupCount) {
+            return totalSize + groupIndex - groupCount;
+        }
+
+        return prefixSum(groupIndex);
+    }
+
+    /**
+     * Returns the index of the group, which occupies a specific flattened position.
+     *
+     * @param position
+     *         The flattened position as an {@link Integer} value
+     * @return The index of the group, which occupies the given position, as an {@link Integer}
+     * value or -1, if the position is not occupied by any group
+     */
+    public final int getGroupIndex(final int position) {
+        ensureValid();
+
+        if (position < 0 || position >= totalSize) {
+            return -1;
+        }
+
+        int index = 0;
+        int remaining = position;
+        int bit = Integer.highestOneBit(groupCount);
+
+        while (bit != 0) {
+            int next = index + bit;
+
+            if (next <= groupCount && tree[next] <= remaining) {
+                index = next;
+                remaining -= tree[next];
+            }
+
+            bit >>= 1;
+        }
+
+        return index;
+    }
+
+}
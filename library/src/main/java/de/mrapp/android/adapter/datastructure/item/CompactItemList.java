@@ -0,0 +1,595 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import de.mrapp.android.adapter.ItemCodec;
+import de.mrapp.android.adapter.datastructure.group.Group;
+import de.mrapp.util.Condition;
+
+/**
+ * A list of items, which is written to parcels or streams column by column instead of item by
+ * item. If the data of all items is of the same class, the class is only written once, whether
+ * items are selected or enabled is written as bit sets and the item states are run-length encoded.
+ * If the items' data are groups, their data is written the same way and whether they are expanded
+ * is written as a bit set as well. When writing to streams, the data of the items is encoded by
+ * using an {@link ItemCodec}.
+ *
+ * @param <DataType>
+ *         The type of the items' data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class CompactItemList<DataType> implements Parcelable {
+
+    /**
+     * A creator, which allows to create instances of the class {@link CompactItemList} from
+     * parcels.
+     */
+    @SuppressWarnings("rawtypes")
+    public static final Creator<CompactItemList> CREATOR = new Creator<CompactItemList>() {
+
+        @Override
+        public CompactItemList createFromParcel(final Parcel source) {
+            return new CompactItemList(source);
+        }
+
+        @Override
+        public CompactItemList[] newArray(final int size) {
+            return new CompactItemList[size];
+        }
+
+    };
+
+    /**
+     * The format, which is used, if the data of all items is of the same class, which implements
+     * the interface {@link Parcelable}.
+     */
+    private static final int FORMAT_HOMOGENEOUS = 0;
+
+    /**
+     * The format, which is used, if the data of the items is of different classes.
+     */
+    private static final int FORMAT_HETEROGENEOUS = 1;
+
+    /**
+     * The format, which is used, if the data of all items are groups.
+     */
+    private static final int FORMAT_GROUPS = 2;
+
+    /**
+     * The number of bits, which are stored by a single element of a bit set.
+     */
+    private static final int BITS_PER_WORD = 64;
+
+    /**
+     * A list, which contains the items.
+     */
+    private final ArrayList<Item<DataType>> items;
+
+    /**
+     * Returns the class, all elements of a specific list are instances of.
+     *
+     * @param data
+     *         The list, which should be checked, as an instance of the type {@link List}. The list
+     *         may not be null
+     * @return The class, all elements of the given list are instances of, as an instance of the
+     * class {@link Class} or null, if the elements are instances of different classes
+     */
+    @Nullable
+    private static Class<?> getCommonClass(@NonNull final List<?> data) {
+        Class<?> commonClass = null;
+
+        for (Object element : data) {
+            if (commonClass == null) {
+                commonClass = element.getClass();
+            } else if (commonClass != element.getClass()) {
+                return null;
+            }
+        }
+
+        return commonClass;
+    }
+
+    /**
+     * Returns the creator of a specific class, which implements the interface {@link Parcelable}.
+     *
+     * @param clazz
+     *         The class, whose creator should be returned, as an instance of the class {@link
+     *         Class}. The class may not be null
+     * @return The creator of the given class as an instance of the type {@link Creator}. The
+     * creator may not be null
+     */
+    @NonNull
+    private static Creator<?> getCreator(@NonNull final Class<?> clazz) {
+        try {
+            Field field = clazz.getField("CREATOR");
+            Object creator = field.get(null);
+
+            if (creator instanceof Creator) {
+                return (Creator<?>) creator;
+            }
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    "Failed to obtain the creator of class " + clazz.getName(), e);
+        }
+
+        throw new IllegalArgumentException(
+                "Class " + clazz.getName() + " does not provide a creator");
+    }
+
+    /**
+     * Writes the data of items to a parcel.
+     *
+     * @param dest
+     *         The parcel, the data should be written to, as an instance of the class {@link
+     *         Parcel}. The parcel may not be null
+     * @param data
+     *         A list, which contains the data, which should be written, as an instance of the type
+     *         {@link List}. The list may not be null
+     * @param flags
+     *         The flags, which should be passed to the data, as an {@link Integer} value
+     */
+    private static void writeData(@NonNull final Parcel dest, @NonNull final List<?> data,
+                                  final int flags) {
+        Class<?> commonClass = getCommonClass(data);
+
+        if (commonClass != null && Group.class.isAssignableFrom(commonClass)) {
+            List<Object> groupData = new ArrayList<>(data.size());
+            long[] ids = new long[data.size()];
+            boolean[] expanded = new boolean[data.size()];
+
+            for (int i = 0; i < data.size(); i++) {
+                Group<?, ?> group = (Group<?, ?>) data.get(i);
+                groupData.add(group.getData());
+                ids[i] = group.getId();
+                expanded[i] = group.isExpanded();
+            }
+
+            dest.writeInt(FORMAT_GROUPS);
+            writeData(dest, groupData, flags);
+            dest.writeLongArray(ids);
+            dest.writeLongArray(packFlags(expanded));
+        } else if (commonClass != null && Parcelable.class.isAssignableFrom(commonClass)) {
+            dest.writeInt(FORMAT_HOMOGENEOUS);
+            dest.writeSerializable(commonClass);
+
+            for (Object element : data) {
+                ((Parcelable) element).writeToParcel(dest, flags);
+            }
+        } else {
+            dest.writeInt(FORMAT_HETEROGENEOUS);
+
+            for (Object element : data) {
+                dest.writeValue(element);
+            }
+        }
+    }
+
+    /**
+     * Reads the data of items, which has been written by using the method {@link
+     * #writeData(Parcel, List, int)}, from a parcel.
+     *
+     * @param source
+     *         The parcel, the data should be read from, as an instance of the class {@link
+     *         Parcel}. The parcel may not be null
+     * @param size
+     *         The number of items, whose data should be read, as an {@link Integer} value
+     * @return A list, which contains the data, which has been read, as an instance of the type
+     * {@link List}. The list may not be null
+     */
+    @NonNull
+    private static List<Object> readData(@NonNull final Parcel source, final int size) {
+        int format = source.readInt();
+        List<Object> data = new ArrayList<>(size);
+
+        if (format == FORMAT_GROUPS) {
+            List<Object> groupData = readData(source, size);
+            long[] ids = source.createLongArray();
+            long[] expanded = source.createLongArray();
+
+            for (int i = 0; i < size; i++) {
+                Group<Object, Object> group = new Group<>(groupData.get(i));
+                group.setId(ids[i]);
+                group.setExpanded(isFlagSet(expanded, i));
+                data.add(group);
+            }
+        } else if (format == FORMAT_HOMOGENEOUS) {
+            Class<?> clazz = (Class<?>) source.readSerializable();
+            ClassLoader classLoader = clazz.getClassLoader();
+            Creator<?> creator = getCreator(clazz);
+
+            for (int i = 0; i < size; i++) {
+                data.add(creator instanceof ClassLoaderCreator ?
+                        ((ClassLoaderCreator<?>) creator).createFromParcel(source, classLoader) :
+                        creator.createFromParcel(source));
+            }
+        } else {
+            ClassLoader classLoader = CompactItemList.class.getClassLoader();
+
+            for (int i = 0; i < size; i++) {
+                data.add(source.readValue(classLoader));
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Creates items from the columns, which have been read from a parcel or stream.
+     *
+     * @param data
+     *         A list, which contains the data of the items, as an instance of the type {@link
+     *         List}. The list may not be null
+     * @param ids
+     *         An array, which contains the IDs of the items, as a {@link Long} array. The array
+     *         may not be null
+     * @param selected
+     *         A bit set, which specifies, which items are selected, as a {@link Long} array. The
+     *         array may not be null
+     * @param enabled
+     *         A bit set, which specifies, which items are enabled, as a {@link Long} array. The
+     *         array may not be null
+     * @param states
+     *         An array, which contains the states of the items, as an {@link Integer} array. The
+     *         array may not be null
+     * @param <DataType>
+     *         The type of the items' data
+     * @return A list, which contains the items, which have been created, as an instance of the
+     * class {@link ArrayList}. The list may not be null
+     */
+    @NonNull
+    private static <DataType> ArrayList<Item<DataType>> createItems(
+            @NonNull final List<DataType> data, @NonNull final long[] ids,
+            @NonNull final long[] selected, @NonNull final long[] enabled,
+            @NonNull final int[] states) {
+        ArrayList<Item<DataType>> items = new ArrayList<>(data.size());
+
+        for (int i = 0; i < data.size(); i++) {
+            Item<DataType> item = new Item<>(data.get(i));
+            item.setId(ids[i]);
+            item.setSelected(isFlagSet(selected, i));
+            item.setEnabled(isFlagSet(enabled, i));
+            item.setState(states[i]);
+            items.add(item);
+        }
+
+        return items;
+    }
+
+    /**
+     * Writes an array to a stream, preceded by its length.
+     *
+     * @param output
+     *         The stream, the array should be written to, as an instance of the type {@link
+     *         DataOutput}. The stream may not be null
+     * @param array
+     *         The array, which should be written, as a {@link Long} array. The array may not be
+     *         null
+     * @throws IOException
+     *         The exception, which is thrown, if the array could not be written
+     */
+    private static void writeLongArray(@NonNull final DataOutput output,
+                                       @NonNull final long[] array) throws IOException {
+        output.writeInt(array.length);
+
+        for (long value : array) {
+            output.writeLong(value);
+        }
+    }
+
+    /**
+     * Reads an array, which has been written by using the method {@link
+     * #writeLongArray(DataOutput, long[])}, from a stream.
+     *
+     * @param input
+     *         The stream, the array should be read from, as an instance of the type {@link
+     *         DataInput}. The stream may not be null
+     * @return The array, which has been read, as a {@link Long} array. The array may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the array could not be read
+     */
+    @NonNull
+    private static long[] readLongArray(@NonNull final DataInput input) throws IOException {
+        long[] array = new long[input.readInt()];
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = input.readLong();
+        }
+
+        return array;
+    }
+
+    /**
+     * Creates a new list of items, which is written to parcels column by column.
+     *
+     * @param source
+     *         The source, the list should be created from, as an instance of the class {@link
+     *         Parcel}. The source may not be null
+     */
+    @SuppressWarnings("unchecked")
+    protected CompactItemList(@NonNull final Parcel source) {
+        int size = source.readInt();
+
+        if (size > 0) {
+            List<DataType> data = (List<DataType>) readData(source, size);
+            long[] ids = source.createLongArray();
+            long[] selected = source.createLongArray();
+            long[] enabled = source.createLongArray();
+            int[] states = decodeRuns(source.createIntArray(), size);
+            this.items = createItems(data, ids, selected, enabled, states);
+        } else {
+            this.items = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Packs flags into a bit set.
+     *
+     * @param flags
+     *         An array, which contains the flags, which should be packed, as a {@link Boolean}
+     *         array. The array may not be null
+     * @return An array, which contains the bit set, as a {@link Long} array. The array may not be
+     * null
+     */
+    @VisibleForTesting
+    @NonNull
+    static long[] packFlags(@NonNull final boolean[] flags) {
+        long[] bits = new long[(flags.length + BITS_PER_WORD - 1) / BITS_PER_WORD];
+
+        for (int i = 0; i < flags.length; i++) {
+            if (flags[i]) {
+                bits[i / BITS_PER_WORD] |= 1L << (i % BITS_PER_WORD);
+            }
+        }
+
+        return bits;
+    }
+
+    /**
+     * Returns, whether the flag at a specific index of a bit set is set, or not.
+     *
+     * @param bits
+     *         An array, which contains the bit set, as a {@link Long} array. The array may not be
+     *         null
+     * @param index
+     *         The index of the flag, which should be checked, as an {@link Integer} value
+     * @return True, if the flag at the given index is set, false otherwise
+     */
+    @VisibleForTesting
+    static boolean isFlagSet(@NonNull final long[] bits, final int index) {
+        return (bits[index / BITS_PER_WORD] & (1L << (index % BITS_PER_WORD))) != 0;
+    }
+
+    /**
+     * Run-length encodes specific values.
+     *
+     * @param values
+     *         An array, which contains the values, which should be encoded, as an {@link Integer}
+     *         array. The array may not be null
+     * @return An array, which contains the value and length of each run, as an {@link Integer}
+     * array. The array may not be null
+     */
+    @VisibleForTesting
+    @NonNull
+    static int[] encodeRuns(@NonNull final int[] values) {
+        int runCount = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                runCount++;
+            }
+        }
+
+        int[] runs = new int[runCount * 2];
+        int run = -1;
+
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                run++;
+                runs[run * 2] = values[i];
+            }
+
+            runs[run * 2 + 1]++;
+        }
+
+        return runs;
+    }
+
+    /**
+     * Decodes values, which have been run-length encoded by using the method {@link
+     * #encodeRuns(int[])}.
+     *
+     * @param runs
+     *         An array, which contains the value and length of each run, as an {@link Integer}
+     *         array. The array may not be null
+     * @param size
+     *         The number of values as an {@link Integer} value
+     * @return An array, which contains the decoded values, as an {@link Integer} array. The array
+     * may not be null
+     */
+    @VisibleForTesting
+    @NonNull
+    static int[] decodeRuns(@NonNull final int[] runs, final int size) {
+        int[] values = new int[size];
+        int index = 0;
+
+        for (int run = 0; run < runs.length / 2; run++) {
+            int value = runs[run * 2];
+            int length = runs[run * 2 + 1];
+
+            for (int i = 0; i < length && index < size; i++) {
+                values[index++] = value;
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Creates a new list of items, which is written to parcels column by column.
+     *
+     * @param items
+     *         A list, which contains the items, as an instance of the type {@link List}. The list
+     *         may not be null
+     */
+    public CompactItemList(@NonNull final List<Item<DataType>> items) {
+        Condition.INSTANCE.ensureNotNull(items, "The items may not be null");
+        this.items = new ArrayList<>(items);
+    }
+
+    /**
+     * Returns the items, which are contained by the list.
+     *
+     * @return A list, which contains the items, as an instance of the class {@link ArrayList}. The
+     * list may not be null
+     */
+    @NonNull
+    public final ArrayList<Item<DataType>> getItems() {
+        return items;
+    }
+
+    /**
+     * Writes the list to a stream by using a specific codec to encode the data of the items.
+     *
+     * @param output
+     *         The stream, the list should be written to, as an instance of the type {@link
+     *         DataOutput}. The stream may not be null
+     * @param codec
+     *         The codec, which should be used to encode the data of the items, as an instance of
+     *         the type {@link ItemCodec}. The codec may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the list could not be written
+     */
+    public final void writeTo(@NonNull final DataOutput output,
+                              @NonNull final ItemCodec<DataType> codec) throws IOException {
+        Condition.INSTANCE.ensureNotNull(output, "The output may not be null");
+        Condition.INSTANCE.ensureNotNull(codec, "The codec may not be null");
+        int size = items.size();
+        long[] ids = new long[size];
+        boolean[] selected = new boolean[size];
+        boolean[] enabled = new boolean[size];
+        int[] states = new int[size];
+        output.writeInt(size);
+
+        for (int i = 0; i < size; i++) {
+            Item<DataType> item = items.get(i);
+            codec.encode(item.getData(), output);
+            ids[i] = item.getId();
+            selected[i] = item.isSelected();
+            enabled[i] = item.isEnabled();
+            states[i] = item.getState();
+        }
+
+        writeLongArray(output, ids);
+        writeLongArray(output, packFlags(selected));
+        writeLongArray(output, packFlags(enabled));
+        int[] runs = encodeRuns(states);
+        output.writeInt(runs.length);
+
+        for (int run : runs) {
+            output.writeInt(run);
+        }
+    }
+
+    /**
+     * Reads a list, which has been written by using the method {@link #writeTo(DataOutput,
+     * ItemCodec)}, from a stream.
+     *
+     * @param input
+     *         The stream, the list should be read from, as an instance of the type {@link
+     *         DataInput}. The stream may not be null
+     * @param codec
+     *         The codec, which should be used to decode the data of the items, as an instance of
+     *         the type {@link ItemCodec}. The codec may not be null
+     * @param <DataType>
+     *         The type of the items' data
+     * @return The list, which has been read, as an instance of the class {@link CompactItemList}.
+     * The list may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the list could not be read
+     */
+    @NonNull
+    public static <DataType> CompactItemList<DataType> readFrom(
+            @NonNull final DataInput input, @NonNull final ItemCodec<DataType> codec)
+            throws IOException {
+        Condition.INSTANCE.ensureNotNull(input, "The input may not be null");
+        Condition.INSTANCE.ensureNotNull(codec, "The codec may not be null");
+        int size = input.readInt();
+        List<DataType> data = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            data.add(codec.decode(input));
+        }
+
+        long[] ids = readLongArray(input);
+        long[] selected = readLongArray(input);
+        long[] enabled = readLongArray(input);
+        int[] runs = new int[input.readInt()];
+
+        for (int i = 0; i < runs.length; i++) {
+            runs[i] = input.readInt();
+        }
+
+        return new CompactItemList<>(
+                createItems(data, ids, selected, enabled, decodeRuns(runs, size)));
+    }
+
+    @Override
+    public final int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public final void writeToParcel(final Parcel dest, final int flags) {
+        int size = items.size();
+        dest.writeInt(size);
+
+        if (size > 0) {
+            List<DataType> data = new ArrayList<>(size);
+            long[] ids = new long[size];
+            boolean[] selected = new boolean[size];
+            boolean[] enabled = new boolean[size];
+            int[] states = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                Item<DataType> item = items.get(i);
+                data.add(item.getData());
+                ids[i] = item.getId();
+                selected[i] = item.isSelected();
+                enabled[i] = item.isEnabled();
+                states[i] = item.getState();
+            }
+
+            writeData(dest, data, flags);
+            dest.writeLongArray(ids);
+            dest.writeLongArray(packFlags(selected));
+            dest.writeLongArray(packFlags(enabled));
+            dest.writeIntArray(encodeRuns(states));
+        }
+    }
+
+}
@@ -186,6 +186,7 @@ public class Item<DataType> extends AbstractAdapterItem<DataType> {
             clonedItem.setSelected(isSelected());
             clonedItem.setEnabled(isEnabled());
             clonedItem.setState(getState());
+            clonedItem.setId(getId());
             return clonedItem;
         } catch (Exception e) {
             throw new CloneNotSupportedException();
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A data structure, which maintains the number of items, which are selected or enabled, as well as
+ * the number of items per state. The counts are updated in constant time, when an item is added or
+ * removed or when it is selected, enabled or disabled or its state is changed. Modifications,
+ * which affect many items at once, may invalidate the counter instead. An invalid counter must be
+ * rebuilt by using the method <code>rebuild(List):void</code>, which requires linear time.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class ItemCounter {
+
+    /**
+     * The number of items, which are selected.
+     */
+    private int selectedCount;
+
+    /**
+     * The number of items, which are enabled.
+     */
+    private int enabledCount;
+
+    /**
+     * An array, which contains the number of items per state.
+     */
+    private int[] stateCounts;
+
+    /**
+     * True, if the counter is valid, false otherwise.
+     */
+    private boolean valid;
+
+    /**
+     * Adjusts the number of items, which have a specific state.
+     *
+     * @param state
+     *         The state as an {@link Integer} value. The state must be at least 0
+     * @param delta
+     *         The value, which should be added to the number of items, as an {@link Integer}
+     *         value
+     */
+    private void adjustStateCount(final int state, final int delta) {
+        if (state >= stateCounts.length) {
+            stateCounts = Arrays.copyOf(stateCounts, Math.max(state + 1, stateCounts.length * 2));
+        }
+
+        stateCounts[state] += delta;
+    }
+
+    /**
+     * Adjusts the counts according to a specific item.
+     *
+     * @param item
+     *         The item as an instance of the class {@link Item}. The item may not be null
+     * @param delta
+     *         The value, which should be added to the counts, the item contributes to, as an
+     *         {@link Integer} value
+     */
+    private void adjustCounts(@NonNull final Item<?> item, final int delta) {
+        if (item.isSelected()) {
+            selectedCount += delta;
+        }
+
+        if (item.isEnabled()) {
+            enabledCount += delta;
+        }
+
+        adjustStateCount(item.getState(), delta);
+    }
+
+    /**
+     * Creates a new, invalid counter.
+     */
+    public ItemCounter() {
+        this.selectedCount = 0;
+        this.enabledCount = 0;
+        this.stateCounts = new int[1];
+        this.valid = false;
+    }
+
+    /**
+     * Returns, whether the counter is valid, or not.
+     *
+     * @return True, if the counter is valid, false otherwise
+     */
+    public final boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Marks the counter as invalid. It must be rebuilt before it can be used again.
+     */
+    public final void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Rebuilds the counter from the items, which are contained by a specific list, in linear
+     * time.
+     *
+     * @param items
+     *         The list, which contains the items, as an instance of the type {@link List}. The list
+     *         may not be null
+     */
+    public final void rebuild(@NonNull final List<? extends Item<?>> items) {
+        Condition.INSTANCE.ensureNotNull(items, "The items may not be null");
+        selectedCount = 0;
+        enabledCount = 0;
+        Arrays.fill(stateCounts, 0);
+
+        for (Item<?> item : items) {
+            adjustCounts(item, 1);
+        }
+
+        valid = true;
+    }
+
+    /**
+     * Updates the counter, when an item has been added.
+     *
+     * @param item
+     *         The item, which has been added, as an instance of the class {@link Item}. The item
+     *         may not be null
+     */
+    public final void onItemAdded(@NonNull final Item<?> item) {
+        if (valid) {
+            adjustCounts(item, 1);
+        }
+    }
+
+    /**
+     * Updates the counter, when an item has been removed.
+     *
+     * @param item
+     *         The item, which has been removed, as an instance of the class {@link Item}. The item
+     *         may not be null
+     */
+    public final void onItemRemoved(@NonNull final Item<?> item) {
+        if (valid) {
+            adjustCounts(item, -1);
+        }
+    }
+
+    /**
+     * Updates the counter, when an item has been selected or unselected.
+     *
+     * @param selected
+     *         True, if the item has been selected, false, if it has been unselected
+     */
+    public final void onSelectionChanged(final boolean selected) {
+        if (valid) {
+            selectedCount += selected ? 1 : -1;
+        }
+    }
+
+    /**
+     * Updates the counter, when an item has been enabled or disabled.
+     *
+     * @param enabled
+     *         True, if the item has been enabled, false, if it has been disabled
+     */
+    public final void onEnableStateChanged(final boolean enabled) {
+        if (valid) {
+            enabledCount += enabled ? 1 : -1;
+        }
+    }
+
+    /**
+     * Updates the counter, when the state of an item has been changed.
+     *
+     * @param previousState
+     *         The previous state of the item as an {@link Integer} value
+     * @param state
+     *         The new state of the item as an {@link Integer} value
+     */
+    public final void onStateChanged(final int previousState, final int state) {
+        if (valid) {
+            adjustStateCount(previousState, -1);
+            adjustStateCount(state, 1);
+        }
+    }
+
+    /**
+     * Returns the number of items, which are selected.
+     *
+     * @return The number of items, which are selected, as an {@link Integer} value
+     */
+    public final int getSelectedCount() {
+        return selectedCount;
+    }
+
+    /**
+     * Returns the number of items, which are enabled.
+     *
+     * @return The number of items, which are enabled, as an {@link Integer} value
+     */
+    public final int getEnabledCount() {
+        return enabledCount;
+    }
+
+    /**
+     * Returns the number of items, which have a specific state.
+     *
+     * @param state
+     *         The state as an {@link Integer} value
+     * @return The number of items, which have the given state, as an {@link Integer} value
+     */
+    public final int getStateCount(final int state) {
+        return state >= 0 && state < stateCounts.length ? stateCounts[state] : 0;
+    }
+
+}
@@ -0,0 +1,738 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A data structure, which mirrors whether the items, which are contained by a list, are selected
+ * or enabled, as well as their states, in columns. Whether items are selected or enabled is stored
+ * as bit sets, which allows to search for the next or previous item, which is selected or enabled,
+ * by processing 64 items at once. The states are stored as an array of primitive values.
+ *
+ * The index is a lookup index, which is derived from the items, rather than a storage, which
+ * replaces them. The fields of the class {@link Item} remain authoritative. Therefore, all
+ * modifications of these fields must be routed through a single place, which updates the item and
+ * the index at once. Otherwise, the index must be invalidated afterwards.
+ *
+ * Changing whether an item is selected or enabled, or its state, as well as adding, removing or
+ * replacing items, is handled incrementally. Adding or removing items only requires to shift the
+ * bit sets word by word and to move the states by using a single array copy. The arrays grow with
+ * spare capacity, which allows to append items in amortized constant time. Other modifications,
+ * e.g. sorting or filtering the list, require the index to be invalidated. An invalid index must be
+ * rebuilt by using the method <code>rebuild(List):void</code>, which requires linear time.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class ItemFlagIndex {
+
+    /**
+     * The number of bits per word.
+     */
+    private static final int BITS_PER_WORD = 64;
+
+    /**
+     * A bit set, which specifies whether the items are selected.
+     */
+    private long[] selected;
+
+    /**
+     * A bit set, which specifies whether the items are enabled.
+     */
+    private long[] enabled;
+
+    /**
+     * An array, which contains the states of the items.
+     */
+    private int[] states;
+
+    /**
+     * The number of items, which are contained by the index.
+     */
+    private int size;
+
+    /**
+     * True, if the index is valid, false otherwise.
+     */
+    private boolean valid;
+
+    /**
+     * Returns the number of words, which are needed to store a specific number of bits.
+     *
+     * @param bitCount
+     *         The number of bits as an {@link Integer} value
+     * @return The number of words as an {@link Integer} value
+     */
+    private static int getWordCount(final int bitCount) {
+        return (bitCount + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    }
+
+    /**
+     * Returns a word, whose bits at indices less than a specific index are set.
+     *
+     * @param bitCount
+     *         The number of bits, which should be set, as an {@link Integer} value
+     * @return The word as a {@link Long} value
+     */
+    private static long getLowMask(final int bitCount) {
+        if (bitCount <= 0) {
+            return 0;
+        } else if (bitCount >= BITS_PER_WORD) {
+            return -1L;
+        }
+
+        return (1L << bitCount) - 1;
+    }
+
+    /**
+     * Returns the 64 bits of a bit set, which start at a specific index. Bits outside of the bit
+     * set are considered to be not set.
+     *
+     * @param words
+     *         The words of the bit set as a {@link Long} array. The array may not be null
+     * @param bitIndex
+     *         The index of the first bit as an {@link Integer} value. The index may be negative
+     * @return The bits as a {@link Long} value
+     */
+    private static long readWord(@NonNull final long[] words, final int bitIndex) {
+        int wordIndex = bitIndex >= 0 ? bitIndex / BITS_PER_WORD :
+                -((-bitIndex + BITS_PER_WORD - 1) / BITS_PER_WORD);
+        int offset = bitIndex - wordIndex * BITS_PER_WORD;
+        long low = wordIndex >= 0 && wordIndex < words.length ? words[wordIndex] : 0;
+
+        if (offset == 0) {
+            return low;
+        }
+
+        long high = wordIndex + 1 >= 0 && wordIndex + 1 < words.length ? words[wordIndex + 1] : 0;
+        return (low >>> offset) | (high << (BITS_PER_WORD - offset));
+    }
+
+    /**
+     * Shifts the bits of a bit set, which are located at a specific index or after, by a specific
+     * number of bits towards higher indices. The bits, which are shifted in, are not set. The bit
+     * set must provide enough capacity.
+     *
+     * @param words
+     *         The words of the bit set as a {@link Long} array. The array may not be null
+     * @param size
+     *         The number of bits, which are contained by the bit set after the bits have been
+     *         inserted, as an {@link Integer} value
+     * @param index
+     *         The index, the bits should be inserted at, as an {@link Integer} value
+     * @param count
+     *         The number of bits, which should be inserted, as an {@link Integer} value
+     */
+    private static void insertBits(@NonNull final long[] words, final int size, final int index,
+                                   final int count) {
+        for (int i = getWordCount(size) - 1; i >= index / BITS_PER_WORD; i--) {
+            int start = i * BITS_PER_WORD;
+            long word = words[i] & getLowMask(index - start);
+            word |= readWord(words, start - count) & ~getLowMask(index + count - start);
+            words[i] = word;
+        }
+    }
+
+    /**
+     * Shifts the bits of a bit set, which are located after a specific range, towards lower
+     * indices, replacing the bits within the range. The bits, which are shifted in, are not set.
+     *
+     * @param words
+     *         The words of the bit set as a {@link Long} array. The array may not be null
+     * @param size
+     *         The number of bits, which are contained by the bit set before the bits have been
+     *         removed, as an {@link Integer} value
+     * @param index
+     *         The index of the first bit, which should be removed, as an {@link Integer} value
+     * @param count
+     *         The number of bits, which should be removed, as an {@link Integer} value
+     */
+    private static void removeBits(@NonNull final long[] words, final int size, final int index,
+                                   final int count) {
+        int wordCount = getWordCount(size);
+
+        for (int i = index / BITS_PER_WORD; i < wordCount; i++) {
+            int start = i * BITS_PER_WORD;
+            long word = words[i] & getLowMask(index - start);
+            word |= readWord(words, start + count) & ~getLowMask(index - start);
+            words[i] = word;
+        }
+
+        int newSize = size - count;
+
+        for (int i = newSize / BITS_PER_WORD; i < wordCount; i++) {
+            words[i] &= getLowMask(newSize - i * BITS_PER_WORD);
+        }
+    }
+
+    /**
+     * Sets the bit at a specific index of a bit set.
+     *
+     * @param words
+     *         The words of the bit set as a {@link Long} array. The array may not be null
+     * @param index
+     *         The index of the bit, which should be set, as an {@link Integer} value
+     * @param value
+     *         The value, which should be set, as a {@link Boolean} value
+     */
+    private static void setBit(@NonNull final long[] words, final int index, final boolean value) {
+        if (value) {
+            words[index / BITS_PER_WORD] |= 1L << index;
+        } else {
+            words[index / BITS_PER_WORD] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * Returns the index of the next bit of a bit set, which has a specific value, starting at a
+     * specific index.
+     *
+     * @param words
+     *         The words of the bit set as a {@link Long} array. The array may not be null
+     * @param size
+     *         The number of bits, which are contained by the bit set, as an {@link Integer} value
+     * @param fromIndex
+     *         The index to start at (inclusive) as an {@link Integer} value
+     * @param value
+     *         The value of the bit, which should be searched for, as a {@link Boolean} value
+     * @return The index of the next bit, which has the given value, as an {@link Integer} value
+     * or -1, if no such bit is available
+     */
+    private static int nextBit(@NonNull final long[] words, final int size, final int fromIndex,
+                               final boolean value) {
+        int start = Math.max(fromIndex, 0);
+
+        if (start >= size) {
+            return -1;
+        }
+
+        int wordCount = getWordCount(size);
+        int wordIndex = start / BITS_PER_WORD;
+        long word = (value ? words[wordIndex] : ~words[wordIndex]) & (-1L << start);
+
+        while (true) {
+            if (word != 0) {
+                int index = wordIndex * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+                return index < size ? index : -1;
+            }
+
+            wordIndex++;
+
+            if (wordIndex >= wordCount) {
+                return -1;
+            }
+
+            word = value ? words[wordIndex] : ~words[wordIndex];
+        }
+    }
+
+    /**
+     * Returns the index of the previous bit of a bit set, which has a specific value, starting at
+     * a specific index.
+     *
+     * @param words
+     *         The words of the bit set as a {@link Long} array. The array may not be null
+     * @param size
+     *         The number of bits, which are contained by the bit set, as an {@link Integer} value
+     * @param fromIndex
+     *         The index to start at (inclusive) as an {@link Integer} value
+     * @param value
+     *         The value of the bit, which should be searched for, as a {@link Boolean} value
+     * @return The index of the previous bit, which has the given value, as an {@link Integer}
+     * value or -1, if no such bit is available
+     */
+    private static int previousBit(@NonNull final long[] words, final int size,
+                                   final int fromIndex, final boolean value) {
+        int start = Math.min(fromIndex, size - 1);
+
+        if (start < 0) {
+            return -1;
+        }
+
+        int wordIndex = start / BITS_PER_WORD;
+        long word = (value ? words[wordIndex] : ~words[wordIndex]) & (-1L >>> -(start + 1));
+
+        while (true) {
+            if (word != 0) {
+                return (wordIndex + 1) * BITS_PER_WORD - 1 - Long.numberOfLeadingZeros(word);
+            }
+
+            if (wordIndex == 0) {
+                return -1;
+            }
+
+            wordIndex--;
+            word = value ? words[wordIndex] : ~words[wordIndex];
+        }
+    }
+
+    /**
+     * Returns the word of a bit set at a specific index, restricted to the bits, which correspond
+     * to items, and optionally inverted.
+     *
+     * @param words
+     *         The words of the bit set as a {@link Long} array. The array may not be null
+     * @param size
+     *         The number of bits, which are contained by the bit set, as an {@link Integer} value
+     * @param wordIndex
+     *         The index of the word as an {@link Integer} value
+     * @param value
+     *         True, if the bits, which are set, should be retained, false, if the bits, which are
+     *         not set, should be retained
+     * @return The word as a {@link Long} value
+     */
+    private static long getWord(@NonNull final long[] words, final int size, final int wordIndex,
+                                final boolean value) {
+        long word = value ? words[wordIndex] : ~words[wordIndex];
+        int remainingBits = size - wordIndex * BITS_PER_WORD;
+        return remainingBits < BITS_PER_WORD ? word & ((1L << remainingBits) - 1) : word;
+    }
+
+    /**
+     * Returns the indices of all bits of a bit set, which have a specific value.
+     *
+     * @param words
+     *         The words of the bit set as a {@link Long} array. The array may not be null
+     * @param size
+     *         The number of bits, which are contained by the bit set, as an {@link Integer} value
+     * @param value
+     *         The value of the bits, whose indices should be returned, as a {@link Boolean} value
+     * @return An array, which contains the indices of the bits, which have the given value, in
+     * ascending order, as an {@link Integer} array. The array may not be null
+     */
+    @NonNull
+    private static int[] collectBits(@NonNull final long[] words, final int size,
+                                     final boolean value) {
+        int wordCount = getWordCount(size);
+        int count = 0;
+
+        for (int i = 0; i < wordCount; i++) {
+            count += Long.bitCount(getWord(words, size, i, value));
+        }
+
+        int[] indices = new int[count];
+        int position = 0;
+
+        for (int i = 0; i < wordCount; i++) {
+            long word = getWord(words, size, i, value);
+
+            while (word != 0) {
+                indices[position++] = i * BITS_PER_WORD + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+
+        return indices;
+    }
+
+    /**
+     * Ensures, that a specific index is valid.
+     *
+     * @param index
+     *         The index, which should be checked, as an {@link Integer} value
+     */
+    private void ensureValidIndex(final int index) {
+        Condition.INSTANCE.ensureAtLeast(index, 0, "The index must be at least 0",
+                IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureAtMaximum(index, size - 1,
+                "The index must be at maximum " + (size - 1), IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Ensures, that the index provides enough capacity to contain a specific number of items.
+     *
+     * @param capacity
+     *         The number of items as an {@link Integer} value
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > states.length) {
+            int newCapacity = Math.max(capacity, states.length + (states.length >> 1));
+            int wordCount = getWordCount(newCapacity);
+            long[] newSelected = new long[wordCount];
+            System.arraycopy(selected, 0, newSelected, 0, selected.length);
+            selected = newSelected;
+            long[] newEnabled = new long[wordCount];
+            System.arraycopy(enabled, 0, newEnabled, 0, enabled.length);
+            enabled = newEnabled;
+            int[] newStates = new int[newCapacity];
+            System.arraycopy(states, 0, newStates, 0, size);
+            states = newStates;
+        }
+    }
+
+    /**
+     * Creates a new, invalid index.
+     */
+    public ItemFlagIndex() {
+        this.selected = new long[0];
+        this.enabled = new long[0];
+        this.states = new int[0];
+        this.size = 0;
+        this.valid = false;
+    }
+
+    /**
+     * Returns, whether the index is valid, or not.
+     *
+     * @return True, if the index is valid, false otherwise
+     */
+    public final boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Marks the index as invalid. It must be rebuilt before it can be used again.
+     */
+    public final void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Rebuilds the index from the items, which are contained by a specific list, in linear time.
+     *
+     * @param items
+     *         The list, which contains the items, as an instance of the type {@link List}. The list
+     *         may not be null
+     */
+    public final void rebuild(@NonNull final List<? extends Item<?>> items) {
+        Condition.INSTANCE.ensureNotNull(items, "The items may not be null");
+        size = items.size();
+        int wordCount = getWordCount(size);
+        selected = new long[wordCount];
+        enabled = new long[wordCount];
+        states = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            Item<?> item = items.get(i);
+
+            if (item.isSelected()) {
+                setBit(selected, i, true);
+            }
+
+            if (item.isEnabled()) {
+                setBit(enabled, i, true);
+            }
+
+            states[i] = item.getState();
+        }
+
+        this.valid = true;
+    }
+
+    /**
+     * Returns the number of items, which are contained by the index.
+     *
+     * @return The number of items, which are contained by the index, as an {@link Integer} value
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Updates the index, when an item has been added.
+     *
+     * @param index
+     *         The index, the item has been added at, as an {@link Integer} value
+     * @param item
+     *         The item, which has been added, as an instance of the class {@link Item}. The item
+     *         may not be null
+     */
+    public final void onItemAdded(final int index, @NonNull final Item<?> item) {
+        onItemsAdded(index, Collections.singletonList(item));
+    }
+
+    /**
+     * Updates the index, when multiple items have been added.
+     *
+     * @param index
+     *         The index, the items have been added at, as an {@link Integer} value
+     * @param items
+     *         A list, which contains the items, which have been added, as an instance of the type
+     *         {@link List}. The list may not be null
+     */
+    public final void onItemsAdded(final int index, @NonNull final List<? extends Item<?>> items) {
+        Condition.INSTANCE.ensureNotNull(items, "The items may not be null");
+
+        if (valid) {
+            Condition.INSTANCE.ensureAtLeast(index, 0, "The index must be at least 0",
+                    IndexOutOfBoundsException.class);
+            Condition.INSTANCE.ensureAtMaximum(index, size, "The index must be at maximum " + size,
+                    IndexOutOfBoundsException.class);
+            int count = items.size();
+            ensureCapacity(size + count);
+            insertBits(selected, size + count, index, count);
+            insertBits(enabled, size + count, index, count);
+            System.arraycopy(states, index, states, index + count, size - index);
+            size += count;
+
+            for (int i = 0; i < count; i++) {
+                Item<?> item = items.get(i);
+                setBit(selected, index + i, item.isSelected());
+                setBit(enabled, index + i, item.isEnabled());
+                states[index + i] = item.getState();
+            }
+        }
+    }
+
+    /**
+     * Updates the index, when an item has been removed.
+     *
+     * @param index
+     *         The index of the item, which has been removed, as an {@link Integer} value
+     */
+    public final void onItemRemoved(final int index) {
+        if (valid) {
+            ensureValidIndex(index);
+            removeBits(selected, size, index, 1);
+            removeBits(enabled, size, index, 1);
+            System.arraycopy(states, index + 1, states, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Updates the index, when an item has been replaced.
+     *
+     * @param index
+     *         The index of the item, which has been replaced, as an {@link Integer} value
+     * @param item
+     *         The item, which has replaced the previous one, as an instance of the class {@link
+     *         Item}. The item may not be null
+     */
+    public final void onItemReplaced(final int index, @NonNull final Item<?> item) {
+        Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+
+        if (valid) {
+            ensureValidIndex(index);
+            setBit(selected, index, item.isSelected());
+            setBit(enabled, index, item.isEnabled());
+            states[index] = item.getState();
+        }
+    }
+
+    /**
+     * Updates the index, when an item has been selected or unselected.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param selected
+     *         True, if the item has been selected, false otherwise
+     */
+    public final void onSelectionChanged(final int index, final boolean selected) {
+        if (valid) {
+            ensureValidIndex(index);
+            setBit(this.selected, index, selected);
+        }
+    }
+
+    /**
+     * Updates the index, when an item has been enabled or disabled.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param enabled
+     *         True, if the item has been enabled, false otherwise
+     */
+    public final void onEnableStateChanged(final int index, final boolean enabled) {
+        if (valid) {
+            ensureValidIndex(index);
+            setBit(this.enabled, index, enabled);
+        }
+    }
+
+    /**
+     * Updates the index, when the state of an item has been changed.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param state
+     *         The new state of the item as an {@link Integer} value
+     */
+    public final void onStateChanged(final int index, final int state) {
+        if (valid) {
+            ensureValidIndex(index);
+            states[index] = state;
+        }
+    }
+
+    /**
+     * Returns the index of the next item, which is either selected or unselected, starting at a
+     * specific index.
+     *
+     * @param fromIndex
+     *         The index to start at (inclusive) as an {@link Integer} value
+     * @param selected
+     *         True, if the next selected item should be searched for, false, if the next
+     *         unselected item should be searched for
+     * @return The index of the next item, which is selected or unselected, as an {@link Integer}
+     * value or -1, if no such item is available
+     */
+    public final int nextSelectedIndex(final int fromIndex, final boolean selected) {
+        return nextBit(this.selected, size, fromIndex, selected);
+    }
+
+    /**
+     * Returns the index of the previous item, which is either selected or unselected, starting at
+     * a specific index.
+     *
+     * @param fromIndex
+     *         The index to start at (inclusive) as an {@link Integer} value
+     * @param selected
+     *         True, if the previous selected item should be searched for, false, if the previous
+     *         unselected item should be searched for
+     * @return The index of the previous item, which is selected or unselected, as an {@link
+     * Integer} value or -1, if no such item is available
+     */
+    public final int previousSelectedIndex(final int fromIndex, final boolean selected) {
+        return previousBit(this.selected, size, fromIndex, selected);
+    }
+
+    /**
+     * Returns the indices of all items, which are either selected or unselected.
+     *
+     * @param selected
+     *         True, if the indices of the selected items should be returned, false, if the indices
+     *         of the unselected items should be returned
+     * @return An array, which contains the indices of the items, which are selected or
+     * unselected, in ascending order, as an {@link Integer} array. The array may not be null
+     */
+    @NonNull
+    public final int[] getSelectedIndices(final boolean selected) {
+        return collectBits(this.selected, size, selected);
+    }
+
+    /**
+     * Returns the index of the next item, which is either enabled or disabled, starting at a
+     * specific index.
+     *
+     * @param fromIndex
+     *         The index to start at (inclusive) as an {@link Integer} value
+     * @param enabled
+     *         True, if the next enabled item should be searched for, false, if the next disabled
+     *         item should be searched for
+     * @return The index of the next item, which is enabled or disabled, as an {@link Integer}
+     * value or -1, if no such item is available
+     */
+    public final int nextEnabledIndex(final int fromIndex, final boolean enabled) {
+        return nextBit(this.enabled, size, fromIndex, enabled);
+    }
+
+    /**
+     * Returns the index of the previous item, which is either enabled or disabled, starting at a
+     * specific index.
+     *
+     * @param fromIndex
+     *         The index to start at (inclusive) as an {@link Integer} value
+     * @param enabled
+     *         True, if the previous enabled item should be searched for, false, if the previous
+     *         disabled item should be searched for
+     * @return The index of the previous item, which is enabled or disabled, as an {@link Integer}
+     * value or -1, if no such item is available
+     */
+    public final int previousEnabledIndex(final int fromIndex, final boolean enabled) {
+        return previousBit(this.enabled, size, fromIndex, enabled);
+    }
+
+    /**
+     * Returns the indices of all items, which are either enabled or disabled.
+     *
+     * @param enabled
+     *         True, if the indices of the enabled items should be returned, false, if the indices
+     *         of the disabled items should be returned
+     * @return An array, which contains the indices of the items, which are enabled or disabled, in
+     * ascending order, as an {@link Integer} array. The array may not be null
+     */
+    @NonNull
+    public final int[] getEnabledIndices(final boolean enabled) {
+        return collectBits(this.enabled, size, enabled);
+    }
+
+    /**
+     * Returns the index of the next item, which has a specific state, starting at a specific
+     * index.
+     *
+     * @param fromIndex
+     *         The index to start at (inclusive) as an {@link Integer} value
+     * @param state
+     *         The state of the item, which should be searched for, as an {@link Integer} value
+     * @return The index of the next item, which has the given state, as an {@link Integer} value
+     * or -1, if no such item is available
+     */
+    public final int nextIndexWithState(final int fromIndex, final int state) {
+        for (int i = Math.max(fromIndex, 0); i < size; i++) {
+            if (states[i] == state) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the previous item, which has a specific state, starting at a specific
+     * index.
+     *
+     * @param fromIndex
+     *         The index to start at (inclusive) as an {@link Integer} value
+     * @param state
+     *         The state of the item, which should be searched for, as an {@link Integer} value
+     * @return The index of the previous item, which has the given state, as an {@link Integer}
+     * value or -1, if no such item is available
+     */
+    public final int previousIndexWithState(final int fromIndex, final int state) {
+        for (int i = Math.min(fromIndex, size - 1); i >= 0; i--) {
+            if (states[i] == state) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the indices of all items, which have a specific state.
+     *
+     * @param state
+     *         The state as an {@link Integer} value
+     * @return An array, which contains the indices of the items, which have the given state, in
+     * ascending order, as an {@link Integer} array. The array may not be null
+     */
+    @NonNull
+    public final int[] getIndicesWithState(final int state) {
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (states[i] == state) {
+                count++;
+            }
+        }
+
+        int[] indices = new int[count];
+        int position = 0;
+
+        for (int i = 0; i < size && position < count; i++) {
+            if (states[i] == state) {
+                indices[position++] = i;
+            }
+        }
+
+        return indices;
+    }
+
+}
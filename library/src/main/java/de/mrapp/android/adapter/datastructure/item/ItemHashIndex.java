@@ -0,0 +1,375 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * A data structure, which maps the data of the items, which are contained by a list, to their
+ * positions. It allows to look up the first or last position of an item, as well as to check,
+ * whether a list contains an item, in constant time. The data of the items must provide
+ * implementations of the methods <code>equals(Object):boolean</code> and
+ * <code>hashCode():int</code>, which are consistent with each other.
+ *
+ * Inserting, removing and replacing items is handled incrementally. If an item is inserted or
+ * removed before the end of the list, the stored positions of the subsequent items are shifted in
+ * place, which does not require to re-hash any data. Only modifications, which are not reported to
+ * the index, e.g. sorting or filtering the list, cause the index to be invalidated. An invalid
+ * index must be rebuilt by using the method <code>rebuild(List):void</code>, which requires linear
+ * time.
+ *
+ * @param <DataType>
+ *         The type of the items' data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class ItemHashIndex<DataType> {
+
+    /**
+     * The positions of all items, which are equal to each other, in ascending order.
+     */
+    private static final class Positions {
+
+        /**
+         * An array, which contains the positions.
+         */
+        private int[] values = new int[1];
+
+        /**
+         * The number of positions, which are contained by the array.
+         */
+        private int size = 0;
+
+        /**
+         * Inserts a specific position while retaining the ascending order.
+         *
+         * @param position
+         *         The position, which should be inserted, as an {@link Integer} value
+         */
+        private void insert(final int position) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            int index = size;
+
+            while (index > 0 && values[index - 1] > position) {
+                values[index] = values[index - 1];
+                index--;
+            }
+
+            values[index] = position;
+            size++;
+        }
+
+        /**
+         * Removes a specific position.
+         *
+         * @param position
+         *         The position, which should be removed, as an {@link Integer} value
+         * @return True, if the position has been removed, false otherwise
+         */
+        private boolean remove(final int position) {
+            int index = Arrays.binarySearch(values, 0, size, position);
+
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Shifts all positions, which are greater than or equal to a specific position, by a
+         * specific offset. As the offset is applied to a suffix of the ascending positions, their
+         * order is retained.
+         *
+         * @param fromPosition
+         *         The first position, which should be shifted, as an {@link Integer} value
+         * @param offset
+         *         The offset, the positions should be shifted by, as an {@link Integer} value
+         */
+        private void shift(final int fromPosition, final int offset) {
+            for (int i = size - 1; i >= 0 && values[i] >= fromPosition; i--) {
+                values[i] += offset;
+            }
+        }
+
+    }
+
+    /**
+     * A map, which contains the positions of the items, mapped to their data.
+     */
+    private final Map<DataType, Positions> positions;
+
+    /**
+     * The number of items, which are contained by the index.
+     */
+    private int size;
+
+    /**
+     * True, if the index is valid, false otherwise.
+     */
+    private boolean valid;
+
+    /**
+     * Adds the position of a specific item to the index.
+     *
+     * @param data
+     *         The data of the item as an instance of the generic type DataType. The data may not be
+     *         null
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     */
+    private void addPosition(@NonNull final DataType data, final int position) {
+        Positions itemPositions = positions.get(data);
+
+        if (itemPositions == null) {
+            itemPositions = new Positions();
+            positions.put(data, itemPositions);
+        }
+
+        itemPositions.insert(position);
+    }
+
+    /**
+     * Removes the position of a specific item from the index.
+     *
+     * @param data
+     *         The data of the item as an instance of the generic type DataType. The data may not be
+     *         null
+     * @param position
+     *         The position of the item as an {@link Integer} value
+     * @return True, if the position has been removed, false otherwise
+     */
+    private boolean removePosition(@NonNull final DataType data, final int position) {
+        Positions itemPositions = positions.get(data);
+
+        if (itemPositions != null && itemPositions.remove(position)) {
+            if (itemPositions.size == 0) {
+                positions.remove(data);
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Shifts the positions of all items, which are located at or after a specific position, by a
+     * specific offset.
+     *
+     * @param fromPosition
+     *         The first position, which should be shifted, as an {@link Integer} value
+     * @param offset
+     *         The offset, the positions should be shifted by, as an {@link Integer} value
+     */
+    private void shiftPositions(final int fromPosition, final int offset) {
+        if (fromPosition < size) {
+            for (Positions itemPositions : positions.values()) {
+                itemPositions.shift(fromPosition, offset);
+            }
+        }
+    }
+
+    /**
+     * Creates a new, invalid index.
+     */
+    public ItemHashIndex() {
+        this.positions = new HashMap<>();
+        this.size = 0;
+        this.valid = false;
+    }
+
+    /**
+     * Returns, whether the index is valid for a list, which contains a specific number of items,
+     * or not.
+     *
+     * @param itemCount
+     *         The number of items, which are contained by the list, as an {@link Integer} value
+     * @return True, if the index is valid, false otherwise
+     */
+    public final boolean isValid(final int itemCount) {
+        return valid && size == itemCount;
+    }
+
+    /**
+     * Marks the index as invalid. It must be rebuilt before it can be used again.
+     */
+    public final void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Rebuilds the index from the items, which are contained by a specific list, in linear time.
+     *
+     * @param items
+     *         The list, which contains the items, as an instance of the type {@link List}. The list
+     *         may not be null
+     */
+    public final void rebuild(@NonNull final List<Item<DataType>> items) {
+        Condition.INSTANCE.ensureNotNull(items, "The items may not be null");
+        positions.clear();
+        size = items.size();
+
+        for (int i = 0; i < size; i++) {
+            addPosition(items.get(i).getData(), i);
+        }
+
+        valid = true;
+    }
+
+    /**
+     * Updates the index, when an item has been inserted into the list.
+     *
+     * @param data
+     *         The data of the item, which has been inserted, as an instance of the generic type
+     *         DataType. The data may not be null
+     * @param index
+     *         The index, the item has been inserted at, as an {@link Integer} value
+     */
+    public final void onItemAdded(@NonNull final DataType data, final int index) {
+        if (valid) {
+            if (index >= 0 && index <= size) {
+                shiftPositions(index, 1);
+                addPosition(data, index);
+                size++;
+            } else {
+                valid = false;
+            }
+        }
+    }
+
+    /**
+     * Updates the index, when several items have been inserted into the list at once. The
+     * positions of subsequent items are only shifted a single time.
+     *
+     * @param data
+     *         A list, which contains the data of the items, which have been inserted, in the order
+     *         of their insertion, as an instance of the type {@link List}. The list may not be
+     *         null
+     * @param index
+     *         The index, the first item has been inserted at, as an {@link Integer} value
+     */
+    public final void onItemsAdded(@NonNull final List<DataType> data, final int index) {
+        Condition.INSTANCE.ensureNotNull(data, "The data may not be null");
+
+        if (valid) {
+            if (index >= 0 && index <= size) {
+                shiftPositions(index, data.size());
+
+                for (int i = 0; i < data.size(); i++) {
+                    addPosition(data.get(i), index + i);
+                }
+
+                size += data.size();
+            } else {
+                valid = false;
+            }
+        }
+    }
+
+    /**
+     * Updates the index, when an item has been removed from the list.
+     *
+     * @param data
+     *         The data of the item, which has been removed, as an instance of the generic type
+     *         DataType. The data may not be null
+     * @param index
+     *         The index, the item has been removed from, as an {@link Integer} value
+     */
+    public final void onItemRemoved(@NonNull final DataType data, final int index) {
+        if (valid) {
+            if (removePosition(data, index)) {
+                shiftPositions(index + 1, -1);
+                size--;
+            } else {
+                valid = false;
+            }
+        }
+    }
+
+    /**
+     * Updates the index, when an item of the list has been replaced.
+     *
+     * @param replacedData
+     *         The data of the item, which has been replaced, as an instance of the generic type
+     *         DataType. The data may not be null
+     * @param data
+     *         The data of the item, which has replaced the previous one, as an instance of the
+     *         generic type DataType. The data may not be null
+     * @param index
+     *         The index of the item, which has been replaced, as an {@link Integer} value
+     */
+    public final void onItemReplaced(@NonNull final DataType replacedData,
+                                     @NonNull final DataType data, final int index) {
+        if (valid) {
+            if (removePosition(replacedData, index)) {
+                addPosition(data, index);
+            } else {
+                valid = false;
+            }
+        }
+    }
+
+    /**
+     * Returns the first position of a specific item.
+     *
+     * @param data
+     *         The data of the item, whose position should be returned, as an instance of the
+     *         generic type DataType. The data may not be null
+     * @return The first position of the given item as an {@link Integer} value or -1, if the index
+     * does not contain the item
+     */
+    public final int indexOf(@NonNull final DataType data) {
+        Positions itemPositions = positions.get(data);
+        return itemPositions != null ? itemPositions.values[0] : -1;
+    }
+
+    /**
+     * Returns the last position of a specific item.
+     *
+     * @param data
+     *         The data of the item, whose position should be returned, as an instance of the
+     *         generic type DataType. The data may not be null
+     * @return The last position of the given item as an {@link Integer} value or -1, if the index
+     * does not contain the item
+     */
+    public final int lastIndexOf(@NonNull final DataType data) {
+        Positions itemPositions = positions.get(data);
+        return itemPositions != null ? itemPositions.values[itemPositions.size - 1] : -1;
+    }
+
+    /**
+     * Returns, whether the index contains a specific item, or not.
+     *
+     * @param data
+     *         The data of the item, which should be checked, as an instance of the generic type
+     *         DataType. The data may not be null
+     * @return True, if the index contains the given item, false otherwise
+     */
+    public final boolean contains(@NonNull final DataType data) {
+        return positions.containsKey(data);
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.datastructure.Snapshot;
+
+/**
+ * An immutable snapshot of a list, which contains items of the type {@link Item}. The encapsulated
+ * list is shared with the adapter, the snapshot has been obtained from, until the adapter is
+ * modified the next time. The adapter must then continue to work on a copy of the list.
+ *
+ * @param <DataType>
+ *         The type of the underlying data of the snapshot's items
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class ItemSnapshot<DataType> extends UnmodifiableItemList<DataType>
+        implements Snapshot<DataType> {
+
+    /**
+     * The version of the snapshot.
+     */
+    private final long version;
+
+    /**
+     * Creates a new immutable snapshot of a list, which contains items of the type {@link Item}.
+     *
+     * @param encapsulatedList
+     *         The list, which should be encapsulated by the snapshot, as an instance of the type
+     *         {@link List}. The list may not be null and must not be modified afterwards
+     * @param version
+     *         The version of the snapshot as a {@link Long} value
+     */
+    public ItemSnapshot(@NonNull final List<Item<DataType>> encapsulatedList, final long version) {
+        super(encapsulatedList);
+        this.version = version;
+    }
+
+    @Override
+    public final long getVersion() {
+        return version;
+    }
+
+}
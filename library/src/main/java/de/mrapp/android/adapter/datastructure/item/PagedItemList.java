@@ -0,0 +1,437 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.datastructure.item;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.util.Condition;
+
+/**
+ * A data structure, which stores the items of a list, whose data is loaded in pages of a fixed
+ * size. Only a bounded number of pages is resident at once. If this number is exceeded, the least
+ * recently used page is evicted. The states of the items, i.e. whether they are selected or
+ * enabled and their item states, are stored independently of the pages, in order to retain them
+ * for items, which are not resident.
+ *
+ * @param <DataType>
+ *         The type of the items' data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class PagedItemList<DataType> {
+
+    /**
+     * The number of items per page.
+     */
+    private final int pageSize;
+
+    /**
+     * The maximum number of pages, which are resident at once.
+     */
+    private final int maxResidentPages;
+
+    /**
+     * A map, which contains the resident pages, mapped to their indices, in the order of their last
+     * access.
+     */
+    private final Map<Integer, List<DataType>> pages;
+
+    /**
+     * A set, which contains the indices of the pages, which have been requested, but not loaded
+     * yet.
+     */
+    private final Set<Integer> requestedPages;
+
+    /**
+     * A bit set, which specifies the indices of the items, which are selected.
+     */
+    private final BitSet selectedItems;
+
+    /**
+     * A bit set, which specifies the indices of the items, which are disabled.
+     */
+    private final BitSet disabledItems;
+
+    /**
+     * An array, which contains the states of the items, or null, if all items have the state 0.
+     */
+    private int[] itemStates;
+
+    /**
+     * The total number of items.
+     */
+    private int itemCount;
+
+    /**
+     * Ensures, that a specific index is valid.
+     *
+     * @param index
+     *         The index, which should be checked, as an {@link Integer} value
+     */
+    private void ensureIndexIsValid(final int index) {
+        Condition.INSTANCE.ensureAtLeast(index, 0, "The index must be at least 0",
+                IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureAtMaximum(index, itemCount - 1,
+                "The index must be at maximum " + (itemCount - 1),
+                IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Creates a new data structure, which stores the items of a list, whose data is loaded in
+     * pages of a fixed size.
+     *
+     * @param pageSize
+     *         The number of items per page as an {@link Integer} value. The number of items must be
+     *         at least 1
+     * @param maxResidentPages
+     *         The maximum number of pages, which should be resident at once, as an {@link Integer}
+     *         value. The number of pages must be at least 1
+     */
+    public PagedItemList(final int pageSize, final int maxResidentPages) {
+        Condition.INSTANCE.ensureAtLeast(pageSize, 1, "The page size must be at least 1");
+        Condition.INSTANCE.ensureAtLeast(maxResidentPages, 1,
+                "The maximum number of resident pages must be at least 1");
+        this.pageSize = pageSize;
+        this.maxResidentPages = maxResidentPages;
+        this.pages = new LinkedHashMap<>(maxResidentPages + 1, 1f, true);
+        this.requestedPages = new HashSet<>();
+        this.selectedItems = new BitSet();
+        this.disabledItems = new BitSet();
+        this.itemStates = null;
+        this.itemCount = 0;
+    }
+
+    /**
+     * Returns the number of items per page.
+     *
+     * @return The number of items per page as an {@link Integer} value
+     */
+    public final int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the maximum number of pages, which are resident at once.
+     *
+     * @return The maximum number of pages, which are resident at once, as an {@link Integer} value
+     */
+    public final int getMaxResidentPages() {
+        return maxResidentPages;
+    }
+
+    /**
+     * Returns the total number of items.
+     *
+     * @return The total number of items as an {@link Integer} value
+     */
+    public final int getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Returns the number of pages, which are required to store all items.
+     *
+     * @return The number of pages, which are required to store all items, as an {@link Integer}
+     * value
+     */
+    public final int getPageCount() {
+        return (itemCount + pageSize - 1) / pageSize;
+    }
+
+    /**
+     * Returns the index of the page, a specific item belongs to.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return The index of the page, the given item belongs to, as an {@link Integer} value
+     */
+    public final int getPageIndex(final int index) {
+        return index / pageSize;
+    }
+
+    /**
+     * Returns the index of the first item of a specific page.
+     *
+     * @param pageIndex
+     *         The index of the page as an {@link Integer} value
+     * @return The index of the first item of the given page as an {@link Integer} value
+     */
+    public final int getPageOffset(final int pageIndex) {
+        return pageIndex * pageSize;
+    }
+
+    /**
+     * Returns the number of items of a specific page.
+     *
+     * @param pageIndex
+     *         The index of the page as an {@link Integer} value
+     * @return The number of items of the given page as an {@link Integer} value
+     */
+    public final int getPageItemCount(final int pageIndex) {
+        return Math.max(0, Math.min(pageSize, itemCount - getPageOffset(pageIndex)));
+    }
+
+    /**
+     * Discards all resident pages and pending requests and sets the total number of items. The
+     * states of the items, whose indices are still valid, are retained.
+     *
+     * @param itemCount
+     *         The total number of items as an {@link Integer} value. The number of items must be at
+     *         least 0
+     */
+    public final void reset(final int itemCount) {
+        Condition.INSTANCE.ensureAtLeast(itemCount, 0, "The item count must be at least 0");
+        pages.clear();
+        requestedPages.clear();
+
+        if (itemCount < this.itemCount) {
+            selectedItems.clear(itemCount, this.itemCount);
+            disabledItems.clear(itemCount, this.itemCount);
+
+            if (itemStates != null && itemCount < itemStates.length) {
+                Arrays.fill(itemStates, itemCount, itemStates.length, 0);
+            }
+        }
+
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * Resets the states of all items. Afterwards, all items are enabled, not selected and have the
+     * state 0.
+     */
+    public final void clearStates() {
+        selectedItems.clear();
+        disabledItems.clear();
+        itemStates = null;
+    }
+
+    /**
+     * Returns, whether the data of a specific item is resident, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return True, if the data of the given item is resident, false otherwise
+     */
+    public final boolean isResident(final int index) {
+        ensureIndexIsValid(index);
+        List<DataType> page = pages.get(getPageIndex(index));
+        return page != null && index - getPageOffset(getPageIndex(index)) < page.size();
+    }
+
+    /**
+     * Returns the data of a specific item. Accessing an item marks its page as most recently used.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return The data of the given item as an instance of the generic type DataType or null, if
+     * the item is not resident
+     */
+    @Nullable
+    public final DataType getData(final int index) {
+        ensureIndexIsValid(index);
+        int pageIndex = getPageIndex(index);
+        List<DataType> page = pages.get(pageIndex);
+        int pageItemIndex = index - getPageOffset(pageIndex);
+        return page != null && pageItemIndex < page.size() ? page.get(pageItemIndex) : null;
+    }
+
+    /**
+     * Marks a specific page as requested, unless it is already resident or has already been
+     * requested.
+     *
+     * @param pageIndex
+     *         The index of the page as an {@link Integer} value
+     * @return True, if the page has been marked as requested and should be loaded, false otherwise
+     */
+    public final boolean request(final int pageIndex) {
+        if (pageIndex < 0 || pageIndex >= getPageCount() || pages.containsKey(pageIndex)) {
+            return false;
+        }
+
+        return requestedPages.add(pageIndex);
+    }
+
+    /**
+     * Returns, whether a specific page has been requested, but not loaded yet, or not.
+     *
+     * @param pageIndex
+     *         The index of the page as an {@link Integer} value
+     * @return True, if the given page has been requested, but not loaded yet, false otherwise
+     */
+    public final boolean isRequested(final int pageIndex) {
+        return requestedPages.contains(pageIndex);
+    }
+
+    /**
+     * Discards the request of a specific page, e.g. because it could not be loaded.
+     *
+     * @param pageIndex
+     *         The index of the page as an {@link Integer} value
+     */
+    public final void discardRequest(final int pageIndex) {
+        requestedPages.remove(pageIndex);
+    }
+
+    /**
+     * Stores the data of a specific page, which has been loaded. If the maximum number of
+     * resident pages is exceeded, the least recently used page is evicted.
+     *
+     * @param pageIndex
+     *         The index of the page as an {@link Integer} value
+     * @param data
+     *         A list, which contains the data of the page's items, as an instance of the type
+     *         {@link List}. The list may not be null
+     * @return The index of the page, which has been evicted, as an {@link Integer} value or -1,
+     * if no page has been evicted
+     */
+    public final int putPage(final int pageIndex, @NonNull final List<DataType> data) {
+        Condition.INSTANCE.ensureNotNull(data, "The data may not be null");
+        requestedPages.remove(pageIndex);
+        pages.put(pageIndex, data);
+
+        if (pages.size() > maxResidentPages) {
+            Iterator<Integer> iterator = pages.keySet().iterator();
+            int evictedPageIndex = iterator.next();
+            iterator.remove();
+            return evictedPageIndex;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the number of pages, which are currently resident.
+     *
+     * @return The number of pages, which are currently resident, as an {@link Integer} value
+     */
+    public final int getResidentPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Returns, whether a specific item is selected, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return True, if the given item is selected, false otherwise
+     */
+    public final boolean isSelected(final int index) {
+        ensureIndexIsValid(index);
+        return selectedItems.get(index);
+    }
+
+    /**
+     * Sets, whether a specific item is selected, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param selected
+     *         True, if the item should be selected, false otherwise
+     */
+    public final void setSelected(final int index, final boolean selected) {
+        ensureIndexIsValid(index);
+        selectedItems.set(index, selected);
+    }
+
+    /**
+     * Returns the number of selected items.
+     *
+     * @return The number of selected items as an {@link Integer} value
+     */
+    public final int getSelectedItemCount() {
+        return selectedItems.cardinality();
+    }
+
+    /**
+     * Returns, whether a specific item is enabled, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return True, if the given item is enabled, false otherwise
+     */
+    public final boolean isEnabled(final int index) {
+        ensureIndexIsValid(index);
+        return !disabledItems.get(index);
+    }
+
+    /**
+     * Sets, whether a specific item is enabled, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param enabled
+     *         True, if the item should be enabled, false otherwise
+     */
+    public final void setEnabled(final int index, final boolean enabled) {
+        ensureIndexIsValid(index);
+        disabledItems.set(index, !enabled);
+    }
+
+    /**
+     * Returns the number of enabled items.
+     *
+     * @return The number of enabled items as an {@link Integer} value
+     */
+    public final int getEnabledItemCount() {
+        return itemCount - disabledItems.cardinality();
+    }
+
+    /**
+     * Returns the state of a specific item.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return The state of the given item as an {@link Integer} value
+     */
+    public final int getItemState(final int index) {
+        ensureIndexIsValid(index);
+        return itemStates != null && index < itemStates.length ? itemStates[index] : 0;
+    }
+
+    /**
+     * Sets the state of a specific item.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param state
+     *         The state, which should be set, as an {@link Integer} value. The state must be at
+     *         least 0
+     */
+    public final void setItemState(final int index, final int state) {
+        ensureIndexIsValid(index);
+        Condition.INSTANCE.ensureAtLeast(state, 0, "The state must be at least 0");
+
+        if (itemStates == null || index >= itemStates.length) {
+            if (state == 0) {
+                return;
+            }
+
+            itemStates = itemStates == null ? new int[itemCount] :
+                    Arrays.copyOf(itemStates, itemCount);
+        }
+
+        itemStates[index] = state;
+    }
+
+}
@@ -27,13 +27,18 @@ import android.widget.AdapterView;
 import android.widget.ExpandableListView;
 import android.widget.ListAdapter;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import androidx.annotation.CallSuper;
@@ -42,17 +47,29 @@ import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.annotation.VisibleForTesting;
 import androidx.core.util.Pair;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
+import de.mrapp.android.adapter.ChangePayload;
+import de.mrapp.android.adapter.InstanceStateStore;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
 import de.mrapp.android.adapter.RestoreInstanceStateException;
+import de.mrapp.android.adapter.SnapshotFile;
+import de.mrapp.android.adapter.datastructure.IndexList;
+import de.mrapp.android.adapter.datastructure.Snapshot;
 import de.mrapp.android.adapter.datastructure.UnmodifiableList;
+import de.mrapp.android.adapter.datastructure.group.ChildAdapterFactory;
 import de.mrapp.android.adapter.datastructure.group.Group;
 import de.mrapp.android.adapter.datastructure.group.GroupIterator;
 import de.mrapp.android.adapter.datastructure.group.GroupListIterator;
+import de.mrapp.android.adapter.datastructure.group.GroupSnapshot;
+import de.mrapp.android.adapter.datastructure.group.PackedPositionIndex;
 import de.mrapp.android.adapter.datastructure.group.UnmodifiableGroupList;
 import de.mrapp.android.adapter.decorator.AbstractExpandableListDecorator;
 import de.mrapp.android.adapter.list.selectable.MultipleChoiceListAdapterImplementation;
 import de.mrapp.android.adapter.util.AdapterViewUtil;
+import de.mrapp.android.adapter.util.ListDiffCallback;
+import de.mrapp.android.adapter.util.NotificationScheduler;
+import de.mrapp.android.adapter.util.ThreadUtil;
 import de.mrapp.android.util.logging.LogLevel;
 import de.mrapp.android.util.logging.Logger;
 import de.mrapp.android.util.view.ExpandableGridView;
@@ -205,6 +222,30 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
      */
     private transient RecyclerView expandableRecyclerView;
 
+    /**
+     * The callback, which is used to calculate the difference between the adapter's group items
+     * before and after they have been sorted or filtered, or null, if no callback is used.
+     */
+    private transient DiffUtil.ItemCallback<GroupType> groupDiffCallback;
+
+    /**
+     * The callback, which is used to calculate the difference between the adapter's child items
+     * before and after they have been sorted or filtered, or null, if no callback is used.
+     */
+    private transient DiffUtil.ItemCallback<ChildType> childDiffCallback;
+
+    /**
+     * The decorator, which is shared by the adapters, which are used to manage the children of the
+     * adapter's groups.
+     */
+    private final transient NullObjectDecorator<ChildType> childDecorator;
+
+    /**
+     * The factory, which is used to create the adapters, which manage the children of the
+     * adapter's groups, when they are accessed for the first time.
+     */
+    private final transient ChildAdapterFactory<ChildType> childAdapterFactory;
+
     /**
      * True, if duplicate children, regardless from the group they belong to, are allowed, false
      * otherwise.
@@ -235,6 +276,47 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
      */
     private boolean adapterViewTainted;
 
+    /**
+     * The index, which maps the flattened positions of the adapter's groups and children to the
+     * corresponding group and child indices.
+     */
+    private transient PackedPositionIndex packedPositionIndex;
+
+    /**
+     * The scheduler, which is used to dispatch notifications about changed items once per frame,
+     * if the adapter is attached to an {@link ExpandableListView}, or null, if it has not been
+     * created yet.
+     */
+    private transient NotificationScheduler notificationScheduler;
+
+    /**
+     * The store, which is used to write the saved state to a file instead of putting it into the
+     * bundle, or null, if the saved state is put into the bundle.
+     */
+    private transient InstanceStateStore instanceStateStore;
+
+    /**
+     * The handle, which refers to the file, the saved state has most recently been written to or
+     * restored from, or null, if no such file exists.
+     */
+    private transient Bundle instanceStateHandle;
+
+    /**
+     * The executor, which is used to restore the adapter's state in the background.
+     */
+    private transient Executor restoreExecutor;
+
+    /**
+     * A counter, which is incremented whenever the adapter's state is restored. It allows to
+     * recognize states, which have been restored in the background, but have been superseded.
+     */
+    private transient int restoreGeneration;
+
+    /**
+     * True, if the adapter's state is currently restored in the background, false otherwise.
+     */
+    private transient boolean restoring;
+
     /**
      * Notifies all listeners, which have been registered to be notified, when an item of the
      * adapter has been clicked by the user, about a group, which has been clicked.
@@ -537,15 +619,34 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
      * @return The adapter, which has been created, as an instance of the type {@link
      * MultipleChoiceListAdapter}. The adapter may not be null
      */
-    @CallSuper
     private MultipleChoiceListAdapter<ChildType> createChildAdapter() {
         MultipleChoiceListAdapter<ChildType> childAdapter =
-                new MultipleChoiceListAdapterImplementation<>(context,
-                        new NullObjectDecorator<ChildType>());
+                new MultipleChoiceListAdapterImplementation<>(context, childDecorator);
         childAdapter.setLogLevel(LogLevel.OFF);
+        childAdapter.allowDuplicates(allowDuplicateChildren);
+        onChildAdapterCreated(childAdapter);
         return childAdapter;
     }
 
+    /**
+     * Creates and returns a factory, which allows to create the adapters, which manage the
+     * children of the adapter's groups, when they are accessed for the first time.
+     *
+     * @return The factory, which has been created, as an instance of the type {@link
+     * ChildAdapterFactory}. The factory may not be null
+     */
+    private ChildAdapterFactory<ChildType> createChildAdapterFactory() {
+        return new ChildAdapterFactory<ChildType>() {
+
+            @NonNull
+            @Override
+            public MultipleChoiceListAdapter<ChildType> createChildAdapter() {
+                return AbstractExpandableListAdapter.this.createChildAdapter();
+            }
+
+        };
+    }
+
     /**
      * Creates and returns a listener, which allows to trigger the expansion state of a group, when
      * it is clicked by the user.
@@ -829,92 +930,76 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     }
 
     /**
-     * Creates and returns an {@link OnClickListener}, which is invoked, when a group item of the
-     * adapter has been clicked.
+     * Creates and returns an {@link OnClickListener}, which is invoked, when the group or child
+     * item, which is visualized by a specific view holder, has been clicked. The indices of the
+     * item are resolved, when the item is clicked, so that the listener can be reused, when the
+     * view holder is bound to a different item.
      *
-     * @param groupIndex
-     *         The index of the group item, which has been clicked, as an {@link Integer} value
+     * @param viewHolder
+     *         The view holder, which should cause the listener to be invoked, when clicked, as an
+     *         instance of the class {@link ViewHolder}. The view holder may not be null
      * @return The listener, which has been created, as an instance of the type {@link
      * OnClickListener}
      */
-    private OnClickListener createRecyclerViewOnGroupClickListener(final int groupIndex) {
+    private OnClickListener createRecyclerViewOnItemClickListener(
+            @NonNull final ViewHolder viewHolder) {
         return new OnClickListener() {
 
             @Override
             public void onClick(final View v) {
-                GroupType group = getGroup(groupIndex);
-                notifyOnGroupClicked(group, groupIndex);
-            }
+                int position = viewHolder.getAdapterPosition();
 
-        };
-    }
+                if (position != RecyclerView.NO_POSITION) {
+                    int groupIndex = getGroupIndexOfPackedPosition(position);
+                    int childIndex = getChildIndexOfPackedPosition(groupIndex, position);
+                    GroupType group = getGroup(groupIndex);
 
-    /**
-     * Creates and returns an {@link OnClickListener}, which is invoked, when a group item of the
-     * adapter has been clicked.
-     *
-     * @param groupIndex
-     *         The index of the group item, which has been clicked, as an {@link Integer} value
-     * @return The listener, which has been created, as an instance of the type {@link
-     * OnClickListener}
-     */
-    private OnClickListener createRecyclerViewOnChildClickListener(final int groupIndex,
-                                                                   final int childIndex) {
-        return new OnClickListener() {
-
-            @Override
-            public void onClick(final View v) {
-                GroupType group = getGroup(groupIndex);
-                ChildType child = getChild(groupIndex, childIndex);
-                notifyOnChildClicked(child, childIndex, group, groupIndex);
+                    if (childIndex != -1) {
+                        ChildType child = getChild(groupIndex, childIndex);
+                        notifyOnChildClicked(child, childIndex, group, groupIndex);
+                    } else {
+                        notifyOnGroupClicked(group, groupIndex);
+                    }
+                }
             }
 
         };
     }
 
     /**
-     * Creates and returns an {@link OnLongClickListener}, which is invoked, when a group item of
-     * the adapter has been long-clicked.
+     * Creates and returns an {@link OnLongClickListener}, which is invoked, when the group or
+     * child item, which is visualized by a specific view holder, has been long-clicked. The
+     * indices of the item are resolved, when the item is long-clicked, so that the listener can be
+     * reused, when the view holder is bound to a different item.
      *
-     * @param groupIndex
-     *         The index of the group item, which has been long-clicked, as an {@link Integer}
-     *         value
+     * @param viewHolder
+     *         The view holder, which should cause the listener to be invoked, when long-clicked,
+     *         as an instance of the class {@link ViewHolder}. The view holder may not be null
      * @return The listener, which has been created, as an instance of the type {@link
      * OnLongClickListener}
      */
-    private OnLongClickListener createRecyclerViewOnGroupLongClickListener(final int groupIndex) {
+    private OnLongClickListener createRecyclerViewOnItemLongClickListener(
+            @NonNull final ViewHolder viewHolder) {
         return new OnLongClickListener() {
 
             @Override
             public boolean onLongClick(final View v) {
-                GroupType group = getGroup(groupIndex);
-                return notifyOnGroupLongClicked(group, groupIndex);
-            }
+                int position = viewHolder.getAdapterPosition();
 
-        };
-    }
+                if (position != RecyclerView.NO_POSITION) {
+                    int groupIndex = getGroupIndexOfPackedPosition(position);
+                    int childIndex = getChildIndexOfPackedPosition(groupIndex, position);
+                    GroupType group = getGroup(groupIndex);
 
-    /**
-     * Creates and returns an {@link OnLongClickListener}, which is invoked, when a child item of
-     * the adapter has been long-clicked.
-     *
-     * @param groupIndex
-     *         The index of the group, the child item, which has been long-clicked, belongs to, as
-     *         an {@link Integer} value
-     * @param childIndex
-     *         The index of the child item which has been long-clicked, as an {@link Integer} value
-     * @return The listener, which has been created, as an instance of the type {@link
-     * OnLongClickListener}
-     */
-    private OnLongClickListener createRecyclerViewOnChildLongClickListener(final int groupIndex,
-                                                                           final int childIndex) {
-        return new OnLongClickListener() {
+                    if (childIndex != -1) {
+                        ChildType child = getChild(groupIndex, childIndex);
+                        return notifyOnChildLongClicked(child, childIndex, group, groupIndex);
+                    } else {
+                        return notifyOnGroupLongClicked(group, groupIndex);
+                    }
+                }
 
-            @Override
-            public boolean onLongClick(final View v) {
-                GroupType group = getGroup(groupIndex);
-                ChildType child = getChild(groupIndex, childIndex);
-                return notifyOnChildLongClicked(child, childIndex, group, groupIndex);
+                return false;
             }
 
         };
@@ -1007,43 +1092,136 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     }
 
     /**
-     * Returns a pair, which contains the group and child index of the item, which corresponds to a
-     * specific packed position.
+     * Returns the number of flattened positions, which are occupied by a specific group, i.e. 1
+     * for the group itself plus the number of its children, if it is expanded.
+     *
+     * @param groupIndex
+     *         The index of the group, whose size should be returned, as an {@link Integer} value.
+     *         The index must be between 0 and the value of the method
+     *         <code>getGroupCount():int</code> - 1
+     * @return The number of flattened positions, which are occupied by the given group, as an
+     * {@link Integer} value
+     */
+    private int getGroupSize(final int groupIndex) {
+        return isGroupExpanded(groupIndex) ? getChildCount(groupIndex) + 1 : 1;
+    }
+
+    /**
+     * Returns the index, which maps the flattened positions of the adapter's groups and children
+     * to the corresponding group and child indices. If the index has been invalidated, it is
+     * rebuilt.
+     *
+     * @return The index as an instance of the class {@link PackedPositionIndex}. The index may not
+     * be null
+     */
+    @NonNull
+    private PackedPositionIndex getPackedPositionIndex() {
+        if (!packedPositionIndex.isValid()) {
+            int groupCount = getGroupCount();
+            packedPositionIndex.reset(groupCount);
+
+            for (int i = 0; i < groupCount; i++) {
+                packedPositionIndex.setSize(i, getGroupSize(i));
+            }
+
+            packedPositionIndex.build();
+        }
+
+        return packedPositionIndex;
+    }
+
+    /**
+     * Returns the index of the group, which corresponds to a specific packed position. If the
+     * packed position belongs to a child, the index of the group, the child belongs to, is
+     * returned.
      *
      * @param packedPosition
-     *         The packed position of the item, whose group and child index should be returned, as
-     *         an {@link Integer} value
-     * @return A pair, which contains the group and child index of the item, which corresponds to
-     * the given packed position, as an instance of the class {@link Pair}
+     *         The packed position of the item, whose group index should be returned, as an {@link
+     *         Integer} value
+     * @return The index of the group, which corresponds to the given packed position, as an {@link
+     * Integer} value or -1, if the packed position is invalid
+     */
+    private int getGroupIndexOfPackedPosition(final int packedPosition) {
+        return getPackedPositionIndex().getGroupIndex(packedPosition);
+    }
+
+    /**
+     * Returns the index of the child, which corresponds to a specific packed position.
+     *
+     * @param groupIndex
+     *         The index of the group, which corresponds to the packed position, as an {@link
+     *         Integer} value. The index must be between 0 and the value of the method
+     *         <code>getGroupCount():int</code> - 1
+     * @param packedPosition
+     *         The packed position of the item, whose child index should be returned, as an {@link
+     *         Integer} value
+     * @return The index of the child, which corresponds to the given packed position, as an {@link
+     * Integer} value or -1, if the packed position belongs to a group
+     */
+    private int getChildIndexOfPackedPosition(final int groupIndex, final int packedPosition) {
+        return packedPosition - getPackedPositionIndex().getPosition(groupIndex) - 1;
+    }
+
+    /**
+     * Notifies all observers, that an item has been changed. If the adapter is attached to an
+     * {@link ExpandableListView}, the notification is deferred until the next frame and merged with
+     * other notifications.
+     */
+    private void scheduleDataSetChanged() {
+        if (adapterView != null) {
+            if (notificationScheduler == null) {
+                notificationScheduler = new NotificationScheduler(this);
+            }
+
+            notificationScheduler.scheduleDataSetChanged();
+        } else {
+            notifyDataSetChanged();
+        }
+    }
+
+    /**
+     * Notifies all observers, that the adapter's underlying data has been changed. Pending
+     * notifications are discarded, as they are superseded by this notification.
+     */
+    private void dispatchDataSetChanged() {
+        if (notificationScheduler != null) {
+            notificationScheduler.discard();
+        }
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Creates and returns an immutable list, which contains the indices of all groups, which are
+     * either expanded or collapsed.
+     *
+     * @param expanded
+     *         True, if the indices of the expanded groups should be returned, false, if the indices
+     *         of the collapsed groups should be returned
+     * @return The list, which has been created, as an instance of the class {@link IndexList}. The
+     * list may not be null
      */
     @NonNull
-    private Pair<Integer, Integer> getPackedPositionGroupAndChild(final int packedPosition) {
-        int currentPosition = packedPosition;
-        int groupIndex = -1;
-        int childIndex = -1;
+    private IndexList createGroupIndexList(final boolean expanded) {
+        int groupCount = getGroupCount();
+        int count = 0;
 
-        for (int i = 0; i < getGroupCount(); i++) {
-            if (currentPosition == 0) {
-                groupIndex = i;
-                break;
-            } else {
-                currentPosition--;
+        for (int i = 0; i < groupCount; i++) {
+            if (isGroupExpanded(i) == expanded) {
+                count++;
+            }
+        }
 
-                if (isGroupExpanded(i)) {
-                    int childCount = getChildCount(i);
+        int[] indices = new int[count];
+        int position = 0;
 
-                    if (currentPosition < childCount) {
-                        groupIndex = i;
-                        childIndex = currentPosition;
-                        break;
-                    } else {
-                        currentPosition -= childCount;
-                    }
-                }
+        for (int i = 0; i < groupCount && position < count; i++) {
+            if (isGroupExpanded(i) == expanded) {
+                indices[position++] = i;
             }
         }
 
-        return new Pair<>(groupIndex, childIndex);
+        return new IndexList(indices);
     }
 
     /**
@@ -1066,6 +1244,19 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         return logger;
     }
 
+    /**
+     * Returns, whether messages of a specific log level are currently logged, or not. This allows
+     * to omit building messages, which would be discarded anyway.
+     *
+     * @param logLevel
+     *         The log level of the messages as a value of the enum {@link LogLevel}. The log level
+     *         may not be null
+     * @return True, if messages of the given log level are logged, false otherwise
+     */
+    protected final boolean isLoggable(@NonNull final LogLevel logLevel) {
+        return logLevel.getRank() >= getLogLevel().getRank();
+    }
+
     /**
      * Returns the adapter, which manages the adapter's group items.
      *
@@ -1144,7 +1335,448 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
      */
     protected final void notifyObserversOnDataSetChanged() {
         if (isNotifiedOnChange()) {
-            notifyDataSetChanged();
+            dispatchDataSetChanged();
+        }
+    }
+
+    /**
+     * Creates and returns a callback, which allows to compare the items of lists, which contain
+     * the adapter's group and child items at their flattened positions, by using the callbacks,
+     * which have been set for the group and child items.
+     *
+     * @return The callback, which has been created, as an instance of the class {@link
+     * DiffUtil.ItemCallback}
+     */
+    private DiffUtil.ItemCallback<Pair<GroupType, ChildType>> createFlattenedDiffCallback() {
+        return new DiffUtil.ItemCallback<Pair<GroupType, ChildType>>() {
+
+            @Override
+            public boolean areItemsTheSame(@NonNull final Pair<GroupType, ChildType> oldItem,
+                                           @NonNull final Pair<GroupType, ChildType> newItem) {
+                if ((oldItem.second == null) != (newItem.second == null) ||
+                        !groupDiffCallback.areItemsTheSame(oldItem.first, newItem.first)) {
+                    return false;
+                }
+
+                return oldItem.second == null ||
+                        childDiffCallback.areItemsTheSame(oldItem.second, newItem.second);
+            }
+
+            @Override
+            public boolean areContentsTheSame(@NonNull final Pair<GroupType, ChildType> oldItem,
+                                              @NonNull final Pair<GroupType, ChildType> newItem) {
+                if (oldItem.second == null) {
+                    return groupDiffCallback.areContentsTheSame(oldItem.first, newItem.first);
+                }
+
+                return childDiffCallback.areContentsTheSame(oldItem.second, newItem.second);
+            }
+
+            @Nullable
+            @Override
+            public Object getChangePayload(@NonNull final Pair<GroupType, ChildType> oldItem,
+                                           @NonNull final Pair<GroupType, ChildType> newItem) {
+                if (oldItem.second == null) {
+                    return groupDiffCallback.getChangePayload(oldItem.first, newItem.first);
+                }
+
+                return childDiffCallback.getChangePayload(oldItem.second, newItem.second);
+            }
+
+        };
+    }
+
+    /**
+     * Returns a list, which contains the adapter's group and child items at their flattened
+     * positions. Each group item is represented by a pair, which does not contain a child item,
+     * and each child item of an expanded group is represented by a pair, which contains the child
+     * item and the group item, it belongs to.
+     *
+     * @return A list, which contains the adapter's group and child items at their flattened
+     * positions, as an instance of the type {@link List}
+     */
+    private List<Pair<GroupType, ChildType>> getFlattenedItems() {
+        List<Pair<GroupType, ChildType>> items = new ArrayList<>(getItemCount());
+
+        for (int i = 0; i < getGroupCount(); i++) {
+            GroupType group = getGroup(i);
+            items.add(new Pair<GroupType, ChildType>(group, null));
+
+            if (isGroupExpanded(i)) {
+                for (int j = 0; j < getChildCount(i); j++) {
+                    items.add(new Pair<>(group, getChild(i, j)));
+                }
+            }
+        }
+
+        return items;
+    }
+
+    /**
+     * Writes a specific saved state to a file by using the store, which is used for this purpose,
+     * if any.
+     *
+     * @param savedState
+     *         The saved state, which should be written, as an instance of the class {@link
+     *         Bundle}. The saved state may not be null
+     * @return The bundle, which should be put into the outgoing bundle, as an instance of the class
+     * {@link Bundle}. This is either a handle, which refers to the file, or the given saved state,
+     * if no store is used or if the file could not be written
+     */
+    @NonNull
+    private Bundle writeToInstanceStateStore(@NonNull final Bundle savedState) {
+        if (instanceStateStore != null) {
+            try {
+                Bundle handle = instanceStateStore.write(savedState);
+
+                if (instanceStateHandle != null) {
+                    instanceStateStore.delete(instanceStateHandle);
+                }
+
+                instanceStateHandle = handle;
+                return handle;
+            } catch (IOException e) {
+                String message = "Failed to write the saved instance state to a file. It is " +
+                        "stored within the bundle instead";
+                getLogger().logWarn(getClass(), message, e);
+            }
+        }
+
+        return savedState;
+    }
+
+    /**
+     * Reads the saved state, a specific handle refers to, by using the store, which is used to
+     * write the saved state to files. This method may be called on any thread.
+     *
+     * @param handle
+     *         The handle as an instance of the class {@link Bundle}. The handle may not be null
+     * @return The saved state, which has been read, as an instance of the class {@link Bundle} or
+     * null, if the file, the given handle refers to, does not exist anymore
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if no store is used or if the file could not be read
+     */
+    @Nullable
+    private Bundle readFromInstanceStateStore(@NonNull final Bundle handle)
+            throws RestoreInstanceStateException {
+        if (instanceStateStore == null) {
+            throw new RestoreInstanceStateException("The saved instance state has been " +
+                    "written to a file, but no instance state store is used");
+        }
+
+        try {
+            Bundle savedState = instanceStateStore.read(handle);
+
+            if (savedState == null) {
+                String message = "The file, the saved instance state has been written to, does " +
+                        "not exist anymore. The current state is retained";
+                getLogger().logWarn(getClass(), message);
+            }
+
+            return savedState;
+        } catch (IOException e) {
+            throw new RestoreInstanceStateException(e);
+        }
+    }
+
+    /**
+     * Reads the saved state, a specific handle, which has been passed to the adapter when restoring
+     * it from a {@link SnapshotFile}, refers to. This method may be called on any thread.
+     *
+     * @param handle
+     *         The handle as an instance of the class {@link Bundle}. The handle may not be null
+     * @return The saved state, which has been read, as an instance of the class {@link Bundle} or
+     * null, if the file, the given handle refers to, does not exist anymore or if the snapshot is
+     * stale
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if the file could not be read
+     */
+    @Nullable
+    private Bundle readFromSnapshotFile(@NonNull final Bundle handle)
+            throws RestoreInstanceStateException {
+        try {
+            Bundle savedState = SnapshotFile.read(handle, getContext().getClassLoader());
+
+            if (savedState == null) {
+                String message = "The snapshot does not exist anymore or is stale. The current " +
+                        "state is retained";
+                getLogger().logWarn(getClass(), message);
+            }
+
+            return savedState;
+        } catch (IOException e) {
+            throw new RestoreInstanceStateException(e);
+        }
+    }
+
+    /**
+     * Returns the handle, which refers to the file, a saved state, which has been stored within a
+     * specific bundle by using a specific key, has been written to.
+     *
+     * @param savedInstanceState
+     *         The bundle, which contains the saved state, as an instance of the class {@link
+     *         Bundle}. The bundle may not be null
+     * @param key
+     *         The key, which has been used to store the saved state, as a {@link String}. The key
+     *         may neither be null, nor empty
+     * @return The handle as an instance of the class {@link Bundle} or null, if the saved state
+     * has not been written to a file
+     */
+    @Nullable
+    private static Bundle getInstanceStateHandle(@NonNull final Bundle savedInstanceState,
+                                                 @NonNull final String key) {
+        Bundle savedState = savedInstanceState.getBundle(key);
+        return savedState != null && InstanceStateStore.isHandle(savedState) ? savedState : null;
+    }
+
+    /**
+     * Returns the saved state, which has been stored within a specific bundle by using a specific
+     * key. If the saved state has been written to a file, or if it should be restored from a
+     * snapshot, it is read from the file.
+     *
+     * @param savedInstanceState
+     *         The bundle, which contains the saved state, as an instance of the class {@link
+     *         Bundle}. The bundle may not be null
+     * @param key
+     *         The key, which has been used to store the saved state, as a {@link String}. The key
+     *         may neither be null, nor empty
+     * @return The saved state as an instance of the class {@link Bundle} or null, if the file, the
+     * saved state has been written to, does not exist anymore
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if the bundle does not contain a saved state or if
+     *         the file could not be read
+     */
+    @Nullable
+    private Bundle getSavedState(@NonNull final Bundle savedInstanceState,
+                                 @NonNull final String key) throws RestoreInstanceStateException {
+        return resolveSavedState(savedInstanceState.getBundle(key), key);
+    }
+
+    /**
+     * Resolves a saved state, which has been retrieved from the bundle, the caller has passed to
+     * the adapter. If the saved state is a handle, which refers to a file or a snapshot, the file
+     * is read. Unlike the caller's bundle, the given bundle is not shared with the UI thread.
+     * Therefore, this method may be called on any thread.
+     *
+     * @param savedState
+     *         The saved state or handle, which has been retrieved from the caller's bundle, as an
+     *         instance of the class {@link Bundle} or null, if the bundle does not contain a saved
+     *         state
+     * @param key
+     *         The key, which has been used to store the saved state, as a {@link String}. The key
+     *         may neither be null, nor empty
+     * @return The saved state as an instance of the class {@link Bundle} or null, if the file, the
+     * saved state has been written to, does not exist anymore
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if the given saved state is null or if the file
+     *         could not be read
+     */
+    @Nullable
+    private Bundle resolveSavedState(@Nullable final Bundle savedState,
+                                     @NonNull final String key)
+            throws RestoreInstanceStateException {
+        if (savedState == null) {
+            throw new RestoreInstanceStateException(
+                    "Saved instance state does not contain bundle with key \"" + key + "\"");
+        } else if (InstanceStateStore.isHandle(savedState)) {
+            return readFromInstanceStateStore(savedState);
+        } else if (SnapshotFile.isHandle(savedState)) {
+            return readFromSnapshotFile(savedState);
+        }
+
+        return savedState;
+    }
+
+    /**
+     * Restores the child adapters, whose states are contained by a specific saved state, as
+     * adapters, which are not yet used by the adapter. Furthermore, the saved state of the adapter,
+     * which manages the group items, is decoded. This method may be called on any thread.
+     *
+     * @param savedState
+     *         The saved state as an instance of the class {@link Bundle}. The saved state may not
+     *         be null
+     * @return A map, which contains the restored child adapters, mapped to the indices of the
+     * groups, they belong to, as an instance of the type {@link Map}. The map may not be null
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if the state of a child adapter could not be
+     *         restored
+     */
+    @SuppressWarnings("deprecation")
+    @NonNull
+    private Map<Integer, MultipleChoiceListAdapter<ChildType>> readChildAdapters(
+            @NonNull final Bundle savedState) throws RestoreInstanceStateException {
+        Map<Integer, MultipleChoiceListAdapter<ChildType>> childAdapters = new HashMap<>();
+        Bundle groupAdapterState = savedState.getBundle(GROUP_ADAPTER_BUNDLE_KEY);
+
+        if (groupAdapterState != null) {
+            for (String groupAdapterKey : groupAdapterState.keySet()) {
+                groupAdapterState.get(groupAdapterKey);
+            }
+
+            String childAdapterKey = String.format(CHILD_ADAPTER_BUNDLE_KEY, 0);
+
+            for (int i = 0; savedState.containsKey(childAdapterKey); i++) {
+                MultipleChoiceListAdapter<ChildType> childAdapter = createChildAdapter();
+                childAdapter.onRestoreInstanceState(savedState, childAdapterKey);
+                childAdapters.put(i, childAdapter);
+                childAdapterKey = String.format(CHILD_ADAPTER_BUNDLE_KEY, i + 1);
+            }
+        }
+
+        return childAdapters;
+    }
+
+    /**
+     * Applies a specific saved state on the adapter. All observers are notified once afterwards.
+     * This method must be called on the UI thread.
+     *
+     * @param savedState
+     *         The saved state, which should be applied, as an instance of the class {@link Bundle}.
+     *         The saved state may not be null
+     * @param childAdapters
+     *         A map, which contains child adapters, which have already been restored, mapped to
+     *         the indices of the groups, they belong to, as an instance of the type {@link Map}.
+     *         The map may not be null. The child adapters of all other groups are restored by
+     *         this method
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if the state of an adapter could not be restored
+     */
+    private void applySavedState(@NonNull final Bundle savedState,
+                                 @NonNull final Map<Integer, MultipleChoiceListAdapter<ChildType>>
+                                         childAdapters) throws RestoreInstanceStateException {
+        if (savedState.containsKey(GROUP_ADAPTER_BUNDLE_KEY)) {
+            groupAdapter.onRestoreInstanceState(savedState, GROUP_ADAPTER_BUNDLE_KEY);
+
+            for (int i = 0; i < groupAdapter.getCount(); i++) {
+                Group<GroupType, ChildType> group = groupAdapter.getItem(i);
+                MultipleChoiceListAdapter<ChildType> childAdapter = childAdapters.get(i);
+                String childAdapterKey = String.format(CHILD_ADAPTER_BUNDLE_KEY, i);
+
+                if (childAdapter == null && savedState.containsKey(childAdapterKey)) {
+                    childAdapter = createChildAdapter();
+                    childAdapter.onRestoreInstanceState(savedState, childAdapterKey);
+                }
+
+                group.setChildAdapter(childAdapter);
+                group.setChildAdapterFactory(childAdapterFactory);
+            }
+
+            invalidatePackedPositions();
+        }
+
+        if (savedState.containsKey(ADAPTER_VIEW_STATE_BUNDLE_KEY)) {
+            if (adapterView != null) {
+                AdapterViewUtil.onRestoreInstanceState(adapterView, savedState,
+                        ADAPTER_VIEW_STATE_BUNDLE_KEY);
+            } else if (expandableGridView != null) {
+                AdapterViewUtil.onRestoreInstanceState(expandableGridView, savedState,
+                        ADAPTER_VIEW_STATE_BUNDLE_KEY);
+            } else if (expandableRecyclerView != null) {
+                expandableRecyclerView.getLayoutManager().onRestoreInstanceState(
+                        savedState.getParcelable(ADAPTER_VIEW_STATE_BUNDLE_KEY));
+            }
+        }
+
+        allowDuplicateChildren(savedState.getBoolean(ALLOW_DUPLICATE_CHILDREN_BUNDLE_KEY));
+        triggerGroupExpansionOnClick(
+                savedState.getBoolean(TRIGGER_GROUP_EXPANSION_ON_CLICK_BUNDLE_KEY));
+        setLogLevel(LogLevel.fromRank(savedState.getInt(LOG_LEVEL_BUNDLE_KEY)));
+        onRestoreInstanceState(savedState);
+        dispatchDataSetChanged();
+        getLogger().logDebug(getClass(), "Restored instance state");
+    }
+
+    /**
+     * Publishes the result of restoring the adapter's state in the background on the UI thread,
+     * unless a more recent restore has been started in the meantime.
+     *
+     * @param generation
+     *         The generation of the restore as an {@link Integer} value
+     * @param handle
+     *         The handle, which refers to the file, the saved state has been read from, as an
+     *         instance of the class {@link Bundle} or null, if the saved state has not been read
+     *         from a file
+     * @param savedState
+     *         The saved state, which has been read, as an instance of the class {@link Bundle} or
+     *         null, if the saved state is not available
+     * @param childAdapters
+     *         A map, which contains the child adapters, which have been restored, as an instance
+     *         of the type {@link Map} or null, if the saved state is not available
+     * @param exception
+     *         The exception, which has been thrown while reading the saved state, as an instance
+     *         of the class {@link Exception} or null, if no exception has been thrown
+     */
+    private void publishRestoredState(final int generation, @Nullable final Bundle handle,
+                                      @Nullable final Bundle savedState,
+                                      @Nullable final Map<Integer,
+                                              MultipleChoiceListAdapter<ChildType>> childAdapters,
+                                      @Nullable final Exception exception) {
+        if (generation == restoreGeneration) {
+            restoring = false;
+
+            if (exception != null) {
+                getLogger().logError(getClass(), "Failed to restore instance state", exception);
+                dispatchDataSetChanged();
+            } else if (savedState != null && childAdapters != null) {
+                if (handle != null) {
+                    instanceStateHandle = handle;
+                }
+
+                try {
+                    applySavedState(savedState, childAdapters);
+                } catch (Exception e) {
+                    getLogger().logError(getClass(), "Failed to restore instance state", e);
+                    dispatchDataSetChanged();
+                }
+            } else {
+                dispatchDataSetChanged();
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Discarding restored instance state, because it has been superseded";
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
+    /**
+     * Creates and returns a copy of the adapter's group and child items at their flattened
+     * positions, which allows to calculate the difference to the items after they have been
+     * modified. A copy is only created, if callbacks for calculating the difference have been set,
+     * the adapter is attached to a {@link RecyclerView} and automatically notifying about changes
+     * is currently enabled.
+     *
+     * @return A list, which contains the adapter's group and child items, as an instance of the
+     * type {@link List} or null, if the difference should not be calculated
+     */
+    @Nullable
+    protected final List<Pair<GroupType, ChildType>> createDiffSnapshot() {
+        if (groupDiffCallback != null && childDiffCallback != null &&
+                expandableRecyclerView != null && isNotifiedOnChange()) {
+            return getFlattenedItems();
+        }
+
+        return null;
+    }
+
+    /**
+     * Notifies all observers, that the adapter's underlying data has been changed, if automatically
+     * notifying such events is currently enabled. If a copy of the group and child items before
+     * they have been modified is given, only the items, which have been moved, inserted, removed
+     * or changed, are notified about.
+     *
+     * @param snapshot
+     *         A list, which contains the adapter's group and child items before they have been
+     *         modified, as returned by the method <code>createDiffSnapshot():List</code>, or null,
+     *         if all items should be notified about
+     */
+    protected final void notifyObserversOnDataSetChanged(
+            @Nullable final List<Pair<GroupType, ChildType>> snapshot) {
+        if (snapshot != null && groupDiffCallback != null && childDiffCallback != null &&
+                expandableRecyclerView != null && isNotifiedOnChange() &&
+                ListDiffCallback.isDiffFeasible(snapshot.size(), getItemCount())) {
+            DiffUtil.calculateDiff(new ListDiffCallback<>(snapshot, getFlattenedItems(),
+                    createFlattenedDiffCallback()), true).dispatchUpdatesTo(this);
+        } else {
+            notifyObserversOnDataSetChanged();
         }
     }
 
@@ -1160,7 +1792,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             if (expandableRecyclerView != null) {
                 notifyGroupInserted(groupIndex);
             } else {
-                notifyDataSetChanged();
+                dispatchDataSetChanged();
             }
         }
     }
@@ -1177,7 +1809,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             if (expandableRecyclerView != null) {
                 notifyGroupRemoved(groupIndex);
             } else {
-                notifyDataSetChanged();
+                dispatchDataSetChanged();
             }
         }
     }
@@ -1190,11 +1822,27 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
      *         The index of the group, which has been changed, as an {@link Integer} value
      */
     protected final void notifyObserversOnGroupChanged(final int groupIndex) {
+        notifyObserversOnGroupChanged(groupIndex, null);
+    }
+
+    /**
+     * Notifies all observers, that a group has been changed, if notifying such events is currently
+     * enabled. The given payload allows to update the view, which is used to visualize the group,
+     * partially.
+     *
+     * @param groupIndex
+     *         The index of the group, which has been changed, as an {@link Integer} value
+     * @param payload
+     *         An optional payload, which describes the change, as an instance of the class {@link
+     *         Object} or null, if no payload is available
+     */
+    protected final void notifyObserversOnGroupChanged(final int groupIndex,
+                                                       @Nullable final Object payload) {
         if (isNotifiedOnChange()) {
             if (expandableRecyclerView != null) {
-                notifyGroupChanged(groupIndex);
+                notifyGroupChanged(groupIndex, payload);
             } else {
-                notifyDataSetChanged();
+                scheduleDataSetChanged();
             }
         }
     }
@@ -1215,7 +1863,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             if (expandableRecyclerView != null) {
                 notifyChildInserted(groupIndex, childIndex);
             } else {
-                notifyDataSetChanged();
+                dispatchDataSetChanged();
             }
         }
     }
@@ -1239,7 +1887,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             if (expandableRecyclerView != null) {
                 notifyChildRangeInserted(groupIndex, startIndex, childCount);
             } else {
-                notifyDataSetChanged();
+                dispatchDataSetChanged();
             }
         }
     }
@@ -1259,7 +1907,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             if (expandableRecyclerView != null) {
                 notifyChildRemoved(groupIndex, childIndex);
             } else {
-                notifyDataSetChanged();
+                dispatchDataSetChanged();
             }
         }
     }
@@ -1283,7 +1931,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             if (expandableRecyclerView != null) {
                 notifyChildRangeRemoved(groupIndex, startIndex, childCount);
             } else {
-                notifyDataSetChanged();
+                dispatchDataSetChanged();
             }
         }
     }
@@ -1299,11 +1947,30 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
      *         The index of the child, which has been changed, as an {@link Integer} value
      */
     protected final void notifyObserversOnChildChanged(final int groupIndex, final int childIndex) {
+        notifyObserversOnChildChanged(groupIndex, childIndex, null);
+    }
+
+    /**
+     * Notifies all observers, that a child has been changed, if notifying such events is currently
+     * enabled. The given payload allows to update the view, which is used to visualize the child,
+     * partially.
+     *
+     * @param groupIndex
+     *         The index of the group, the child, which has been changed, belongs to, as an {@link
+     *         Integer} value
+     * @param childIndex
+     *         The index of the child, which has been changed, as an {@link Integer} value
+     * @param payload
+     *         An optional payload, which describes the change, as an instance of the class {@link
+     *         Object} or null, if no payload is available
+     */
+    protected final void notifyObserversOnChildChanged(final int groupIndex, final int childIndex,
+                                                       @Nullable final Object payload) {
         if (isNotifiedOnChange()) {
             if (expandableRecyclerView != null) {
-                notifyChildChanged(groupIndex, childIndex);
+                notifyChildChanged(groupIndex, childIndex, payload);
             } else {
-                notifyDataSetChanged();
+                scheduleDataSetChanged();
             }
         }
     }
@@ -1327,7 +1994,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             }
         }
 
-        notifyObserversOnGroupChanged(index);
+        notifyObserversOnGroupChanged(index, ChangePayload.EXPANSION);
 
         if (expanded) {
             notifyObserversOnChildRangeInserted(index, 0, getChildCount(index));
@@ -1399,7 +2066,25 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
      */
     @CallSuper
     protected Group<GroupType, ChildType> createGroup(@NonNull final GroupType group) {
-        return new Group<>(group, createChildAdapter());
+        Group<GroupType, ChildType> groupItem = new Group<>(group);
+        groupItem.setChildAdapterFactory(childAdapterFactory);
+        return groupItem;
+    }
+
+    /**
+     * The method, which is invoked, when an adapter, which manages the children of a group, has
+     * been created. As the adapters are only created, when they are accessed for the first time,
+     * this method may be overridden by subclasses in order to apply settings, which affect the
+     * children of all groups, on the adapter.
+     *
+     * @param childAdapter
+     *         The adapter, which has been created, as an instance of the type {@link
+     *         MultipleChoiceListAdapter}. The adapter may not be null
+     */
+    @CallSuper
+    protected void onChildAdapterCreated(
+            @NonNull final MultipleChoiceListAdapter<ChildType> childAdapter) {
+
     }
 
     /**
@@ -1412,6 +2097,77 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         }
     }
 
+    /**
+     * Invalidates the index, which maps the flattened positions of the adapter's groups and
+     * children to the corresponding group and child indices. This method must be called, when the
+     * order or the number of groups has been changed in a way, which is not covered by the methods
+     * <code>updatePackedPositionsOnGroupInserted(int):void</code> and
+     * <code>updatePackedPositionsOnGroupRemoved(int):void</code>. The index is rebuilt when it is
+     * accessed the next time.
+     */
+    protected final void invalidatePackedPositions() {
+        packedPositionIndex.invalidate();
+    }
+
+    /**
+     * Updates the index, which maps the flattened positions of the adapter's groups and children to
+     * the corresponding group and child indices, when the number of visible children of a specific
+     * group has been changed, e.g. because it has been expanded or collapsed, or because children
+     * have been added, removed or filtered.
+     *
+     * @param groupIndex
+     *         The index of the group, whose visible children have been changed, as an {@link
+     *         Integer} value
+     */
+    protected final void updatePackedPositions(final int groupIndex) {
+        if (packedPositionIndex.isValid()) {
+            if (groupIndex >= 0 && groupIndex < packedPositionIndex.getGroupCount() &&
+                    packedPositionIndex.getGroupCount() == getGroupCount()) {
+                packedPositionIndex.update(groupIndex, getGroupSize(groupIndex));
+            } else {
+                packedPositionIndex.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Updates the index, which maps the flattened positions of the adapter's groups and children to
+     * the corresponding group and child indices, when a group has been inserted. Appending a group
+     * is handled in logarithmic time, otherwise the index is invalidated.
+     *
+     * @param groupIndex
+     *         The index of the group, which has been inserted, as an {@link Integer} value
+     */
+    protected final void updatePackedPositionsOnGroupInserted(final int groupIndex) {
+        if (packedPositionIndex.isValid()) {
+            if (groupIndex == packedPositionIndex.getGroupCount() &&
+                    groupIndex == getGroupCount() - 1) {
+                packedPositionIndex.append(getGroupSize(groupIndex));
+            } else {
+                packedPositionIndex.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Updates the index, which maps the flattened positions of the adapter's groups and children to
+     * the corresponding group and child indices, when a group has been removed. Removing the last
+     * group is handled in constant time, otherwise the index is invalidated.
+     *
+     * @param groupIndex
+     *         The index of the group, which has been removed, as an {@link Integer} value
+     */
+    protected final void updatePackedPositionsOnGroupRemoved(final int groupIndex) {
+        if (packedPositionIndex.isValid()) {
+            if (groupIndex == packedPositionIndex.getGroupCount() - 1 &&
+                    groupIndex == getGroupCount()) {
+                packedPositionIndex.removeLast();
+            } else {
+                packedPositionIndex.invalidate();
+            }
+        }
+    }
+
     /**
      * This method is invoked when the state of the adapter is about to be stored within a bundle.
      *
@@ -1429,43 +2185,95 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
      *         The bundle, which has been previously used to store the state of the adapter, as an
      *         instance of the class {@link Bundle}. The bundle may not be null
      */
-    protected abstract void onRestoreInstanceState(@NonNull final Bundle savedState);
+    protected abstract void onRestoreInstanceState(@NonNull final Bundle savedState);
+
+    /**
+     * This method is invoked to apply the decorator, which allows to customize the view, which is
+     * used to visualize a specific group item.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param view
+     *         The view, which is used to visualize the group item, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param index
+     *         The index of the group item, which should be visualized, as an {@link Integer} value
+     */
+    protected abstract void applyDecoratorOnGroup(@NonNull final Context context,
+                                                  @NonNull final View view, final int index);
+
+    /**
+     * This method is invoked to apply the decorator, which allows to customize the view, which is
+     * used to visualize a specific child item.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param view
+     *         The view, which is used to visualize the child item, as an instance of the class
+     *         {@link View}. The view may not be null
+     * @param groupIndex
+     *         The index of the group, the child item, which should be visualized, belongs to, as an
+     *         {@link Integer} value
+     * @param childIndex
+     *         The index of the child item, which should be visualized, as an {@link Integer} value
+     */
+    protected abstract void applyDecoratorOnChild(@NonNull final Context context,
+                                                  @NonNull final View view, final int groupIndex,
+                                                  final int childIndex);
 
     /**
-     * This method is invoked to apply the decorator, which allows to customize the view, which is
-     * used to visualize a specific group item.
+     * This method is invoked to apply the decorator on a group, when only specific properties of
+     * the group have been changed. By default, the decorator is applied completely by invoking the
+     * method <code>applyDecoratorOnGroup(...):void</code>. Subclasses may override this method in
+     * order to update the view, which is used to visualize the group, partially.
      *
      * @param context
      *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
      *         context may not be null
      * @param view
-     *         The view, which is used to visualize the group item, as an instance of the class
-     *         {@link View}. The view may not be null
+     *         The view, which is used to visualize the group, as an instance of the class {@link
+     *         View}. The view may not be null
      * @param index
-     *         The index of the group item, which should be visualized, as an {@link Integer} value
+     *         The index of the group, which should be visualized, as an {@link Integer} value
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the group, which
+     *         have been changed, as an instance of the type {@link Set}. The set may not be null
      */
-    protected abstract void applyDecoratorOnGroup(@NonNull final Context context,
-                                                  @NonNull final View view, final int index);
+    protected void applyDecoratorOnGroupPartially(@NonNull final Context context,
+                                                  @NonNull final View view, final int index,
+                                                  @NonNull final Set<ChangePayload> payloads) {
+        applyDecoratorOnGroup(context, view, index);
+    }
 
     /**
-     * This method is invoked to apply the decorator, which allows to customize the view, which is
-     * used to visualize a specific child item.
+     * This method is invoked to apply the decorator on a child, when only specific properties of
+     * the child have been changed. By default, the decorator is applied completely by invoking the
+     * method <code>applyDecoratorOnChild(...):void</code>. Subclasses may override this method in
+     * order to update the view, which is used to visualize the child, partially.
      *
      * @param context
      *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
      *         context may not be null
      * @param view
-     *         The view, which is used to visualize the child item, as an instance of the class
-     *         {@link View}. The view may not be null
+     *         The view, which is used to visualize the child, as an instance of the class {@link
+     *         View}. The view may not be null
      * @param groupIndex
-     *         The index of the group, the child item, which should be visualized, belongs to, as an
+     *         The index of the group, the child, which should be visualized, belongs to, as an
      *         {@link Integer} value
      * @param childIndex
-     *         The index of the child item, which should be visualized, as an {@link Integer} value
+     *         The index of the child, which should be visualized, as an {@link Integer} value
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the child, which
+     *         have been changed, as an instance of the type {@link Set}. The set may not be null
      */
-    protected abstract void applyDecoratorOnChild(@NonNull final Context context,
+    protected void applyDecoratorOnChildPartially(@NonNull final Context context,
                                                   @NonNull final View view, final int groupIndex,
-                                                  final int childIndex);
+                                                  final int childIndex,
+                                                  @NonNull final Set<ChangePayload> payloads) {
+        applyDecoratorOnChild(context, view, groupIndex, childIndex);
+    }
 
     /**
      * Creates a new adapter, whose underlying data is managed as a list of arbitrary group and
@@ -1535,10 +2343,16 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         this.decorator = decorator;
         this.logger = new Logger(logLevel);
         this.dataSetObservable = new DataSetObservable();
+        this.childDecorator = new NullObjectDecorator<>();
+        this.childAdapterFactory = createChildAdapterFactory();
         this.groupAdapter = groupAdapter;
         this.groupAdapter.setLogLevel(LogLevel.OFF);
         this.groupAdapter.notifyOnChange(false);
+        this.packedPositionIndex = new PackedPositionIndex();
+        this.restoreExecutor = ThreadUtil.getDefaultRestoreExecutor();
         this.allowDuplicateChildren = allowDuplicateChildren;
+        this.groupDiffCallback = null;
+        this.childDiffCallback = null;
         this.notifyOnChange = notifyOnChange;
         this.triggerGroupExpansionOnClick = triggerGroupExpansionOnClick;
         this.itemClickListeners = itemClickListeners;
@@ -1573,7 +2387,14 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     public final void setDecorator(@NonNull final DecoratorType decorator) {
         Condition.INSTANCE.ensureNotNull(decorator, "The decorator may not be null");
         this.decorator = decorator;
-        notifyObserversOnDataSetChanged();
+
+        if (expandableRecyclerView != null) {
+            if (isNotifiedOnChange() && getItemCount() > 0) {
+                notifyItemRangeChanged(0, getItemCount());
+            }
+        } else {
+            notifyObserversOnDataSetChanged();
+        }
     }
 
     /**
@@ -1650,7 +2471,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     @Override
     public final void notifyChildChanged(final int groupIndex, final int childIndex,
                                          final Object payload) {
-        notifyChildRangeChanged(groupIndex, childIndex, 1);
+        notifyChildRangeChanged(groupIndex, childIndex, 1, payload);
     }
 
     @Override
@@ -1706,44 +2527,34 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     @Deprecated
     @Override
     public final int getPackedPositionType(final int packedPosition) {
-        Pair<Integer, Integer> pair = getPackedPositionGroupAndChild(packedPosition);
-        int groupIndex = pair.first;
-        int childIndex = pair.second;
-        return childIndex != -1 ? PACKED_POSITION_TYPE_CHILD :
-                groupIndex != -1 ? PACKED_POSITION_TYPE_GROUP : PACKED_POSITION_TYPE_NULL;
+        int groupIndex = getGroupIndexOfPackedPosition(packedPosition);
+
+        if (groupIndex == -1) {
+            return PACKED_POSITION_TYPE_NULL;
+        }
+
+        int childIndex = getChildIndexOfPackedPosition(groupIndex, packedPosition);
+        return childIndex != -1 ? PACKED_POSITION_TYPE_CHILD : PACKED_POSITION_TYPE_GROUP;
     }
 
     @Deprecated
     @Override
     public final int getPackedPositionGroup(final int packedPosition) {
-        Pair<Integer, Integer> pair = getPackedPositionGroupAndChild(packedPosition);
-        return pair.first;
+        return getGroupIndexOfPackedPosition(packedPosition);
     }
 
     @Deprecated
     @Override
     public final int getPackedPositionChild(final int packedPosition) {
-        Pair<Integer, Integer> pair = getPackedPositionGroupAndChild(packedPosition);
-        int groupIndex = pair.first;
-        int childIndex = pair.second;
-        return groupIndex != -1 && childIndex != -1 ? childIndex : -1;
+        int groupIndex = getGroupIndexOfPackedPosition(packedPosition);
+        return groupIndex != -1 ? getChildIndexOfPackedPosition(groupIndex, packedPosition) : -1;
     }
 
     @Deprecated
     @Override
     public final int getPackedPositionForGroup(final int groupIndex) {
         Condition.INSTANCE.ensureAtLeast(groupIndex, 0, "The group index must be at least 0");
-        int packedPosition = 0;
-
-        for (int i = 0; i < groupIndex; i++) {
-            packedPosition++;
-
-            if (i < getGroupCount() && isGroupExpanded(i)) {
-                packedPosition += getChildCount(i);
-            }
-        }
-
-        return packedPosition;
+        return getPackedPositionIndex().getPosition(groupIndex);
     }
 
     @Deprecated
@@ -1777,26 +2588,19 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
     @Override
     public final int getItemCount() {
-        int count = 0;
-
-        for (int i = 0; i < getGroupCount(); i++) {
-            count++;
-
-            if (isGroupExpanded(i)) {
-                count += getChildCount(i);
-            }
-        }
-
-        return count;
+        return getPackedPositionIndex().getTotalSize();
     }
 
     @Override
     public final long getItemId(final int index) {
-        Pair<Integer, Integer> pair = getPackedPositionGroupAndChild(index);
-        int groupIndex = pair.first;
-        int childIndex = pair.second;
-        Object item = childIndex == -1 ? getGroup(groupIndex) : getChild(groupIndex, childIndex);
-        return System.identityHashCode(item);
+        int groupIndex = getGroupIndexOfPackedPosition(index);
+        int childIndex = getChildIndexOfPackedPosition(groupIndex, index);
+
+        if (childIndex == -1) {
+            return groupAdapter.getItemId(groupIndex);
+        }
+
+        return groupAdapter.getItem(groupIndex).getChildAdapter().getItemId(childIndex);
     }
 
     @Override
@@ -1817,8 +2621,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     @Override
     public final void setParameters(@Nullable final Bundle parameters) {
         groupAdapter.setParameters(parameters);
-        String message = "Set parameters to \"" + parameters + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set parameters to \"" + parameters + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -1826,8 +2633,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             @NonNull final ExpandableListAdapterListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         adapterListeners.add(listener);
-        String message = "Added adapter listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added adapter listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -1835,8 +2645,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             @NonNull final ExpandableListAdapterListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         adapterListeners.remove(listener);
-        String message = "Removed adapter listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed adapter listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -1844,8 +2657,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             @NonNull final ExpansionListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         expansionListeners.add(listener);
-        String message = "Added expansion listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added expansion listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -1853,8 +2669,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             @NonNull final ExpansionListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         expansionListeners.remove(listener);
-        String message = "Removed expansion listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed expansion listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -1893,9 +2712,12 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     @Override
     public final void allowDuplicateGroups(final boolean allowDuplicateGroups) {
         groupAdapter.allowDuplicates(allowDuplicateGroups);
-        String message =
-                "Duplicate groups are now " + (allowDuplicateGroups ? "allowed" : "disallowed");
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message =
+                    "Duplicate groups are now " + (allowDuplicateGroups ? "allowed" : "disallowed");
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -1906,9 +2728,12 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     @Override
     public final void notifyOnChange(final boolean notifyOnChange) {
         this.notifyOnChange = notifyOnChange;
-        String message = "Changes of the adapter's underlying data are now " +
-                (notifyOnChange ? "" : "not ") + "automatically notified";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Changes of the adapter's underlying data are now " +
+                    (notifyOnChange ? "" : "not ") + "automatically notified";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -1923,15 +2748,23 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         boolean added = groupAdapter.addItem(index, createGroup(group));
 
         if (added) {
+            updatePackedPositionsOnGroupInserted(index);
             notifyOnGroupAdded(group, index);
             notifyObserversOnGroupInserted(index);
-            String message = "Group \"" + group + "\" added at index " + index;
-            getLogger().logInfo(getClass(), message);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Group \"" + group + "\" added at index " + index;
+                getLogger().logInfo(getClass(), message);
+            }
+
             return true;
         } else {
-            String message = "Group \"" + group + "\" at index " + index +
-                    " not added, because adapter already contains group";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Group \"" + group + "\" at index " + index +
+                        " not added, because adapter already contains group";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
     }
@@ -1977,24 +2810,34 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     public final GroupType replaceGroup(final int index, @NonNull final GroupType group) {
         Condition.INSTANCE.ensureNotNull(group, "The group may not be null");
         GroupType replacedGroup =
-                groupAdapter.replaceItem(index, new Group<>(group, createChildAdapter())).getData();
+                groupAdapter.replaceItem(index, createGroup(group)).getData();
+        updatePackedPositions(index);
         notifyOnGroupRemoved(replacedGroup, index);
         notifyOnGroupAdded(group, index);
         notifyObserversOnGroupChanged(index);
-        String message =
-                "Replaced group \"" + replacedGroup + "\" at index " + index + " with item \"" +
-                        group + "\"";
-        getLogger().logInfo(getClass(), message);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message =
+                    "Replaced group \"" + replacedGroup + "\" at index " + index + " with item \"" +
+                            group + "\"";
+            getLogger().logInfo(getClass(), message);
+        }
+
         return replacedGroup;
     }
 
     @Override
     public final GroupType removeGroup(final int index) {
         GroupType removedGroup = groupAdapter.removeItem(index).getData();
+        updatePackedPositionsOnGroupRemoved(index);
         notifyOnGroupRemoved(removedGroup, index);
         notifyObserversOnGroupRemoved(index);
-        String message = "Removed group \"" + removedGroup + "\" from index " + index;
-        getLogger().logInfo(getClass(), message);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Removed group \"" + removedGroup + "\" from index " + index;
+            getLogger().logInfo(getClass(), message);
+        }
+
         return removedGroup;
     }
 
@@ -2004,16 +2847,24 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
         if (index != -1) {
             groupAdapter.removeItem(index);
+            updatePackedPositionsOnGroupRemoved(index);
             notifyOnGroupRemoved(group, index);
             notifyObserversOnGroupRemoved(index);
-            String message = "Removed group \"" + group + "\" from index " + index;
-            getLogger().logInfo(getClass(), message);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Removed group \"" + group + "\" from index " + index;
+                getLogger().logInfo(getClass(), message);
+            }
+
             return true;
         }
 
-        String message =
-                "Group \"" + group + "\" not removed, because adapter does not contain group";
-        getLogger().logDebug(getClass(), message);
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message =
+                    "Group \"" + group + "\" not removed, because adapter does not contain group";
+            getLogger().logDebug(getClass(), message);
+        }
+
         return false;
     }
 
@@ -2182,9 +3033,22 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         return new UnmodifiableGroupList<>(groupAdapter.getAllItems());
     }
 
+    @Override
+    public final void flushNotifications() {
+        if (notificationScheduler != null) {
+            notificationScheduler.flushNow();
+        }
+    }
+
+    @NonNull
+    @Override
+    public final Snapshot<GroupType> getGroupSnapshot() {
+        return new GroupSnapshot<>(groupAdapter.getSnapshot());
+    }
+
     @Override
     public final boolean isGroupEmpty(final int groupIndex) {
-        return groupAdapter.getItem(groupIndex).getChildAdapter().isEmpty();
+        return groupAdapter.getItem(groupIndex).getChildCount() == 0;
     }
 
     @Override
@@ -2204,13 +3068,41 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
         while (iterator.hasNext()) {
             Group<GroupType, ChildType> group = iterator.next();
-            MultipleChoiceListAdapter<ChildType> childAdapter = group.getChildAdapter();
-            childAdapter.allowDuplicates(allowDuplicateChildren);
+
+            if (group.hasChildAdapter()) {
+                group.getChildAdapter().allowDuplicates(allowDuplicateChildren);
+            }
         }
 
-        String message =
-                "Duplicate children are now " + (allowDuplicateChildren ? "allowed" : "disallowed");
-        getLogger().logDebug(getClass(), message);
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Duplicate children are now " +
+                    (allowDuplicateChildren ? "allowed" : "disallowed");
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
+    @Override
+    public final DiffUtil.ItemCallback<GroupType> getGroupDiffCallback() {
+        return groupDiffCallback;
+    }
+
+    @Override
+    public final DiffUtil.ItemCallback<ChildType> getChildDiffCallback() {
+        return childDiffCallback;
+    }
+
+    @Override
+    public final void setDiffCallbacks(
+            @Nullable final DiffUtil.ItemCallback<GroupType> groupDiffCallback,
+            @Nullable final DiffUtil.ItemCallback<ChildType> childDiffCallback) {
+        this.groupDiffCallback = groupDiffCallback;
+        this.childDiffCallback = childDiffCallback;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set diff callbacks to \"" + groupDiffCallback + "\" and \"" +
+                    childDiffCallback + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -2223,10 +3115,13 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
                                              final boolean allowDuplicateChildren) {
         Group<GroupType, ChildType> group = groupAdapter.getItem(groupIndex);
         group.getChildAdapter().allowDuplicates(allowDuplicateChildren);
-        String message = "Duplicate children are now " +
-                (allowDuplicateChildren ? "allowed" : "disallowed") + " for group \"" +
-                group.getData() + "\" at index " + groupIndex;
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Duplicate children are now " +
+                    (allowDuplicateChildren ? "allowed" : "disallowed") + " for group \"" +
+                    group.getData() + "\" at index " + groupIndex;
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -2264,27 +3159,38 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             boolean added = group.getChildAdapter().addItem(index, child);
 
             if (added) {
+                updatePackedPositions(groupIndex);
                 notifyOnChildAdded(child, index, group.getData(), groupIndex);
                 notifyObserversOnChildInserted(groupIndex, index);
-                String message =
-                        "Child \"" + child + "\" added at index " + index + " to group \"" +
-                                group.getData() + "\" at index " + groupIndex;
-                getLogger().logInfo(getClass(), message);
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message =
+                            "Child \"" + child + "\" added at index " + index + " to group \"" +
+                                    group.getData() + "\" at index " + groupIndex;
+                    getLogger().logInfo(getClass(), message);
+                }
+
                 return true;
             } else {
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message =
+                            "Child \"" + child + "\" at index " + index + " not added to group \"" +
+                                    group.getData() + "\" at index " + groupIndex +
+                                    ", because group already contains child";
+                    getLogger().logDebug(getClass(), message);
+                }
+
+                return false;
+            }
+        } else {
+            if (isLoggable(LogLevel.DEBUG)) {
                 String message =
                         "Child \"" + child + "\" at index " + index + " not added to group \"" +
                                 group.getData() + "\" at index " + groupIndex +
-                                ", because group already contains child";
+                                ", because adapter already contains child";
                 getLogger().logDebug(getClass(), message);
-                return false;
             }
-        } else {
-            String message =
-                    "Child \"" + child + "\" at index " + index + " not added to group \"" +
-                            group.getData() + "\" at index " + groupIndex +
-                            ", because adapter already contains child";
-            getLogger().logDebug(getClass(), message);
+
             return false;
         }
     }
@@ -2373,11 +3279,14 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         notifyOnChildRemoved(replacedChild, index, group.getData(), groupIndex);
         notifyOnChildAdded(replacedChild, index, group.getData(), groupIndex);
         notifyObserversOnChildChanged(groupIndex, index);
-        String message =
-                "Replaced child \"" + replacedChild + "\" at index " + index + " of group \"" +
-                        group.getData() + "\" at index " + groupIndex + " with child \"" + child +
-                        "\"";
-        getLogger().logInfo(getClass(), message);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Replaced child \"" + replacedChild + "\" at index " + index +
+                    " of group \"" + group.getData() + "\" at index " + groupIndex +
+                    " with child \"" + child + "\"";
+            getLogger().logInfo(getClass(), message);
+        }
+
         return replacedChild;
     }
 
@@ -2397,11 +3306,15 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
                                        final int index) {
         Group<GroupType, ChildType> group = groupAdapter.getItem(groupIndex);
         ChildType removedChild = group.getChildAdapter().removeItem(index);
+        updatePackedPositions(groupIndex);
         notifyOnChildRemoved(removedChild, index, group.getData(), groupIndex);
-        String message =
-                "Removed child \"" + removedChild + "\" from index " + index + " of group \"" +
-                        group.getData() + "\" at index " + groupIndex;
-        getLogger().logInfo(getClass(), message);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message =
+                    "Removed child \"" + removedChild + "\" from index " + index + " of group \"" +
+                            group.getData() + "\" at index " + groupIndex;
+            getLogger().logInfo(getClass(), message);
+        }
 
         if (removeEmptyGroup && group.getChildAdapter().isEmpty()) {
             removeGroup(groupIndex);
@@ -2762,7 +3675,9 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         Condition.INSTANCE.ensureNotNull(child, "The child may not be null");
 
         for (int i = 0; i < groupAdapter.getCount(); i++) {
-            if (groupAdapter.getItem(i).getChildAdapter().containsItem(child)) {
+            Group<GroupType, ChildType> group = groupAdapter.getItem(i);
+
+            if (group.hasChildAdapter() && group.getChildAdapter().containsItem(child)) {
                 return i;
             }
         }
@@ -2776,7 +3691,9 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         Condition.INSTANCE.ensureNotNull(predicate, "The predicate may not be null");
 
         for (int i = 0; i < groupAdapter.getCount(); i++) {
-            if (groupAdapter.getItem(i).getChildAdapter().indexOf(predicate) != -1) {
+            Group<GroupType, ChildType> group = groupAdapter.getItem(i);
+
+            if (group.hasChildAdapter() && group.getChildAdapter().indexOf(predicate) != -1) {
                 return i;
             }
         }
@@ -2815,7 +3732,9 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         Condition.INSTANCE.ensureNotNull(child, "The child may not be null");
 
         for (int i = groupAdapter.getCount() - 1; i >= 0; i--) {
-            if (groupAdapter.getItem(i).getChildAdapter().containsItem(child)) {
+            Group<GroupType, ChildType> group = groupAdapter.getItem(i);
+
+            if (group.hasChildAdapter() && group.getChildAdapter().containsItem(child)) {
                 return i;
             }
         }
@@ -2829,7 +3748,9 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         Condition.INSTANCE.ensureNotNull(predicate, "The predicate may not be null");
 
         for (int i = groupAdapter.getCount() - 1; i >= 0; i--) {
-            if (groupAdapter.getItem(i).getChildAdapter().indexOf(predicate) != -1) {
+            Group<GroupType, ChildType> group = groupAdapter.getItem(i);
+
+            if (group.hasChildAdapter() && group.getChildAdapter().indexOf(predicate) != -1) {
                 return i;
             }
         }
@@ -2869,7 +3790,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         Condition.INSTANCE.ensureNotNull(child, "The child may not be null");
 
         for (Group<GroupType, ChildType> group : groupAdapter.getAllItems()) {
-            if (group.getChildAdapter().containsItem(child)) {
+            if (group.hasChildAdapter() && group.getChildAdapter().containsItem(child)) {
                 return true;
             }
         }
@@ -2922,7 +3843,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
     @Override
     public final int getChildCount(final int groupIndex) {
-        return groupAdapter.getItem(groupIndex).getChildAdapter().getCount();
+        return groupAdapter.getItem(groupIndex).getChildCount();
     }
 
     @Override
@@ -2945,7 +3866,9 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         List<ChildType> result = new ArrayList<>();
 
         for (Group<GroupType, ChildType> group : groupAdapter.getAllItems()) {
-            result.addAll(group.getChildAdapter().getAllItems());
+            if (group.hasChildAdapter()) {
+                result.addAll(group.getChildAdapter().getAllItems());
+            }
         }
 
         return new UnmodifiableList<>(result);
@@ -2961,6 +3884,18 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         return getAllChildren(indexOfGroupOrThrowException(group));
     }
 
+    @NonNull
+    @Override
+    public final Snapshot<ChildType> getChildSnapshot(final int groupIndex) {
+        return groupAdapter.getItem(groupIndex).getChildAdapter().getSnapshot();
+    }
+
+    @NonNull
+    @Override
+    public final Snapshot<ChildType> getChildSnapshot(@NonNull final GroupType group) {
+        return getChildSnapshot(indexOfGroupOrThrowException(group));
+    }
+
     @SafeVarargs
     @Override
     public final boolean containsAllChildren(final int groupIndex,
@@ -3118,7 +4053,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         List<Integer> collapsedGroupIndices = new ArrayList<>();
 
         for (int i = 0; i < getGroupCount(); i++) {
-            if (isGroupExpanded(i)) {
+            if (!isGroupExpanded(i)) {
                 collapsedGroupIndices.add(i);
             }
         }
@@ -3126,6 +4061,16 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         return new UnmodifiableList<>(collapsedGroupIndices);
     }
 
+    @Override
+    public final IndexList getExpandedGroupIndexList() {
+        return createGroupIndexList(true);
+    }
+
+    @Override
+    public final IndexList getCollapsedGroupIndexList() {
+        return createGroupIndexList(false);
+    }
+
     @Override
     public final int getExpandedGroupCount() {
         return getExpandedGroups().size();
@@ -3142,6 +4087,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
         if (group.isExpanded() != expanded) {
             group.setExpanded(expanded);
+            updatePackedPositions(index);
 
             if (adapterView != null || expandableGridView != null ||
                     expandableRecyclerView != null) {
@@ -3170,14 +4116,16 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
             if (expanded) {
                 notifyOnGroupExpanded(group.getData(), index);
-                getLogger().logInfo(getClass(),
-                        "Group \"" + group.getData() + "\" at index " + index + "expanded");
             } else {
                 notifyOnGroupCollapsed(group.getData(), index);
-                getLogger().logInfo(getClass(),
-                        "Group \"" + group.getData() + "\" at index " + index + "collapsed");
             }
-        } else {
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Group \"" + group.getData() + "\" at index " + index +
+                        (expanded ? " expanded" : " collapsed");
+                getLogger().logInfo(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
             String message = "Group \"" + group.getData() + "\" at index " + index + " not " +
                     (expanded ? "expanded" : "collapsed") + ", because group is already " +
                     (expanded ? "expanded" : "collapsed");
@@ -3223,9 +4171,12 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     @Override
     public final void triggerGroupExpansionOnClick(final boolean triggerGroupExpansionOnClick) {
         this.triggerGroupExpansionOnClick = triggerGroupExpansionOnClick;
-        String message = "Groups are now " + (triggerGroupExpansionOnClick ? "" : "not ") +
-                "expanded on click";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Groups are now " + (triggerGroupExpansionOnClick ? "" : "not ") +
+                    "expanded on click";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -3239,8 +4190,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         this.adapterView.setOnItemClickListener(createAdapterViewOnItemClickListener());
         this.adapterView.setOnItemLongClickListener(createAdapterViewOnItemLongClickListener());
         syncAdapterView();
-        String message = "Attached adapter to view \"" + adapterView + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Attached adapter to view \"" + adapterView + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -3258,8 +4212,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         this.expandableGridView
                 .setOnItemLongClickListener(createExpandableGridViewOnItemLongClickListener());
         syncAdapterView();
-        String message = "Attached adapter to view \"" + adapterView + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Attached adapter to view \"" + adapterView + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -3269,8 +4226,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         this.expandableRecyclerView = adapterView;
         this.expandableRecyclerView.setAdapter(this);
         syncAdapterView();
-        String message = "Attached adapter to view \"" + adapterView + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Attached adapter to view \"" + adapterView + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -3278,9 +4238,12 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         if (adapterView != null) {
             if (adapterView.getAdapter() == this) {
                 adapterView.setAdapter((android.widget.ExpandableListAdapter) null);
-                String message = "Detached adapter from view \"" + adapterView + "\"";
-                getLogger().logDebug(getClass(), message);
-            } else {
+
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Detached adapter from view \"" + adapterView + "\"";
+                    getLogger().logDebug(getClass(), message);
+                }
+            } else if (isLoggable(LogLevel.VERBOSE)) {
                 String message = "Adapter has not been detached, because the adapter of the " +
                         "corresponding view has been changed " + "in the meantime";
                 getLogger().logVerbose(getClass(), message);
@@ -3290,9 +4253,12 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         } else if (expandableGridView != null) {
             if (expandableGridView.getExpandableListAdapter() == this) {
                 expandableGridView.setAdapter((ListAdapter) null);
-                String message = "Detached adapter from view \"" + expandableGridView + "\"";
-                getLogger().logDebug(getClass(), message);
-            } else {
+
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Detached adapter from view \"" + expandableGridView + "\"";
+                    getLogger().logDebug(getClass(), message);
+                }
+            } else if (isLoggable(LogLevel.VERBOSE)) {
                 String message = "Adapter has not been detached, because the adapter of the " +
                         "corresponding view has been changed in the meantime";
                 getLogger().logVerbose(getClass(), message);
@@ -3302,16 +4268,20 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         } else if (expandableRecyclerView != null) {
             if (expandableRecyclerView.getAdapter() == this) {
                 expandableRecyclerView.setAdapter(null);
-                String message = "Detached adapter from view \"" + expandableRecyclerView + "\"";
-                getLogger().logDebug(getClass(), message);
-            } else {
+
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Detached adapter from view \"" + expandableRecyclerView +
+                            "\"";
+                    getLogger().logDebug(getClass(), message);
+                }
+            } else if (isLoggable(LogLevel.VERBOSE)) {
                 String message = "Adapter has not been detached, because the adapter of the " +
                         " corresponding view has been changed in the meantime";
                 getLogger().logVerbose(getClass(), message);
             }
 
             expandableRecyclerView = null;
-        } else {
+        } else if (isLoggable(LogLevel.VERBOSE)) {
             String message = "Adapter has not been detached, because it has not " +
                     "been attached to a view yet";
             getLogger().logVerbose(getClass(), message);
@@ -3349,7 +4319,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
     @Override
     public final int getChildrenCount(final int groupIndex) {
-        return groupAdapter.getItem(groupIndex).getChildAdapter().getCount();
+        return groupAdapter.getItem(groupIndex).getChildCount();
     }
 
     @Override
@@ -3384,14 +4354,15 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
     @Override
     public final int getItemViewType(final int position) {
-        Pair<Integer, Integer> pair = getPackedPositionGroupAndChild(position);
+        int groupIndex = getGroupIndexOfPackedPosition(position);
+        int childIndex = getChildIndexOfPackedPosition(groupIndex, position);
 
-        if (pair.second != -1) {
-            int viewType = getChildType(pair.first, pair.second);
+        if (childIndex != -1) {
+            int viewType = getChildType(groupIndex, childIndex);
             return viewType * 256 | FLAG_VIEW_TYPE_CHILD;
         }
 
-        int viewType = getGroupType(pair.first);
+        int viewType = getGroupType(groupIndex);
         return viewType * 256 | FLAG_VIEW_TYPE_GROUP;
     }
 
@@ -3409,8 +4380,11 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         if (view == null) {
             LayoutInflater inflater = LayoutInflater.from(getContext());
             view = getDecorator().inflateGroupView(inflater, parent, getGroup(groupIndex));
-            String message = "Inflated view to visualize the group at index " + groupIndex;
-            getLogger().logVerbose(getClass(), message);
+
+            if (isLoggable(LogLevel.VERBOSE)) {
+                String message = "Inflated view to visualize the group at index " + groupIndex;
+                getLogger().logVerbose(getClass(), message);
+            }
         }
 
         applyDecoratorOnGroup(getContext(), view, groupIndex);
@@ -3432,9 +4406,12 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             LayoutInflater inflater = LayoutInflater.from(getContext());
             view = getDecorator()
                     .inflateChildView(inflater, parent, getChild(groupIndex, childIndex));
-            String message = "Inflated view to visualize the child at index " + childIndex +
-                    " of the group at index " + groupIndex;
-            getLogger().logVerbose(getClass(), message);
+
+            if (isLoggable(LogLevel.VERBOSE)) {
+                String message = "Inflated view to visualize the child at index " + childIndex +
+                        " of the group at index " + groupIndex;
+                getLogger().logVerbose(getClass(), message);
+            }
         }
 
         applyDecoratorOnChild(getContext(), view, groupIndex, childIndex);
@@ -3460,14 +4437,16 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
             getLogger().logVerbose(getClass(), "Inflated view to visualize the child item");
         }
 
-        return new ExpandableListItemViewHolder(view);
+        ExpandableListItemViewHolder viewHolder = new ExpandableListItemViewHolder(view);
+        view.setOnClickListener(createRecyclerViewOnItemClickListener(viewHolder));
+        view.setOnLongClickListener(createRecyclerViewOnItemLongClickListener(viewHolder));
+        return viewHolder;
     }
 
     @Override
     public final void onBindViewHolder(@NonNull final ViewHolder viewHolder, final int position) {
-        Pair<Integer, Integer> pair = getPackedPositionGroupAndChild(position);
-        int groupIndex = pair.first;
-        int childIndex = pair.second;
+        int groupIndex = getGroupIndexOfPackedPosition(position);
+        int childIndex = getChildIndexOfPackedPosition(groupIndex, position);
         ExpandableListItemViewHolder expandableListItemViewHolder =
                 (ExpandableListItemViewHolder) viewHolder;
         expandableListItemViewHolder.setGroupIndex(groupIndex);
@@ -3476,17 +4455,52 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
         if (childIndex != -1) {
             applyDecoratorOnChild(getContext(), expandableListItemViewHolder.getParentView(),
                     groupIndex, childIndex);
-            expandableListItemViewHolder.getParentView().setOnClickListener(
-                    createRecyclerViewOnChildClickListener(groupIndex, childIndex));
-            expandableListItemViewHolder.getParentView().setOnLongClickListener(
-                    createRecyclerViewOnChildLongClickListener(groupIndex, childIndex));
         } else {
             applyDecoratorOnGroup(getContext(), expandableListItemViewHolder.getParentView(),
                     groupIndex);
-            expandableListItemViewHolder.getParentView()
-                    .setOnClickListener(createRecyclerViewOnGroupClickListener(groupIndex));
-            expandableListItemViewHolder.getParentView()
-                    .setOnLongClickListener(createRecyclerViewOnGroupLongClickListener(groupIndex));
+        }
+    }
+
+    @Override
+    public final void onBindViewHolder(@NonNull final ViewHolder viewHolder, final int position,
+                                       @NonNull final List<Object> payloads) {
+        Set<ChangePayload> changePayloads = ChangePayload.fromPayloads(payloads);
+
+        if (changePayloads != null) {
+            int groupIndex = getGroupIndexOfPackedPosition(position);
+            int childIndex = getChildIndexOfPackedPosition(groupIndex, position);
+            ExpandableListItemViewHolder expandableListItemViewHolder =
+                    (ExpandableListItemViewHolder) viewHolder;
+            expandableListItemViewHolder.setGroupIndex(groupIndex);
+            expandableListItemViewHolder.setChildIndex(childIndex);
+
+            if (childIndex != -1) {
+                applyDecoratorOnChildPartially(getContext(),
+                        expandableListItemViewHolder.getParentView(), groupIndex, childIndex,
+                        changePayloads);
+            } else {
+                applyDecoratorOnGroupPartially(getContext(),
+                        expandableListItemViewHolder.getParentView(), groupIndex, changePayloads);
+            }
+        } else {
+            onBindViewHolder(viewHolder, position);
+        }
+    }
+
+    @Override
+    public final InstanceStateStore getInstanceStateStore() {
+        return instanceStateStore;
+    }
+
+    @Override
+    public final void setInstanceStateStore(
+            @Nullable final InstanceStateStore instanceStateStore) {
+        this.instanceStateStore = instanceStateStore;
+        this.instanceStateHandle = null;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set instance state store to \"" + instanceStateStore + "\"";
+            getLogger().logDebug(getClass(), message);
         }
     }
 
@@ -3498,10 +4512,10 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
 
         if (savedState.containsKey(GROUP_ADAPTER_BUNDLE_KEY)) {
             for (int i = 0; i < groupAdapter.getCount(); i++) {
-                MultipleChoiceListAdapter<ChildType> childAdapter =
-                        groupAdapter.getItem(i).getChildAdapter();
+                Group<GroupType, ChildType> group = groupAdapter.getItem(i);
 
-                if (childAdapter != null) {
+                if (group.hasChildAdapter()) {
+                    MultipleChoiceListAdapter<ChildType> childAdapter = group.getChildAdapter();
                     String childAdapterKey = String.format(CHILD_ADAPTER_BUNDLE_KEY, i);
                     childAdapter.onSaveInstanceState(savedState, childAdapterKey);
                 }
@@ -3521,7 +4535,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
                 savedState.putParcelable(ADAPTER_VIEW_STATE_BUNDLE_KEY,
                         layoutManager.onSaveInstanceState());
             }
-        } else {
+        } else if (isLoggable(LogLevel.WARN)) {
             String message = "The state of the adapter view can not be stored, because the " +
                     "adapter has not been attached to a view";
             getLogger().logWarn(getClass(), message);
@@ -3532,7 +4546,7 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
                 isGroupExpansionTriggeredOnClick());
         savedState.putInt(LOG_LEVEL_BUNDLE_KEY, getLogLevel().getRank());
         onSaveInstanceState(savedState);
-        outState.putBundle(key, savedState);
+        outState.putBundle(key, writeToInstanceStateStore(savedState));
         getLogger().logDebug(getClass(), "Saved instance state");
     }
 
@@ -3540,55 +4554,94 @@ public abstract class AbstractExpandableListAdapter<GroupType, ChildType, Decora
     public final void onRestoreInstanceState(@NonNull final Bundle savedInstanceState,
                                              @NonNull final String key)
             throws RestoreInstanceStateException {
-        Bundle savedState = savedInstanceState.getBundle(key);
+        restoreGeneration++;
+        restoring = false;
+        Bundle savedState = getSavedState(savedInstanceState, key);
 
         if (savedState != null) {
-            try {
-                if (savedState.containsKey(GROUP_ADAPTER_BUNDLE_KEY)) {
-                    groupAdapter.onRestoreInstanceState(savedState, GROUP_ADAPTER_BUNDLE_KEY);
+            Bundle handle = getInstanceStateHandle(savedInstanceState, key);
 
-                    for (int i = 0; i < groupAdapter.getCount(); i++) {
-                        Group<GroupType, ChildType> group = groupAdapter.getItem(i);
-                        String childAdapterKey = String.format(CHILD_ADAPTER_BUNDLE_KEY, i);
-                        MultipleChoiceListAdapter<ChildType> childAdapter = createChildAdapter();
+            if (handle != null) {
+                instanceStateHandle = handle;
+            }
 
-                        if (savedState.containsKey(childAdapterKey)) {
-                            childAdapter.onRestoreInstanceState(savedState, childAdapterKey);
-                        }
+            try {
+                applySavedState(savedState,
+                        new HashMap<Integer, MultipleChoiceListAdapter<ChildType>>());
+            } catch (Exception e) {
+                throw new RestoreInstanceStateException(e);
+            }
+        }
+    }
 
-                        group.setChildAdapter(childAdapter);
-                    }
+    @Override
+    public final void onRestoreInstanceStateAsync(@NonNull final Bundle savedInstanceState,
+                                                  @NonNull final String key) {
+        Condition.INSTANCE.ensureNotNull(savedInstanceState, "The bundle may not be null");
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+        Condition.INSTANCE.ensureNotEmpty(key, "The key may not be null");
+        final int generation = ++restoreGeneration;
+        final Bundle handle = getInstanceStateHandle(savedInstanceState, key);
+        Bundle storedState = savedInstanceState.getBundle(key);
+        final Bundle innerState = storedState != null ? new Bundle(storedState) : null;
+        restoring = true;
+        dispatchDataSetChanged();
+        getLogger().logDebug(getClass(), "Restoring instance state in the background");
+        restoreExecutor.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                Bundle savedState = null;
+                Map<Integer, MultipleChoiceListAdapter<ChildType>> childAdapters = null;
+                Exception exception = null;
+
+                try {
+                    savedState = resolveSavedState(innerState, key);
+                    childAdapters = savedState != null ? readChildAdapters(savedState) : null;
+                } catch (Exception e) {
+                    exception = e;
                 }
 
-                if (savedState.containsKey(ADAPTER_VIEW_STATE_BUNDLE_KEY)) {
-                    if (adapterView != null) {
-                        AdapterViewUtil.onRestoreInstanceState(adapterView, savedState,
-                                ADAPTER_VIEW_STATE_BUNDLE_KEY);
-                    } else if (expandableGridView != null) {
-                        AdapterViewUtil.onRestoreInstanceState(expandableGridView, savedState,
-                                ADAPTER_VIEW_STATE_BUNDLE_KEY);
-                    } else if (expandableRecyclerView != null) {
-                        expandableRecyclerView.getLayoutManager().onRestoreInstanceState(
-                                savedState.getParcelable(ADAPTER_VIEW_STATE_BUNDLE_KEY));
+                final Bundle finalSavedState = savedState;
+                final Map<Integer, MultipleChoiceListAdapter<ChildType>> finalChildAdapters =
+                        childAdapters;
+                final Exception finalException = exception;
+                ThreadUtil.runOnUiThread(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        publishRestoredState(generation, handle, finalSavedState,
+                                finalChildAdapters, finalException);
                     }
-                }
 
-                allowDuplicateChildren(savedState.getBoolean(ALLOW_DUPLICATE_CHILDREN_BUNDLE_KEY));
-                triggerGroupExpansionOnClick(
-                        savedState.getBoolean(TRIGGER_GROUP_EXPANSION_ON_CLICK_BUNDLE_KEY));
-                setLogLevel(LogLevel.fromRank(savedState.getInt(LOG_LEVEL_BUNDLE_KEY)));
-                onRestoreInstanceState(savedState);
-                notifyDataSetChanged();
-                getLogger().logDebug(getClass(), "Restored instance state");
-            } catch (Exception e) {
-                throw new RestoreInstanceStateException(e);
+                });
             }
-        } else {
-            throw new RestoreInstanceStateException(
-                    "Saved instance state does not contain bundle with key \"" + key + "\"");
+
+        });
+    }
+
+    @Override
+    public final boolean isRestoring() {
+        return restoring;
+    }
+
+    @Override
+    public final void setRestoreExecutor(@NonNull final Executor executor) {
+        Condition.INSTANCE.ensureNotNull(executor, "The executor may not be null");
+        this.restoreExecutor = executor;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set restore executor to \"" + executor + "\"";
+            getLogger().logDebug(getClass(), message);
         }
     }
 
+    @NonNull
+    @Override
+    public final Executor getRestoreExecutor() {
+        return restoreExecutor;
+    }
+
     @CallSuper
     @Override
     public int hashCode() {
@@ -25,8 +25,13 @@ import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
 import de.mrapp.android.adapter.ExpandableRecyclerViewAdapter;
+import de.mrapp.android.adapter.datastructure.IndexList;
+import de.mrapp.android.adapter.datastructure.Snapshot;
 import de.mrapp.android.adapter.expandablelist.enablestate.EnableStateExpandableListAdapter;
 import de.mrapp.android.adapter.expandablelist.filterable.FilterableExpandableListAdapter;
 import de.mrapp.android.adapter.expandablelist.itemstate.ItemStateExpandableListAdapter;
@@ -504,6 +509,27 @@ public interface ExpandableListAdapter<GroupType, ChildType>
      */
     List<GroupType> getAllGroups();
 
+    /**
+     * Returns an immutable snapshot of the adapter's group items. Obtaining a snapshot does not
+     * copy the group items. This method must be called on the UI thread, whereas the returned
+     * snapshot can be read from any thread without further synchronization. The snapshots of the
+     * groups' child items must be obtained separately by using the method
+     * <code>getChildSnapshot(int):Snapshot</code>.
+     *
+     * @return A snapshot of the adapter's group items as an instance of the type {@link Snapshot}.
+     * The snapshot may not be null
+     */
+    @NonNull
+    Snapshot<GroupType> getGroupSnapshot();
+
+    /**
+     * Dispatches all pending notifications about changed items immediately. If the adapter is
+     * attached to an {@link ExpandableListView}, notifications about changed items are deferred
+     * until the next frame and merged with each other. This method must be called on the UI
+     * thread.
+     */
+    void flushNotifications();
+
     /**
      * Returns, whether the group, which belongs to a specific index, is empty or not.
      *
@@ -542,6 +568,44 @@ public interface ExpandableListAdapter<GroupType, ChildType>
      */
     void allowDuplicateChildren(boolean allowDuplicateChildren);
 
+    /**
+     * Returns the callback, which is used to calculate the difference between the adapter's group
+     * items before and after they have been sorted or filtered.
+     *
+     * @return The callback, which is used to calculate the difference between the adapter's group
+     * items, as an instance of the class {@link DiffUtil.ItemCallback} or null, if no callback is
+     * used
+     */
+    @Nullable
+    DiffUtil.ItemCallback<GroupType> getGroupDiffCallback();
+
+    /**
+     * Returns the callback, which is used to calculate the difference between the adapter's child
+     * items before and after they have been sorted or filtered.
+     *
+     * @return The callback, which is used to calculate the difference between the adapter's child
+     * items, as an instance of the class {@link DiffUtil.ItemCallback} or null, if no callback is
+     * used
+     */
+    @Nullable
+    DiffUtil.ItemCallback<ChildType> getChildDiffCallback();
+
+    /**
+     * Sets the callbacks, which should be used to calculate the difference between the adapter's
+     * group and child items before and after they have been sorted or filtered. If both callbacks
+     * are set and the adapter is attached to a {@link RecyclerView}, only the items, which have
+     * been moved, inserted, removed or changed, are rebound, instead of all items.
+     *
+     * @param groupDiffCallback
+     *         The callback, which should be used to compare group items, as an instance of the
+     *         class {@link DiffUtil.ItemCallback} or null, if all items should be rebound
+     * @param childDiffCallback
+     *         The callback, which should be used to compare child items, as an instance of the
+     *         class {@link DiffUtil.ItemCallback} or null, if all items should be rebound
+     */
+    void setDiffCallbacks(@Nullable DiffUtil.ItemCallback<GroupType> groupDiffCallback,
+                          @Nullable DiffUtil.ItemCallback<ChildType> childDiffCallback);
+
     /**
      * Returns, whether duplicate child items within the group, which belongs to a specific index,
      * are allowed, or not.
@@ -2078,6 +2142,38 @@ public interface ExpandableListAdapter<GroupType, ChildType>
      */
     List<ChildType> getAllChildren(@NonNull GroupType group);
 
+    /**
+     * Returns an immutable snapshot of the child items of the group, which belongs to a specific
+     * index. Obtaining a snapshot does not copy the child items. This method must be called on the
+     * UI thread, whereas the returned snapshot can be read from any thread without further
+     * synchronization.
+     *
+     * @param groupIndex
+     *         The index of the group, whose child items should be returned, as an {@link Integer}
+     *         value. The index must be between 0 and the value of the method
+     *         <code>getGroupCount():int</code> - 1, otherwise an {@link IndexOutOfBoundsException}
+     *         will be thrown
+     * @return A snapshot of the group's child items as an instance of the type {@link Snapshot}.
+     * The snapshot may not be null
+     */
+    @NonNull
+    Snapshot<ChildType> getChildSnapshot(int groupIndex);
+
+    /**
+     * Returns an immutable snapshot of the child items of a specific group. Obtaining a snapshot
+     * does not copy the child items. This method must be called on the UI thread, whereas the
+     * returned snapshot can be read from any thread without further synchronization.
+     *
+     * @param group
+     *         The group, whose child items should be returned, as an instance of the generic type
+     *         GroupType. The group may not be null. If the group does not belong to the adapter, a
+     *         {@link NoSuchElementException} will be thrown
+     * @return A snapshot of the group's child items as an instance of the type {@link Snapshot}.
+     * The snapshot may not be null
+     */
+    @NonNull
+    Snapshot<ChildType> getChildSnapshot(@NonNull GroupType group);
+
     /**
      * Returns, whether the group, which belongs to a specific index, contains all child items,
      * which are contained by a specific array, or not.
@@ -2218,6 +2314,14 @@ public interface ExpandableListAdapter<GroupType, ChildType>
      */
     List<Integer> getExpandedGroupIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all expanded groups.
+     *
+     * @return A list, which contains the indices of all currently expanded groups, as an instance
+     * of the class {@link IndexList} or an empty list, if no group is currently expanded
+     */
+    IndexList getExpandedGroupIndexList();
+
     /**
      * Returns a list, which contains all currently collapsed groups.
      *
@@ -2234,6 +2338,14 @@ public interface ExpandableListAdapter<GroupType, ChildType>
      */
     List<Integer> getCollapsedGroupIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all collapsed groups.
+     *
+     * @return A list, which contains the indices of all currently collapsed groups, as an instance
+     * of the class {@link IndexList} or an empty list, if no group is currently collapsed
+     */
+    IndexList getCollapsedGroupIndexList();
+
     /**
      * Returns the number of currently expanded groups.
      *
@@ -17,7 +17,10 @@ import android.content.Context;
 import android.view.View;
 import android.widget.ExpandableListView;
 
+import java.util.Set;
+
 import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.ExpandableListDecorator;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
 import de.mrapp.android.adapter.NoChoiceExpandableListAdapter;
@@ -213,6 +216,34 @@ public class ExpandableListAdapterImplementation<GroupType, ChildType> extends
                         enabled, state, filtered);
     }
 
+    @Override
+    protected final void applyDecoratorOnGroupPartially(
+            @NonNull final Context context, @NonNull final View view, final int index,
+            @NonNull final Set<ChangePayload> payloads) {
+        GroupType group = getGroup(index);
+        boolean expanded = isGroupExpanded(index);
+        boolean enabled = isGroupEnabled(index);
+        int state = getGroupState(index);
+        boolean filtered = areGroupsFiltered();
+        getDecorator()
+                .applyDecoratorOnGroupPartially(context, this, view, group, index, expanded,
+                        enabled, state, filtered, payloads);
+    }
+
+    @Override
+    protected final void applyDecoratorOnChildPartially(
+            @NonNull final Context context, @NonNull final View view, final int groupIndex,
+            final int childIndex, @NonNull final Set<ChangePayload> payloads) {
+        GroupType group = getGroup(groupIndex);
+        ChildType child = getChild(groupIndex, childIndex);
+        boolean enabled = isChildEnabled(groupIndex, childIndex);
+        int state = getChildState(groupIndex, childIndex);
+        boolean filtered = areChildrenFiltered();
+        getDecorator()
+                .applyDecoratorOnChildPartially(context, this, view, child, childIndex, group,
+                        groupIndex, enabled, state, filtered, payloads);
+    }
+
     @Override
     public final String toString() {
         return "NoChoiceExpandableListAdapter (" + getGroupCount() + " groups, " + getChildCount() +
@@ -229,14 +260,18 @@ public class ExpandableListAdapterImplementation<GroupType, ChildType> extends
     @Override
     public final ExpandableListAdapterImplementation<GroupType, ChildType> clone()
             throws CloneNotSupportedException {
-        return new ExpandableListAdapterImplementation<>(getContext(), getDecorator(),
-                getLogLevel(), cloneGroupAdapter(), areDuplicateChildrenAllowed(),
-                isNotifiedOnChange(), isGroupExpansionTriggeredOnClick(), getItemClickListeners(),
-                getItemLongClickListeners(), getAdapterListeners(), getExpansionListeners(),
-                areChildEnableStatesSetImplicitly(), getEnableStateListeners(),
-                getNumberOfGroupStates(), getNumberOfChildStates(), isGroupStateTriggeredOnClick(),
-                isChildStateTriggeredOnClick(), areChildStatesSetImplicitly(),
-                getItemStateListeners(), getSortingListeners(), getFilterListeners());
+        ExpandableListAdapterImplementation<GroupType, ChildType> clonedAdapter =
+                new ExpandableListAdapterImplementation<>(getContext(), getDecorator(),
+                        getLogLevel(), cloneGroupAdapter(), areDuplicateChildrenAllowed(),
+                        isNotifiedOnChange(), isGroupExpansionTriggeredOnClick(),
+                        getItemClickListeners(), getItemLongClickListeners(), getAdapterListeners(),
+                        getExpansionListeners(), areChildEnableStatesSetImplicitly(),
+                        getEnableStateListeners(), getNumberOfGroupStates(),
+                        getNumberOfChildStates(), isGroupStateTriggeredOnClick(),
+                        isChildStateTriggeredOnClick(), areChildStatesSetImplicitly(),
+                        getItemStateListeners(), getSortingListeners(), getFilterListeners());
+        clonedAdapter.setDiffCallbacks(getGroupDiffCallback(), getChildDiffCallback());
+        return clonedAdapter;
     }
 
 }
\ No newline at end of file
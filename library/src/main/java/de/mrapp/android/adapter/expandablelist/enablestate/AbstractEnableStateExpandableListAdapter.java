@@ -23,7 +23,9 @@ import java.util.List;
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.UnmodifiableList;
 import de.mrapp.android.adapter.datastructure.group.Group;
 import de.mrapp.android.adapter.datastructure.group.UnmodifiableGroupList;
@@ -352,6 +354,16 @@ public abstract class AbstractEnableStateExpandableListAdapter<GroupType, ChildT
         return getGroupAdapter().getDisabledIndices();
     }
 
+    @Override
+    public final IndexList getEnabledGroupIndexList() {
+        return getGroupAdapter().getEnabledIndexList();
+    }
+
+    @Override
+    public final IndexList getDisabledGroupIndexList() {
+        return getGroupAdapter().getDisabledIndexList();
+    }
+
     @Override
     public final List<GroupType> getDisabledGroups() {
         return new UnmodifiableGroupList<>(getGroupAdapter().getDisabledItems());
@@ -376,11 +388,14 @@ public abstract class AbstractEnableStateExpandableListAdapter<GroupType, ChildT
                 notifyOnGroupDisabled(group.getData(), groupIndex);
             }
 
-            notifyObserversOnGroupChanged(groupIndex);
-            String message = enabled ? "Enabled" :
-                    "Disabled" + " group \"" + group.getData() + "\" at index " + groupIndex;
-            getLogger().logInfo(getClass(), message);
-        } else {
+            notifyObserversOnGroupChanged(groupIndex, ChangePayload.ENABLE_STATE);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = enabled ? "Enabled" :
+                        "Disabled" + " group \"" + group.getData() + "\" at index " + groupIndex;
+                getLogger().logInfo(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
             String message =
                     "The enable state of group \"" + group.getData() + "\" at index " + groupIndex +
                             " has not been changed, because it is already " +
@@ -604,6 +619,26 @@ public abstract class AbstractEnableStateExpandableListAdapter<GroupType, ChildT
         return getGroupAdapter().getItem(groupIndex).getChildAdapter().getDisabledIndices();
     }
 
+    @Override
+    public final IndexList getEnabledChildIndexList(@NonNull final GroupType group) {
+        return getEnabledChildIndexList(indexOfGroupOrThrowException(group));
+    }
+
+    @Override
+    public final IndexList getEnabledChildIndexList(final int groupIndex) {
+        return getGroupAdapter().getItem(groupIndex).getChildAdapter().getEnabledIndexList();
+    }
+
+    @Override
+    public final IndexList getDisabledChildIndexList(@NonNull final GroupType group) {
+        return getDisabledChildIndexList(indexOfGroupOrThrowException(group));
+    }
+
+    @Override
+    public final IndexList getDisabledChildIndexList(final int groupIndex) {
+        return getGroupAdapter().getItem(groupIndex).getChildAdapter().getDisabledIndexList();
+    }
+
     @Override
     public final List<ChildType> getDisabledChildren(final int groupIndex) {
         return getGroupAdapter().getItem(groupIndex).getChildAdapter().getDisabledItems();
@@ -653,13 +688,15 @@ public abstract class AbstractEnableStateExpandableListAdapter<GroupType, ChildT
                         groupIndex);
             }
 
-            notifyObserversOnChildChanged(groupIndex, childIndex);
-            String message = enabled ? "Enabled" :
-                    "Disabled" + " child \"" + childAdapter.getItem(childIndex) + "\" at index " +
-                            childIndex + " of group \"" + group.getData() + "\" at index " +
-                            groupIndex;
-            getLogger().logInfo(getClass(), message);
-        } else {
+            notifyObserversOnChildChanged(groupIndex, childIndex, ChangePayload.ENABLE_STATE);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = enabled ? "Enabled" : "Disabled" + " child \"" +
+                        childAdapter.getItem(childIndex) + "\" at index " + childIndex +
+                        " of group \"" + group.getData() + "\" at index " + groupIndex;
+                getLogger().logInfo(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
             String message = "The enable state of child \"" + childAdapter.getItem(childIndex) +
                     "\" at index " + childIndex + " of group \"" + group.getData() +
                     "\" at index " + groupIndex + " has not been changed, because it is already " +
@@ -760,8 +797,11 @@ public abstract class AbstractEnableStateExpandableListAdapter<GroupType, ChildT
             @NonNull final ExpandableListEnableStateListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         enableStateListeners.add(listener);
-        String message = "Added enable state listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added enable state listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -769,8 +809,11 @@ public abstract class AbstractEnableStateExpandableListAdapter<GroupType, ChildT
             @NonNull final ExpandableListEnableStateListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         enableStateListeners.remove(listener);
-        String message = "Removed enable state listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed enable state listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @CallSuper
@@ -19,6 +19,8 @@ import android.widget.ExpandableListView;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import de.mrapp.android.adapter.datastructure.IndexList;
+
 /**
  * Defines the interface, an adapter, whose underlying data is managed as a list of arbitrary group
  * and child items, which may be enabled or disabled, must implement. Such an adapter's purpose is
@@ -130,6 +132,15 @@ public interface EnableStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getEnabledGroupIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently enabled group items.
+     *
+     * @return A list, which contains the indices of all currently enabled group items, as an
+     * instance of the class {@link IndexList} or an empty list, if no group item is currently
+     * enabled
+     */
+    IndexList getEnabledGroupIndexList();
+
     /**
      * Returns a list, which contains all currently enabled group items.
      *
@@ -146,6 +157,15 @@ public interface EnableStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getDisabledGroupIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently disabled group items.
+     *
+     * @return A list, which contains the indices of all currently disabled group items, as an
+     * instance of the class {@link IndexList} or an empty list, if no group item is currently
+     * disabled
+     */
+    IndexList getDisabledGroupIndexList();
+
     /**
      * Returns a list, which contains all currently disabled group items.
      *
@@ -564,6 +584,20 @@ public interface EnableStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getEnabledChildIndices(@NonNull GroupType group);
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently enabled child items of
+     * a specific group.
+     *
+     * @param group
+     *         The group, the child items, whose indices should be returned, belong to, as an
+     *         instance of the generic type GroupType. The group may not be null. If the group does
+     *         not belong to the adapter, a {@link NoSuchElementException} will be thrown
+     * @return A list, which contains the indices of all currently enabled child items of the given
+     * group, as an instance of the class {@link IndexList} or an empty list, if no child item is
+     * currently enabled
+     */
+    IndexList getEnabledChildIndexList(@NonNull GroupType group);
+
     /**
      * Returns a list, which contains all currently enabled child items of a specific group.
      *
@@ -591,6 +625,21 @@ public interface EnableStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getEnabledChildIndices(int groupIndex);
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently enabled child items of
+     * a specific group.
+     *
+     * @param groupIndex
+     *         The index of the group, the child items, whose indices should be returned, belong to,
+     *         as an {@link Integer} value. The value must be between 0 and the value of the method
+     *         <code>getGroupCount():int</code> - 1, otherwise an {@link IndexOutOfBoundsException}
+     *         will be thrown
+     * @return A list, which contains the indices of all currently enabled child items of the given
+     * group, as an instance of the class {@link IndexList} or an empty list, if no child item is
+     * currently enabled
+     */
+    IndexList getEnabledChildIndexList(int groupIndex);
+
     /**
      * Returns a list, which contains all currently enabled child items of a specific group.
      *
@@ -627,6 +676,20 @@ public interface EnableStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getDisabledChildIndices(@NonNull GroupType group);
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently disabled child items
+     * of a specific group.
+     *
+     * @param group
+     *         The group, the child items, whose indices should be returned, belong to, as an
+     *         instance of the generic type GroupType. The group may not be null. If the group does
+     *         not belong to the adapter, a {@link NoSuchElementException} will be thrown
+     * @return A list, which contains the indices of all currently disabled child items of the given
+     * group, as an instance of the class {@link IndexList} or an empty list, if no child item is
+     * currently disabled
+     */
+    IndexList getDisabledChildIndexList(@NonNull GroupType group);
+
     /**
      * Returns a list, which contains all currently disabled child items of a specific group.
      *
@@ -654,6 +717,21 @@ public interface EnableStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getDisabledChildIndices(int groupIndex);
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently disabled child items
+     * of a specific group.
+     *
+     * @param groupIndex
+     *         The index of the group, the child items, whose indices should be returned, belong to,
+     *         as an {@link Integer} value. The value must be between 0 and the value of the method
+     *         <code>getGroupCount():int</code> - 1, otherwise an {@link IndexOutOfBoundsException}
+     *         will be thrown
+     * @return A list, which contains the indices of all currently disabled child items of the given
+     * group, as an instance of the class {@link IndexList} or an empty list, if no child item is
+     * currently disabled
+     */
+    IndexList getDisabledChildIndexList(int groupIndex);
+
     /**
      * Returns a list, which contains all currently disabled child items of a specific group.
      *
@@ -23,6 +23,7 @@ import java.util.Set;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.util.Pair;
 import de.mrapp.android.adapter.Filter;
 import de.mrapp.android.adapter.FilterQuery;
 import de.mrapp.android.adapter.Filterable;
@@ -221,7 +222,9 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
                     @NonNull final List<Group<GroupType, ChildType>> filteredItems,
                     @NonNull final List<Group<GroupType, ChildType>> unfilteredItems) {
                 for (Group<GroupType, ChildType> filteredGroup : filteredItems) {
-                    filteredGroup.getChildAdapter().setAllSelected(false);
+                    if (filteredGroup.hasChildAdapter()) {
+                        filteredGroup.getChildAdapter().setAllSelected(false);
+                    }
                 }
             }
 
@@ -258,17 +261,23 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
     private boolean resetChildFilter(final int groupIndex, @NonNull final String query,
                                      final int flags, boolean filterEmptyGroups) {
         resetGroupFilter("", Group.FLAG_FILTER_EMPTY_GROUPS);
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         Group<GroupType, ChildType> group = getGroupAdapter().getItem(groupIndex);
         boolean result = group.getChildAdapter().resetFilter(query, flags);
+        updatePackedPositions(groupIndex);
 
         if (result) {
             notifyOnResetChildFilter(query, flags, group.getData(), groupIndex,
                     getAllChildren(groupIndex));
-            notifyObserversOnDataSetChanged();
-            String message = "Reseted child filter of group \"" + group.getData() + "\" at index " +
-                    groupIndex + " with query \"" + query + "\" and flags \"" + flags + "\"";
-            getLogger().logInfo(getClass(), message);
-        } else {
+            notifyObserversOnDataSetChanged(snapshot);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Reseted child filter of group \"" + group.getData() +
+                        "\" at index " + groupIndex + " with query \"" + query + "\" and flags \"" +
+                        flags + "\"";
+                getLogger().logInfo(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
             String message =
                     "Child filter of group \"" + group.getData() + "\" at index " + groupIndex +
                             " with query \"" + query + "\" and flags \"" + flags +
@@ -425,23 +434,31 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
     @Nullable
     @Override
     public final List<GroupType> applyGroupFilter(@NonNull final String query, final int flags) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         List<Group<GroupType, ChildType>> filteredGroups =
                 getGroupAdapter().applyFilter(query, flags);
+        invalidatePackedPositions();
 
         if (filteredGroups != null) {
             notifyOnApplyGroupFilter(query, flags, null,
                     new UnmodifiableGroupList<>(filteredGroups), getAllGroups());
-            notifyObserversOnDataSetChanged();
-            String message =
-                    "Applied group filter using the query \"" + query + "\" and flags \"" + flags +
-                            "\"";
-            getLogger().logInfo(getClass(), message);
+            notifyObserversOnDataSetChanged(snapshot);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Applied group filter using the query \"" + query +
+                        "\" and flags \"" + flags + "\"";
+                getLogger().logInfo(getClass(), message);
+            }
+
             return new UnmodifiableGroupList<>(filteredGroups);
         } else {
-            String message = "Group filter using the query \"" + query + "\" and flags \"" + flags +
-                    "\" not applied, because a filter using the same query and flags is already " +
-                    "applied on the adapter";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Group filter using the query \"" + query + "\" and flags \"" +
+                        flags + "\" not applied, because a filter using the same query and " +
+                        "flags is already applied on the adapter";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return null;
         }
     }
@@ -450,40 +467,53 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
     @Override
     public final List<GroupType> applyGroupFilter(@NonNull final String query, final int flags,
                                                   @NonNull final Filter<GroupType> filter) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         List<Group<GroupType, ChildType>> filteredGroups = getGroupAdapter()
                 .applyFilter(query, flags, new GroupFilter<GroupType, ChildType>(filter));
+        invalidatePackedPositions();
 
         if (filteredGroups != null) {
             notifyOnApplyGroupFilter(query, flags, filter,
                     new UnmodifiableGroupList<>(filteredGroups), getAllGroups());
-            notifyObserversOnDataSetChanged();
-            String message =
-                    "Applied group filter using the query \"" + query + "\", flags \"" + flags +
-                            "\" and filter \"" + filter + "\"";
-            getLogger().logInfo(getClass(), message);
+            notifyObserversOnDataSetChanged(snapshot);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message =
+                        "Applied group filter using the query \"" + query + "\", flags \"" + flags +
+                                "\" and filter \"" + filter + "\"";
+                getLogger().logInfo(getClass(), message);
+            }
+
             return new UnmodifiableGroupList<>(filteredGroups);
         } else {
-            String message = "Group filter using the query \"" + query + "\" flags \"" + flags +
-                    "\" and filter \"" + filter +
-                    "\" not applied, because a filter using the same query, flags and filter is already " +
-                    "applied on the adapter";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Group filter using the query \"" + query + "\" flags \"" + flags +
+                        "\" and filter \"" + filter + "\" not applied, because a filter using " +
+                        "the same query, flags and filter is already applied on the adapter";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return null;
         }
     }
 
     @Override
     public final boolean resetGroupFilter(@NonNull final String query, final int flags) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         boolean result = getGroupAdapter().resetFilter(query, flags);
+        invalidatePackedPositions();
 
         if (result) {
             taintAdapterView();
-            notifyObserversOnDataSetChanged();
+            notifyObserversOnDataSetChanged(snapshot);
             notifyOnResetGroupFilter(query, flags, getAllGroups());
-            String message =
-                    "Reseted group filter with query \"" + query + "\" and flags \"" + flags + "\"";
-            getLogger().logInfo(getClass(), message);
-        } else {
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Reseted group filter with query \"" + query + "\" and flags \"" +
+                        flags + "\"";
+                getLogger().logInfo(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
             String message = "Group filter with query \"" + query + "\" and flags \"" + flags +
                     "\" not reseted, because no such filter is applied on the adapter";
             getLogger().logDebug(getClass(), message);
@@ -577,25 +607,31 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
     public final List<ChildType> applyChildFilter(final boolean filterEmptyGroup,
                                                   final int groupIndex, @NonNull final String query,
                                                   final int flags) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         Group<GroupType, ChildType> group = getGroupAdapter().getItem(groupIndex);
         List<ChildType> filteredChildren = group.getChildAdapter().applyFilter(query, flags);
+        updatePackedPositions(groupIndex);
 
         if (filteredChildren != null) {
             notifyOnApplyChildFilter(query, flags, null, group.getData(), groupIndex,
                     filteredChildren, getAllChildren(groupIndex));
-            notifyObserversOnDataSetChanged();
-            String message =
-                    "Applied child filter using the query \"" + query + "\" and flags \"" + flags +
-                            "\" on the group \"" + group.getData() + "\" at index " + groupIndex;
-            getLogger().logInfo(getClass(), message);
+            notifyObserversOnDataSetChanged(snapshot);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Applied child filter using the query \"" + query +
+                        "\" and flags \"" + flags + "\" on the group \"" + group.getData() +
+                        "\" at index " + groupIndex;
+                getLogger().logInfo(getClass(), message);
+            }
 
             if (filterEmptyGroup) {
                 applyGroupFilter("", Group.FLAG_FILTER_EMPTY_GROUPS);
             }
-        } else {
+        } else if (isLoggable(LogLevel.DEBUG)) {
             String message = "Child filter using the query \"" + query + "\" and flags \"" + flags +
                     "\" not applied on group \"" + group.getData() + "\" at index " + groupIndex +
-                    ", because a filter using the same query and flags is already applied on the group";
+                    ", because a filter using the same query and flags is already applied on " +
+                    "the group";
             getLogger().logDebug(getClass(), message);
         }
 
@@ -667,28 +703,32 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
                                                   final int groupIndex, @NonNull final String query,
                                                   final int flags,
                                                   @NonNull final Filter<ChildType> filter) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         Group<GroupType, ChildType> group = getGroupAdapter().getItem(groupIndex);
         List<ChildType> filteredChildren =
                 group.getChildAdapter().applyFilter(query, flags, filter);
+        updatePackedPositions(groupIndex);
 
         if (filteredChildren != null) {
             notifyOnApplyChildFilter(query, flags, filter, group.getData(), groupIndex,
                     filteredChildren, getAllChildren(groupIndex));
-            notifyObserversOnDataSetChanged();
-            String message =
-                    "Applied child filter using the query \"" + query + "\", flags \"" + flags +
-                            "\" and filter \"" + filter + "\" on the group \"" + group.getData() +
-                            "\" at index " + groupIndex;
-            getLogger().logInfo(getClass(), message);
+            notifyObserversOnDataSetChanged(snapshot);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Applied child filter using the query \"" + query +
+                        "\", flags \"" + flags + "\" and filter \"" + filter + "\" on the " +
+                        "group \"" + group.getData() + "\" at index " + groupIndex;
+                getLogger().logInfo(getClass(), message);
+            }
 
             if (filterEmptyGroup) {
                 applyGroupFilter("", Group.FLAG_FILTER_EMPTY_GROUPS);
             }
-        } else {
+        } else if (isLoggable(LogLevel.DEBUG)) {
             String message = "Child filter using the query \"" + query + "\", flags \"" + flags +
                     "\" and filter \"" + filter + "\" not applied on group \"" + group.getData() +
-                    "\" at index " + groupIndex +
-                    ", because a filter using the same query, flags and filter is already applied on the group";
+                    "\" at index " + groupIndex + ", because a filter using the same query, " +
+                    "flags and filter is already applied on the group";
             getLogger().logDebug(getClass(), message);
         }
 
@@ -745,10 +785,11 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
             resetChildFilter(groupIndex, filterQuery.getQuery(), filterQuery.getFlags());
         }
 
-        String message =
-                "Reseted all previously applied child filters of group \"" + getGroup(groupIndex) +
-                        "\" at index " + groupIndex;
-        getLogger().logInfo(getClass(), message);
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Reseted all previously applied child filters of group \"" +
+                    getGroup(groupIndex) + "\" at index " + groupIndex;
+            getLogger().logInfo(getClass(), message);
+        }
     }
 
     @Override
@@ -756,8 +797,11 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
             @NonNull final ExpandableListFilterListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         filterListeners.add(listener);
-        String message = "Added filter listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added filter listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -765,8 +809,11 @@ public abstract class AbstractFilterableExpandableListAdapter<GroupType, ChildTy
             @NonNull final ExpandableListFilterListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         filterListeners.remove(listener);
-        String message = "Removed filter listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed filter listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
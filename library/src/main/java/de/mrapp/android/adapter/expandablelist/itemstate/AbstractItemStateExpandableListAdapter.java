@@ -24,7 +24,9 @@ import java.util.List;
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.UnmodifiableList;
 import de.mrapp.android.adapter.datastructure.group.Group;
 import de.mrapp.android.adapter.datastructure.group.UnmodifiableGroupList;
@@ -344,11 +346,12 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
         addItemClickListener(createItemClickListener());
     }
 
+    @CallSuper
     @Override
-    protected final Group<GroupType, ChildType> createGroup(@NonNull final GroupType group) {
-        Group<GroupType, ChildType> groupItem = super.createGroup(group);
-        groupItem.getChildAdapter().setNumberOfItemStates(getNumberOfChildStates());
-        return groupItem;
+    protected void onChildAdapterCreated(
+            @NonNull final MultipleChoiceListAdapter<ChildType> childAdapter) {
+        super.onChildAdapterCreated(childAdapter);
+        childAdapter.setNumberOfItemStates(getNumberOfChildStates());
     }
 
     @CallSuper
@@ -379,8 +382,11 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
     public final void setNumberOfGroupStates(final int numberOfGroupStates) {
         Condition.INSTANCE.ensureAtLeast(numberOfGroupStates, 1, "The number of group states must be at least 1");
         getGroupAdapter().setNumberOfItemStates(numberOfGroupStates);
-        String message = "Set number of group states to " + numberOfGroupStates;
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set number of group states to " + numberOfGroupStates;
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -423,23 +429,33 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
             if (previousState != state) {
                 groupAdapter.setItemState(groupIndex, state);
                 notifyOnGroupStateChanged(group.getData(), groupIndex, state);
-                notifyObserversOnGroupChanged(groupIndex);
-                String message = "Changed state of group \"" + group.getData() + "\" at index " +
-                        groupIndex + " from " + previousState + " to " + state;
-                getLogger().logInfo(getClass(), message);
+                notifyObserversOnGroupChanged(groupIndex, ChangePayload.ITEM_STATE);
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message = "Changed state of group \"" + group.getData() +
+                            "\" at index " + groupIndex + " from " + previousState + " to " + state;
+                    getLogger().logInfo(getClass(), message);
+                }
+
                 return previousState;
             } else {
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "The state of group \"" + group.getData() + "\" at index " +
+                            groupIndex + " has not been changed, because state " + state +
+                            " is already set";
+                    getLogger().logDebug(getClass(), message);
+                }
+
+                return previousState;
+            }
+        } else {
+            if (isLoggable(LogLevel.DEBUG)) {
                 String message =
                         "The state of group \"" + group.getData() + "\" at index " + groupIndex +
-                                " has not been changed, because state " + state + " is already set";
+                                " has not been changed, because the group is disabled";
                 getLogger().logDebug(getClass(), message);
-                return previousState;
             }
-        } else {
-            String message =
-                    "The state of group \"" + group.getData() + "\" at index " + groupIndex +
-                            " has not been changed, because the group is disabled";
-            getLogger().logDebug(getClass(), message);
+
             return -1;
         }
     }
@@ -538,6 +554,11 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
         return getGroupAdapter().getIndicesWithSpecificState(state);
     }
 
+    @Override
+    public final IndexList getGroupIndexListWithSpecificState(final int state) {
+        return getGroupAdapter().getIndexListWithSpecificState(state);
+    }
+
     @Override
     public final List<GroupType> getGroupsWithSpecificState(final int state) {
         return new UnmodifiableGroupList<>(getGroupAdapter().getItemsWithSpecificState(state));
@@ -556,9 +577,12 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
     @Override
     public final void triggerGroupStateOnClick(final boolean triggerGroupStateOnClick) {
         getGroupAdapter().triggerItemStateOnClick(triggerGroupStateOnClick);
-        String message = "Group states are now " + (triggerGroupStateOnClick ? "" : "not ") +
-                "triggered on click";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Group states are now " + (triggerGroupStateOnClick ? "" : "not ") +
+                    "triggered on click";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -570,12 +594,18 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
     public final void setNumberOfChildStates(final int numberOfChildStates) {
         Condition.INSTANCE.ensureAtLeast(numberOfChildStates, 1, "The number of child states must be at least 1");
         this.numberOfChildStates = numberOfChildStates;
-        String message = "Set number of child states to " + numberOfChildStates;
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set number of child states to " + numberOfChildStates;
+            getLogger().logDebug(getClass(), message);
+        }
 
         for (int i = 0; i < getGroupCount(); i++) {
             Group<GroupType, ChildType> group = getGroupAdapter().getItem(i);
-            group.getChildAdapter().setNumberOfItemStates(numberOfChildStates);
+
+            if (group.hasChildAdapter()) {
+                group.getChildAdapter().setNumberOfItemStates(numberOfChildStates);
+            }
         }
     }
 
@@ -637,26 +667,37 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
                 childAdapter.setItemState(childIndex, state);
                 notifyOnChildStateChanged(childAdapter.getItem(childIndex), childIndex,
                         group.getData(), groupIndex, state);
-                notifyObserversOnChildChanged(groupIndex, childIndex);
-                String message = "Changed state of child \"" + childAdapter.getItem(childIndex) +
-                        "\" at index " + childIndex + " of group \"" + group.getData() +
-                        "\" at index " + groupIndex + " from " + previousState + " to " + state;
-                getLogger().logInfo(getClass(), message);
+                notifyObserversOnChildChanged(groupIndex, childIndex, ChangePayload.ITEM_STATE);
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message = "Changed state of child \"" +
+                            childAdapter.getItem(childIndex) + "\" at index " + childIndex +
+                            " of group \"" + group.getData() + "\" at index " + groupIndex +
+                            " from " + previousState + " to " + state;
+                    getLogger().logInfo(getClass(), message);
+                }
+
                 return previousState;
             } else {
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "The state of child \"" + childAdapter.getItem(childIndex) +
+                            "\" at index " + childIndex + " of group \"" + group.getData() +
+                            "\" at index " + groupIndex + " has not been changed, because state " +
+                            state + " is already set";
+                    getLogger().logDebug(getClass(), message);
+                }
+
+                return previousState;
+            }
+        } else {
+            if (isLoggable(LogLevel.DEBUG)) {
                 String message = "The state of child \"" + childAdapter.getItem(childIndex) +
                         "\" at index " + childIndex + " of group \"" + group.getData() +
-                        "\" at index " + groupIndex + " has not been changed, because state " +
-                        state + " is already set";
+                        "\" at index " + groupIndex + " has not been changed, because the " +
+                        "child is disabled";
                 getLogger().logDebug(getClass(), message);
-                return previousState;
             }
-        } else {
-            String message =
-                    "The state of child \"" + childAdapter.getItem(childIndex) + "\" at index " +
-                            childIndex + " of group \"" + group.getData() + "\" at index " +
-                            groupIndex + " has not been changed, because the child is disabled";
-            getLogger().logDebug(getClass(), message);
+
             return -1;
         }
     }
@@ -815,6 +856,19 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
                 .getIndicesWithSpecificState(state);
     }
 
+    @Override
+    public final IndexList getChildIndexListWithSpecificState(@NonNull final GroupType group,
+                                                              final int state) {
+        return getChildIndexListWithSpecificState(indexOfGroupOrThrowException(group), state);
+    }
+
+    @Override
+    public final IndexList getChildIndexListWithSpecificState(final int groupIndex,
+                                                              final int state) {
+        return getGroupAdapter().getItem(groupIndex).getChildAdapter()
+                .getIndexListWithSpecificState(state);
+    }
+
     @Override
     public final List<ChildType> getChildrenWithSpecificState(final int state) {
         List<ChildType> children = new ArrayList<>();
@@ -862,9 +916,12 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
     @Override
     public final void triggerChildStateOnClick(final boolean triggerChildStateOnClick) {
         this.triggerChildStateOnClick = triggerChildStateOnClick;
-        String message = "Child states are now " + (triggerChildStateOnClick ? "" : "not ") +
-                "triggered on click";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Child states are now " + (triggerChildStateOnClick ? "" : "not ") +
+                    "triggered on click";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -890,8 +947,11 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
             @NonNull final ExpandableListItemStateListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         itemStateListeners.add(listener);
-        String message = "Added item state listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added item state listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -899,8 +959,11 @@ public abstract class AbstractItemStateExpandableListAdapter<GroupType, ChildTyp
             @NonNull final ExpandableListItemStateListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         itemStateListeners.remove(listener);
-        String message = "Removed item state listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed item state listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @CallSuper
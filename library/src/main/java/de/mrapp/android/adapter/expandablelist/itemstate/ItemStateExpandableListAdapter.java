@@ -19,6 +19,8 @@ import android.widget.ExpandableListView;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import de.mrapp.android.adapter.datastructure.IndexList;
+
 /**
  * Defines the interface, an adapter, whose underlying data is managed as a list of arbitrary group
  * and child items, which may have different states, must implement. Such an adapter's purpose is to
@@ -276,6 +278,19 @@ public interface ItemStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getGroupIndicesWithSpecificState(int state);
 
+    /**
+     * Returns an immutable list, which contains the indices of all group items, which currently
+     * have a specific state.
+     *
+     * @param state
+     *         The state of the group items, whose indices should be returned, as an {@link Integer}
+     *         value
+     * @return A list, which contains the indices of all group items, which currently have a
+     * specific state, as an instance of the class {@link IndexList} or an empty list, if the
+     * adapter does not contain any group items with the given state
+     */
+    IndexList getGroupIndexListWithSpecificState(int state);
+
     /**
      * Returns a list, which contains all group items, which currently have a specific state.
      *
@@ -818,6 +833,23 @@ public interface ItemStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getChildIndicesWithSpecificState(@NonNull GroupType group, int state);
 
+    /**
+     * Returns an immutable list, which contains the indices of all child items of a specific group,
+     * which currently have a specific state.
+     *
+     * @param group
+     *         The group, the child items, whose indices should be returned, belong to, as an
+     *         instance of the generic type GroupType. The group may not be null. If the group does
+     *         not belong to the adapter, a {@link NoSuchElementException} will be thrown
+     * @param state
+     *         The state of the child items, whose indices should be returned, as an {@link Integer}
+     *         value
+     * @return A list, which contains the indices of all child items of the given group, which
+     * currently have a specific state, as an instance of the class {@link IndexList} or an empty
+     * list, if the group does not contain any child items with the given state
+     */
+    IndexList getChildIndexListWithSpecificState(@NonNull GroupType group, int state);
+
     /**
      * Returns a list, which contains the indices of all child items of the group, which belongs to
      * a specific index, which currently have a specific state.
@@ -836,6 +868,24 @@ public interface ItemStateExpandableListAdapter<GroupType, ChildType> {
      */
     List<Integer> getChildIndicesWithSpecificState(int groupIndex, int state);
 
+    /**
+     * Returns an immutable list, which contains the indices of all child items of the group, which
+     * belongs to a specific index, which currently have a specific state.
+     *
+     * @param groupIndex
+     *         The index of the group, the child items, whose indices should be returned, belong to,
+     *         as an {@link Integer} value. The value must be between 0 and the value of the method
+     *         <code>getGroupCount():int</code> - 1, otherwise an {@link IndexOutOfBoundsException}
+     *         will be thrown
+     * @param state
+     *         The state of the child items, whose indices should be returned, as an {@link Integer}
+     *         value
+     * @return A list, which contains the indices of all child items of the given group, which
+     * currently have a specific state, as an instance of the class {@link IndexList} or an empty
+     * list, if the group does not contain any child items with the given state
+     */
+    IndexList getChildIndexListWithSpecificState(int groupIndex, int state);
+
     /**
      * Returns a list, which contains all child items, regardless of the group they belong to, which
      * currently have a specific state.
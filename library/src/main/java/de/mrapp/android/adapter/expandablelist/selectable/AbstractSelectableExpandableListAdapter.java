@@ -18,9 +18,12 @@ import android.os.Bundle;
 import android.view.View;
 import android.widget.ExpandableListView;
 
+import java.util.Set;
+
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.ChoiceMode;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
 import de.mrapp.android.adapter.SelectableExpandableListDecorator;
@@ -420,6 +423,36 @@ public abstract class AbstractSelectableExpandableListAdapter<GroupType, ChildTy
                         enabled, state, filtered, selected);
     }
 
+    @Override
+    protected final void applyDecoratorOnGroupPartially(
+            @NonNull final Context context, @NonNull final View view, final int index,
+            @NonNull final Set<ChangePayload> payloads) {
+        GroupType group = getGroup(index);
+        boolean expanded = isGroupExpanded(index);
+        boolean enabled = isGroupEnabled(index);
+        int state = getGroupState(index);
+        boolean filtered = areGroupsFiltered();
+        boolean selected = isGroupSelected(index);
+        getDecorator()
+                .applyDecoratorOnGroupPartially(context, this, view, group, index, expanded,
+                        enabled, state, filtered, selected, payloads);
+    }
+
+    @Override
+    protected final void applyDecoratorOnChildPartially(
+            @NonNull final Context context, @NonNull final View view, final int groupIndex,
+            final int childIndex, @NonNull final Set<ChangePayload> payloads) {
+        GroupType group = getGroup(groupIndex);
+        ChildType child = getChild(groupIndex, childIndex);
+        boolean enabled = isChildEnabled(groupIndex, childIndex);
+        int state = getChildState(groupIndex, childIndex);
+        boolean filtered = areChildrenFiltered();
+        boolean selected = isChildSelected(groupIndex, childIndex);
+        getDecorator()
+                .applyDecoratorOnChildPartially(context, this, view, child, childIndex, group,
+                        groupIndex, enabled, state, filtered, selected, payloads);
+    }
+
     @CallSuper
     @Override
     protected void onSaveInstanceState(@NonNull final Bundle outState) {
@@ -21,10 +21,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.ChoiceMode;
 import de.mrapp.android.adapter.MultipleChoiceExpandableListAdapter;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
 import de.mrapp.android.adapter.SelectableExpandableListDecorator;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.group.Group;
 import de.mrapp.android.adapter.datastructure.group.UnmodifiableGroupList;
 import de.mrapp.android.adapter.expandablelist.ExpandableListAdapter;
@@ -333,6 +335,16 @@ public class MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildT
         return getGroupAdapter().getUnselectedIndices();
     }
 
+    @Override
+    public final IndexList getSelectedGroupIndexList() {
+        return getGroupAdapter().getSelectedIndexList();
+    }
+
+    @Override
+    public final IndexList getUnselectedGroupIndexList() {
+        return getGroupAdapter().getUnselectedIndexList();
+    }
+
     @Override
     public final List<GroupType> getUnselectedGroups() {
         return new UnmodifiableGroupList<>(getGroupAdapter().getUnselectedItems());
@@ -359,10 +371,13 @@ public class MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildT
                     notifyOnGroupUnselected(group.getData(), index);
                 }
 
-                notifyObserversOnGroupChanged(index);
-                String message = selected ? "Selected" :
-                        "Unselected" + "group \"" + group.getData() + "\" at index " + index;
-                getLogger().logInfo(getClass(), message);
+                notifyObserversOnGroupChanged(index, ChangePayload.SELECTION);
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message = selected ? "Selected" :
+                            "Unselected" + "group \"" + group.getData() + "\" at index " + index;
+                    getLogger().logInfo(getClass(), message);
+                }
 
                 if (isGroupExpandedOnSelection() && selected) {
                     setGroupExpanded(index, true);
@@ -370,17 +385,23 @@ public class MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildT
 
                 return true;
             } else {
-                String message =
-                        "The selection of group \"" + group.getData() + " at index " + index +
-                                " has not been changed, because it is already " +
-                                (selected ? "selected" : "unselected");
-                getLogger().logDebug(getClass(), message);
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message =
+                            "The selection of group \"" + group.getData() + " at index " + index +
+                                    " has not been changed, because it is already " +
+                                    (selected ? "selected" : "unselected");
+                    getLogger().logDebug(getClass(), message);
+                }
+
                 return false;
             }
         } else {
-            String message = "Group \"" + group.getData() + " at index " + index +
-                    " not selected, because it is disabled";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Group \"" + group.getData() + " at index " + index +
+                        " not selected, because it is disabled";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
     }
@@ -621,6 +642,26 @@ public class MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildT
         return getGroupAdapter().getItem(groupIndex).getChildAdapter().getUnselectedIndices();
     }
 
+    @Override
+    public final IndexList getSelectedChildIndexList(@NonNull final GroupType group) {
+        return getSelectedChildIndexList(indexOfGroupOrThrowException(group));
+    }
+
+    @Override
+    public final IndexList getSelectedChildIndexList(final int groupIndex) {
+        return getGroupAdapter().getItem(groupIndex).getChildAdapter().getSelectedIndexList();
+    }
+
+    @Override
+    public final IndexList getUnselectedChildIndexList(@NonNull final GroupType group) {
+        return getUnselectedChildIndexList(indexOfGroupOrThrowException(group));
+    }
+
+    @Override
+    public final IndexList getUnselectedChildIndexList(final int groupIndex) {
+        return getGroupAdapter().getItem(groupIndex).getChildAdapter().getUnselectedIndexList();
+    }
+
     @Override
     public List<ChildType> getUnselectedChildren() {
         List<ChildType> result = new ArrayList<>();
@@ -678,12 +719,15 @@ public class MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildT
                             childAdapter.getItem(childIndex), childIndex);
                 }
 
-                notifyObserversOnChildChanged(groupIndex, childIndex);
-                String message = selected ? "Selected" :
-                        "Unselected" + " child \"" + childAdapter.getItemId(childIndex) +
-                                "\" at index " + childIndex + " of group \"" + group.getData() +
-                                "\" at index " + groupIndex;
-                getLogger().logInfo(getClass(), message);
+                notifyObserversOnChildChanged(groupIndex, childIndex, ChangePayload.SELECTION);
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message = selected ? "Selected" :
+                            "Unselected" + " child \"" + childAdapter.getItemId(childIndex) +
+                                    "\" at index " + childIndex + " of group \"" + group.getData() +
+                                    "\" at index " + groupIndex;
+                    getLogger().logInfo(getClass(), message);
+                }
 
                 if (isGroupExpandedOnChildSelection() && selected) {
                     setGroupExpanded(groupIndex, true);
@@ -691,18 +735,25 @@ public class MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildT
 
                 return true;
             } else {
-                String message = "The selection of child \"" + childAdapter.getItemId(childIndex) +
-                        " at index " + childIndex + " of group \"" + group.getData() +
-                        "\" at index " + groupIndex + " not selected, because it is disabled";
-                getLogger().logDebug(getClass(), message);
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "The selection of child \"" +
+                            childAdapter.getItemId(childIndex) + " at index " + childIndex +
+                            " of group \"" + group.getData() + "\" at index " + groupIndex +
+                            " not selected, because it is disabled";
+                    getLogger().logDebug(getClass(), message);
+                }
+
                 return false;
             }
         } else {
-            String message =
-                    "Child \"" + childAdapter.getItem(childIndex) + " at index " + childIndex +
-                            " of group \"" + group.getData() + "\" at index " + groupIndex +
-                            " not selected, because it is disabled";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message =
+                        "Child \"" + childAdapter.getItem(childIndex) + " at index " + childIndex +
+                                " of group \"" + group.getData() + "\" at index " + groupIndex +
+                                " not selected, because it is disabled";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
     }
@@ -805,16 +856,22 @@ public class MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildT
     @Override
     public final MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildType> clone()
             throws CloneNotSupportedException {
-        return new MultipleChoiceExpandableListAdapterImplementation<>(getContext(), getDecorator(),
-                getLogLevel(), getGroupAdapter(), areDuplicateChildrenAllowed(),
-                isNotifiedOnChange(), isGroupExpansionTriggeredOnClick(), getItemClickListeners(),
-                getItemLongClickListeners(), getAdapterListeners(), getExpansionListeners(),
-                areChildEnableStatesSetImplicitly(), getEnableStateListeners(),
-                getNumberOfGroupStates(), getNumberOfChildStates(), isGroupStateTriggeredOnClick(),
-                isChildStateTriggeredOnClick(), areChildStatesSetImplicitly(),
-                getItemStateListeners(), getSortingListeners(), getFilterListeners(),
-                isGroupSelectedOnClick(), isChildSelectedOnClick(), isGroupExpandedOnSelection(),
-                isGroupExpandedOnChildSelection(), getSelectionListeners(), getChoiceMode());
+        MultipleChoiceExpandableListAdapterImplementation<GroupType, ChildType> clonedAdapter =
+                new MultipleChoiceExpandableListAdapterImplementation<>(getContext(),
+                        getDecorator(), getLogLevel(), getGroupAdapter(),
+                        areDuplicateChildrenAllowed(), isNotifiedOnChange(),
+                        isGroupExpansionTriggeredOnClick(), getItemClickListeners(),
+                        getItemLongClickListeners(), getAdapterListeners(), getExpansionListeners(),
+                        areChildEnableStatesSetImplicitly(), getEnableStateListeners(),
+                        getNumberOfGroupStates(), getNumberOfChildStates(),
+                        isGroupStateTriggeredOnClick(), isChildStateTriggeredOnClick(),
+                        areChildStatesSetImplicitly(), getItemStateListeners(),
+                        getSortingListeners(), getFilterListeners(), isGroupSelectedOnClick(),
+                        isChildSelectedOnClick(), isGroupExpandedOnSelection(),
+                        isGroupExpandedOnChildSelection(), getSelectionListeners(),
+                        getChoiceMode());
+        clonedAdapter.setDiffCallbacks(getGroupDiffCallback(), getChildDiffCallback());
+        return clonedAdapter;
     }
 
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import java.util.List;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.ChoiceMode;
 import de.mrapp.android.adapter.Filter;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
@@ -139,9 +140,13 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
         if (getGroupAdapter().isSelected(groupIndex)) {
             getGroupAdapter().setSelected(groupIndex, false);
             notifyOnGroupUnselected(group.getData(), groupIndex);
-            notifyObserversOnGroupChanged(groupIndex);
-            String message = "Unselected group \"" + group.getData() + "\" at index " + groupIndex;
-            getLogger().logInfo(getClass(), message);
+            notifyObserversOnGroupChanged(groupIndex, ChangePayload.SELECTION);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Unselected group \"" + group.getData() + "\" at index " +
+                        groupIndex;
+                getLogger().logInfo(getClass(), message);
+            }
         }
 
         unselectChildren(groupIndex, group);
@@ -167,11 +172,14 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
                     childAdapter.setSelected(i, false);
                     notifyOnChildUnselected(group.getData(), groupIndex, childAdapter.getItem(i),
                             i);
-                    notifyObserversOnChildChanged(groupIndex, i);
-                    String message =
-                            "Unselected child \"" + childAdapter.getItem(i) + "\" at index " + i +
-                                    " of group " + group.getData() + " at index " + groupIndex;
-                    getLogger().logInfo(getClass(), message);
+                    notifyObserversOnChildChanged(groupIndex, i, ChangePayload.SELECTION);
+
+                    if (isLoggable(LogLevel.INFO)) {
+                        String message = "Unselected child \"" + childAdapter.getItem(i) +
+                                "\" at index " + i + " of group " + group.getData() + " at index " +
+                                groupIndex;
+                        getLogger().logInfo(getClass(), message);
+                    }
                 }
             }
         }
@@ -301,10 +309,14 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
                     if (i == groupIndex) {
                         getGroupAdapter().setSelected(i, true);
                         notifyOnGroupSelected(currentGroup.getData(), i);
-                        notifyObserversOnGroupChanged(i);
-                        String message =
-                                "Selected group \"" + currentGroup.getData() + "\" at index " + i;
-                        getLogger().logInfo(getClass(), message);
+                        notifyObserversOnGroupChanged(i, ChangePayload.SELECTION);
+
+                        if (isLoggable(LogLevel.INFO)) {
+                            String message = "Selected group \"" + currentGroup.getData() +
+                                    "\" at index " + i;
+                            getLogger().logInfo(getClass(), message);
+                        }
+
                         unselectChildren(groupIndex, currentGroup);
                     } else {
                         unselectGroupAndChildren(i, currentGroup);
@@ -336,7 +348,7 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
         if (childAdapter.isEnabled(childIndex)) {
             if (!childAdapter.isSelected(childIndex)) {
                 groupAdapter.setSelected(groupIndex, false);
-                notifyObserversOnGroupChanged(groupIndex);
+                notifyObserversOnGroupChanged(groupIndex, ChangePayload.SELECTION);
 
                 for (int i = 0; i < getGroupCount(); i++) {
                     if (i != groupIndex) {
@@ -349,22 +361,26 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
                         childAdapter.setSelected(i, true);
                         notifyOnChildSelected(group.getData(), groupIndex, childAdapter.getItem(i),
                                 i);
-                        notifyObserversOnChildChanged(groupIndex, i);
-                        String message =
-                                "Selected child \"" + childAdapter.getItemId(i) + "\" at index " +
-                                        i + " of group \"" + group.getData() + "\" at index " +
-                                        groupIndex;
-                        getLogger().logInfo(getClass(), message);
+                        notifyObserversOnChildChanged(groupIndex, i, ChangePayload.SELECTION);
+
+                        if (isLoggable(LogLevel.INFO)) {
+                            String message = "Selected child \"" + childAdapter.getItemId(i) +
+                                    "\" at index " + i + " of group \"" + group.getData() +
+                                    "\" at index " + groupIndex;
+                            getLogger().logInfo(getClass(), message);
+                        }
                     } else if (childAdapter.isSelected(i)) {
                         childAdapter.setSelected(i, false);
                         notifyOnChildUnselected(group.getData(), groupIndex,
                                 childAdapter.getItem(i), i);
-                        notifyObserversOnChildChanged(groupIndex, i);
-                        String message =
-                                "Unselected child \"" + childAdapter.getItem(i) + "\" at index " +
-                                        i + " of group \"" + group.getData() + " at index " +
-                                        groupIndex;
-                        getLogger().logInfo(getClass(), message);
+                        notifyObserversOnChildChanged(groupIndex, i, ChangePayload.SELECTION);
+
+                        if (isLoggable(LogLevel.INFO)) {
+                            String message = "Unselected child \"" + childAdapter.getItem(i) +
+                                    "\" at index " + i + " of group \"" + group.getData() +
+                                    " at index " + groupIndex;
+                            getLogger().logInfo(getClass(), message);
+                        }
                     }
                 }
 
@@ -750,10 +766,10 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
 
         if (groupIndex == -1) {
             for (int i = 0; i < getGroupCount(); i++) {
-                int childIndex =
-                        getGroupAdapter().getItem(i).getChildAdapter().getFirstSelectedIndex();
+                Group<GroupType, ChildType> group = getGroupAdapter().getItem(i);
 
-                if (childIndex != -1) {
+                if (group.hasChildAdapter() &&
+                        group.getChildAdapter().getFirstSelectedIndex() != -1) {
                     return i;
                 }
             }
@@ -767,7 +783,9 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
     @Override
     public final int getSelectedChildIndex() {
         for (int i = 0; i < getGroupCount(); i++) {
-            int childIndex = getGroupAdapter().getItem(i).getChildAdapter().getFirstSelectedIndex();
+            Group<GroupType, ChildType> group = getGroupAdapter().getItem(i);
+            int childIndex =
+                    group.hasChildAdapter() ? group.getChildAdapter().getFirstSelectedIndex() : -1;
 
             if (childIndex != -1) {
                 return childIndex;
@@ -791,7 +809,9 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
     @Override
     public final ChildType getSelectedChild() {
         for (int i = 0; i < getGroupCount(); i++) {
-            ChildType child = getGroupAdapter().getItem(i).getChildAdapter().getFirstSelectedItem();
+            Group<GroupType, ChildType> group = getGroupAdapter().getItem(i);
+            ChildType child =
+                    group.hasChildAdapter() ? group.getChildAdapter().getFirstSelectedItem() : null;
 
             if (child != null) {
                 return child;
@@ -819,17 +839,23 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
             } else {
                 groupAdapter.setSelected(groupIndex, false);
                 notifyOnGroupUnselected(group.getData(), groupIndex);
-                notifyObserversOnGroupChanged(groupIndex);
-                String message =
-                        "Unselected group \"" + group.getData() + "\" at index " + groupIndex;
-                getLogger().logDebug(getClass(), message);
+                notifyObserversOnGroupChanged(groupIndex, ChangePayload.SELECTION);
+
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message =
+                            "Unselected group \"" + group.getData() + "\" at index " + groupIndex;
+                    getLogger().logDebug(getClass(), message);
+                }
+
                 return true;
             }
         } else {
-            String message =
-                    "The selection of group \"" + group.getData() + "\" at index " + groupIndex +
-                            " has not been changed, because it is disabled";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "The selection of group \"" + group.getData() + "\" at index " +
+                        groupIndex + " has not been changed, because it is disabled";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
     }
@@ -868,22 +894,28 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
                 selectChildItem(groupIndex, childIndex);
                 return true;
             } else {
-                String message = "The selection of child \"" + childAdapter.getItem(childIndex) +
-                        "\" at index " + childIndex + " of group \"" + group.getData() +
-                        " at index " + groupIndex +
-                        " has not been changed, because it is already selected";
-                getLogger().logDebug(getClass(), message);
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "The selection of child \"" +
+                            childAdapter.getItem(childIndex) + "\" at index " + childIndex +
+                            " of group \"" + group.getData() + " at index " + groupIndex +
+                            " has not been changed, because it is already selected";
+                    getLogger().logDebug(getClass(), message);
+                }
+
                 return false;
             }
         } else {
             childAdapter.setSelected(childIndex, false);
             ChildType child = childAdapter.getItem(childIndex);
             notifyOnChildUnselected(group.getData(), groupIndex, child, childIndex);
-            notifyObserversOnChildChanged(groupIndex, childIndex);
-            String message =
-                    "Unselected child \"" + child + "\" at index " + childIndex + " of group \"" +
-                            group.getData() + " at index " + groupIndex;
-            getLogger().logDebug(getClass(), message);
+            notifyObserversOnChildChanged(groupIndex, childIndex, ChangePayload.SELECTION);
+
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Unselected child \"" + child + "\" at index " + childIndex +
+                        " of group \"" + group.getData() + " at index " + groupIndex;
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
     }
@@ -952,17 +984,22 @@ public class SingleChoiceExpandableListAdapterImplementation<GroupType, ChildTyp
     @Override
     public final SingleChoiceExpandableListAdapterImplementation<GroupType, ChildType> clone()
             throws CloneNotSupportedException {
-        return new SingleChoiceExpandableListAdapterImplementation<>(getContext(), getDecorator(),
-                getLogLevel(), cloneGroupAdapter(), areDuplicateChildrenAllowed(),
-                isNotifiedOnChange(), isGroupExpansionTriggeredOnClick(), getItemClickListeners(),
-                getItemLongClickListeners(), getAdapterListeners(), getExpansionListeners(),
-                areChildEnableStatesSetImplicitly(), getEnableStateListeners(),
-                getNumberOfGroupStates(), getNumberOfChildStates(), isGroupStateTriggeredOnClick(),
-                isChildStateTriggeredOnClick(), areChildStatesSetImplicitly(),
-                getItemStateListeners(), getSortingListeners(), getFilterListeners(),
-                isGroupSelectedOnClick(), isChildSelectedOnClick(), isGroupExpandedOnSelection(),
-                isGroupExpandedOnChildSelection(), getSelectionListeners(), getChoiceMode(),
-                isSelectionAdaptedAutomatically());
+        SingleChoiceExpandableListAdapterImplementation<GroupType, ChildType> clonedAdapter =
+                new SingleChoiceExpandableListAdapterImplementation<>(getContext(), getDecorator(),
+                        getLogLevel(), cloneGroupAdapter(), areDuplicateChildrenAllowed(),
+                        isNotifiedOnChange(), isGroupExpansionTriggeredOnClick(),
+                        getItemClickListeners(), getItemLongClickListeners(), getAdapterListeners(),
+                        getExpansionListeners(), areChildEnableStatesSetImplicitly(),
+                        getEnableStateListeners(), getNumberOfGroupStates(),
+                        getNumberOfChildStates(), isGroupStateTriggeredOnClick(),
+                        isChildStateTriggeredOnClick(), areChildStatesSetImplicitly(),
+                        getItemStateListeners(), getSortingListeners(), getFilterListeners(),
+                        isGroupSelectedOnClick(), isChildSelectedOnClick(),
+                        isGroupExpandedOnSelection(), isGroupExpandedOnChildSelection(),
+                        getSelectionListeners(), getChoiceMode(),
+                        isSelectionAdaptedAutomatically());
+        clonedAdapter.setDiffCallbacks(getGroupDiffCallback(), getChildDiffCallback());
+        return clonedAdapter;
     }
 
 }
\ No newline at end of file
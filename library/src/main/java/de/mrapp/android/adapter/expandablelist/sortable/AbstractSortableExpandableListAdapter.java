@@ -21,11 +21,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import androidx.core.util.Pair;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
 import de.mrapp.android.adapter.Order;
 import de.mrapp.android.adapter.datastructure.group.Group;
@@ -338,7 +340,9 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
 
     @Override
     public final void sortGroups(@NonNull final Order order) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         getGroupAdapter().sort(order);
+        invalidatePackedPositions();
 
         if (order == Order.ASCENDING) {
             String message = "Sorted groups in ascending order";
@@ -348,7 +352,7 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
             getLogger().logInfo(getClass(), message);
         }
 
-        notifyObserversOnDataSetChanged();
+        notifyObserversOnDataSetChanged(snapshot);
         notifyOnGroupsSorted(getAllGroups(), order, null);
     }
 
@@ -360,8 +364,10 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
     @Override
     public final void sortGroups(@NonNull final Order order,
                                  @Nullable final Comparator<GroupType> comparator) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         Comparator<Group<GroupType, ChildType>> groupComparator = new GroupComparator<>(comparator);
         getGroupAdapter().sort(order, groupComparator);
+        invalidatePackedPositions();
 
         if (order == Order.ASCENDING) {
             String message = "Sorted groups in ascending order";
@@ -371,7 +377,7 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
             getLogger().logInfo(getClass(), message);
         }
 
-        notifyObserversOnDataSetChanged();
+        notifyObserversOnDataSetChanged(snapshot);
         notifyOnGroupsSorted(getAllGroups(), order, comparator);
     }
 
@@ -398,11 +404,15 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
             int index = getGroupAdapter().addItemSorted(groupToAdd, groupComparator);
 
             if (index != -1) {
+                updatePackedPositionsOnGroupInserted(index);
                 notifyOnGroupAdded(group, index);
                 notifyObserversOnGroupInserted(index);
-                String message = "Group \"" + group + "\" added at index " + index;
-                getLogger().logInfo(getClass(), message);
-            } else {
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message = "Group \"" + group + "\" added at index " + index;
+                    getLogger().logInfo(getClass(), message);
+                }
+            } else if (isLoggable(LogLevel.DEBUG)) {
                 String message =
                         "Group \"" + group + "\" not added, because adapter already contains group";
                 getLogger().logDebug(getClass(), message);
@@ -489,20 +499,23 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
 
     @Override
     public final void sortChildren(final int groupIndex, @NonNull final Order order) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         Group<GroupType, ChildType> group = getGroupAdapter().getItem(groupIndex);
         group.getChildAdapter().sort(order);
 
         if (order == Order.ASCENDING) {
-            String message =
-                    "Sorted children of group \"" + group.getData() + "\" in ascending order";
-            getLogger().logInfo(getClass(), message);
-        } else {
+            if (isLoggable(LogLevel.INFO)) {
+                String message =
+                        "Sorted children of group \"" + group.getData() + "\" in ascending order";
+                getLogger().logInfo(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.INFO)) {
             String message =
                     "Sorted children of group \"" + group.getData() + "\" in descending order";
             getLogger().logInfo(getClass(), message);
         }
 
-        notifyObserversOnDataSetChanged();
+        notifyObserversOnDataSetChanged(snapshot);
         notifyOnChildrenSorted(getAllChildren(groupIndex), order, null, group.getData(),
                 groupIndex);
     }
@@ -516,20 +529,23 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
     @Override
     public final void sortChildren(final int groupIndex, @NonNull final Order order,
                                    @Nullable final Comparator<ChildType> comparator) {
+        List<Pair<GroupType, ChildType>> snapshot = createDiffSnapshot();
         Group<GroupType, ChildType> group = getGroupAdapter().getItem(groupIndex);
         group.getChildAdapter().sort(order, comparator);
 
         if (order == Order.ASCENDING) {
-            String message =
-                    "Sorted children of group \"" + group.getData() + "\" in ascending order";
-            getLogger().logInfo(getClass(), message);
-        } else {
+            if (isLoggable(LogLevel.INFO)) {
+                String message =
+                        "Sorted children of group \"" + group.getData() + "\" in ascending order";
+                getLogger().logInfo(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.INFO)) {
             String message =
                     "Sorted children of group \"" + group.getData() + "\" in descending order";
             getLogger().logInfo(getClass(), message);
         }
 
-        notifyObserversOnDataSetChanged();
+        notifyObserversOnDataSetChanged(snapshot);
         notifyOnChildrenSorted(getAllChildren(groupIndex), order, comparator, group.getData(),
                 groupIndex);
     }
@@ -588,13 +604,17 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
                 int index = group.getChildAdapter().addItemSorted(child, comparator);
 
                 if (index != -1) {
+                    updatePackedPositions(groupIndex);
                     notifyOnChildAdded(child, index, group.getData(), groupIndex);
                     notifyObserversOnChildInserted(groupIndex, index);
-                    String message =
-                            "Child \"" + child + "\" added at index " + index + " to group \"" +
-                                    group.getData() + "\" at index " + groupIndex;
-                    getLogger().logInfo(getClass(), message);
-                } else {
+
+                    if (isLoggable(LogLevel.INFO)) {
+                        String message =
+                                "Child \"" + child + "\" added at index " + index + " to group \"" +
+                                        group.getData() + "\" at index " + groupIndex;
+                        getLogger().logInfo(getClass(), message);
+                    }
+                } else if (isLoggable(LogLevel.DEBUG)) {
                     String message =
                             "Child \"" + child + "\" not added to group \"" + group.getData() +
                                     "\" at index " + groupIndex +
@@ -605,15 +625,22 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
                 this.childOrder = currentChildOrder;
                 return index;
             } else {
-                String message = "Child \"" + child + "\" not added to group \"" + group.getData() +
-                        "\" at index " + groupIndex + ", because adapter already contains child";
-                getLogger().logDebug(getClass(), message);
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Child \"" + child + "\" not added to group \"" +
+                            group.getData() + "\" at index " + groupIndex + ", because adapter " +
+                            "already contains child";
+                    getLogger().logDebug(getClass(), message);
+                }
+
                 return -1;
             }
         } else {
-            String message = "The children of the group at index " + groupIndex +
-                    " are currently not sorted. Child will be added at the end...";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "The children of the group at index " + groupIndex +
+                        " are currently not sorted. Child will be added at the end...";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return addChild(groupIndex, child);
         }
     }
@@ -702,8 +729,11 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
             @NonNull final ExpandableListSortingListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         sortingListeners.add(listener);
-        String message = "Added sorting listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added sorting listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -711,8 +741,11 @@ public abstract class AbstractSortableExpandableListAdapter<GroupType, ChildType
             @NonNull final ExpandableListSortingListener<GroupType, ChildType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         sortingListeners.remove(listener);
-        String message = "Removed sorting listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed sorting listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @CallSuper
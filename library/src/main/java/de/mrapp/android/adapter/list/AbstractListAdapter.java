@@ -27,17 +27,25 @@ import android.widget.AbsListView;
 import android.widget.AdapterView;
 import android.widget.ListView;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import androidx.annotation.CallSuper;
@@ -45,15 +53,30 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.annotation.VisibleForTesting;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
+import de.mrapp.android.adapter.ChangePayload;
+import de.mrapp.android.adapter.InstanceStateStore;
+import de.mrapp.android.adapter.ItemCodec;
+import de.mrapp.android.adapter.ItemIdProvider;
 import de.mrapp.android.adapter.RestoreInstanceStateException;
+import de.mrapp.android.adapter.SnapshotFile;
+import de.mrapp.android.adapter.datastructure.Snapshot;
 import de.mrapp.android.adapter.datastructure.UnmodifiableList;
+import de.mrapp.android.adapter.datastructure.item.CompactItemList;
 import de.mrapp.android.adapter.datastructure.item.Item;
+import de.mrapp.android.adapter.datastructure.item.ItemCounter;
+import de.mrapp.android.adapter.datastructure.item.ItemFlagIndex;
+import de.mrapp.android.adapter.datastructure.item.ItemHashIndex;
 import de.mrapp.android.adapter.datastructure.item.ItemIterator;
 import de.mrapp.android.adapter.datastructure.item.ItemListIterator;
+import de.mrapp.android.adapter.datastructure.item.ItemSnapshot;
 import de.mrapp.android.adapter.datastructure.item.UnmodifiableItemList;
 import de.mrapp.android.adapter.decorator.AbstractListDecorator;
 import de.mrapp.android.adapter.util.AdapterViewUtil;
+import de.mrapp.android.adapter.util.ListDiffCallback;
+import de.mrapp.android.adapter.util.NotificationScheduler;
+import de.mrapp.android.adapter.util.ThreadUtil;
 import de.mrapp.android.util.logging.LogLevel;
 import de.mrapp.android.util.logging.Logger;
 import de.mrapp.android.util.view.ViewHolder;
@@ -89,13 +112,30 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
             AbstractListAdapter.class.getSimpleName() + "::AdapterViewState";
 
     /**
-     * The key, which is used to store the adapter's underlying data within a bundle, if it
-     * implements the interface {@link Parcelable}.
+     * The key, which is used to store the adapter's underlying data within a bundle, if it has
+     * been encoded by using an {@link ItemCodec}.
+     */
+    @VisibleForTesting
+    protected static final String ENCODED_ITEMS_BUNDLE_KEY =
+            AbstractListAdapter.class.getSimpleName() + "::EncodedItems";
+
+    /**
+     * The key, which has been used by previous versions to store the adapter's underlying data
+     * item by item within a bundle, if it implements the interface {@link Parcelable}. Bundles,
+     * which use this key, can still be restored.
      */
     @VisibleForTesting
     protected static final String PARCELABLE_ITEMS_BUNDLE_KEY =
             AbstractListAdapter.class.getSimpleName() + "::ParcelableItems";
 
+    /**
+     * The key, which is used to store the adapter's underlying data in a compact format within a
+     * bundle, if it implements the interface {@link Parcelable}.
+     */
+    @VisibleForTesting
+    protected static final String COMPACT_ITEMS_BUNDLE_KEY =
+            AbstractListAdapter.class.getSimpleName() + "::CompactItems";
+
     /**
      * The key, which is used to store the adapter's underlying data within a bundle, if it
      * implements the interface {@link Serializable}.
@@ -112,6 +152,14 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     protected static final String ALLOW_DUPLICATES_BUNDLE_KEY =
             AbstractListAdapter.class.getSimpleName() + "::AllowDuplicates";
 
+    /**
+     * The key, which is used to store, whether a hash index should be used to look up the
+     * positions of items, or not, within a bundle.
+     */
+    @VisibleForTesting
+    protected static final String USE_HASH_INDEX_BUNDLE_KEY =
+            AbstractListAdapter.class.getSimpleName() + "::UseHashIndex";
+
     /**
      * The key, which is used to store, whether the method <code>notifyDataSetChanged():void</code>
      * should be called automatically when the adapter's underlying data has been changed, or not,
@@ -149,9 +197,9 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
 
     /**
      * A map, which contains the data set observers, which are notified, when the underlying data of
-     * the adapter changes.
+     * the adapter changes. The map is created lazily, when the first observer is registered.
      */
-    private final transient Map<DataSetObserver, RecyclerView.AdapterDataObserver> dataSetObservers;
+    private transient Map<DataSetObserver, RecyclerView.AdapterDataObserver> dataSetObservers;
 
     /**
      * The logger, which is used for logging.
@@ -196,6 +244,113 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
      */
     private boolean allowDuplicates;
 
+    /**
+     * True, if a hash index is used to look up the positions of items, false otherwise.
+     */
+    private boolean useHashIndex;
+
+    /**
+     * The hash index, which is used to look up the positions of items, if enabled.
+     */
+    private transient ItemHashIndex<DataType> hashIndex;
+
+    /**
+     * The most recent snapshot of the adapter's items, which still shares the list, which contains
+     * the adapter's underlying data, or null, if no such snapshot has been obtained.
+     */
+    private transient ItemSnapshot<DataType> snapshot;
+
+    /**
+     * The version of the adapter's underlying data, which is increased whenever it is modified.
+     */
+    private transient long version;
+
+    /**
+     * The lookup index, which mirrors whether the adapter's items are selected or enabled, as well
+     * as their states, in columns, or null, if it has not been created yet. The items remain
+     * authoritative. All modifications of their flags must be performed by using the methods
+     * <code>storeSelection(int, boolean):void</code>, <code>storeEnableState(int,
+     * boolean):void</code> and <code>storeItemState(int, int):void</code>.
+     */
+    private transient ItemFlagIndex flagIndex;
+
+    /**
+     * The counter, which maintains the number of items, which are selected or enabled, as well as
+     * the number of items per state, or null, if it has not been created yet.
+     */
+    private transient ItemCounter itemCounter;
+
+    /**
+     * The queue, which allows to modify the adapter's underlying data from any thread, or null, if
+     * it has not been created yet.
+     */
+    private transient MutationQueue<DataType> mutationQueue;
+
+    /**
+     * The scheduler, which is used to dispatch notifications about changed items once per frame,
+     * or null, if it has not been created yet.
+     */
+    private transient NotificationScheduler notificationScheduler;
+
+    /**
+     * The provider, which is used to derive the IDs of the adapter's items from their data, or
+     * null, if the IDs are generated by the adapter.
+     */
+    private transient ItemIdProvider<DataType> itemIdProvider;
+
+    /**
+     * The callback, which is used to calculate the difference between the adapter's items before
+     * and after they have been sorted or filtered, or null, if no callback is used.
+     */
+    private transient DiffUtil.ItemCallback<DataType> diffCallback;
+
+    /**
+     * The codec, which is used to encode the adapter's items, when its state is saved, or null, if
+     * no codec is used.
+     */
+    private transient ItemCodec<DataType> itemCodec;
+
+    /**
+     * The store, which is used to write the saved state to a file instead of putting it into the
+     * bundle, or null, if the saved state is put into the bundle.
+     */
+    private transient InstanceStateStore instanceStateStore;
+
+    /**
+     * The handle, which refers to the file, the saved state has most recently been written to or
+     * restored from, or null, if no such file exists.
+     */
+    private transient Bundle instanceStateHandle;
+
+    /**
+     * The executor, which is used to restore the adapter's state in the background.
+     */
+    private transient Executor restoreExecutor;
+
+    /**
+     * A counter, which is incremented whenever the adapter's state is restored. It allows to
+     * recognize states, which have been restored in the background, but have been superseded.
+     */
+    private transient int restoreGeneration;
+
+    /**
+     * True, if the adapter's state is currently restored in the background, false otherwise.
+     */
+    private transient boolean restoring;
+
+    /**
+     * A counter, which is incremented whenever the difference between the adapter's items is
+     * calculated in the background or such a calculation is cancelled. It allows to recognize
+     * results, which have been superseded.
+     */
+    private transient int diffGeneration;
+
+    /**
+     * The view, whose layout is frozen, while the difference between the adapter's items is
+     * calculated in the background, or null, if no difference is currently calculated.
+     */
+    private transient RecyclerView diffPendingView;
+
     /**
      * True, if the method <code>notifyDataSetChanged():void</code> is automatically called when the
      * adapter's underlying data has been changed, false otherwise.
@@ -363,21 +518,186 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     }
 
     /**
-     * Creates and returns an {@link OnClickListener}, which is invoked, when a specific item has
-     * been clicked.
+     * Notifies all listeners, which have been registered to be notified, when the adapter's
+     * underlying data has been modified, about multiple items, which have been added to the
+     * adapter at once. Listeners, which do not implement the interface {@link
+     * ListAdapterBatchListener}, are notified about each item separately.
      *
+     * @param addedItems
+     *         A list, which contains the items, which have been added to the adapter, as an
+     *         instance of the type {@link List}. The list may not be null
      * @param index
-     *         The index of the item, which should cause the listener to be invoked, when clicked,
-     *         as an {@link Integer} value
+     *         The index of the first item, which has been added to the adapter, as an {@link
+     *         Integer} value
+     */
+    @SuppressWarnings("unchecked")
+    private void notifyOnItemsAdded(@NonNull final List<DataType> addedItems, final int index) {
+        for (ListAdapterListener<DataType> listener : adapterListeners) {
+            if (listener instanceof ListAdapterBatchListener) {
+                ((ListAdapterBatchListener<DataType>) listener)
+                        .onItemsAdded(this, addedItems, index);
+            } else {
+                for (int i = 0; i < addedItems.size(); i++) {
+                    listener.onItemAdded(this, addedItems.get(i), index + i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Notifies all listeners, which have been registered to be notified, when the adapter's
+     * underlying data has been modified, about multiple consecutive items, which have been removed
+     * from the adapter at once. Listeners, which do not implement the interface {@link
+     * ListAdapterBatchListener}, are notified about each item separately, starting with the item at
+     * the highest index.
+     *
+     * @param removedItems
+     *         A list, which contains the items, which have been removed from the adapter, as an
+     *         instance of the type {@link List}. The list may not be null
+     * @param index
+     *         The former index of the first item, which has been removed from the adapter, as an
+     *         {@link Integer} value
+     */
+    @SuppressWarnings("unchecked")
+    private void notifyOnItemsRemoved(@NonNull final List<DataType> removedItems,
+                                      final int index) {
+        for (ListAdapterListener<DataType> listener : adapterListeners) {
+            if (listener instanceof ListAdapterBatchListener) {
+                ((ListAdapterBatchListener<DataType>) listener)
+                        .onItemsRemoved(this, removedItems, index);
+            } else {
+                for (int i = removedItems.size() - 1; i >= 0; i--) {
+                    listener.onItemRemoved(this, removedItems.get(i), index + i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a collection, which allows to check, whether it contains a specific item, in
+     * constant time and contains the same items as a specific collection. If the given collection
+     * is already a set, or if the hash index is not used, because the items' data may not provide
+     * implementations of the methods <code>equals(Object):boolean</code> and
+     * <code>hashCode():int</code>, which are consistent with each other, the given collection is
+     * returned as it is.
+     *
+     * @param items
+     *         The collection, which contains the items, as an instance of the type {@link
+     *         Collection}. The collection may not be null
+     * @return The collection, which allows to look up the items, as an instance of the type {@link
+     * Collection}. The collection may not be null
+     */
+    private Collection<? extends DataType> toLookupCollection(
+            @NonNull final Collection<? extends DataType> items) {
+        if (items instanceof Set || items.size() <= 1 || !isHashIndexUsed()) {
+            return items;
+        }
+
+        return new HashSet<>(items);
+    }
+
+    /**
+     * Removes all items, which are either contained or not contained by a specific collection,
+     * from the adapter at once. The given collection is copied into a set a single time, if the
+     * hash index is used, so that the items can be checked in linear time.
+     *
+     * The items are removed first and the listeners and observers are notified afterwards, once
+     * for each range of consecutive items, which have been removed, starting with the range at the
+     * highest index. Each range is reported by using the indices, the items had before the
+     * removal. As the ranges are reported in descending order, these indices are also valid, if
+     * the ranges are applied one after another to a copy of the former items. When the listeners
+     * are invoked, the adapter does not contain any of the removed items anymore.
+     *
+     * @param items
+     *         The collection, which contains the items, which should be removed or retained, as an
+     *         instance of the type {@link Collection}. The collection may not be null
+     * @param retain
+     *         True, if the items, which are contained by the given collection, should be retained,
+     *         false, if they should be removed
+     * @return The number of items, which have been removed, as an {@link Integer} value
+     */
+    private int removeItems(@NonNull final Collection<? extends DataType> items,
+                            final boolean retain) {
+        Collection<? extends DataType> lookup = toLookupCollection(items);
+        int count = this.items.size();
+        ArrayList<Item<DataType>> retainedItems = new ArrayList<>(count);
+        List<DataType> removedItems = new ArrayList<>();
+        int[] rangeStarts = new int[count];
+        int[] rangeLengths = new int[count];
+        int numberOfRanges = 0;
+        boolean previousItemRemoved = false;
+
+        for (int i = 0; i < count; i++) {
+            Item<DataType> item = this.items.get(i);
+
+            if (lookup.contains(item.getData()) == retain) {
+                retainedItems.add(item);
+                previousItemRemoved = false;
+            } else {
+                if (!previousItemRemoved) {
+                    rangeStarts[numberOfRanges] = i;
+                    numberOfRanges++;
+                }
+
+                rangeLengths[numberOfRanges - 1]++;
+                removedItems.add(item.getData());
+                previousItemRemoved = true;
+            }
+        }
+
+        if (!removedItems.isEmpty()) {
+            prepareItemsForModification();
+            this.items.clear();
+            this.items.addAll(retainedItems);
+            invalidateHashIndex();
+            invalidateFlagIndex();
+
+            if (itemCounter != null && itemCounter.isValid()) {
+                itemCounter.rebuild(retainedItems);
+            }
+            int offset = removedItems.size();
+
+            for (int i = numberOfRanges - 1; i >= 0; i--) {
+                int rangeStart = rangeStarts[i];
+                int rangeLength = rangeLengths[i];
+                offset -= rangeLength;
+                notifyOnItemsRemoved(
+                        new UnmodifiableList<>(removedItems.subList(offset, offset + rangeLength)),
+                        rangeStart);
+                notifyObserversOnItemRangeRemoved(rangeStart, rangeLength);
+            }
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Removed " + removedItems.size() + " items";
+                getLogger().logInfo(getClass(), message);
+            }
+        }
+
+        return removedItems.size();
+    }
+
+    /**
+     * Creates and returns an {@link OnClickListener}, which is invoked, when the item, which is
+     * visualized by a specific view holder, has been clicked. The index of the item is resolved,
+     * when the item is clicked, so that the listener can be reused, when the view holder is bound
+     * to a different item.
+     *
+     * @param viewHolder
+     *         The view holder, which should cause the listener to be invoked, when clicked, as an
+     *         instance of the class {@link ViewHolder}. The view holder may not be null
      * @return The listener, which has been created, as an instance of the type {@link
      * OnClickListener}
      */
-    private OnClickListener createItemOnClickListener(final int index) {
+    private OnClickListener createItemOnClickListener(@NonNull final ViewHolder viewHolder) {
         return new OnClickListener() {
 
             @Override
             public void onClick(final View v) {
-                notifyOnItemClicked(getItem(index), index);
+                int index = viewHolder.getAdapterPosition();
+
+                if (index != RecyclerView.NO_POSITION) {
+                    notifyOnItemClicked(getItem(index), index);
+                }
             }
 
         };
@@ -417,21 +737,26 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     }
 
     /**
-     * Creates and returns an {@link OnClickListener}, which is invoked, when a specific item has
-     * been long-clicked.
+     * Creates and returns an {@link OnLongClickListener}, which is invoked, when the item, which
+     * is visualized by a specific view holder, has been long-clicked. The index of the item is
+     * resolved, when the item is long-clicked, so that the listener can be reused, when the view
+     * holder is bound to a different item.
      *
-     * @param index
-     *         The index of the item, wihch should cause the listener to be invoked, when
-     *         long-clicked, as an {@link Integer} value
+     * @param viewHolder
+     *         The view holder, which should cause the listener to be invoked, when long-clicked,
+     *         as an instance of the class {@link ViewHolder}. The view holder may not be null
      * @return The listener, which has been created, as an instance of the type {@link
      * OnLongClickListener}
      */
-    private OnLongClickListener createItemOnLongClickListener(final int index) {
+    private OnLongClickListener createItemOnLongClickListener(
+            @NonNull final ViewHolder viewHolder) {
         return new OnLongClickListener() {
 
             @Override
             public boolean onLongClick(final View v) {
-                return notifyOnItemLongClicked(getItem(index), index);
+                int index = viewHolder.getAdapterPosition();
+                return index != RecyclerView.NO_POSITION &&
+                        notifyOnItemLongClicked(getItem(index), index);
             }
 
         };
@@ -502,6 +827,504 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
         return true;
     }
 
+    /**
+     * Returns the hash index, which is used to look up the positions of items. If the index is not
+     * valid, it is rebuilt.
+     *
+     * @return The hash index as an instance of the class {@link ItemHashIndex}. The hash index may
+     * not be null
+     */
+    @NonNull
+    private ItemHashIndex<DataType> getHashIndex() {
+        if (hashIndex == null) {
+            hashIndex = new ItemHashIndex<>();
+        }
+
+        if (!hashIndex.isValid(items.size())) {
+            hashIndex.rebuild(items);
+        }
+
+        return hashIndex;
+    }
+
+    /**
+     * Discards the state, which is currently restored in the background, if any. This method must
+     * be called, when the adapter's items are modified, while the state is restored.
+     */
+    private void cancelPendingRestore() {
+        if (restoring) {
+            restoreGeneration++;
+            restoring = false;
+
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Discarding instance state, which is restored in the " +
+                        "background, because the adapter's items have been modified";
+                getLogger().logDebug(getClass(), message);
+            }
+        }
+    }
+
+    /**
+     * Replaces the list, which contains the adapter's underlying data, with a copy, if it is
+     * shared with a snapshot.
+     */
+    private void unshareItems() {
+        if (snapshot != null) {
+            items = new ArrayList<>(items);
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Returns the scheduler, which is used to dispatch notifications about changed items once per
+     * frame. The scheduler is created, if necessary.
+     *
+     * @return The scheduler as an instance of the class {@link NotificationScheduler}. The
+     * scheduler may not be null
+     */
+    @NonNull
+    private NotificationScheduler getNotificationScheduler() {
+        if (notificationScheduler == null) {
+            notificationScheduler = new NotificationScheduler(this);
+        }
+
+        return notificationScheduler;
+    }
+
+    /**
+     * Notifies all observers, that multiple consecutive items have been changed. If the adapter is
+     * attached to a view, the notification is deferred until the next frame and merged with other
+     * notifications.
+     *
+     * @param index
+     *         The index of the first item, which has been changed, as an {@link Integer} value
+     * @param itemCount
+     *         The number of items, which have been changed, as an {@link Integer} value
+     * @param payload
+     *         An optional payload, which describes the change, as an instance of the class {@link
+     *         Object} or null, if no payload is available
+     */
+    private void scheduleItemRangeChanged(final int index, final int itemCount,
+                                          @Nullable final Object payload) {
+        if (cancelPendingDiff()) {
+            dispatchDataSetChanged();
+        } else if (recyclerView != null) {
+            getNotificationScheduler().scheduleItemRangeChanged(index, itemCount, payload);
+        } else if (adapterView != null) {
+            getNotificationScheduler().scheduleDataSetChanged();
+        } else {
+            notifyDataSetChanged();
+        }
+    }
+
+    /**
+     * Dispatches all pending notifications about changed items. This method must be called before
+     * observers are notified about inserted, moved or removed items. If the difference between the
+     * adapter's items is currently calculated in the background, the calculation is cancelled and
+     * all observers are notified, that the underlying data has been changed, instead.
+     */
+    private void flushPendingNotifications() {
+        if (cancelPendingDiff()) {
+            dispatchDataSetChanged();
+        } else if (notificationScheduler != null) {
+            notificationScheduler.flushNow();
+        }
+    }
+
+    /**
+     * Notifies all observers, that the adapter's underlying data has been changed. Pending
+     * notifications are discarded, as they are superseded by this notification.
+     */
+    private void dispatchDataSetChanged() {
+        cancelPendingDiff();
+
+        if (notificationScheduler != null) {
+            notificationScheduler.discard();
+        }
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Encodes the adapter's items by using the codec, which has been set, and puts them into a
+     * specific bundle.
+     *
+     * @param savedState
+     *         The bundle, the encoded items should be put into, as an instance of the class {@link
+     *         Bundle}. The bundle may not be null
+     * @return True, if the items have been encoded, false, if no codec is set or if the items could
+     * not be encoded
+     */
+    private boolean putEncodedItems(@NonNull final Bundle savedState) {
+        if (itemCodec != null) {
+            try {
+                ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                DataOutputStream output = new DataOutputStream(stream);
+                new CompactItemList<>(getUnfilteredItems()).writeTo(output, itemCodec);
+                output.flush();
+                savedState.putByteArray(ENCODED_ITEMS_BUNDLE_KEY, stream.toByteArray());
+                return true;
+            } catch (IOException e) {
+                String message = "Failed to encode the adapter's items by using the codec \"" +
+                        itemCodec + "\"";
+                getLogger().logWarn(getClass(), message, e);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Decodes items, which have been encoded by using the method {@link
+     * #putEncodedItems(Bundle)}, by using the codec, which has been set.
+     *
+     * @param encodedItems
+     *         An array, which contains the encoded items, as a {@link Byte} array. The array may
+     *         not be null
+     * @return A list, which contains the decoded items, as an instance of the class {@link
+     * ArrayList}. The list may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the items could not be decoded
+     */
+    @NonNull
+    private ArrayList<Item<DataType>> decodeItems(@NonNull final byte[] encodedItems)
+            throws IOException {
+        Condition.INSTANCE.ensureNotNull(itemCodec,
+                "The items have been encoded by using a codec, but no codec is set",
+                IllegalStateException.class);
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(encodedItems));
+        return CompactItemList.readFrom(input, itemCodec).getItems();
+    }
+
+    /**
+     * Writes a specific saved state to a file by using the store, which is used for this purpose,
+     * if any.
+     *
+     * @param savedState
+     *         The saved state, which should be written, as an instance of the class {@link
+     *         Bundle}. The saved state may not be null
+     * @return The bundle, which should be put into the outgoing bundle, as an instance of the class
+     * {@link Bundle}. This is either a handle, which refers to the file, or the given saved state,
+     * if no store is used or if the file could not be written
+     */
+    @NonNull
+    private Bundle writeToInstanceStateStore(@NonNull final Bundle savedState) {
+        if (instanceStateStore != null) {
+            try {
+                Bundle handle = instanceStateStore.write(savedState);
+
+                if (instanceStateHandle != null) {
+                    instanceStateStore.delete(instanceStateHandle);
+                }
+
+                instanceStateHandle = handle;
+                return handle;
+            } catch (IOException e) {
+                String message = "Failed to write the saved instance state to a file. It is " +
+                        "stored within the bundle instead";
+                getLogger().logWarn(getClass(), message, e);
+            }
+        }
+
+        return savedState;
+    }
+
+    /**
+     * Reads the saved state, a specific handle refers to, by using the store, which is used to
+     * write the saved state to files. This method may be called on any thread.
+     *
+     * @param handle
+     *         The handle as an instance of the class {@link Bundle}. The handle may not be null
+     * @return The saved state, which has been read, as an instance of the class {@link Bundle} or
+     * null, if the file, the given handle refers to, does not exist anymore
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if no store is used or if the file could not be read
+     */
+    @Nullable
+    private Bundle readFromInstanceStateStore(@NonNull final Bundle handle)
+            throws RestoreInstanceStateException {
+        if (instanceStateStore == null) {
+            throw new RestoreInstanceStateException("The saved instance state has been " +
+                    "written to a file, but no instance state store is used");
+        }
+
+        try {
+            Bundle savedState = instanceStateStore.read(handle);
+
+            if (savedState == null) {
+                String message = "The file, the saved instance state has been written to, does " +
+                        "not exist anymore. The current state is retained";
+                getLogger().logWarn(getClass(), message);
+            }
+
+            return savedState;
+        } catch (IOException e) {
+            throw new RestoreInstanceStateException(e);
+        }
+    }
+
+    /**
+     * Reads the saved state, a specific handle, which has been passed to the adapter when restoring
+     * it from a {@link SnapshotFile}, refers to. This method may be called on any thread.
+     *
+     * @param handle
+     *         The handle as an instance of the class {@link Bundle}. The handle may not be null
+     * @return The saved state, which has been read, as an instance of the class {@link Bundle} or
+     * null, if the file, the given handle refers to, does not exist anymore or if the snapshot is
+     * stale
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if the file could not be read
+     */
+    @Nullable
+    private Bundle readFromSnapshotFile(@NonNull final Bundle handle)
+            throws RestoreInstanceStateException {
+        try {
+            Bundle savedState = SnapshotFile.read(handle, getContext().getClassLoader());
+
+            if (savedState == null) {
+                String message = "The snapshot does not exist anymore or is stale. The current " +
+                        "state is retained";
+                getLogger().logWarn(getClass(), message);
+            }
+
+            return savedState;
+        } catch (IOException e) {
+            throw new RestoreInstanceStateException(e);
+        }
+    }
+
+    /**
+     * Returns the handle, which refers to the file, a saved state, which has been stored within a
+     * specific bundle by using a specific key, has been written to.
+     *
+     * @param savedInstanceState
+     *         The bundle, which contains the saved state, as an instance of the class {@link
+     *         Bundle}. The bundle may not be null
+     * @param key
+     *         The key, which has been used to store the saved state, as a {@link String}. The key
+     *         may neither be null, nor empty
+     * @return The handle as an instance of the class {@link Bundle} or null, if the saved state
+     * has not been written to a file
+     */
+    @Nullable
+    private static Bundle getInstanceStateHandle(@NonNull final Bundle savedInstanceState,
+                                                 @NonNull final String key) {
+        Bundle savedState = savedInstanceState.getBundle(key);
+        return savedState != null && InstanceStateStore.isHandle(savedState) ? savedState : null;
+    }
+
+    /**
+     * Creates and returns a list, which contains all items of a specific list, which are not null.
+     * This ensures, that the adapter does not share a list with the bundle, it has been restored
+     * from.
+     *
+     * @param items
+     *         The list, which should be copied, as an instance of the type {@link List} or null
+     * @param <DataType>
+     *         The type of the items' data
+     * @return The list, which has been created, as an instance of the class {@link ArrayList} or
+     * null, if the given list is null
+     */
+    @Nullable
+    private static <DataType> ArrayList<Item<DataType>> copyNonNullItems(
+            @Nullable final List<Item<DataType>> items) {
+        if (items != null) {
+            ArrayList<Item<DataType>> result = new ArrayList<>(items.size());
+
+            for (Item<DataType> item : items) {
+                if (item != null) {
+                    result.add(item);
+                }
+            }
+
+            return result;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the saved state, which has been stored within a specific bundle by using a specific
+     * key. If the saved state has been written to a file, or if it should be restored from a
+     * snapshot, it is read from the file.
+     *
+     * @param savedInstanceState
+     *         The bundle, which contains the saved state, as an instance of the class {@link
+     *         Bundle}. The bundle may not be null
+     * @param key
+     *         The key, which has been used to store the saved state, as a {@link String}. The key
+     *         may neither be null, nor empty
+     * @return The saved state as an instance of the class {@link Bundle} or null, if the file, the
+     * saved state has been written to, does not exist anymore
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if the bundle does not contain a saved state or if
+     *         the file could not be read
+     */
+    @Nullable
+    private Bundle getSavedState(@NonNull final Bundle savedInstanceState,
+                                 @NonNull final String key) throws RestoreInstanceStateException {
+        return resolveSavedState(savedInstanceState.getBundle(key), key);
+    }
+
+    /**
+     * Resolves a saved state, which has been retrieved from the bundle, the caller has passed to
+     * the adapter. If the saved state is a handle, which refers to a file or a snapshot, the file
+     * is read. Unlike the caller's bundle, the given bundle is not shared with the UI thread.
+     * Therefore, this method may be called on any thread.
+     *
+     * @param savedState
+     *         The saved state or handle, which has been retrieved from the caller's bundle, as an
+     *         instance of the class {@link Bundle} or null, if the bundle does not contain a saved
+     *         state
+     * @param key
+     *         The key, which has been used to store the saved state, as a {@link String}. The key
+     *         may neither be null, nor empty
+     * @return The saved state as an instance of the class {@link Bundle} or null, if the file, the
+     * saved state has been written to, does not exist anymore
+     * @throws RestoreInstanceStateException
+     *         The exception, which is thrown, if the given saved state is null or if the file
+     *         could not be read
+     */
+    @Nullable
+    private Bundle resolveSavedState(@Nullable final Bundle savedState,
+                                     @NonNull final String key)
+            throws RestoreInstanceStateException {
+        if (savedState == null) {
+            throw new RestoreInstanceStateException(
+                    "Saved instance state does not contain bundle with key \"" + key + "\"");
+        } else if (InstanceStateStore.isHandle(savedState)) {
+            return readFromInstanceStateStore(savedState);
+        } else if (SnapshotFile.isHandle(savedState)) {
+            return readFromSnapshotFile(savedState);
+        }
+
+        return savedState;
+    }
+
+    /**
+     * Decodes the items, which are contained by a specific saved state, into a list, which is not
+     * yet used by the adapter and does not contain any null items. This method may be called on
+     * any thread.
+     *
+     * @param savedState
+     *         The saved state as an instance of the class {@link Bundle}. The saved state may not
+     *         be null
+     * @return A list, which contains the decoded items, as an instance of the class {@link
+     * ArrayList} or null, if the saved state does not contain any items
+     * @throws IOException
+     *         The exception, which is thrown, if the items could not be decoded
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private ArrayList<Item<DataType>> readRestoredItems(@NonNull final Bundle savedState)
+            throws IOException {
+        if (savedState.containsKey(ENCODED_ITEMS_BUNDLE_KEY)) {
+            return decodeItems(savedState.getByteArray(ENCODED_ITEMS_BUNDLE_KEY));
+        } else if (savedState.containsKey(COMPACT_ITEMS_BUNDLE_KEY)) {
+            CompactItemList<DataType> compactItems =
+                    savedState.getParcelable(COMPACT_ITEMS_BUNDLE_KEY);
+            return compactItems != null ? compactItems.getItems() : null;
+        } else if (savedState.containsKey(PARCELABLE_ITEMS_BUNDLE_KEY)) {
+            return copyNonNullItems(
+                    savedState.<Item<DataType>>getParcelableArrayList(PARCELABLE_ITEMS_BUNDLE_KEY));
+        } else if (savedState.containsKey(SERIALIZABLE_ITEMS_BUNDLE_KEY)) {
+            return copyNonNullItems((ArrayList<Item<DataType>>) savedState
+                    .getSerializable(SERIALIZABLE_ITEMS_BUNDLE_KEY));
+        }
+
+        return null;
+    }
+
+    /**
+     * Applies a specific saved state and the items, which have been decoded from it, on the
+     * adapter. The decoded items replace the adapter's current items at once. All observers are
+     * notified once afterwards. This method must be called on the UI thread.
+     *
+     * @param savedState
+     *         The saved state, which should be applied, as an instance of the class {@link Bundle}.
+     *         The saved state may not be null
+     * @param restoredItems
+     *         A list, which contains the items, which have been decoded from the saved state, as an
+     *         instance of the class {@link ArrayList} or null, if the saved state does not contain
+     *         any items
+     */
+    private void applySavedState(@NonNull final Bundle savedState,
+                                 @Nullable final ArrayList<Item<DataType>> restoredItems) {
+        if (savedState.containsKey(ADAPTER_VIEW_STATE_BUNDLE_KEY)) {
+            if (adapterView != null) {
+                AdapterViewUtil.onRestoreInstanceState(adapterView, savedState,
+                        ADAPTER_VIEW_STATE_BUNDLE_KEY);
+            } else if (recyclerView != null && recyclerView.getLayoutManager() != null) {
+                recyclerView.getLayoutManager().onRestoreInstanceState(
+                        savedState.getParcelable(ADAPTER_VIEW_STATE_BUNDLE_KEY));
+            }
+        }
+
+        if (restoredItems != null) {
+            setItems(restoredItems);
+        }
+
+        parameters = savedState.getBundle(PARAMETERS_BUNDLE_KEY);
+        allowDuplicates = savedState.getBoolean(ALLOW_DUPLICATES_BUNDLE_KEY, false);
+        useHashIndex(savedState.getBoolean(USE_HASH_INDEX_BUNDLE_KEY, false));
+        notifyOnChange = savedState.getBoolean(NOTIFY_ON_CHANGE_BUNDLE_KEY, true);
+        setLogLevel(LogLevel.fromRank(
+                savedState.getInt(LOG_LEVEL_BUNDLE_KEY, LogLevel.ALL.getRank())));
+        onRestoreInstanceState(savedState);
+        dispatchDataSetChanged();
+        getLogger().logDebug(getClass(), "Restored instance state");
+    }
+
+    /**
+     * Publishes the result of restoring the adapter's state in the background on the UI thread,
+     * unless a more recent restore has been started in the meantime.
+     *
+     * @param generation
+     *         The generation of the restore as an {@link Integer} value
+     * @param handle
+     *         The handle, which refers to the file, the saved state has been read from, as an
+     *         instance of the class {@link Bundle} or null, if the saved state has not been read
+     *         from a file
+     * @param savedState
+     *         The saved state, which has been read, as an instance of the class {@link Bundle} or
+     *         null, if the saved state is not available
+     * @param restoredItems
+     *         A list, which contains the items, which have been decoded, as an instance of the
+     *         class {@link ArrayList} or null, if the saved state does not contain any items
+     * @param exception
+     *         The exception, which has been thrown while reading the saved state, as an instance
+     *         of the class {@link Exception} or null, if no exception has been thrown
+     */
+    private void publishRestoredState(final int generation, @Nullable final Bundle handle,
+                                      @Nullable final Bundle savedState,
+                                      @Nullable final ArrayList<Item<DataType>> restoredItems,
+                                      @Nullable final Exception exception) {
+        if (generation == restoreGeneration) {
+            restoring = false;
+
+            if (exception != null) {
+                getLogger().logError(getClass(), "Failed to restore instance state", exception);
+                dispatchDataSetChanged();
+            } else if (savedState != null) {
+                if (handle != null) {
+                    instanceStateHandle = handle;
+                }
+
+                try {
+                    applySavedState(savedState, restoredItems);
+                } catch (Exception e) {
+                    getLogger().logError(getClass(), "Failed to restore instance state", e);
+                    dispatchDataSetChanged();
+                }
+            } else {
+                dispatchDataSetChanged();
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Discarding restored instance state, because it has been superseded";
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
     /**
      * Returns, the context, the adapter belongs to.
      *
@@ -522,6 +1345,19 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
         return logger;
     }
 
+    /**
+     * Returns, whether messages of a specific log level are currently logged, or not. This allows
+     * to omit building messages, which would be discarded anyway.
+     *
+     * @param logLevel
+     *         The log level of the messages as a value of the enum {@link LogLevel}. The log level
+     *         may not be null
+     * @return True, if messages of the given log level are logged, false otherwise
+     */
+    protected final boolean isLoggable(@NonNull final LogLevel logLevel) {
+        return logLevel.getRank() >= getLogLevel().getRank();
+    }
+
     /**
      * Returns a list, which contains the adapter's underlying data.
      *
@@ -532,6 +1368,31 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
         return items;
     }
 
+    /**
+     * Returns an immutable list, which contains the adapter's items and may be read on any thread.
+     * Like the snapshot, which is returned by the method <code>getSnapshot():Snapshot</code>, the
+     * list is shared with the adapter, until the adapter is modified the next time. The adapter
+     * then continues to work on a copy. Therefore, no items are copied by this method.
+     *
+     * @return An immutable list, which contains the adapter's items, as an instance of the type
+     * {@link List}. The list may not be null
+     */
+    @NonNull
+    protected final List<Item<DataType>> getItemSnapshot() {
+        getSnapshot();
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Returns the version of the adapter's items. The version is increased whenever the list,
+     * which contains the items, is modified.
+     *
+     * @return The version of the adapter's items as a {@link Long} value
+     */
+    protected final long getItemVersion() {
+        return version;
+    }
+
     /**
      * Returns a list, which contains the adapter's unfiltered items. This method has to be
      * overridden by subclasses, which filter the adapter's underlying data.
@@ -544,7 +1405,8 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     }
 
     /**
-     * Sets the list, which contains the adapter's underlying data.
+     * Sets the list, which contains the adapter's underlying data. A state, which is currently
+     * restored in the background, is discarded.
      *
      * @param items
      *         The list, which should be set, as an instance of the type {@link ArrayList} or an
@@ -552,7 +1414,196 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
      */
     protected final void setItems(@NonNull final ArrayList<Item<DataType>> items) {
         Condition.INSTANCE.ensureNotNull(items, "The items may not be null");
+        cancelPendingRestore();
         this.items = items;
+        this.snapshot = null;
+        this.version++;
+        invalidateHashIndex();
+        invalidateFlagIndex();
+        invalidateItemCounter();
+    }
+
+    /**
+     * Prepares the list, which contains the adapter's underlying data, to be modified. This method
+     * must be called before the list, which is returned by the method
+     * <code>getItems():ArrayList</code>, is modified directly. If the list is shared with a
+     * snapshot, it is replaced with a copy. References to the list, which have been obtained
+     * before, must not be used afterwards. A state, which is currently restored in the
+     * background, is discarded, as it would overwrite the modification.
+     */
+    protected final void prepareItemsForModification() {
+        cancelPendingRestore();
+        unshareItems();
+        version++;
+    }
+
+    /**
+     * Invalidates the hash index, which is used to look up the positions of items, if enabled. This
+     * method must be called, when the list, which is returned by the method
+     * <code>getItems():ArrayList</code>, has been modified directly, e.g. because it has been
+     * sorted or filtered. The index is rebuilt when it is accessed the next time.
+     */
+    protected final void invalidateHashIndex() {
+        if (hashIndex != null) {
+            hashIndex.invalidate();
+        }
+    }
+
+    /**
+     * Returns the index, which stores whether the adapter's items are selected or enabled, as well
+     * as their states, in columns. The index is updated incrementally, when items are added,
+     * removed or replaced. It is rebuilt, if it has been invalidated.
+     *
+     * @return The index as an instance of the class {@link ItemFlagIndex}. The index may not be
+     * null
+     */
+    @NonNull
+    protected final ItemFlagIndex getFlagIndex() {
+        if (flagIndex == null) {
+            flagIndex = new ItemFlagIndex();
+        }
+
+        if (!flagIndex.isValid()) {
+            flagIndex.rebuild(items);
+        }
+
+        return flagIndex;
+    }
+
+    /**
+     * Invalidates the index, which stores whether the adapter's items are selected or enabled, as
+     * well as their states, in columns. This method must be called, when the list, which is
+     * returned by the method <code>getItems():ArrayList</code>, has been modified directly, e.g.
+     * because it has been sorted or filtered. The index is rebuilt when it is accessed the next
+     * time.
+     */
+    protected final void invalidateFlagIndex() {
+        if (flagIndex != null) {
+            flagIndex.invalidate();
+        }
+    }
+
+    /**
+     * Ensures, that a specific range of indices, which is given by its start and end index, is
+     * valid. Otherwise an {@link IndexOutOfBoundsException} is thrown.
+     *
+     * @param start
+     *         The index of the first item of the range, as an {@link Integer} value
+     * @param end
+     *         The index after the last item of the range, as an {@link Integer} value
+     */
+    protected final void ensureValidRange(final int start, final int end) {
+        Condition.INSTANCE.ensureAtLeast(start, 0, "The start index must be at least 0",
+                IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureAtLeast(end, start,
+                "The end index must be at least the start index", IndexOutOfBoundsException.class);
+        Condition.INSTANCE.ensureAtMaximum(end, getCount(),
+                "The end index must be at maximum " + getCount(), IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * Sets, whether the item at a specific index is selected, or not. The index, which is returned
+     * by the method <code>getFlagIndex():ItemFlagIndex</code>, is updated accordingly. This method
+     * must be used instead of modifying the item directly.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param selected
+     *         True, if the item should be selected, false otherwise
+     */
+    protected final void storeSelection(final int index, final boolean selected) {
+        Item<DataType> item = items.get(index);
+
+        if (itemCounter != null && item.isSelected() != selected) {
+            itemCounter.onSelectionChanged(selected);
+        }
+
+        item.setSelected(selected);
+
+        if (flagIndex != null) {
+            flagIndex.onSelectionChanged(index, selected);
+        }
+    }
+
+    /**
+     * Sets, whether the item at a specific index is enabled, or not. The index, which is returned
+     * by the method <code>getFlagIndex():ItemFlagIndex</code>, is updated accordingly. This method
+     * must be used instead of modifying the item directly.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param enabled
+     *         True, if the item should be enabled, false otherwise
+     */
+    protected final void storeEnableState(final int index, final boolean enabled) {
+        Item<DataType> item = items.get(index);
+
+        if (itemCounter != null && item.isEnabled() != enabled) {
+            itemCounter.onEnableStateChanged(enabled);
+        }
+
+        item.setEnabled(enabled);
+
+        if (flagIndex != null) {
+            flagIndex.onEnableStateChanged(index, enabled);
+        }
+    }
+
+    /**
+     * Sets the state of the item at a specific index. The index, which is returned by the method
+     * <code>getFlagIndex():ItemFlagIndex</code>, is updated accordingly. This method must be used
+     * instead of modifying the item directly.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param state
+     *         The state, which should be set, as an {@link Integer} value
+     */
+    protected final void storeItemState(final int index, final int state) {
+        Item<DataType> item = items.get(index);
+
+        if (itemCounter != null) {
+            itemCounter.onStateChanged(item.getState(), state);
+        }
+
+        item.setState(state);
+
+        if (flagIndex != null) {
+            flagIndex.onStateChanged(index, state);
+        }
+    }
+
+    /**
+     * Returns the counter, which maintains the number of items, which are selected or enabled, as
+     * well as the number of items per state. The counter is rebuilt, if it has been invalidated.
+     *
+     * @return The counter as an instance of the class {@link ItemCounter}. The counter may not be
+     * null
+     */
+    @NonNull
+    protected final ItemCounter getItemCounter() {
+        if (itemCounter == null) {
+            itemCounter = new ItemCounter();
+        }
+
+        if (!itemCounter.isValid()) {
+            itemCounter.rebuild(items);
+        }
+
+        return itemCounter;
+    }
+
+    /**
+     * Invalidates the counter, which maintains the number of items, which are selected or enabled,
+     * as well as the number of items per state. This method must be called, when items have been
+     * added to or removed from the list, which is returned by the method
+     * <code>getItems():ArrayList</code>, directly, e.g. because it has been filtered. The counter
+     * is rebuilt when it is accessed the next time.
+     */
+    protected final void invalidateItemCounter() {
+        if (itemCounter != null) {
+            itemCounter.invalidate();
+        }
     }
 
     /**
@@ -618,12 +1669,24 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
      *         The index of the item, which has been changed, as an {@link Integer} value
      */
     protected final void notifyObserversOnItemChanged(final int index) {
+        notifyObserversOnItemChanged(index, null);
+    }
+
+    /**
+     * Notifies all observers, that an item has been changed, if automatically notifying such evens
+     * is currently enabled. The given payload allows to update the view, which is used to
+     * visualize the item, partially.
+     *
+     * @param index
+     *         The index of the item, which has been changed, as an {@link Integer} value
+     * @param payload
+     *         An optional payload, which describes the change, as an instance of the class {@link
+     *         Object} or null, if no payload is available
+     */
+    protected final void notifyObserversOnItemChanged(final int index,
+                                                      @Nullable final Object payload) {
         if (isNotifiedOnChange()) {
-            if (recyclerView != null) {
-                notifyItemChanged(index);
-            } else {
-                notifyDataSetChanged();
-            }
+            scheduleItemRangeChanged(index, 1, payload);
         }
     }
 
@@ -637,9 +1700,10 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     protected final void notifyObserversOnItemInserted(final int index) {
         if (isNotifiedOnChange()) {
             if (recyclerView != null) {
+                flushPendingNotifications();
                 notifyItemInserted(index);
             } else {
-                notifyDataSetChanged();
+                dispatchDataSetChanged();
             }
         }
     }
@@ -648,27 +1712,221 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
      * Notifies all observers, that an item has been removed, if automatically notifying such events
      * is currently enabled.
      *
-     * @param index
-     *         The index of the item, which has been removed, as an {@link Integer} value
+     * @param index
+     *         The index of the item, which has been removed, as an {@link Integer} value
+     */
+    protected final void notifyObserversOnItemRemoved(final int index) {
+        if (isNotifiedOnChange()) {
+            if (recyclerView != null) {
+                flushPendingNotifications();
+                notifyItemRemoved(index);
+            } else {
+                dispatchDataSetChanged();
+            }
+        }
+    }
+
+    /**
+     * Notifies all observers, that multiple consecutive items have been added, if automatically
+     * notifying such events is currently enabled.
+     *
+     * @param index
+     *         The index of the first item, which has been added, as an {@link Integer} value
+     * @param itemCount
+     *         The number of items, which have been added, as an {@link Integer} value
+     */
+    protected final void notifyObserversOnItemRangeInserted(final int index, final int itemCount) {
+        if (isNotifiedOnChange() && itemCount > 0) {
+            if (recyclerView != null) {
+                flushPendingNotifications();
+                notifyItemRangeInserted(index, itemCount);
+            } else {
+                dispatchDataSetChanged();
+            }
+        }
+    }
+
+    /**
+     * Notifies all observers, that multiple consecutive items have been removed, if automatically
+     * notifying such events is currently enabled.
+     *
+     * @param index
+     *         The former index of the first item, which has been removed, as an {@link Integer}
+     *         value
+     * @param itemCount
+     *         The number of items, which have been removed, as an {@link Integer} value
+     */
+    protected final void notifyObserversOnItemRangeRemoved(final int index, final int itemCount) {
+        if (isNotifiedOnChange() && itemCount > 0) {
+            if (recyclerView != null) {
+                flushPendingNotifications();
+                notifyItemRangeRemoved(index, itemCount);
+            } else {
+                dispatchDataSetChanged();
+            }
+        }
+    }
+
+    /**
+     * Notifies all observers, that multiple consecutive items have been changed, if automatically
+     * notifying such events is currently enabled.
+     *
+     * @param index
+     *         The index of the first item, which has been changed, as an {@link Integer} value
+     * @param itemCount
+     *         The number of items, which have been changed, as an {@link Integer} value
+     * @param payload
+     *         An optional payload, which describes the change, as an instance of the class {@link
+     *         Object} or null, if no payload is available
+     */
+    protected final void notifyObserversOnItemRangeChanged(final int index, final int itemCount,
+                                                           @Nullable final Object payload) {
+        if (isNotifiedOnChange() && itemCount > 0) {
+            scheduleItemRangeChanged(index, itemCount, payload);
+        }
+    }
+
+    /**
+     * Notifies all observers, that the adapter's underlying data has been changed, if automatically
+     * notifying such events is currently enabled.
+     */
+    protected final void notifyObserversOnDataSetChanged() {
+        if (isNotifiedOnChange()) {
+            dispatchDataSetChanged();
+        }
+    }
+
+    /**
+     * Creates and returns a copy of the adapter's items, which allows to calculate the difference
+     * to the items after they have been modified. A copy is only created, if a callback for
+     * calculating the difference has been set, the adapter is attached to a {@link RecyclerView}
+     * and automatically notifying about changes is currently enabled.
+     *
+     * @return A list, which contains the adapter's items, as an instance of the type {@link List}
+     * or null, if the difference should not be calculated
+     */
+    @Nullable
+    protected final List<DataType> createDiffSnapshot() {
+        if (diffCallback != null && recyclerView != null && isNotifiedOnChange()) {
+            return getSnapshot();
+        }
+
+        return null;
+    }
+
+    /**
+     * Notifies all observers, that the adapter's underlying data has been changed, if automatically
+     * notifying such events is currently enabled. If a copy of the items before they have been
+     * modified is given, only the items, which have been moved, inserted, removed or changed, are
+     * notified about.
+     *
+     * @param snapshot
+     *         A list, which contains the adapter's items before they have been modified, as
+     *         returned by the method <code>createDiffSnapshot():List</code>, or null, if all items
+     *         should be notified about
+     */
+    protected final void notifyObserversOnDataSetChanged(@Nullable final List<DataType> snapshot) {
+        if (snapshot != null && diffCallback != null && recyclerView != null &&
+                isNotifiedOnChange() &&
+                ListDiffCallback.isDiffFeasible(snapshot.size(), getCount()) &&
+                !cancelPendingDiff()) {
+            flushPendingNotifications();
+            calculateDiffAsync(snapshot);
+        } else {
+            notifyObserversOnDataSetChanged();
+        }
+    }
+
+    /**
+     * Calculates the difference between a copy of the adapter's items before they have been
+     * modified and the current items by using the restore executor. The layout of the {@link
+     * RecyclerView}, the adapter is attached to, is frozen until the result has been dispatched on
+     * the UI thread, as the view has not been notified about the modification yet. If the items
+     * are modified again in the meantime, the calculation is cancelled and all items are notified
+     * about instead.
+     *
+     * @param snapshot
+     *         A list, which contains the adapter's items before they have been modified, as
+     *         returned by the method <code>createDiffSnapshot():List</code>. The list may not be
+     *         null
+     */
+    private void calculateDiffAsync(@NonNull final List<DataType> snapshot) {
+        final int generation = ++diffGeneration;
+        final long expectedVersion = version;
+        final List<DataType> currentItems = getSnapshot();
+        final DiffUtil.ItemCallback<DataType> callback = diffCallback;
+        diffPendingView = recyclerView;
+        diffPendingView.setLayoutFrozen(true);
+        restoreExecutor.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                DiffUtil.DiffResult diffResult = null;
+
+                try {
+                    diffResult = DiffUtil.calculateDiff(
+                            new ListDiffCallback<>(snapshot, currentItems, callback), true);
+                } catch (RuntimeException e) {
+                    getLogger().logError(getClass(), "Failed to calculate difference", e);
+                }
+
+                final DiffUtil.DiffResult finalDiffResult = diffResult;
+                ThreadUtil.runOnUiThread(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        publishDiffResult(generation, expectedVersion, finalDiffResult);
+                    }
+
+                });
+            }
+
+        });
+    }
+
+    /**
+     * Dispatches the difference between the adapter's items, which has been calculated in the
+     * background, unless it has been superseded. If the adapter's items have been modified in the
+     * meantime, all items are notified about instead. This method must be called on the UI
+     * thread.
+     *
+     * @param generation
+     *         The generation of the calculation as an {@link Integer} value
+     * @param expectedVersion
+     *         The version of the adapter's items, the difference has been calculated for, as a
+     *         {@link Long} value
+     * @param diffResult
+     *         The difference, which has been calculated, as an instance of the class {@link
+     *         DiffUtil.DiffResult} or null, if the difference could not be calculated
      */
-    protected final void notifyObserversOnItemRemoved(final int index) {
-        if (isNotifiedOnChange()) {
-            if (recyclerView != null) {
-                notifyItemRemoved(index);
+    private void publishDiffResult(final int generation, final long expectedVersion,
+                                   @Nullable final DiffUtil.DiffResult diffResult) {
+        if (generation == diffGeneration && cancelPendingDiff()) {
+            if (diffResult != null && expectedVersion == version) {
+                diffResult.dispatchUpdatesTo(this);
             } else {
-                notifyDataSetChanged();
+                dispatchDataSetChanged();
             }
         }
     }
 
     /**
-     * Notifies all observers, that the adapter's underlying data has been changed, if automatically
-     * notifying such events is currently enabled.
+     * Cancels calculating the difference between the adapter's items in the background, if such a
+     * calculation is currently pending, and unfreezes the layout of the view, the adapter is
+     * attached to.
+     *
+     * @return True, if a pending calculation has been cancelled, false otherwise. If true is
+     * returned, the observers have not been notified about the modification of the items yet
      */
-    protected final void notifyObserversOnDataSetChanged() {
-        if (isNotifiedOnChange()) {
-            notifyDataSetChanged();
+    private boolean cancelPendingDiff() {
+        if (diffPendingView != null) {
+            diffGeneration++;
+            diffPendingView.setLayoutFrozen(false);
+            diffPendingView = null;
+            return true;
         }
+
+        return false;
     }
 
     /**
@@ -702,17 +1960,38 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
      */
     protected boolean addItem(final int index, @NonNull final Item<DataType> item) {
         if (!areDuplicatesAllowed() && containsItem(item.getData())) {
-            String message = "Item \"" + item.getData() + "\" at index " + index +
-                    " not added, because adapter already contains item";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Item \"" + item.getData() + "\" at index " + index +
+                        " not added, because adapter already contains item";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
 
+        prepareItemsForModification();
         items.add(index, item);
+
+        if (hashIndex != null) {
+            hashIndex.onItemAdded(item.getData(), index);
+        }
+
+        if (flagIndex != null) {
+            flagIndex.onItemAdded(index, item);
+        }
+
+        if (itemCounter != null) {
+            itemCounter.onItemAdded(item);
+        }
+
         notifyOnItemAdded(item.getData(), index);
         notifyObserversOnItemInserted(index);
-        String message = "Item \"" + item.getData() + "\" added at index " + index;
-        getLogger().logInfo(getClass(), message);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Item \"" + item.getData() + "\" added at index " + index;
+            getLogger().logInfo(getClass(), message);
+        }
+
         return true;
     }
 
@@ -751,6 +2030,30 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     protected abstract void applyDecorator(@NonNull final Context context, @NonNull final View view,
                                            final int index);
 
+    /**
+     * This method is invoked to apply the decorator, when only specific properties of an item have
+     * been changed. By default, the decorator is applied completely by invoking the method
+     * <code>applyDecorator(...):void</code>. Subclasses may override this method in order to
+     * update the view, which is used to visualize the item, partially.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param view
+     *         The view, which is used to visualize the item, as an instance of the class {@link
+     *         View}. The view may not be null
+     * @param index
+     *         The index of the item, which should be visualized, as an {@link Integer} value
+     * @param payloads
+     *         A set, which contains the payloads, which describe the properties of the item, which
+     *         have been changed, as an instance of the type {@link Set}. The set may not be null
+     */
+    protected void applyDecoratorPartially(@NonNull final Context context,
+                                           @NonNull final View view, final int index,
+                                           @NonNull final Set<ChangePayload> payloads) {
+        applyDecorator(context, view, index);
+    }
+
     /**
      * Creates a new adapter, whose underlying data is managed as a list of arbitrary items.
      *
@@ -803,11 +2106,15 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
         Condition.INSTANCE.ensureNotNull(adapterListeners, "The adapter listeners may not be null");
         this.context = context;
         this.decorator = decorator;
-        this.dataSetObservers = new HashMap<>();
+        this.dataSetObservers = null;
         this.logger = new Logger(logLevel);
         this.items = items;
         this.parameters = null;
         this.allowDuplicates = allowDuplicates;
+        this.useHashIndex = false;
+        this.itemIdProvider = null;
+        this.diffCallback = null;
+        this.restoreExecutor = ThreadUtil.getDefaultRestoreExecutor();
         this.notifyOnChange = notifyOnChange;
         this.itemClickListeners = itemClickListeners;
         this.itemLongClickListeners = itemLongClickListeners;
@@ -838,19 +2145,30 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     public final void setDecorator(@NonNull final DecoratorType decorator) {
         Condition.INSTANCE.ensureNotNull(decorator, "The decorator may not be null");
         this.decorator = decorator;
-        notifyObserversOnDataSetChanged();
+
+        if (recyclerView != null) {
+            notifyObserversOnItemRangeChanged(0, getCount(), null);
+        } else {
+            notifyObserversOnDataSetChanged();
+        }
     }
 
     @Override
     public final void registerDataSetObserver(@NonNull final DataSetObserver observer) {
         DataSetObserverWrapper dataObserver = new DataSetObserverWrapper(observer);
+
+        if (dataSetObservers == null) {
+            dataSetObservers = new HashMap<>();
+        }
+
         dataSetObservers.put(observer, dataObserver);
         registerAdapterDataObserver(dataObserver);
     }
 
     @Override
     public final void unregisterDataSetObserver(@NonNull final DataSetObserver observer) {
-        RecyclerView.AdapterDataObserver dataObserver = dataSetObservers.get(observer);
+        RecyclerView.AdapterDataObserver dataObserver =
+                dataSetObservers != null ? dataSetObservers.remove(observer) : null;
 
         if (dataObserver != null) {
             unregisterAdapterDataObserver(dataObserver);
@@ -865,9 +2183,12 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     @Override
     public final void notifyOnChange(final boolean notifyOnChange) {
         this.notifyOnChange = notifyOnChange;
-        String message = "Changes of the adapter's underlying data are now " +
-                (notifyOnChange ? "" : "not ") + "automatically notified";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Changes of the adapter's underlying data are now " +
+                    (notifyOnChange ? "" : "not ") + "automatically notified";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -888,8 +2209,11 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     @Override
     public final void setParameters(@Nullable final Bundle parameters) {
         this.parameters = parameters;
-        String message = "Set parameters to \"" + parameters + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set parameters to \"" + parameters + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -900,24 +2224,99 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     @Override
     public final void allowDuplicates(final boolean allowDuplicates) {
         this.allowDuplicates = allowDuplicates;
-        String message = "Duplicate items are now " + (allowDuplicates ? "allowed" : "disallowed");
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Duplicate items are now " +
+                    (allowDuplicates ? "allowed" : "disallowed");
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
+    @Override
+    public final boolean isHashIndexUsed() {
+        return useHashIndex;
+    }
+
+    @Override
+    public final void useHashIndex(final boolean useHashIndex) {
+        this.useHashIndex = useHashIndex;
+
+        if (!useHashIndex) {
+            hashIndex = null;
+        }
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Hash index is now " + (useHashIndex ? "used" : "not used");
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
+    @Override
+    public final ItemIdProvider<DataType> getItemIdProvider() {
+        return itemIdProvider;
+    }
+
+    @Override
+    public final void setItemIdProvider(@Nullable final ItemIdProvider<DataType> itemIdProvider) {
+        this.itemIdProvider = itemIdProvider;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set item id provider to \"" + itemIdProvider + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
+    @Override
+    public final ItemCodec<DataType> getItemCodec() {
+        return itemCodec;
+    }
+
+    @Override
+    public final void setItemCodec(@Nullable final ItemCodec<DataType> itemCodec) {
+        this.itemCodec = itemCodec;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set item codec to \"" + itemCodec + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
+    @Override
+    public final DiffUtil.ItemCallback<DataType> getDiffCallback() {
+        return diffCallback;
+    }
+
+    @Override
+    public final void setDiffCallback(
+            @Nullable final DiffUtil.ItemCallback<DataType> diffCallback) {
+        this.diffCallback = diffCallback;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set diff callback to \"" + diffCallback + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
     public final void addAdapterListener(@NonNull final ListAdapterListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         adapterListeners.add(listener);
-        String message = "Added adapter listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added adapter listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
     public final void removeAdapterListener(@NonNull final ListAdapterListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         adapterListeners.remove(listener);
-        String message = "Removed adapter listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed adapter listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -971,14 +2370,55 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
                                      @NonNull final Collection<? extends DataType> items) {
         Condition.INSTANCE.ensureNotNull(items, "The collection may not be null");
         boolean result = true;
-        int currentIndex = index;
+        ArrayList<Item<DataType>> itemsToAdd = new ArrayList<>(items.size());
+        List<DataType> addedItems = new ArrayList<>(items.size());
+        Set<DataType> addedItemSet =
+                !areDuplicatesAllowed() && isHashIndexUsed() ? new HashSet<DataType>() : null;
 
         for (DataType item : items) {
-            boolean added = addItem(currentIndex, item);
-            result &= added;
+            Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+
+            if (!areDuplicatesAllowed() && (containsItem(item) ||
+                    (addedItemSet != null ? !addedItemSet.add(item) : addedItems.contains(item)))) {
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Item \"" + item + "\" at index " +
+                            (index + addedItems.size()) + " not added, because adapter already " +
+                            "contains item";
+                    getLogger().logDebug(getClass(), message);
+                }
+
+                result = false;
+            } else {
+                itemsToAdd.add(new Item<>(item));
+                addedItems.add(item);
+            }
+        }
+
+        if (!itemsToAdd.isEmpty()) {
+            int previousCount = this.items.size();
+            prepareItemsForModification();
+            this.items.addAll(index, itemsToAdd);
+
+            if (hashIndex != null) {
+                hashIndex.onItemsAdded(addedItems, index);
+            }
+
+            if (flagIndex != null) {
+                flagIndex.onItemsAdded(index, itemsToAdd);
+            }
+
+            if (itemCounter != null) {
+                for (Item<DataType> addedItem : itemsToAdd) {
+                    itemCounter.onItemAdded(addedItem);
+                }
+            }
 
-            if (added) {
-                currentIndex++;
+            notifyOnItemsAdded(new UnmodifiableList<>(addedItems), index);
+            notifyObserversOnItemRangeInserted(index, this.items.size() - previousCount);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Added " + addedItems.size() + " items at index " + index;
+                getLogger().logInfo(getClass(), message);
             }
         }
 
@@ -1001,24 +2441,64 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     @Override
     public final DataType replaceItem(final int index, @NonNull final DataType item) {
         Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
-        DataType replacedItem = items.set(index, new Item<>(item)).getData();
+        prepareItemsForModification();
+        Item<DataType> addedItem = new Item<>(item);
+        Item<DataType> removedItem = items.set(index, addedItem);
+        DataType replacedItem = removedItem.getData();
+
+        if (hashIndex != null) {
+            hashIndex.onItemReplaced(replacedItem, item, index);
+        }
+
+        if (flagIndex != null) {
+            flagIndex.onItemReplaced(index, addedItem);
+        }
+
+        if (itemCounter != null) {
+            itemCounter.onItemRemoved(removedItem);
+            itemCounter.onItemAdded(addedItem);
+        }
+
         notifyOnItemRemoved(replacedItem, index);
         notifyOnItemAdded(item, index);
         notifyObserversOnItemChanged(index);
-        String message =
-                "Replaced item \"" + replacedItem + "\" at index " + index + " with item \"" +
-                        item + "\"";
-        getLogger().logInfo(getClass(), message);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message =
+                    "Replaced item \"" + replacedItem + "\" at index " + index + " with item \"" +
+                            item + "\"";
+            getLogger().logInfo(getClass(), message);
+        }
+
         return replacedItem;
     }
 
     @Override
     public final DataType removeItem(final int index) {
-        DataType removedItem = items.remove(index).getData();
+        prepareItemsForModification();
+        Item<DataType> item = items.remove(index);
+        DataType removedItem = item.getData();
+
+        if (hashIndex != null) {
+            hashIndex.onItemRemoved(removedItem, index);
+        }
+
+        if (flagIndex != null) {
+            flagIndex.onItemRemoved(index);
+        }
+
+        if (itemCounter != null) {
+            itemCounter.onItemRemoved(item);
+        }
+
         notifyOnItemRemoved(removedItem, index);
         notifyObserversOnItemRemoved(index);
-        String message = "Removed item \"" + removedItem + "\" from index " + index;
-        getLogger().logInfo(getClass(), message);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Removed item \"" + removedItem + "\" from index " + index;
+            getLogger().logInfo(getClass(), message);
+        }
+
         return removedItem;
     }
 
@@ -1028,31 +2508,45 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
         int index = indexOf(item);
 
         if (index != -1) {
-            items.remove(index);
+            prepareItemsForModification();
+            Item<DataType> removedItem = items.remove(index);
+
+            if (hashIndex != null) {
+                hashIndex.onItemRemoved(removedItem.getData(), index);
+            }
+
+            if (flagIndex != null) {
+                flagIndex.onItemRemoved(index);
+            }
+
+            if (itemCounter != null) {
+                itemCounter.onItemRemoved(removedItem);
+            }
+
             notifyOnItemRemoved(item, index);
             notifyObserversOnItemRemoved(index);
-            String message = "Removed item \"" + item + "\" from index " + index;
-            getLogger().logInfo(getClass(), message);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Removed item \"" + item + "\" from index " + index;
+                getLogger().logInfo(getClass(), message);
+            }
+
             return true;
         }
 
-        String message = "Item \"" + item + "\" not removed, because adapter does not contain item";
-        getLogger().logDebug(getClass(), message);
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Item \"" + item + "\" not removed, because adapter does not " +
+                    "contain item";
+            getLogger().logDebug(getClass(), message);
+        }
+
         return false;
     }
 
     @Override
     public final boolean removeAllItems(@NonNull final Collection<? extends DataType> items) {
         Condition.INSTANCE.ensureNotNull(items, "The collection may not be null");
-        int numberOfRemovedItems = 0;
-
-        for (int i = getCount() - 1; i >= 0; i--) {
-            if (items.contains(getItem(i))) {
-                removeItem(i);
-                numberOfRemovedItems++;
-            }
-        }
-
+        int numberOfRemovedItems = removeItems(items, false);
         return numberOfRemovedItems == items.size();
     }
 
@@ -1066,12 +2560,7 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     @Override
     public final void retainAllItems(@NonNull final Collection<? extends DataType> items) {
         Condition.INSTANCE.ensureNotNull(items, "The collection may not be null");
-
-        for (int i = getCount() - 1; i >= 0; i--) {
-            if (!items.contains(getItem(i))) {
-                removeItem(i);
-            }
-        }
+        removeItems(items, true);
     }
 
     @SafeVarargs
@@ -1083,23 +2572,24 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
 
     @Override
     public final void clearItems() {
-        for (int i = getCount() - 1; i >= 0; i--) {
-            removeItem(i);
-        }
+        removeItems(Collections.<DataType>emptySet(), true);
     }
 
     @Override
     public final Iterator<DataType> iterator() {
+        unshareItems();
         return new ItemIterator<>(items, this);
     }
 
     @Override
     public final ListIterator<DataType> listIterator() {
+        unshareItems();
         return new ItemListIterator<>(items, this);
     }
 
     @Override
     public final ListIterator<DataType> listIterator(final int index) {
+        unshareItems();
         return new ItemListIterator<>(items, this, index);
     }
 
@@ -1128,6 +2618,10 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     public final int indexOf(@NonNull final DataType item) {
         Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
 
+        if (isHashIndexUsed()) {
+            return getHashIndex().indexOf(item);
+        }
+
         for (int i = 0; i < getCount(); i++) {
             if (getItem(i).equals(item)) {
                 return i;
@@ -1155,6 +2649,10 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     public final int lastIndexOf(@NonNull final DataType item) {
         Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
 
+        if (isHashIndexUsed()) {
+            return getHashIndex().lastIndexOf(item);
+        }
+
         for (int i = getCount() - 1; i >= 0; i--) {
             if (getItem(i).equals(item)) {
                 return i;
@@ -1181,6 +2679,11 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
     @Override
     public final boolean containsItem(@NonNull final DataType item) {
         Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+
+        if (isHashIndexUsed()) {
+            return getHashIndex().contains(item);
+        }
+
         return indexOf(item) != -1;
     }
 
@@ -1213,6 +2716,31 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
         return new UnmodifiableItemList<>(items);
     }
 
+    @NonNull
+    @Override
+    public final Snapshot<DataType> getSnapshot() {
+        if (snapshot == null) {
+            snapshot = new ItemSnapshot<>(items, version);
+        }
+
+        return snapshot;
+    }
+
+    @Override
+    public final void flushNotifications() {
+        flushPendingNotifications();
+    }
+
+    @NonNull
+    @Override
+    public final synchronized MutationQueue<DataType> getMutationQueue() {
+        if (mutationQueue == null) {
+            mutationQueue = new MutationQueue<>(this);
+        }
+
+        return mutationQueue;
+    }
+
     @Override
     public final boolean isEmpty() {
         return items.isEmpty();
@@ -1243,9 +2771,12 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
         if (adapterView != null) {
             if (adapterView.getAdapter() == this) {
                 adapterView.setAdapter(null);
-                String message = "Detached adapter from view \"" + adapterView + "\"";
-                getLogger().logDebug(getClass(), message);
-            } else {
+
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Detached adapter from view \"" + adapterView + "\"";
+                    getLogger().logDebug(getClass(), message);
+                }
+            } else if (isLoggable(LogLevel.VERBOSE)) {
                 String message = "Adapter has not been detached, because the " +
                         "adapter of the corresponding view has been changed in the meantime";
                 getLogger().logVerbose(getClass(), message);
@@ -1253,16 +2784,21 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
 
             adapterView = null;
         } else if (recyclerView != null) {
+            cancelPendingDiff();
+
             if (recyclerView.getAdapter() == this) {
                 recyclerView.setAdapter(null);
-                String message = "Detached adapter from view \"" + recyclerView + "\"";
-                getLogger().logDebug(getClass(), message);
-            } else {
+
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Detached adapter from view \"" + recyclerView + "\"";
+                    getLogger().logDebug(getClass(), message);
+                }
+            } else if (isLoggable(LogLevel.VERBOSE)) {
                 String message = "Adapter has not been detached, because the " +
                         "adapter of the corresponding view has been changed in the meantime";
                 getLogger().logVerbose(getClass(), message);
             }
-        } else {
+        } else if (isLoggable(LogLevel.VERBOSE)) {
             String message = "Adapter has not been detached, because it has not " +
                     "been attached to a view yet";
             getLogger().logVerbose(getClass(), message);
@@ -1298,7 +2834,8 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
 
     @Override
     public final long getItemId(final int index) {
-        return System.identityHashCode(getItem(index));
+        Item<DataType> item = items.get(index);
+        return itemIdProvider != null ? itemIdProvider.getItemId(item.getData()) : item.getId();
     }
 
     @Override
@@ -1325,8 +2862,11 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
             LayoutInflater inflater = LayoutInflater.from(getContext());
             DataType item = getItem(index);
             view = getDecorator().inflateView(inflater, parent, item);
-            String message = "Inflated view to visualize the item at index " + index;
-            getLogger().logVerbose(getClass(), message);
+
+            if (isLoggable(LogLevel.VERBOSE)) {
+                String message = "Inflated view to visualize the item at index " + index;
+                getLogger().logVerbose(getClass(), message);
+            }
         }
 
         applyDecorator(getContext(), view, index);
@@ -1343,21 +2883,57 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
 
         LayoutInflater inflater = LayoutInflater.from(getContext());
         View view = getDecorator().onInflateView(inflater, parent, viewType);
-        String message = "Inflated view to visualize item with view type " + viewType;
-        getLogger().logVerbose(getClass(), message);
-        return new ListItemViewHolder(view);
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            String message = "Inflated view to visualize item with view type " + viewType;
+            getLogger().logVerbose(getClass(), message);
+        }
+
+        ListItemViewHolder viewHolder = new ListItemViewHolder(view);
+        view.setOnClickListener(createItemOnClickListener(viewHolder));
+        view.setOnLongClickListener(createItemOnLongClickListener(viewHolder));
+        return viewHolder;
     }
 
     @Override
     public final void onBindViewHolder(@NonNull final ViewHolder viewHolder, final int index) {
         ListItemViewHolder listItemViewHolder = (ListItemViewHolder) viewHolder;
         listItemViewHolder.setItemIndex(index);
-        listItemViewHolder.getParentView().setOnClickListener(createItemOnClickListener(index));
-        listItemViewHolder.getParentView()
-                .setOnLongClickListener(createItemOnLongClickListener(index));
         applyDecorator(getContext(), listItemViewHolder.getParentView(), index);
     }
 
+    @Override
+    public final void onBindViewHolder(@NonNull final ViewHolder viewHolder, final int index,
+                                       @NonNull final List<Object> payloads) {
+        Set<ChangePayload> changePayloads = ChangePayload.fromPayloads(payloads);
+
+        if (changePayloads != null) {
+            ListItemViewHolder listItemViewHolder = (ListItemViewHolder) viewHolder;
+            listItemViewHolder.setItemIndex(index);
+            applyDecoratorPartially(getContext(), listItemViewHolder.getParentView(), index,
+                    changePayloads);
+        } else {
+            onBindViewHolder(viewHolder, index);
+        }
+    }
+
+    @Override
+    public final InstanceStateStore getInstanceStateStore() {
+        return instanceStateStore;
+    }
+
+    @Override
+    public final void setInstanceStateStore(
+            @Nullable final InstanceStateStore instanceStateStore) {
+        this.instanceStateStore = instanceStateStore;
+        this.instanceStateHandle = null;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set instance state store to \"" + instanceStateStore + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
     @Override
     public final void onSaveInstanceState(@NonNull final Bundle outState,
                                           @NonNull final String key) {
@@ -1376,17 +2952,20 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
                 savedState.putParcelable(ADAPTER_VIEW_STATE_BUNDLE_KEY,
                         layoutManager.onSaveInstanceState());
             }
-        } else {
+        } else if (isLoggable(LogLevel.WARN)) {
             String message = "The state of the adapter view can not be stored, because the " +
                     "adapter has not been attached to a view";
             getLogger().logWarn(getClass(), message);
         }
 
-        if (isUnderlyingDataParcelable()) {
-            savedState.putParcelableArrayList(PARCELABLE_ITEMS_BUNDLE_KEY, getUnfilteredItems());
+        if (putEncodedItems(savedState)) {
+            getLogger().logVerbose(getClass(), "Encoded items by using the item codec");
+        } else if (isUnderlyingDataParcelable()) {
+            savedState.putParcelable(COMPACT_ITEMS_BUNDLE_KEY,
+                    new CompactItemList<>(getUnfilteredItems()));
         } else if (isUnderlyingDataSerializable()) {
             savedState.putSerializable(SERIALIZABLE_ITEMS_BUNDLE_KEY, getUnfilteredItems());
-        } else {
+        } else if (isLoggable(LogLevel.WARN)) {
             String message = "The adapter's items can not be stored, because the " +
                     "underlying data does neither implement the interface \"" +
                     Parcelable.class.getName() + "\", nor the interface \"" +
@@ -1396,14 +2975,14 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
 
         savedState.putBundle(PARAMETERS_BUNDLE_KEY, getParameters());
         savedState.putBoolean(ALLOW_DUPLICATES_BUNDLE_KEY, areDuplicatesAllowed());
+        savedState.putBoolean(USE_HASH_INDEX_BUNDLE_KEY, isHashIndexUsed());
         savedState.putBoolean(NOTIFY_ON_CHANGE_BUNDLE_KEY, isNotifiedOnChange());
         savedState.putInt(LOG_LEVEL_BUNDLE_KEY, getLogLevel().getRank());
         onSaveInstanceState(savedState);
-        outState.putBundle(key, savedState);
+        outState.putBundle(key, writeToInstanceStateStore(savedState));
         getLogger().logDebug(getClass(), "Saved instance state");
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public final void onRestoreInstanceState(@NonNull final Bundle savedInstanceState,
                                              @NonNull final String key)
@@ -1411,54 +2990,92 @@ public abstract class AbstractListAdapter<DataType, DecoratorType extends Abstra
         Condition.INSTANCE.ensureNotNull(savedInstanceState, "The bundle may not be null");
         Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
         Condition.INSTANCE.ensureNotEmpty(key, "The key may not be null");
-        Bundle savedState = savedInstanceState.getBundle(key);
+        restoreGeneration++;
+        restoring = false;
+        Bundle savedState = getSavedState(savedInstanceState, key);
 
         if (savedState != null) {
+            Bundle handle = getInstanceStateHandle(savedInstanceState, key);
+
+            if (handle != null) {
+                instanceStateHandle = handle;
+            }
+
             try {
-                if (savedState.containsKey(ADAPTER_VIEW_STATE_BUNDLE_KEY)) {
-                    if (adapterView != null) {
-                        AdapterViewUtil.onRestoreInstanceState(adapterView, savedState,
-                                ADAPTER_VIEW_STATE_BUNDLE_KEY);
-                    } else if (recyclerView != null && recyclerView.getLayoutManager() != null) {
-                        recyclerView.getLayoutManager().onRestoreInstanceState(
-                                savedState.getParcelable(ADAPTER_VIEW_STATE_BUNDLE_KEY));
-                    }
-                }
+                applySavedState(savedState, readRestoredItems(savedState));
+            } catch (Exception e) {
+                throw new RestoreInstanceStateException(e);
+            }
+        }
+    }
+
+    @Override
+    public final void onRestoreInstanceStateAsync(@NonNull final Bundle savedInstanceState,
+                                                  @NonNull final String key) {
+        Condition.INSTANCE.ensureNotNull(savedInstanceState, "The bundle may not be null");
+        Condition.INSTANCE.ensureNotNull(key, "The key may not be null");
+        Condition.INSTANCE.ensureNotEmpty(key, "The key may not be null");
+        final int generation = ++restoreGeneration;
+        final Bundle handle = getInstanceStateHandle(savedInstanceState, key);
+        Bundle storedState = savedInstanceState.getBundle(key);
+        final Bundle innerState = storedState != null ? new Bundle(storedState) : null;
+        restoring = true;
+        dispatchDataSetChanged();
+        getLogger().logDebug(getClass(), "Restoring instance state in the background");
+        restoreExecutor.execute(new Runnable() {
 
+            @Override
+            public void run() {
+                Bundle savedState = null;
                 ArrayList<Item<DataType>> restoredItems = null;
+                Exception exception = null;
 
-                if (savedState.containsKey(PARCELABLE_ITEMS_BUNDLE_KEY)) {
-                    restoredItems = savedState.getParcelableArrayList(PARCELABLE_ITEMS_BUNDLE_KEY);
-                } else if (savedState.containsKey(SERIALIZABLE_ITEMS_BUNDLE_KEY)) {
-                    restoredItems = (ArrayList<Item<DataType>>) savedState
-                            .getSerializable(SERIALIZABLE_ITEMS_BUNDLE_KEY);
+                try {
+                    savedState = resolveSavedState(innerState, key);
+                    restoredItems = savedState != null ? readRestoredItems(savedState) : null;
+                } catch (Exception e) {
+                    exception = e;
                 }
 
-                if (restoredItems != null) {
-                    for (Item<DataType> item : restoredItems) {
-                        if (item != null) {
-                            items.add(item);
-                        }
+                final Bundle finalSavedState = savedState;
+                final ArrayList<Item<DataType>> finalRestoredItems = restoredItems;
+                final Exception finalException = exception;
+                ThreadUtil.runOnUiThread(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        publishRestoredState(generation, handle, finalSavedState,
+                                finalRestoredItems, finalException);
                     }
-                }
 
-                parameters = savedState.getBundle(PARAMETERS_BUNDLE_KEY);
-                allowDuplicates = savedState.getBoolean(ALLOW_DUPLICATES_BUNDLE_KEY, false);
-                notifyOnChange = savedState.getBoolean(NOTIFY_ON_CHANGE_BUNDLE_KEY, true);
-                setLogLevel(LogLevel.fromRank(
-                        savedState.getInt(LOG_LEVEL_BUNDLE_KEY, LogLevel.ALL.getRank())));
-                onRestoreInstanceState(savedState);
-                notifyDataSetChanged();
-                getLogger().logDebug(getClass(), "Restored instance state");
-            } catch (Exception e) {
-                throw new RestoreInstanceStateException(e);
+                });
             }
-        } else {
-            throw new RestoreInstanceStateException(
-                    "Saved instance state does not contain bundle with key \"" + key + "\"");
+
+        });
+    }
+
+    @Override
+    public final boolean isRestoring() {
+        return restoring;
+    }
+
+    @Override
+    public final void setRestoreExecutor(@NonNull final Executor executor) {
+        Condition.INSTANCE.ensureNotNull(executor, "The executor may not be null");
+        this.restoreExecutor = executor;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set restore executor to \"" + executor + "\"";
+            getLogger().logDebug(getClass(), message);
         }
     }
 
+    @NonNull
+    @Override
+    public final Executor getRestoreExecutor() {
+        return restoreExecutor;
+    }
+
     @CallSuper
     @Override
     public int hashCode() {
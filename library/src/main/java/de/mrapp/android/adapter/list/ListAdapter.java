@@ -14,6 +14,7 @@
 package de.mrapp.android.adapter.list;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import android.os.Build;
 import android.widget.AbsListView;
@@ -26,7 +27,12 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import androidx.annotation.RequiresApi;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.RecyclerView;
+import de.mrapp.android.adapter.ItemCodec;
+import de.mrapp.android.adapter.ItemIdProvider;
 import de.mrapp.android.adapter.RecyclerViewAdapter;
+import de.mrapp.android.adapter.datastructure.Snapshot;
 import de.mrapp.android.adapter.list.enablestate.EnableStateListAdapter;
 import de.mrapp.android.adapter.list.filterable.FilterableListAdapter;
 import de.mrapp.android.adapter.list.itemstate.ItemStateListAdapter;
@@ -62,6 +68,93 @@ public interface ListAdapter<DataType>
      */
     void allowDuplicates(boolean allowDuplicates);
 
+    /**
+     * Returns, whether a hash index is used to look up the positions of items, or not.
+     *
+     * @return True, if a hash index is used to look up the positions of items, false otherwise
+     */
+    boolean isHashIndexUsed();
+
+    /**
+     * Sets, whether a hash index should be used to look up the positions of items, or not. Using a
+     * hash index allows the methods <code>indexOf(Object):int</code>,
+     * <code>lastIndexOf(Object):int</code> and <code>containsItem(Object):boolean</code>, as well
+     * as checking for duplicates when adding items, to be performed in constant time at the cost of
+     * additional memory. It requires the adapter's underlying data to provide implementations of
+     * the methods <code>equals(Object):boolean</code> and <code>hashCode():int</code>, which are
+     * consistent with each other.
+     *
+     * @param useHashIndex
+     *         True, if a hash index should be used to look up the positions of items, false
+     *         otherwise
+     */
+    void useHashIndex(boolean useHashIndex);
+
+    /**
+     * Returns the provider, which is used to derive the IDs of the adapter's items from their
+     * data.
+     *
+     * @return The provider, which is used to derive the IDs of the adapter's items, as an instance
+     * of the type {@link ItemIdProvider} or null, if the IDs are generated by the adapter
+     */
+    @Nullable
+    ItemIdProvider<DataType> getItemIdProvider();
+
+    /**
+     * Sets the provider, which should be used to derive the IDs of the adapter's items from their
+     * data. If no provider is set, a unique ID is generated for each item, when it is added to the
+     * adapter. Generated IDs are retained, when the adapter is cloned or its state is restored.
+     *
+     * @param itemIdProvider
+     *         The provider, which should be set, as an instance of the type {@link
+     *         ItemIdProvider} or null, if the IDs should be generated by the adapter
+     */
+    void setItemIdProvider(@Nullable ItemIdProvider<DataType> itemIdProvider);
+
+    /**
+     * Returns the codec, which is used to encode the adapter's items, when its state is saved.
+     *
+     * @return The codec, which is used to encode the adapter's items, as an instance of the type
+     * {@link ItemCodec} or null, if the items are stored as parcels or by using Java serialization
+     */
+    @Nullable
+    ItemCodec<DataType> getItemCodec();
+
+    /**
+     * Sets the codec, which should be used to encode the adapter's items, when its state is
+     * saved. If no codec is set, the items are stored as parcels, if their data implements the
+     * interface {@link android.os.Parcelable}, or by using Java serialization otherwise.
+     *
+     * @param itemCodec
+     *         The codec, which should be set, as an instance of the type {@link ItemCodec} or null,
+     *         if no codec should be used
+     */
+    void setItemCodec(@Nullable ItemCodec<DataType> itemCodec);
+
+    /**
+     * Returns the callback, which is used to calculate the difference between the adapter's items
+     * before and after they have been sorted or filtered.
+     *
+     * @return The callback, which is used to calculate the difference between the adapter's items,
+     * as an instance of the class {@link DiffUtil.ItemCallback} or null, if no callback is used
+     */
+    @Nullable
+    DiffUtil.ItemCallback<DataType> getDiffCallback();
+
+    /**
+     * Sets the callback, which should be used to calculate the difference between the adapter's
+     * items before and after they have been sorted or filtered. If a callback is set and the
+     * adapter is attached to a {@link RecyclerView}, only the items, which have been moved,
+     * inserted, removed or changed, are rebound, instead of all items. The difference is calculated
+     * by the adapter's restore executor. Therefore, the callback must be thread-safe. The layout of
+     * the view is frozen, until the difference has been dispatched on the UI thread.
+     *
+     * @param diffCallback
+     *         The callback, which should be set, as an instance of the class {@link
+     *         DiffUtil.ItemCallback} or null, if all items should be rebound
+     */
+    void setDiffCallback(@Nullable DiffUtil.ItemCallback<DataType> diffCallback);
+
     /**
      * Adds a specific item to the adapter. The item will be added at the end.
      *
@@ -182,7 +275,10 @@ public interface ListAdapter<DataType>
     boolean removeItem(@NonNull DataType item);
 
     /**
-     * Removes all items, which are contained by a specific collection, from the adapter.
+     * Removes all items, which are contained by a specific collection, from the adapter. The
+     * listeners are notified, after all items have been removed. If the removed items are not
+     * consecutive, the listeners are notified about each range of consecutive items, starting with
+     * the range at the highest index and using the indices, the items had before the removal.
      *
      * @param items
      *         The collection, which contains the items, which should be removed from the adapter,
@@ -205,7 +301,8 @@ public interface ListAdapter<DataType>
 
     /**
      * Removes all items from the adapter, except of the items, which are contained by a specific
-     * collection.
+     * collection. The listeners are notified in the same way as by the method
+     * <code>removeAllItems(Collection):boolean</code>.
      *
      * @param items
      *         The collection, which contains the items, which should be retained, as an instance of
@@ -409,6 +506,36 @@ public interface ListAdapter<DataType>
      */
     List<DataType> getAllItems();
 
+    /**
+     * Returns an immutable snapshot of the adapter's items. Obtaining a snapshot does not copy the
+     * items. Instead, the adapter copies them lazily, when it is modified the next time after a
+     * snapshot has been obtained. This method must be called on the UI thread, whereas the
+     * returned snapshot can be read from any thread without further synchronization.
+     *
+     * @return A snapshot of the adapter's items as an instance of the type {@link Snapshot}. The
+     * snapshot may not be null
+     */
+    @NonNull
+    Snapshot<DataType> getSnapshot();
+
+    /**
+     * Returns the queue, which allows to modify the adapter's underlying data from any thread. The
+     * modifications, which are added to the queue, are applied on the UI thread once per frame.
+     * This method may be called from any thread.
+     *
+     * @return The queue as an instance of the class {@link MutationQueue}. The queue may not be
+     * null
+     */
+    @NonNull
+    MutationQueue<DataType> getMutationQueue();
+
+    /**
+     * Dispatches all pending notifications about changed items immediately. If the adapter is
+     * attached to a view, notifications about changed items are deferred until the next frame and
+     * merged with each other. This method must be called on the UI thread.
+     */
+    void flushNotifications();
+
     /**
      * Adds a new listener, which should be notified, when the adapter's underlying data has been
      * modified.
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Defines the interface, all listeners, which should be notified, when the underlying data of a
+ * {@link ListAdapter} has been modified, must implement, if they should be notified about items,
+ * which have been added or removed by a single bulk operation, at once. Listeners, which only
+ * implement the interface {@link ListAdapterListener}, are notified about each of these items
+ * separately.
+ *
+ * @param <DataType>
+ *         The type of the observed adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface ListAdapterBatchListener<DataType> extends ListAdapterListener<DataType> {
+
+    /**
+     * The method, which is invoked, when multiple items have been added to the adapter at once.
+     *
+     * @param adapter
+     *         The observed adapter as an instance of the type {@link ListAdapter}. The adapter may
+     *         not be null
+     * @param items
+     *         A list, which contains the items, which have been added, in the order of their
+     *         insertion, as an instance of the type {@link List}. The list may not be null
+     * @param index
+     *         The index of the first item, which has been added, as an {@link Integer} value. The
+     *         items occupy consecutive indices starting at this index
+     */
+    void onItemsAdded(@NonNull ListAdapter<DataType> adapter, @NonNull List<DataType> items,
+                      int index);
+
+    /**
+     * The method, which is invoked, when multiple consecutive items have been removed from the
+     * adapter at once. If a bulk operation removes items, which are not consecutive, this method
+     * is invoked once for each range of consecutive items, starting with the range at the highest
+     * index. All ranges have already been removed, when this method is invoked. The index of each
+     * range refers to the positions, the items had before the removal, which remain valid, because
+     * no range at a lower index has been reported yet.
+     *
+     * @param adapter
+     *         The observed adapter as an instance of the type {@link ListAdapter}. The adapter may
+     *         not be null
+     * @param items
+     *         A list, which contains the items, which have been removed, in the order of their
+     *         former indices, as an instance of the type {@link List}. The list may not be null
+     * @param index
+     *         The former index of the first item, which has been removed, as an {@link Integer}
+     *         value
+     */
+    void onItemsRemoved(@NonNull ListAdapter<DataType> adapter, @NonNull List<DataType> items,
+                        int index);
+
+}
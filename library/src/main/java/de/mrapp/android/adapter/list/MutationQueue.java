@@ -0,0 +1,465 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list;
+
+import android.os.Build;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+import de.mrapp.android.adapter.util.ThreadUtil;
+import de.mrapp.util.Condition;
+
+/**
+ * A queue, which allows to modify the underlying data of a {@link ListAdapter} from any thread.
+ * Modifications are not applied immediately. Instead, the queue is drained on the UI thread once
+ * per frame. Consecutive additions and removals are applied as bulk operations, which results in
+ * a single notification per range of items. Modifications are applied in the order they have been
+ * added to the queue. As the indices of items may change until a modification is applied, all
+ * modifications refer to items rather than indices. Modifications, which refer to items, which are
+ * not contained by the adapter at the time they are applied, are ignored.
+ *
+ * @param <DataType>
+ *         The type of the adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class MutationQueue<DataType> {
+
+    /**
+     * Contains all types of modifications, which can be added to the queue.
+     */
+    private enum MutationType {
+
+        /**
+         * A modification, which adds an item.
+         */
+        ADD,
+
+        /**
+         * A modification, which removes an item.
+         */
+        REMOVE,
+
+        /**
+         * A modification, which replaces an item.
+         */
+        REPLACE,
+
+        /**
+         * A modification, which enables or disables an item.
+         */
+        ENABLE_STATE,
+
+        /**
+         * A modification, which changes the state of an item.
+         */
+        ITEM_STATE
+
+    }
+
+    /**
+     * A modification, which has been added to the queue.
+     *
+     * @param <DataType>
+     *         The type of the adapter's underlying data
+     */
+    private static final class Mutation<DataType> {
+
+        /**
+         * The type of the modification.
+         */
+        private final MutationType type;
+
+        /**
+         * The item, the modification refers to.
+         */
+        private final DataType item;
+
+        /**
+         * The item, which should replace the item, the modification refers to, or null, if the
+         * modification does not replace an item.
+         */
+        private final DataType replacement;
+
+        /**
+         * The value of the modification, e.g. the state, which should be set.
+         */
+        private final int value;
+
+        /**
+         * Creates a new modification.
+         *
+         * @param type
+         *         The type of the modification as a value of the enum {@link MutationType}. The
+         *         type may not be null
+         * @param item
+         *         The item, the modification refers to, as an instance of the generic type
+         *         DataType. The item may not be null
+         * @param replacement
+         *         The item, which should replace the item, the modification refers to, as an
+         *         instance of the generic type DataType or null, if the modification does not
+         *         replace an item
+         * @param value
+         *         The value of the modification as an {@link Integer} value
+         */
+        private Mutation(@NonNull final MutationType type, @NonNull final DataType item,
+                         final DataType replacement, final int value) {
+            this.type = type;
+            this.item = item;
+            this.replacement = replacement;
+            this.value = value;
+        }
+
+    }
+
+    /**
+     * The adapter, whose underlying data is modified.
+     */
+    private final ListAdapter<DataType> adapter;
+
+    /**
+     * The queue, which contains the modifications, which have not been applied yet.
+     */
+    private final Queue<Mutation<DataType>> mutations;
+
+    /**
+     * True, if draining the queue has already been scheduled, false otherwise.
+     */
+    private final AtomicBoolean drainScheduled;
+
+    /**
+     * The callback, which is used to drain the queue once per frame, or null, if it has not been
+     * created yet.
+     */
+    private Choreographer.FrameCallback frameCallback;
+
+    /**
+     * Creates and returns a runnable, which schedules to drain the queue.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createScheduleDrainRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                scheduleDrain();
+            }
+
+        };
+    }
+
+    /**
+     * Creates and returns a runnable, which drains the queue.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createDrainRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                drain();
+            }
+
+        };
+    }
+
+    /**
+     * Returns the callback, which is used to drain the queue once per frame. The callback is
+     * created, if necessary.
+     *
+     * @return The callback as an instance of the type {@link Choreographer.FrameCallback}. The
+     * callback may not be null
+     */
+    @NonNull
+    @RequiresApi(api = Build.VERSION_CODES.JELLY_BEAN)
+    private Choreographer.FrameCallback getFrameCallback() {
+        if (frameCallback == null) {
+            frameCallback = new Choreographer.FrameCallback() {
+
+                @Override
+                public void doFrame(final long frameTimeNanos) {
+                    drain();
+                }
+
+            };
+        }
+
+        return frameCallback;
+    }
+
+    /**
+     * Adds a specific modification to the queue and schedules to drain the queue, if necessary.
+     * This method may be called from any thread.
+     *
+     * @param mutation
+     *         The modification, which should be added, as an instance of the class {@link
+     *         Mutation}. The modification may not be null
+     */
+    private void enqueue(@NonNull final Mutation<DataType> mutation) {
+        mutations.offer(mutation);
+
+        if (drainScheduled.compareAndSet(false, true)) {
+            if (ThreadUtil.isMainThread()) {
+                scheduleDrain();
+            } else {
+                ThreadUtil.postOnUiThread(createScheduleDrainRunnable());
+            }
+        }
+    }
+
+    /**
+     * Schedules to drain the queue on the next frame. This method must be called on the UI
+     * thread.
+     */
+    private void scheduleDrain() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            Choreographer.getInstance().postFrameCallback(getFrameCallback());
+        } else {
+            ThreadUtil.postOnUiThread(createDrainRunnable());
+        }
+    }
+
+    /**
+     * Applies all modifications, which are currently contained by the queue. Consecutive additions
+     * and removals are applied as bulk operations. This method must be called on the UI thread.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        Collection<DataType> pendingItems = null;
+        MutationType pendingType = null;
+        Mutation<DataType> mutation;
+
+        while ((mutation = mutations.poll()) != null) {
+            if (pendingType != null && pendingType != mutation.type) {
+                applyBulkMutation(pendingType, pendingItems);
+                pendingType = null;
+            }
+
+            if (mutation.type == MutationType.ADD || (mutation.type == MutationType.REMOVE &&
+                    !adapter.areDuplicatesAllowed())) {
+                if (pendingType == null) {
+                    pendingItems = createPendingItems(mutation.type);
+                }
+
+                pendingItems.add(mutation.item);
+                pendingType = mutation.type;
+            } else {
+                applyMutation(mutation);
+            }
+        }
+
+        if (pendingType != null) {
+            applyBulkMutation(pendingType, pendingItems);
+        }
+    }
+
+    /**
+     * Creates and returns a collection, which allows to collect the items of consecutive
+     * modifications of a specific type. Items, which should be removed, are collected in a set, if
+     * the adapter uses a hash index, so that the adapter can check, whether an item should be
+     * removed, in constant time without copying the collection.
+     *
+     * @param type
+     *         The type of the modifications as a value of the enum {@link MutationType}. The type
+     *         must either be <code>ADD</code> or <code>REMOVE</code>
+     * @return The collection, which has been created, as an instance of the type {@link
+     * Collection}. The collection may not be null
+     */
+    @NonNull
+    private Collection<DataType> createPendingItems(@NonNull final MutationType type) {
+        if (type == MutationType.REMOVE && adapter.isHashIndexUsed()) {
+            return new LinkedHashSet<>();
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Adds or removes multiple items at once.
+     *
+     * @param type
+     *         The type of the modification as a value of the enum {@link MutationType}. The type
+     *         must either be <code>ADD</code> or <code>REMOVE</code>
+     * @param items
+     *         A collection, which contains the items, which should be added or removed, in the
+     *         order of the modifications, as an instance of the type {@link Collection}. The
+     *         collection may not be null
+     */
+    private void applyBulkMutation(@NonNull final MutationType type,
+                                   @NonNull final Collection<DataType> items) {
+        if (items.size() == 1) {
+            applyMutation(new Mutation<>(type, items.iterator().next(), null, 0));
+        } else if (type == MutationType.ADD) {
+            adapter.addAllItems(items);
+        } else {
+            adapter.removeAllItems(items);
+        }
+    }
+
+    /**
+     * Applies a single modification.
+     *
+     * @param mutation
+     *         The modification, which should be applied, as an instance of the class {@link
+     *         Mutation}. The modification may not be null
+     */
+    private void applyMutation(@NonNull final Mutation<DataType> mutation) {
+        if (mutation.type == MutationType.ADD) {
+            adapter.addItem(mutation.item);
+        } else if (mutation.type == MutationType.REMOVE) {
+            adapter.removeItem(mutation.item);
+        } else {
+            int index = adapter.indexOf(mutation.item);
+
+            if (index != -1) {
+                if (mutation.type == MutationType.REPLACE) {
+                    adapter.replaceItem(index, mutation.replacement);
+                } else if (mutation.type == MutationType.ENABLE_STATE) {
+                    adapter.setEnabled(index, mutation.value != 0);
+                } else {
+                    adapter.setItemState(index, mutation.value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new queue, which allows to modify the underlying data of a {@link ListAdapter}
+     * from any thread.
+     *
+     * @param adapter
+     *         The adapter, whose underlying data should be modified, as an instance of the type
+     *         {@link ListAdapter}. The adapter may not be null
+     */
+    MutationQueue(@NonNull final ListAdapter<DataType> adapter) {
+        Condition.INSTANCE.ensureNotNull(adapter, "The adapter may not be null");
+        this.adapter = adapter;
+        this.mutations = new ConcurrentLinkedQueue<>();
+        this.drainScheduled = new AtomicBoolean(false);
+        this.frameCallback = null;
+    }
+
+    /**
+     * Adds an item to the end of the adapter, when the queue is drained the next time. This method
+     * may be called from any thread.
+     *
+     * @param item
+     *         The item, which should be added, as an instance of the generic type DataType. The
+     *         item may not be null
+     */
+    public final void addItem(@NonNull final DataType item) {
+        Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+        enqueue(new Mutation<>(MutationType.ADD, item, null, 0));
+    }
+
+    /**
+     * Removes an item from the adapter, when the queue is drained the next time. This method may
+     * be called from any thread.
+     *
+     * @param item
+     *         The item, which should be removed, as an instance of the generic type DataType. The
+     *         item may not be null
+     */
+    public final void removeItem(@NonNull final DataType item) {
+        Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+        enqueue(new Mutation<>(MutationType.REMOVE, item, null, 0));
+    }
+
+    /**
+     * Replaces an item of the adapter with an other item, when the queue is drained the next time.
+     * This method may be called from any thread.
+     *
+     * @param item
+     *         The item, which should be replaced, as an instance of the generic type DataType. The
+     *         item may not be null
+     * @param replacement
+     *         The item, which should replace the given item, as an instance of the generic type
+     *         DataType. The item may not be null
+     */
+    public final void replaceItem(@NonNull final DataType item,
+                                  @NonNull final DataType replacement) {
+        Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+        Condition.INSTANCE.ensureNotNull(replacement, "The replacement may not be null");
+        enqueue(new Mutation<>(MutationType.REPLACE, item, replacement, 0));
+    }
+
+    /**
+     * Enables or disables an item of the adapter, when the queue is drained the next time. This
+     * method may be called from any thread.
+     *
+     * @param item
+     *         The item, which should be enabled or disabled, as an instance of the generic type
+     *         DataType. The item may not be null
+     * @param enabled
+     *         True, if the item should be enabled, false otherwise
+     */
+    public final void setEnabled(@NonNull final DataType item, final boolean enabled) {
+        Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+        enqueue(new Mutation<>(MutationType.ENABLE_STATE, item, null, enabled ? 1 : 0));
+    }
+
+    /**
+     * Sets the state of an item of the adapter, when the queue is drained the next time. This
+     * method may be called from any thread.
+     *
+     * @param item
+     *         The item, whose state should be set, as an instance of the generic type DataType.
+     *         The item may not be null
+     * @param state
+     *         The state, which should be set, as an {@link Integer} value. The state must be
+     *         between 0 and the value of the method <code>getNumberOfItemStates():int</code> - 1
+     */
+    public final void setItemState(@NonNull final DataType item, final int state) {
+        Condition.INSTANCE.ensureNotNull(item, "The item may not be null");
+        enqueue(new Mutation<>(MutationType.ITEM_STATE, item, null, state));
+    }
+
+    /**
+     * Applies all modifications, which are currently contained by the queue, immediately instead of
+     * waiting for the next frame. This method must be called on the UI thread.
+     *
+     * @throws IllegalStateException
+     *         The exception, which is thrown, if the method is not called on the UI thread
+     */
+    public final void flush() {
+        Condition.INSTANCE.ensureTrue(ThreadUtil.isMainThread(),
+                "The queue must be flushed on the UI thread", IllegalStateException.class);
+        drain();
+    }
+
+    /**
+     * Returns, whether the queue contains modifications, which have not been applied yet, or not.
+     *
+     * @return True, if the queue contains modifications, which have not been applied yet, false
+     * otherwise
+     */
+    public final boolean hasPendingMutations() {
+        return !mutations.isEmpty();
+    }
+
+}
@@ -164,11 +164,13 @@ public class NoChoiceListAdapterImplementation<DataType>
         boolean filtered = isFiltered();
         getDecorator()
                 .applyDecorator(context, this, view, item, index, enabled, itemState, filtered);
-        String message =
-                "Applied decorator \"" + getDecorator() + "\" using arguments: Item=[" + item +
-                        ", index=" + index + ", enabled=" + enabled + ", itemState=" + itemState +
-                        ", filtered=" + filtered + "]";
-        getLogger().logVerbose(getClass(), message);
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            String message = "Applied decorator \"" + getDecorator() + "\" using arguments: " +
+                    "Item=[" + item + ", index=" + index + ", enabled=" + enabled + ", itemState=" +
+                    itemState + ", filtered=" + filtered + "]";
+            getLogger().logVerbose(getClass(), message);
+        }
     }
 
     @Override
@@ -183,11 +185,18 @@ public class NoChoiceListAdapterImplementation<DataType>
     @Override
     public final NoChoiceListAdapterImplementation<DataType> clone()
             throws CloneNotSupportedException {
-        return new NoChoiceListAdapterImplementation<>(getContext(), getDecorator(), getLogLevel(),
-                cloneItems(), areDuplicatesAllowed(), isNotifiedOnChange(), getItemClickListeners(),
-                getItemLongClickListeners(), getAdapterListeners(), getEnableStateListeners(),
-                getNumberOfItemStates(), isItemStateTriggeredOnClick(), getItemStateListeners(),
-                getSortingListeners(), getFilterListeners(), cloneAppliedFilters());
+        NoChoiceListAdapterImplementation<DataType> clonedAdapter =
+                new NoChoiceListAdapterImplementation<>(getContext(), getDecorator(),
+                        getLogLevel(), cloneItems(), areDuplicatesAllowed(), isNotifiedOnChange(),
+                        getItemClickListeners(), getItemLongClickListeners(),
+                        getAdapterListeners(), getEnableStateListeners(), getNumberOfItemStates(),
+                        isItemStateTriggeredOnClick(), getItemStateListeners(),
+                        getSortingListeners(), getFilterListeners(), cloneAppliedFilters());
+        clonedAdapter.useHashIndex(isHashIndexUsed());
+        clonedAdapter.setDiffCallback(getDiffCallback());
+        clonedAdapter.setItemIdProvider(getItemIdProvider());
+        clonedAdapter.setItemCodec(getItemCodec());
+        return clonedAdapter;
     }
 
 }
\ No newline at end of file
@@ -17,12 +17,16 @@ import android.content.Context;
 import android.widget.AbsListView;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.ChangePayload;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.UnmodifiableList;
 import de.mrapp.android.adapter.datastructure.item.Item;
+import de.mrapp.android.adapter.datastructure.item.ItemFlagIndex;
 import de.mrapp.android.adapter.decorator.AbstractListDecorator;
 import de.mrapp.android.adapter.list.AbstractListAdapter;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
@@ -93,6 +97,48 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
         }
     }
 
+    /**
+     * Notifies all listeners, which have been registered to be notified, when an item has been
+     * disabled or enabled, about multiple items, which have been enabled or disabled at once.
+     * Listeners, which do not implement the interface {@link ListEnableStateBatchListener}, are
+     * notified about each item separately.
+     *
+     * @param indices
+     *         The indices of the items, which have been enabled or disabled, as an instance of the
+     *         class {@link IndexList}. The list may not be null
+     * @param enabled
+     *         True, if the items have been enabled, false, if they have been disabled
+     */
+    @SuppressWarnings("unchecked")
+    private void notifyOnEnableStatesChanged(@NonNull final IndexList indices,
+                                             final boolean enabled) {
+        if (!indices.isEmpty()) {
+            for (ListEnableStateListener<DataType> listener : enableStateListeners) {
+                if (listener instanceof ListEnableStateBatchListener) {
+                    ListEnableStateBatchListener<DataType> batchListener =
+                            (ListEnableStateBatchListener<DataType>) listener;
+
+                    if (enabled) {
+                        batchListener.onItemsEnabled(this, indices);
+                    } else {
+                        batchListener.onItemsDisabled(this, indices);
+                    }
+                } else {
+                    for (int i = 0; i < indices.size(); i++) {
+                        int index = indices.get(i);
+                        DataType item = getItem(index);
+
+                        if (enabled) {
+                            listener.onItemEnabled(this, item, index);
+                        } else {
+                            listener.onItemDisabled(this, item, index);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Returns a set, which contains the listeners, which should be notified, when an item has been
      * disabled or enabled.
@@ -190,13 +236,7 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final int getFirstEnabledIndex() {
-        for (int i = 0; i < getCount(); i++) {
-            if (getItems().get(i).isEnabled()) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().nextEnabledIndex(0, true);
     }
 
     @Override
@@ -212,13 +252,7 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final int getLastEnabledIndex() {
-        for (int i = getCount() - 1; i >= 0; i--) {
-            if (getItems().get(i).isEnabled()) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().previousEnabledIndex(getCount() - 1, true);
     }
 
     @Override
@@ -234,13 +268,7 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final int getFirstDisabledIndex() {
-        for (int i = 0; i < getCount(); i++) {
-            if (!getItems().get(i).isEnabled()) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().nextEnabledIndex(0, false);
     }
 
     @Override
@@ -256,13 +284,7 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final int getLastDisabledIndex() {
-        for (int i = getCount() - 1; i >= 0; i--) {
-            if (!getItems().get(i).isEnabled()) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().previousEnabledIndex(getCount() - 1, false);
     }
 
     @Override
@@ -278,12 +300,12 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final List<Integer> getEnabledIndices() {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<Integer> enabledIndices = new ArrayList<>();
 
-        for (int i = 0; i < getCount(); i++) {
-            if (getItems().get(i).isEnabled()) {
-                enabledIndices.add(i);
-            }
+        for (int i = flagIndex.nextEnabledIndex(0, true); i != -1;
+             i = flagIndex.nextEnabledIndex(i + 1, true)) {
+            enabledIndices.add(i);
         }
 
         return new UnmodifiableList<>(enabledIndices);
@@ -291,12 +313,12 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final List<DataType> getEnabledItems() {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<DataType> enabledItems = new ArrayList<>();
 
-        for (Item<DataType> item : getItems()) {
-            if (item.isEnabled()) {
-                enabledItems.add(item.getData());
-            }
+        for (int i = flagIndex.nextEnabledIndex(0, true); i != -1;
+             i = flagIndex.nextEnabledIndex(i + 1, true)) {
+            enabledItems.add(getItems().get(i).getData());
         }
 
         return new UnmodifiableList<>(enabledItems);
@@ -304,12 +326,12 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final List<Integer> getDisabledIndices() {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<Integer> disabledIndices = new ArrayList<>();
 
-        for (int i = 0; i < getCount(); i++) {
-            if (!getItems().get(i).isEnabled()) {
-                disabledIndices.add(i);
-            }
+        for (int i = flagIndex.nextEnabledIndex(0, false); i != -1;
+             i = flagIndex.nextEnabledIndex(i + 1, false)) {
+            disabledIndices.add(i);
         }
 
         return new UnmodifiableList<>(disabledIndices);
@@ -317,20 +339,30 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final List<DataType> getDisabledItems() {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<DataType> disabledItems = new ArrayList<>();
 
-        for (Item<DataType> item : getItems()) {
-            if (!item.isEnabled()) {
-                disabledItems.add(item.getData());
-            }
+        for (int i = flagIndex.nextEnabledIndex(0, false); i != -1;
+             i = flagIndex.nextEnabledIndex(i + 1, false)) {
+            disabledItems.add(getItems().get(i).getData());
         }
 
         return new UnmodifiableList<>(disabledItems);
     }
 
+    @Override
+    public final IndexList getEnabledIndexList() {
+        return new IndexList(getFlagIndex().getEnabledIndices(true));
+    }
+
+    @Override
+    public final IndexList getDisabledIndexList() {
+        return new IndexList(getFlagIndex().getEnabledIndices(false));
+    }
+
     @Override
     public final int getEnabledItemCount() {
-        return getEnabledItems().size();
+        return getItemCounter().getEnabledCount();
     }
 
     @Override
@@ -338,7 +370,7 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
         Item<DataType> item = getItems().get(index);
 
         if (item.isEnabled() != enabled) {
-            item.setEnabled(enabled);
+            storeEnableState(index, enabled);
 
             if (enabled) {
                 notifyOnItemEnabled(item.getData(), index);
@@ -346,11 +378,14 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
                 notifyOnItemDisabled(item.getData(), index);
             }
 
-            notifyObserversOnItemChanged(index);
-            String message = enabled ? "Enabled" :
-                    "Disabled" + " item \"" + item.getData() + "\" at index " + index;
-            getLogger().logInfo(getClass(), message);
-        } else {
+            notifyObserversOnItemChanged(index, ChangePayload.ENABLE_STATE);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = enabled ? "Enabled" :
+                        "Disabled" + " item \"" + item.getData() + "\" at index " + index;
+                getLogger().logInfo(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
             String message =
                     "The enable state of item \"" + item.getData() + "\" at index " + index +
                             " has not been changed, because it is already " +
@@ -378,16 +413,60 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
 
     @Override
     public final void setAllEnabled(final boolean enabled) {
-        for (int i = 0; i < getCount(); i++) {
-            setEnabled(i, enabled);
+        setRangeEnabled(0, getCount(), enabled);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = (enabled ? "Enabled" : "Disabled") + " all items";
+            getLogger().logInfo(getClass(), message);
+        }
+    }
+
+    @Override
+    public final void setRangeEnabled(final int start, final int end, final boolean enabled) {
+        ensureValidRange(start, end);
+        ItemFlagIndex flagIndex = getFlagIndex();
+        int[] changedIndices = new int[end - start];
+        int changedCount = 0;
+
+        for (int i = flagIndex.nextEnabledIndex(start, !enabled); i != -1 && i < end;
+             i = flagIndex.nextEnabledIndex(i + 1, !enabled)) {
+            storeEnableState(i, enabled);
+            changedIndices[changedCount++] = i;
+        }
+
+        if (changedCount > 0) {
+            int first = changedIndices[0];
+            int last = changedIndices[changedCount - 1];
+            notifyOnEnableStatesChanged(
+                    new IndexList(Arrays.copyOf(changedIndices, changedCount)), enabled);
+            notifyObserversOnItemRangeChanged(first, last - first + 1, ChangePayload.ENABLE_STATE);
+        }
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = (enabled ? "Enabled " : "Disabled ") + changedCount +
+                    " items in range [" + start + ", " + end + ")";
+            getLogger().logDebug(getClass(), message);
         }
     }
 
     @Override
     public final void triggerAllEnableStates() {
-        for (int i = 0; i < getCount(); i++) {
-            triggerEnableState(i);
+        ItemFlagIndex flagIndex = getFlagIndex();
+        IndexList enabledIndices = new IndexList(flagIndex.getEnabledIndices(false));
+        IndexList disabledIndices = new IndexList(flagIndex.getEnabledIndices(true));
+
+        for (int i = 0; i < enabledIndices.size(); i++) {
+            storeEnableState(enabledIndices.get(i), true);
         }
+
+        for (int i = 0; i < disabledIndices.size(); i++) {
+            storeEnableState(disabledIndices.get(i), false);
+        }
+
+        notifyOnEnableStatesChanged(enabledIndices, true);
+        notifyOnEnableStatesChanged(disabledIndices, false);
+        notifyObserversOnItemRangeChanged(0, getCount(), ChangePayload.ENABLE_STATE);
+        getLogger().logInfo(getClass(), "Triggered the enable states of all items");
     }
 
     @Override
@@ -395,8 +474,11 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
             @NonNull final ListEnableStateListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         enableStateListeners.add(listener);
-        String message = "Added enable state listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added enable state listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -404,8 +486,11 @@ public abstract class AbstractEnableStateListAdapter<DataType, DecoratorType ext
             @NonNull final ListEnableStateListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         enableStateListeners.remove(listener);
-        String message = "Removed enable state listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed enable state listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
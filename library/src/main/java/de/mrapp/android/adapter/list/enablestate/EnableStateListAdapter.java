@@ -19,6 +19,8 @@ import android.widget.AbsListView;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import de.mrapp.android.adapter.datastructure.IndexList;
+
 /**
  * Defines the interface, an adapter, whose underlying data is managed as a list of arbitrary items,
  * which may be enabled or disabled, must implement. Such an adapter's purpose is to provide the
@@ -134,6 +136,14 @@ public interface EnableStateListAdapter<DataType> {
      */
     List<Integer> getEnabledIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently enabled items.
+     *
+     * @return A list, which contains the indices of all currently enabled items, as an instance of
+     * the class {@link IndexList} or an empty list, if no item is currently enabled
+     */
+    IndexList getEnabledIndexList();
+
     /**
      * Returns a list, which contains all currently enabled items.
      *
@@ -150,6 +160,14 @@ public interface EnableStateListAdapter<DataType> {
      */
     List<Integer> getDisabledIndices();
 
+    /**
+     * Returns an immutable list, which contains the indices of all currently disabled items.
+     *
+     * @return A list, which contains the indices of all currently disabled items, as an instance of
+     * the class {@link IndexList} or an empty list, if no item is currently disabled
+     */
+    IndexList getDisabledIndexList();
+
     /**
      * Returns a list, which contains all currently disabled items.
      *
@@ -223,6 +241,24 @@ public interface EnableStateListAdapter<DataType> {
      */
     void setAllEnabled(boolean enabled);
 
+    /**
+     * Sets the enable states of all items within a specific range. The listeners and observers are
+     * notified only once.
+     *
+     * @param start
+     *         The index of the first item, which should be affected, as an {@link Integer} value.
+     *         The index must be between 0 and the value of the method <code>getCount():int</code>,
+     *         otherwise an {@link IndexOutOfBoundsException} will be thrown
+     * @param end
+     *         The index after the last item, which should be affected, as an {@link Integer} value.
+     *         The index must be between the given start index and the value of the method
+     *         <code>getCount():int</code>, otherwise an {@link IndexOutOfBoundsException} will be
+     *         thrown
+     * @param enabled
+     *         True, if the items should be enabled, false otherwise
+     */
+    void setRangeEnabled(int start, int end, boolean enabled);
+
     /**
      * Triggers the enable states of all items. This causes an item to become disabled, if it is
      * currently enabled and vice versa.
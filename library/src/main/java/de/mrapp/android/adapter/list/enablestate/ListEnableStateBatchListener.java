@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list.enablestate;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.datastructure.IndexList;
+import de.mrapp.android.adapter.list.ListAdapter;
+
+/**
+ * Defines the interface, all listeners, which should be notified when items of a {@link
+ * ListAdapter} have been disabled or enabled, must implement, if they should be notified about
+ * items, which have been disabled or enabled by a single bulk operation, at once. Listeners, which
+ * only implement the interface {@link ListEnableStateListener}, are notified about each of these
+ * items separately.
+ *
+ * @param <DataType>
+ *         The type of the observed adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface ListEnableStateBatchListener<DataType> extends ListEnableStateListener<DataType> {
+
+    /**
+     * The method, which is invoked, when multiple items have been enabled at once.
+     *
+     * @param adapter
+     *         The observed adapter as an instance of the type {@link ListAdapter}. The adapter may
+     *         not be null
+     * @param indices
+     *         The indices of the items, which have been enabled, as an instance of the class {@link
+     *         IndexList}. The list may not be null
+     */
+    void onItemsEnabled(@NonNull ListAdapter<DataType> adapter, @NonNull IndexList indices);
+
+    /**
+     * The method, which is invoked, when multiple items have been disabled at once.
+     *
+     * @param adapter
+     *         The observed adapter as an instance of the type {@link ListAdapter}. The adapter may
+     *         not be null
+     * @param indices
+     *         The indices of the items, which have been disabled, as an instance of the class
+     *         {@link IndexList}. The list may not be null
+     */
+    void onItemsDisabled(@NonNull ListAdapter<DataType> adapter, @NonNull IndexList indices);
+
+}
@@ -19,13 +19,16 @@ import android.util.SparseIntArray;
 import android.widget.AbsListView;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
@@ -36,11 +39,13 @@ import de.mrapp.android.adapter.FilterQuery;
 import de.mrapp.android.adapter.Filterable;
 import de.mrapp.android.adapter.Order;
 import de.mrapp.android.adapter.datastructure.AppliedFilter;
+import de.mrapp.android.adapter.datastructure.FilterResultCache;
 import de.mrapp.android.adapter.datastructure.item.Item;
 import de.mrapp.android.adapter.datastructure.item.ItemComparator;
 import de.mrapp.android.adapter.datastructure.item.UnmodifiableItemList;
 import de.mrapp.android.adapter.decorator.AbstractListDecorator;
 import de.mrapp.android.adapter.list.ListAdapter;
+import de.mrapp.android.adapter.list.ListAdapterBatchListener;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
 import de.mrapp.android.adapter.list.ListAdapterItemLongClickListener;
 import de.mrapp.android.adapter.list.ListAdapterListener;
@@ -48,6 +53,7 @@ import de.mrapp.android.adapter.list.enablestate.ListEnableStateListener;
 import de.mrapp.android.adapter.list.itemstate.ListItemStateListener;
 import de.mrapp.android.adapter.list.sortable.AbstractSortableListAdapter;
 import de.mrapp.android.adapter.list.sortable.ListSortingListener;
+import de.mrapp.android.adapter.util.ThreadUtil;
 import de.mrapp.android.util.logging.LogLevel;
 import de.mrapp.util.Condition;
 
@@ -74,13 +80,22 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
     private static final long serialVersionUID = 1L;
 
     /**
-     * The key, which is used to store the filters, which are used to filter the adapter's
-     * underlying data, within a bundle.
+     * The key, which has been used by previous versions to store the filters, which are used to
+     * filter the adapter's underlying data, by using Java serialization within a bundle. Bundles,
+     * which use this key, can still be restored.
      */
     @VisibleForTesting
     protected static final String APPLIED_FILTERS_BUNDLE_KEY =
             AbstractFilterableListAdapter.class.getSimpleName() + "::AppliedFilters";
 
+    /**
+     * The key, which is used to store the filters, which are used to filter the adapter's
+     * underlying data, as parcels within a bundle.
+     */
+    @VisibleForTesting
+    protected static final String PARCELABLE_APPLIED_FILTERS_BUNDLE_KEY =
+            AbstractFilterableListAdapter.class.getSimpleName() + "::ParcelableAppliedFilters";
+
     /**
      * A list, which contains the adapter's unfiltered data.
      */
@@ -103,25 +118,58 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
      */
     private LinkedHashSet<AppliedFilter<DataType>> appliedFilters;
 
+    /**
+     * The maximum number of filter results, which are cached.
+     */
+    private static final int FILTER_CACHE_CAPACITY = 8;
+
+    /**
+     * The cache, which stores the results of the filters, which have been applied on the adapter.
+     */
+    private transient FilterResultCache<DataType> filterCache;
+
+    /**
+     * The executor, which is used to apply filters in the background.
+     */
+    private transient Executor filterExecutor;
+
+    /**
+     * A counter, which is incremented whenever a filter, which is applied in the background, is
+     * started or cancelled. It allows to recognize filters, which have been superseded.
+     */
+    private transient AtomicInteger filterGeneration;
+
+    /**
+     * The filter, which is currently applied in the background, or null, if no filter is applied
+     * in the background.
+     */
+    private transient AppliedFilter<DataType> pendingFilter;
+
     /**
      * Creates and returns a listener, which allows to adapt the unfiltered items, when an item has
      * been removed from or added to the adapter.
      *
      * @return The listener, which has been created, as an instance of the type {@link
-     * ListAdapterListener}
+     * ListAdapterBatchListener}
      */
-    private ListAdapterListener<DataType> createAdapterListener() {
-        return new ListAdapterListener<DataType>() {
+    private ListAdapterBatchListener<DataType> createAdapterListener() {
+        return new ListAdapterBatchListener<DataType>() {
 
             @Override
             public void onItemAdded(@NonNull final ListAdapter<DataType> adapter,
                                     @NonNull final DataType item, final int index) {
+                filterCache.clear();
+
                 if (isFiltered()) {
                     Item<DataType> addedItem = getItems().get(index);
                     unfilteredItems.add(index, addedItem);
 
                     if (!matchAllFilters(addedItem)) {
+                        prepareItemsForModification();
                         getItems().remove(index);
+                        invalidateHashIndex();
+                        invalidateFlagIndex();
+                        invalidateItemCounter();
                     }
                 }
             }
@@ -129,59 +177,50 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
             @Override
             public void onItemRemoved(@NonNull final ListAdapter<DataType> adapter,
                                       @NonNull final DataType item, final int index) {
+                filterCache.clear();
+
                 if (isFiltered()) {
                     unfilteredItems.remove(getUnfilteredIndex(index));
                 }
             }
 
-        };
-    }
-
-    /**
-     * Creates and returns a listener, which allows to adapt the unfiltered items, when an item has
-     * been enabled or disabled.
-     *
-     * @return The listener, which has been created, as an instance of the type {@link
-     * ListEnableStateListener}
-     */
-    private ListEnableStateListener<DataType> createEnableStateListener() {
-        return new ListEnableStateListener<DataType>() {
-
             @Override
-            public void onItemEnabled(@NonNull final ListAdapter<DataType> adapter,
-                                      @NonNull final DataType item, final int index) {
-                if (isFiltered()) {
-                    unfilteredItems.get(getUnfilteredIndex(index)).setEnabled(true);
-                }
-            }
+            public void onItemsAdded(@NonNull final ListAdapter<DataType> adapter,
+                                     @NonNull final List<DataType> items, final int index) {
+                filterCache.clear();
 
-            @Override
-            public void onItemDisabled(@NonNull final ListAdapter<DataType> adapter,
-                                       @NonNull final DataType item, final int index) {
                 if (isFiltered()) {
-                    unfilteredItems.get(getUnfilteredIndex(index)).setEnabled(false);
+                    List<Item<DataType>> addedItems =
+                            getItems().subList(index, index + items.size());
+                    unfilteredItems.addAll(index, addedItems);
+                    List<Item<DataType>> matchingItems = new ArrayList<>(addedItems.size());
+
+                    for (Item<DataType> addedItem : addedItems) {
+                        if (matchAllFilters(addedItem)) {
+                            matchingItems.add(addedItem);
+                        }
+                    }
+
+                    if (matchingItems.size() != addedItems.size()) {
+                        prepareItemsForModification();
+                        getItems().subList(index, index + addedItems.size()).clear();
+                        getItems().addAll(index, matchingItems);
+                        invalidateHashIndex();
+                        invalidateFlagIndex();
+                        invalidateItemCounter();
+                    }
                 }
             }
 
-        };
-    }
-
-    /**
-     * Creates and returns a listener, which allows to adapt the unfiltered items, when an item's
-     * state has been changed.
-     *
-     * @return The listener, which has been created, as an instance of the type {@link
-     * ListItemStateListener}
-     */
-    private ListItemStateListener<DataType> createItemStateListener() {
-        return new ListItemStateListener<DataType>() {
-
             @Override
-            public void onItemStateChanged(@NonNull final ListAdapter<DataType> adapter,
-                                           @NonNull final DataType item, final int index,
-                                           final int state) {
+            public void onItemsRemoved(@NonNull final ListAdapter<DataType> adapter,
+                                       @NonNull final List<DataType> items, final int index) {
+                filterCache.clear();
+
                 if (isFiltered()) {
-                    unfilteredItems.get(getUnfilteredIndex(index)).setState(state);
+                    for (int i = items.size() - 1; i >= 0; i--) {
+                        unfilteredItems.remove(getUnfilteredIndex(index + i));
+                    }
                 }
             }
 
@@ -203,6 +242,8 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
                                  @NonNull final Collection<DataType> sortedItems,
                                  @NonNull final Order order,
                                  @Nullable final Comparator<DataType> comparator) {
+                filterCache.clear();
+
                 if (isFiltered()) {
                     if (order == Order.ASCENDING) {
                         if (comparator != null) {
@@ -235,7 +276,10 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
     }
 
     /**
-     * Applies a specific filter to filter the adapter's underlying data.
+     * Applies a specific filter to filter the adapter's underlying data. If the result of the
+     * filter is cached, the items are not matched against the filter. If the cache contains the
+     * result of a filter, which is refined by the given filter, only the items, which are contained
+     * by this result, are matched against the filter.
      *
      * @param filter
      *         The filter, which should be applied, as an instance of the class {@link
@@ -244,28 +288,302 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
      * type {@link List} or an empty list, if no items have been filtered
      */
     private List<DataType> applyFilter(@NonNull final AppliedFilter<DataType> filter) {
-        if (unfilteredItems == null) {
+        List<AppliedFilter<DataType>> filters = getFilterChain(filter);
+        FilterResultCache.Result<DataType> result = filterCache.get(filters);
+        boolean[] matches = new boolean[getCount()];
+
+        if (result != null) {
+            Set<Item<DataType>> cachedItems = createIdentitySet(result.getItems());
+
+            for (int i = 0; i < matches.length; i++) {
+                matches[i] = cachedItems.contains(getItems().get(i));
+            }
+        } else {
+            FilterResultCache.Result<DataType> refinedResult =
+                    filterCache.getRefinedResult(filters.subList(0, filters.size() - 1), filter);
+            Set<Item<DataType>> candidates =
+                    refinedResult != null ? createIdentitySet(refinedResult.getItems()) : null;
+
+            for (int i = 0; i < matches.length; i++) {
+                Item<DataType> item = getItems().get(i);
+                matches[i] = (candidates == null || candidates.contains(item)) &&
+                        matchFilter(filter, item);
+            }
+        }
+
+        return new UnmodifiableItemList<>(filterItems(filter, matches));
+    }
+
+    /**
+     * Retains the adapter's items, which match a specific filter, and caches the result.
+     *
+     * @param filter
+     *         The filter, which has been applied, as an instance of the class {@link
+     *         AppliedFilter}. The filter may not be null
+     * @param matches
+     *         An array, which specifies whether the adapter's items match the filter, as a {@link
+     *         Boolean} array. The array may not be null
+     * @return A list, which contains the items, which have been filtered, as an instance of the
+     * type {@link List}. The list may not be null
+     */
+    private List<Item<DataType>> filterItems(@NonNull final AppliedFilter<DataType> filter,
+                                             @NonNull final boolean[] matches) {
+        boolean filtered = unfilteredItems != null;
+
+        if (!filtered) {
             unfilteredItems = new ArrayList<>(getItems());
-            indexMapping = new SparseIntArray();
         }
 
-        List<Item<DataType>> itemsToRemove = new LinkedList<>();
-        int counter = 0;
+        ArrayList<Item<DataType>> retainedItems = new ArrayList<>(matches.length);
+        List<Item<DataType>> removedItems = new ArrayList<>();
+        int[] unfilteredIndices = new int[matches.length];
 
-        for (int i = 0; i < getCount(); i++) {
+        for (int i = 0; i < matches.length; i++) {
             Item<DataType> item = getItems().get(i);
 
-            if (!matchFilter(filter, item)) {
-                item.setSelected(false);
-                itemsToRemove.add(item);
+            if (matches[i]) {
+                unfilteredIndices[retainedItems.size()] = filtered ? indexMapping.get(i) : i;
+                retainedItems.add(item);
             } else {
-                indexMapping.put(counter, i);
-                counter++;
+                storeSelection(i, false);
+                removedItems.add(item);
             }
         }
 
-        getItems().removeAll(itemsToRemove);
-        return new UnmodifiableItemList<>(itemsToRemove);
+        unfilteredIndices = Arrays.copyOf(unfilteredIndices, retainedItems.size());
+        setFilteredItems(retainedItems, unfilteredIndices);
+        filterCache.put(getFilterChain(filter), retainedItems, unfilteredIndices);
+        return removedItems;
+    }
+
+    /**
+     * Replaces the adapter's items with specific filtered items.
+     *
+     * @param filteredItems
+     *         A list, which contains the filtered items, as an instance of the type {@link List}.
+     *         The list may not be null
+     * @param unfilteredIndices
+     *         An array, which contains the unfiltered indices of the filtered items, as an {@link
+     *         Integer} array. The array may not be null
+     */
+    private void setFilteredItems(@NonNull final List<Item<DataType>> filteredItems,
+                                  @NonNull final int[] unfilteredIndices) {
+        prepareItemsForModification();
+        getItems().clear();
+        getItems().addAll(filteredItems);
+        indexMapping = new SparseIntArray(unfilteredIndices.length);
+
+        for (int i = 0; i < unfilteredIndices.length; i++) {
+            indexMapping.append(i, unfilteredIndices[i]);
+        }
+
+        invalidateHashIndex();
+        invalidateFlagIndex();
+        invalidateItemCounter();
+    }
+
+    /**
+     * Returns the filters, which have been applied on the adapter up to a specific filter.
+     *
+     * @param filter
+     *         The filter, which should be the last one, as an instance of the class {@link
+     *         AppliedFilter}. The filter may not be null
+     * @return A list, which contains the filters, which have been applied on the adapter up to the
+     * given filter, including the filter itself, in the order of their application, as an instance
+     * of the type {@link List}. The list may not be null
+     */
+    private List<AppliedFilter<DataType>> getFilterChain(
+            @NonNull final AppliedFilter<DataType> filter) {
+        List<AppliedFilter<DataType>> filters = new ArrayList<>();
+
+        for (AppliedFilter<DataType> appliedFilter : appliedFilters) {
+            filters.add(appliedFilter);
+
+            if (appliedFilter.equals(filter)) {
+                break;
+            }
+        }
+
+        return filters;
+    }
+
+    /**
+     * Creates and returns a set, which contains specific items and compares them by identity.
+     *
+     * @param items
+     *         A list, which contains the items, which should be contained by the set, as an
+     *         instance of the type {@link List}. The list may not be null
+     * @return The set, which has been created, as an instance of the type {@link Set}. The set
+     * may not be null
+     */
+    private Set<Item<DataType>> createIdentitySet(@NonNull final List<Item<DataType>> items) {
+        Set<Item<DataType>> set =
+                Collections.newSetFromMap(new IdentityHashMap<Item<DataType>, Boolean>());
+        set.addAll(items);
+        return set;
+    }
+
+    /**
+     * Returns the filters, which will have been applied on the adapter, once a specific filter,
+     * which is not applied yet, has been applied.
+     *
+     * @param filter
+     *         The filter, which should be applied, as an instance of the class {@link
+     *         AppliedFilter}. The filter may not be null
+     * @return A list, which contains the filters, which are currently applied on the adapter,
+     * followed by the given filter, as an instance of the type {@link List}. The list may not be
+     * null
+     */
+    private List<AppliedFilter<DataType>> getPendingFilterChain(
+            @NonNull final AppliedFilter<DataType> filter) {
+        List<AppliedFilter<DataType>> filters = new ArrayList<>(appliedFilters);
+        filters.add(filter);
+        return filters;
+    }
+
+    /**
+     * Applies a specific filter in the background. If the result of the filter is cached, it is
+     * published right away. Otherwise, a snapshot of the adapter's items, which does not require
+     * to copy them, is matched against the filter on the executor, which is used to apply filters
+     * in the background. If the cache contains the result of a filter, which is refined by the
+     * given filter, only the items, which are contained by this result, are matched against the
+     * filter. The result is published on the UI thread afterwards, unless the filter has been
+     * superseded in the meantime.
+     *
+     * @param filter
+     *         The filter, which should be applied, as an instance of the class {@link
+     *         AppliedFilter}. The filter may not be null
+     * @param generation
+     *         The generation of the filter as an {@link Integer} value
+     */
+    private void applyFilterAsync(@NonNull final AppliedFilter<DataType> filter,
+                                  final int generation) {
+        final List<Item<DataType>> snapshot = getItemSnapshot();
+        final long version = getItemVersion();
+        FilterResultCache.Result<DataType> result =
+                filterCache.get(getPendingFilterChain(filter));
+
+        if (result != null) {
+            Set<Item<DataType>> cachedItems = createIdentitySet(result.getItems());
+            boolean[] matches = new boolean[snapshot.size()];
+
+            for (int i = 0; i < matches.length; i++) {
+                matches[i] = cachedItems.contains(snapshot.get(i));
+            }
+
+            publishFilterResult(filter, generation, version, matches);
+            return;
+        }
+
+        FilterResultCache.Result<DataType> refinedResult =
+                filterCache.getRefinedResult(new ArrayList<>(appliedFilters), filter);
+        final List<Item<DataType>> refinedItems =
+                refinedResult != null ? refinedResult.getItems() : null;
+        filterExecutor.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                Set<Item<DataType>> candidates =
+                        refinedItems != null ? createIdentitySet(refinedItems) : null;
+                final boolean[] matches = new boolean[snapshot.size()];
+
+                for (int i = 0; i < matches.length; i++) {
+                    if (filterGeneration.get() != generation) {
+                        return;
+                    }
+
+                    Item<DataType> item = snapshot.get(i);
+                    matches[i] = (candidates == null || candidates.contains(item)) &&
+                            matchFilter(filter, item);
+                }
+
+                ThreadUtil.runOnUiThread(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        publishFilterResult(filter, generation, version, matches);
+                    }
+
+                });
+            }
+
+        });
+    }
+
+    /**
+     * Publishes the result of a filter, which has been applied in the background. If the filter
+     * has been superseded in the meantime, the result is discarded. If the adapter's items have
+     * been modified in the meantime, the filter is applied once more.
+     *
+     * @param filter
+     *         The filter, which has been applied, as an instance of the class {@link
+     *         AppliedFilter}. The filter may not be null
+     * @param generation
+     *         The generation of the filter as an {@link Integer} value
+     * @param version
+     *         The version of the adapter's items, the filter has been applied to, as a {@link
+     *         Long} value
+     * @param matches
+     *         An array, which specifies whether the items, the filter has been applied to, match
+     *         the filter, as a {@link Boolean} array. The array may not be null
+     */
+    private void publishFilterResult(@NonNull final AppliedFilter<DataType> filter,
+                                     final int generation, final long version,
+                                     @NonNull final boolean[] matches) {
+        if (filterGeneration.get() != generation) {
+            return;
+        }
+
+        if (version != getItemVersion()) {
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Items have been modified while applying filter \"" + filter +
+                        "\" in the background. Applying the filter once more";
+                getLogger().logDebug(getClass(), message);
+            }
+
+            applyFilterAsync(filter, generation);
+            return;
+        }
+
+        pendingFilter = null;
+        appliedFilters.add(filter);
+        List<Item<DataType>> removedItems = filterItems(filter, matches);
+        int rangeEnd = matches.length;
+
+        for (int i = matches.length - 1; i >= -1; i--) {
+            if (i == -1 || matches[i]) {
+                notifyObserversOnItemRangeRemoved(i + 1, rangeEnd - i - 1);
+                rangeEnd = i;
+            }
+        }
+
+        notifyOnApplyFilter(filter.getQuery(), filter.getFlags(), filter.getFilter(),
+                new UnmodifiableItemList<>(removedItems), getAllItems());
+        notifyOnFilterCompleted(filter.getQuery(), filter.getFlags(), false);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Applied filter \"" + filter + "\" in the background";
+            getLogger().logInfo(getClass(), message);
+        }
+    }
+
+    /**
+     * Cancels the filter, which is currently applied in the background, if any.
+     */
+    private void cancelPendingFilter() {
+        AppliedFilter<DataType> filter = pendingFilter;
+        filterGeneration.incrementAndGet();
+
+        if (filter != null) {
+            pendingFilter = null;
+            notifyOnFilterCompleted(filter.getQuery(), filter.getFlags(), true);
+
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Cancelled filter \"" + filter + "\", which has been applied in " +
+                        "the background";
+                getLogger().logDebug(getClass(), message);
+            }
+        }
     }
 
     /**
@@ -356,6 +674,30 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
         }
     }
 
+    /**
+     * Notifies all listeners, which have been registered to be notified, when the adapter's
+     * underlying data has been filtered, when a filter, which has been applied in the background,
+     * has been completed.
+     *
+     * @param query
+     *         The query of the filter, which has been completed, as a {@link String}. The query
+     *         may not be null
+     * @param flags
+     *         The flags of the filter, which has been completed, as an {@link Integer} value
+     * @param cancelled
+     *         True, if the filter has been cancelled, false otherwise
+     */
+    @SuppressWarnings("unchecked")
+    private void notifyOnFilterCompleted(@NonNull final String query, final int flags,
+                                         final boolean cancelled) {
+        for (ListFilterListener<DataType> listener : filterListeners) {
+            if (listener instanceof ListFilterCompletionListener) {
+                ((ListFilterCompletionListener<DataType>) listener)
+                        .onFilterCompleted(this, query, flags, cancelled);
+            }
+        }
+    }
+
     /**
      * Returns a set, which contains the listeners, which should be notified, when the adapter's
      * underlying data has been filtered.
@@ -405,6 +747,8 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
     protected final void setAppliedFilters(
             @NonNull final LinkedHashSet<AppliedFilter<DataType>> appliedFilters) {
         Condition.INSTANCE.ensureNotNull(appliedFilters, "The applied filters may not be null");
+        cancelPendingFilter();
+        filterCache.clear();
         this.appliedFilters = appliedFilters;
         applyAllFilters();
     }
@@ -526,11 +870,13 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
         super(context, decorator, logLevel, items, allowDuplicates, notifyOnChange,
                 itemClickListeners, itemLongClickListeners, adapterListeners, enableStateListeners,
                 numberOfItemStates, triggerItemStateOnClick, itemStateListeners, sortingListeners);
+        this.filterExecutor = ThreadUtil.getDefaultFilterExecutor();
+        this.filterGeneration = new AtomicInteger();
+        this.pendingFilter = null;
+        this.filterCache = new FilterResultCache<>(FILTER_CACHE_CAPACITY);
         setFilterListeners(filterListeners);
         setAppliedFilters(appliedFilters);
         addAdapterListener(createAdapterListener());
-        addEnableStateListener(createEnableStateListener());
-        addItemStateListener(createItemStateListener());
         addSortingListener(createSortingListener());
     }
 
@@ -543,7 +889,8 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
     @Override
     protected void onSaveInstanceState(@NonNull final Bundle outState) {
         super.onSaveInstanceState(outState);
-        outState.putSerializable(APPLIED_FILTERS_BUNDLE_KEY, getAppliedFilters());
+        outState.putParcelableArrayList(PARCELABLE_APPLIED_FILTERS_BUNDLE_KEY,
+                new ArrayList<>(getAppliedFilters()));
     }
 
     @SuppressWarnings("unchecked")
@@ -552,9 +899,19 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
     protected void onRestoreInstanceState(@NonNull final Bundle savedState) {
         super.onRestoreInstanceState(savedState);
 
-        LinkedHashSet<AppliedFilter<DataType>> appliedFilters =
-                (LinkedHashSet<AppliedFilter<DataType>>) savedState
-                        .getSerializable(APPLIED_FILTERS_BUNDLE_KEY);
+        LinkedHashSet<AppliedFilter<DataType>> appliedFilters = null;
+
+        if (savedState.containsKey(PARCELABLE_APPLIED_FILTERS_BUNDLE_KEY)) {
+            ArrayList<AppliedFilter<DataType>> parcelableAppliedFilters =
+                    savedState.getParcelableArrayList(PARCELABLE_APPLIED_FILTERS_BUNDLE_KEY);
+
+            if (parcelableAppliedFilters != null) {
+                appliedFilters = new LinkedHashSet<>(parcelableAppliedFilters);
+            }
+        } else {
+            appliedFilters = (LinkedHashSet<AppliedFilter<DataType>>) savedState
+                    .getSerializable(APPLIED_FILTERS_BUNDLE_KEY);
+        }
 
         if (appliedFilters != null) {
             setAppliedFilters(appliedFilters);
@@ -564,22 +921,31 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
     @Nullable
     @Override
     public final List<DataType> applyFilter(@NonNull final String query, final int flags) {
+        cancelPendingFilter();
+        List<DataType> snapshot = createDiffSnapshot();
         AppliedFilter<DataType> appliedFilter = new AppliedFilter<>(query, flags);
         boolean added = appliedFilters.add(appliedFilter);
 
         if (added) {
             List<DataType> filteredItems = applyFilter(appliedFilter);
             notifyOnApplyFilter(query, flags, null, filteredItems, getAllItems());
-            notifyObserversOnDataSetChanged();
-            String message =
-                    "Applied filter using the query \"" + query + "\" and flags \"" + flags + "\"";
-            getLogger().logInfo(getClass(), message);
+            notifyObserversOnDataSetChanged(snapshot);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Applied filter using the query \"" + query + "\" and flags \"" +
+                        flags + "\"";
+                getLogger().logInfo(getClass(), message);
+            }
+
             return filteredItems;
         } else {
-            String message = "Filter using the query \"" + query + "\" and flags \"" + flags +
-                    "\" not applied, because a filter using the same " +
-                    "query and flags is already applied on the adapter";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Filter using the query \"" + query + "\" and flags \"" + flags +
+                        "\" not applied, because a filter using the same " +
+                        "query and flags is already applied on the adapter";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return null;
         }
     }
@@ -588,53 +954,134 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
     @Override
     public final List<DataType> applyFilter(@NonNull final String query, final int flags,
                                             @NonNull final Filter<DataType> filter) {
+        cancelPendingFilter();
+        List<DataType> snapshot = createDiffSnapshot();
         AppliedFilter<DataType> appliedFilter = new AppliedFilter<>(query, flags, filter);
         boolean added = appliedFilters.add(appliedFilter);
 
         if (added) {
             List<DataType> filteredItems = applyFilter(appliedFilter);
             notifyOnApplyFilter(query, flags, filter, filteredItems, getAllItems());
-            notifyObserversOnDataSetChanged();
-            String message = "Applied filter using the query \"" + query + "\", flags \"" + flags +
-                    "\" and filter \"" + filter + "\"";
-            getLogger().logInfo(getClass(), message);
+            notifyObserversOnDataSetChanged(snapshot);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message = "Applied filter using the query \"" + query + "\", flags \"" +
+                        flags + "\" and filter \"" + filter + "\"";
+                getLogger().logInfo(getClass(), message);
+            }
+
             return filteredItems;
         } else {
-            String message = "Filter using the query \"" + query + "\" flags \"" + flags +
-                    "\" and filter \"" + filter +
-                    "\" not applied, because a filter using the same query, flags and filter is already applied " +
-                    "on the adapter";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Filter using the query \"" + query + "\" flags \"" + flags +
+                        "\" and filter \"" + filter + "\" not applied, because a filter using " +
+                        "the same query, flags and filter is already applied on the adapter";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return null;
         }
     }
 
+    @Override
+    public final void applyFilterAsync(@NonNull final String query, final int flags) {
+        applyFilterAsync(new AppliedFilter<DataType>(query, flags));
+    }
+
+    @Override
+    public final void applyFilterAsync(@NonNull final String query, final int flags,
+                                       @NonNull final Filter<DataType> filter) {
+        Condition.INSTANCE.ensureNotNull(filter, "The filter may not be null");
+        applyFilterAsync(new AppliedFilter<>(query, flags, filter));
+    }
+
+    /**
+     * Applies a specific filter in the background, if no filter using the same query and flags has
+     * been applied yet. A filter, which is currently applied in the background, is cancelled.
+     *
+     * @param filter
+     *         The filter, which should be applied, as an instance of the class {@link
+     *         AppliedFilter}. The filter may not be null
+     */
+    private void applyFilterAsync(@NonNull final AppliedFilter<DataType> filter) {
+        cancelPendingFilter();
+
+        if (!appliedFilters.contains(filter)) {
+            pendingFilter = filter;
+            applyFilterAsync(filter, filterGeneration.get());
+
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Applying filter \"" + filter + "\" in the background";
+                getLogger().logDebug(getClass(), message);
+            }
+        } else if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Filter \"" + filter + "\" not applied, because a filter using " +
+                    "the same query and flags is already applied on the adapter";
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
+    @Override
+    public final boolean isFilterPending() {
+        return pendingFilter != null;
+    }
+
+    @Override
+    public final void setFilterExecutor(@NonNull final Executor executor) {
+        Condition.INSTANCE.ensureNotNull(executor, "The executor may not be null");
+        this.filterExecutor = executor;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set filter executor to \"" + executor + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
     @Override
     public final boolean resetFilter(@NonNull final String query, final int flags) {
+        cancelPendingFilter();
+        List<DataType> snapshot = createDiffSnapshot();
         AppliedFilter<DataType> appliedFilter = new AppliedFilter<>(query, flags);
         boolean removed = appliedFilters.remove(appliedFilter);
 
         if (removed) {
-            setItems(unfilteredItems);
-            unfilteredItems = null;
-            indexMapping = null;
-            applyAllFilters();
+            FilterResultCache.Result<DataType> result =
+                    filterCache.get(new ArrayList<>(appliedFilters));
+
+            if (result != null && isFiltered()) {
+                setFilteredItems(result.getItems(), result.getUnfilteredIndices());
+            } else {
+                setItems(unfilteredItems);
+                unfilteredItems = null;
+                indexMapping = null;
+                applyAllFilters();
+            }
+
             notifyOnResetFilter(query, flags, getAllItems());
-            notifyObserversOnDataSetChanged();
-            String message =
-                    "Reseted filter with query \"" + query + "\" and flags \"" + flags + "\"";
-            getLogger().logInfo(getClass(), message);
+            notifyObserversOnDataSetChanged(snapshot);
+
+            if (isLoggable(LogLevel.INFO)) {
+                String message =
+                        "Reseted filter with query \"" + query + "\" and flags \"" + flags + "\"";
+                getLogger().logInfo(getClass(), message);
+            }
+
             return true;
         } else {
-            String message = "Filter with query \"" + query + "\" and flags \"" + flags +
-                    "\" not reseted, because no such filter is applied on the adapter";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Filter with query \"" + query + "\" and flags \"" + flags +
+                        "\" not reseted, because no such filter is applied on the adapter";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
     }
 
     @Override
     public final void resetAllFilters() {
+        cancelPendingFilter();
+
         for (AppliedFilter<DataType> appliedFilter : new LinkedHashSet<>(appliedFilters)) {
             resetFilter(appliedFilter.getQuery(), appliedFilter.getFlags());
         }
@@ -668,16 +1115,22 @@ public abstract class AbstractFilterableListAdapter<DataType, DecoratorType exte
     public final void addFilterListener(@NonNull final ListFilterListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         filterListeners.add(listener);
-        String message = "Added filter listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added filter listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
     public final void removeFilterListener(@NonNull final ListFilterListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         filterListeners.remove(listener);
-        String message = "Removed filter listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed filter listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @CallSuper
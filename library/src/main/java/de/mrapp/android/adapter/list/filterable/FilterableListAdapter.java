@@ -19,6 +19,7 @@ import android.widget.AbsListView;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import de.mrapp.android.adapter.Filter;
 import de.mrapp.android.adapter.FilterQuery;
@@ -77,6 +78,64 @@ public interface FilterableListAdapter<DataType> {
     @Nullable
     List<DataType> applyFilter(@NonNull String query, int flags, @NonNull Filter<DataType> filter);
 
+    /**
+     * Filters the adapter's items by using a specific query, if no filter using the same query has
+     * been applied yet, in the background. The items are matched against the query on the executor,
+     * which has been set by using the method <code>setFilterExecutor(Executor):void</code>, while
+     * the result is published on the UI thread. If another filter is applied or reseted, before the
+     * result has been published, the filtering is cancelled. The registered listeners of the type
+     * {@link ListFilterCompletionListener} are notified, when the filtering has been completed or
+     * cancelled.
+     *
+     * @param query
+     *         The query, which should be used to filter the items, as a {@link String}. The query
+     *         may not be null
+     * @param flags
+     *         The flags, which should be used to filter the items, as an {@link Integer} value, or
+     *         0, if no flags should be used
+     */
+    void applyFilterAsync(@NonNull String query, int flags);
+
+    /**
+     * Filters the adapter's items by using a specific query and a filter, which is used to apply
+     * the query on the single items, if no filter using the same query has been applied yet, in the
+     * background. The items are matched against the query on the executor, which has been set by
+     * using the method <code>setFilterExecutor(Executor):void</code>, while the result is published
+     * on the UI thread. If another filter is applied or reseted, before the result has been
+     * published, the filtering is cancelled. The registered listeners of the type {@link
+     * ListFilterCompletionListener} are notified, when the filtering has been completed or
+     * cancelled.
+     *
+     * @param query
+     *         The query, which should be used to filter the items, as a {@link String}. The query
+     *         may not be null
+     * @param flags
+     *         The flags, which should be used to filter the items, as an {@link Integer} value, or
+     *         0, if no flags should be used
+     * @param filter
+     *         The filter, which should be used to apply the given query on the adapter's items, as
+     *         an instance of the type {@link Filter}. The filter must be thread-safe and may not be
+     *         null
+     */
+    void applyFilterAsync(@NonNull String query, int flags, @NonNull Filter<DataType> filter);
+
+    /**
+     * Returns, whether a filter is currently applied in the background, or not.
+     *
+     * @return True, if a filter is currently applied in the background, false otherwise
+     */
+    boolean isFilterPending();
+
+    /**
+     * Sets the executor, which should be used to apply filters in the background. By default, a
+     * single background thread, which is shared by all adapters, is used.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor}. The
+     *         executor may not be null
+     */
+    void setFilterExecutor(@NonNull Executor executor);
+
     /**
      * Resets the filter, which uses a specific query.
      *
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list.filterable;
+
+import androidx.annotation.NonNull;
+
+import de.mrapp.android.adapter.list.ListAdapter;
+
+/**
+ * Defines the interface, all listeners, which should be notified when the underlying data of a
+ * {@link ListAdapter} has been filtered, must implement, if they should also be notified, when a
+ * filter, which has been applied in the background, has been completed. Listeners, which only
+ * implement the interface {@link ListFilterListener}, are not notified about the completion of
+ * such filters.
+ *
+ * @param <DataType>
+ *         The type of the observed adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface ListFilterCompletionListener<DataType> extends ListFilterListener<DataType> {
+
+    /**
+     * The method, which is invoked, when a filter, which has been applied in the background, has
+     * been completed. If the filter has been applied successfully, this method is invoked after the
+     * method <code>onApplyFilter</code>.
+     *
+     * @param adapter
+     *         The observed adapters as an instance of the type {@link ListAdapter}. The adapter may
+     *         not be null
+     * @param query
+     *         The query, which has been used, as a {@link String}. The query may not be null
+     * @param flags
+     *         The flags, which have been used, as an {@link Integer} value, or 0, if no flags have
+     *         been used
+     * @param cancelled
+     *         True, if the filter has been cancelled, because it has been superseded by another
+     *         filtering operation, false, if it has been applied
+     */
+    void onFilterCompleted(@NonNull ListAdapter<DataType> adapter, @NonNull String query,
+                           int flags, boolean cancelled);
+
+}
@@ -19,14 +19,18 @@ import android.view.View;
 import android.widget.AbsListView;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import de.mrapp.android.adapter.ChangePayload;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.UnmodifiableList;
 import de.mrapp.android.adapter.datastructure.item.Item;
+import de.mrapp.android.adapter.datastructure.item.ItemFlagIndex;
 import de.mrapp.android.adapter.decorator.AbstractListDecorator;
 import de.mrapp.android.adapter.list.ListAdapter;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
@@ -148,6 +152,35 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
         }
     }
 
+    /**
+     * Notifies all listeners, which have registered to be notified, when the state of an item of
+     * the adapter has been changed, about multiple items, whose states have been changed to the
+     * same state at once. Listeners, which do not implement the interface {@link
+     * ListItemStateBatchListener}, are notified about each item separately.
+     *
+     * @param indices
+     *         The indices of the items, whose states have been changed, as an instance of the class
+     *         {@link IndexList}. The list may not be null
+     * @param state
+     *         The new state of the items as an {@link Integer} value
+     */
+    @SuppressWarnings("unchecked")
+    private void notifyOnItemStatesChanged(@NonNull final IndexList indices, final int state) {
+        if (!indices.isEmpty()) {
+            for (ListItemStateListener<DataType> listener : itemStateListeners) {
+                if (listener instanceof ListItemStateBatchListener) {
+                    ((ListItemStateBatchListener<DataType>) listener)
+                            .onItemStatesChanged(this, indices, state);
+                } else {
+                    for (int i = 0; i < indices.size(); i++) {
+                        int index = indices.get(i);
+                        listener.onItemStateChanged(this, getItem(index), index, state);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Returns the set, which contains the listeners, which should be notified, when the state of an
      * item of the adapter has been changed.
@@ -268,8 +301,11 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
         Condition.INSTANCE.ensureAtLeast(numberOfItemStates, 1,
                 "The number of items states must be at least 1");
         this.numberOfItemStates = numberOfItemStates;
-        String message = "Set number of item states to " + numberOfItemStates;
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Set number of item states to " + numberOfItemStates;
+            getLogger().logDebug(getClass(), message);
+        }
 
         for (int i = 0; i < getCount(); i++) {
             if (getItemState(i) > maxItemState()) {
@@ -310,24 +346,35 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
             int previousState = item.getState();
 
             if (previousState != state) {
-                item.setState(state);
+                storeItemState(index, state);
                 notifyOnItemStateChanged(item.getData(), index, state);
-                notifyObserversOnItemChanged(index);
-                String message =
-                        "Changed state of item \"" + item.getData() + "\" at index " + index +
-                                " from " + previousState + " to " + state;
-                getLogger().logInfo(getClass(), message);
+                notifyObserversOnItemChanged(index, ChangePayload.ITEM_STATE);
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message =
+                            "Changed state of item \"" + item.getData() + "\" at index " + index +
+                                    " from " + previousState + " to " + state;
+                    getLogger().logInfo(getClass(), message);
+                }
+
                 return previousState;
             } else {
-                String message = "The state of item \"" + item.getData() + "\" at index " + index +
-                        " has not been changed, because state " + state + " is already set";
-                getLogger().logDebug(getClass(), message);
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "The state of item \"" + item.getData() + "\" at index " +
+                            index + " has not been changed, because state " + state +
+                            " is already set";
+                    getLogger().logDebug(getClass(), message);
+                }
+
                 return previousState;
             }
         } else {
-            String message = "The state of item \"" + item.getData() + "\" at index " + index +
-                    " has not been changed, because the item is disabled";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "The state of item \"" + item.getData() + "\" at index " + index +
+                        " has not been changed, because the item is disabled";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return -1;
         }
     }
@@ -339,14 +386,50 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
 
     @Override
     public final boolean setAllItemStates(final int state) {
+        boolean result = setRangeItemState(0, getCount(), state);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Changed states of all items to " + state;
+            getLogger().logInfo(getClass(), message);
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean setRangeItemState(final int start, final int end, final int state) {
         Condition.INSTANCE.ensureAtLeast(state, minItemState(),
                 "The state must be at least " + minItemState());
         Condition.INSTANCE.ensureAtMaximum(state, maxItemState(),
                 "The state must be at maximum " + maxItemState());
+        ensureValidRange(start, end);
         boolean result = true;
+        int[] changedIndices = new int[end - start];
+        int changedCount = 0;
 
-        for (int i = 0; i < getCount(); i++) {
-            result &= (setItemState(i, state) != -1);
+        for (int i = start; i < end; i++) {
+            Item<DataType> item = getItems().get(i);
+
+            if (!item.isEnabled()) {
+                result = false;
+            } else if (item.getState() != state) {
+                storeItemState(i, state);
+                changedIndices[changedCount++] = i;
+            }
+        }
+
+        if (changedCount > 0) {
+            int first = changedIndices[0];
+            int last = changedIndices[changedCount - 1];
+            notifyOnItemStatesChanged(new IndexList(Arrays.copyOf(changedIndices, changedCount)),
+                    state);
+            notifyObserversOnItemRangeChanged(first, last - first + 1, ChangePayload.ITEM_STATE);
+        }
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Changed states of " + changedCount + " items in range [" + start +
+                    ", " + end + ") to " + state;
+            getLogger().logDebug(getClass(), message);
         }
 
         return result;
@@ -387,58 +470,34 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
 
     @Override
     public final int getFirstIndexWithSpecificState(final int state) {
-        for (int i = 0; i < getCount(); i++) {
-            if (getItems().get(i).getState() == state) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().nextIndexWithState(0, state);
     }
 
     @Override
     public final DataType getFirstItemWithSpecificState(final int state) {
-        for (Item<DataType> item : getItems()) {
-            if (item.getState() == state) {
-                return item.getData();
-            }
-        }
-
-        return null;
+        int index = getFirstIndexWithSpecificState(state);
+        return index != -1 ? getItem(index) : null;
     }
 
     @Override
     public final int getLastIndexWithSpecificState(final int state) {
-        for (int i = getCount() - 1; i >= 0; i--) {
-            if (getItems().get(i).getState() == state) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().previousIndexWithState(getCount() - 1, state);
     }
 
     @Override
     public final DataType getLastItemWithSpecificState(final int state) {
-        for (int i = getCount() - 1; i >= 0; i--) {
-            Item<DataType> item = getItems().get(i);
-
-            if (item.getState() == state) {
-                return item.getData();
-            }
-        }
-
-        return null;
+        int index = getLastIndexWithSpecificState(state);
+        return index != -1 ? getItem(index) : null;
     }
 
     @Override
     public final List<Integer> getIndicesWithSpecificState(final int state) {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<Integer> indices = new ArrayList<>();
 
-        for (int i = 0; i < getCount(); i++) {
-            if (getItems().get(i).getState() == state) {
-                indices.add(i);
-            }
+        for (int i = flagIndex.nextIndexWithState(0, state); i != -1;
+             i = flagIndex.nextIndexWithState(i + 1, state)) {
+            indices.add(i);
         }
 
         return new UnmodifiableList<>(indices);
@@ -446,20 +505,25 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
 
     @Override
     public final List<DataType> getItemsWithSpecificState(final int state) {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<DataType> items = new ArrayList<>();
 
-        for (Item<DataType> item : getItems()) {
-            if (item.getState() == state) {
-                items.add(item.getData());
-            }
+        for (int i = flagIndex.nextIndexWithState(0, state); i != -1;
+             i = flagIndex.nextIndexWithState(i + 1, state)) {
+            items.add(getItems().get(i).getData());
         }
 
         return new UnmodifiableList<>(items);
     }
 
+    @Override
+    public final IndexList getIndexListWithSpecificState(final int state) {
+        return new IndexList(getFlagIndex().getIndicesWithState(state));
+    }
+
     @Override
     public final int getItemStateCount(final int state) {
-        return getItemsWithSpecificState(state).size();
+        return getItemCounter().getStateCount(state);
     }
 
     @Override
@@ -470,9 +534,12 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
     @Override
     public final void triggerItemStateOnClick(final boolean triggerItemStateOnClick) {
         this.triggerItemStateOnClick = triggerItemStateOnClick;
-        String message = "Item states are now " + (triggerItemStateOnClick ? "" : "not ") +
-                "triggered on click";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Item states are now " + (triggerItemStateOnClick ? "" : "not ") +
+                    "triggered on click";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -480,8 +547,11 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
             @NonNull final ListItemStateListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         itemStateListeners.add(listener);
-        String message = "Added item state listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added item state listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -489,8 +559,11 @@ public abstract class AbstractItemStateListAdapter<DataType, DecoratorType exten
             @NonNull final ListItemStateListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         itemStateListeners.remove(listener);
-        String message = "Removed item state listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed item state listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @CallSuper
@@ -19,6 +19,8 @@ import android.widget.AbsListView;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import de.mrapp.android.adapter.datastructure.IndexList;
+
 /**
  * Defines the interface, an adapter, whose underlying data is managed as a list of arbitrary items,
  * which may have different states, must implement. Such an adapter's purpose is to provide the
@@ -130,6 +132,28 @@ public interface ItemStateListAdapter<DataType> {
      */
     boolean setAllItemStates(int state);
 
+    /**
+     * Sets the states of all items within a specific range to a specific state, if they are
+     * currently enabled. The listeners and observers are notified only once.
+     *
+     * @param start
+     *         The index of the first item, which should be affected, as an {@link Integer} value.
+     *         The index must be between 0 and the value of the method <code>getCount():int</code>,
+     *         otherwise an {@link IndexOutOfBoundsException} will be thrown
+     * @param end
+     *         The index after the last item, which should be affected, as an {@link Integer} value.
+     *         The index must be between the given start index and the value of the method
+     *         <code>getCount():int</code>, otherwise an {@link IndexOutOfBoundsException} will be
+     *         thrown
+     * @param state
+     *         The state, which should be set, as an {@link Integer} value. The state must be
+     *         between 0 and the value of the method <code>getNumberOfStates():int</code> - 1,
+     *         otherwise an {@link IllegalArgumentException} will be thrown
+     * @return True, if the states of all items within the range have been changed, false
+     * otherwise
+     */
+    boolean setRangeItemState(int start, int end, int state);
+
     /**
      * Triggers the state of the item, which belongs to a specific index, if it is currently
      * enabled. This causes the state to be increased by one. If the state is already the maximum
@@ -220,6 +244,18 @@ public interface ItemStateListAdapter<DataType> {
      */
     List<Integer> getIndicesWithSpecificState(int state);
 
+    /**
+     * Returns an immutable list, which contains the indices of all items, which currently have a
+     * specific state.
+     *
+     * @param state
+     *         The state of the items, whose indices should be returned, as an {@link Integer} value
+     * @return A list, which contains the indices of all items, which currently have a specific
+     * state, as an instance of the class {@link IndexList} or an empty list, if the adapter does
+     * not contain any items with the given state
+     */
+    IndexList getIndexListWithSpecificState(int state);
+
     /**
      * Returns a list, which contains all items, which currently have a specific state.
      *
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list.itemstate;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.datastructure.IndexList;
+import de.mrapp.android.adapter.list.ListAdapter;
+
+/**
+ * Defines the interface, all listeners, which should be notified when the states of items of a
+ * {@link ListAdapter} have been changed, must implement, if they should be notified about items,
+ * whose states have been changed by a single bulk operation, at once. Listeners, which only
+ * implement the interface {@link ListItemStateListener}, are notified about each of these items
+ * separately.
+ *
+ * @param <DataType>
+ *         The type of the observed adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface ListItemStateBatchListener<DataType> extends ListItemStateListener<DataType> {
+
+    /**
+     * The method, which is invoked, when the states of multiple items have been changed at once.
+     *
+     * @param adapter
+     *         The observed adapter as an instance of the type {@link ListAdapter}. The adapter may
+     *         not be null
+     * @param indices
+     *         The indices of the items, whose states have been changed, as an instance of the class
+     *         {@link IndexList}. The list may not be null
+     * @param state
+     *         The new state of the items as an {@link Integer} value
+     */
+    void onItemStatesChanged(@NonNull ListAdapter<DataType> adapter, @NonNull IndexList indices,
+                             int state);
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list.paged;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.adapter.CursorQuery;
+import de.mrapp.android.adapter.CursorRowMapper;
+import de.mrapp.android.adapter.PagedListDecorator;
+import de.mrapp.android.util.logging.LogLevel;
+import de.mrapp.util.Condition;
+
+/**
+ * An adapter, whose underlying data is read from a cursor, e.g. from a SQLite database. The rows
+ * of the cursor are loaded in pages and are mapped to items lazily, when the views, which are
+ * used to visualize them, are about to be bound. Whether items are selected or enabled and their
+ * states are stored in compact data structures instead of one object per row. Sorting and
+ * filtering is pushed down to the query, which is executed again on a background thread.
+ *
+ * This adapter does not implement the interface {@link de.mrapp.android.adapter.list.ListAdapter},
+ * because most of its operations contradict reading the data from a cursor. Only the operations
+ * <code>getCount</code>, <code>getItem</code>, <code>attach</code> and <code>detach</code>, as well
+ * as the operations, which allow to select, enable or disable items and to change their states, are
+ * provided. <code>getItem</code> returns null for items, whose data is not resident. The following
+ * operations are not supported:
+ *
+ * <ul>
+ * <li>Adding, replacing, removing, retaining or clearing items, including the mutation queue,
+ * because the data is owned by the source of the cursor. Instead, the source must be modified and
+ * the adapter must be reloaded.</li>
+ * <li>Operations, which process all items, e.g. <code>iterator</code>, <code>subList</code>,
+ * <code>toArray</code>, <code>indexOf</code>, <code>containsItem</code>, <code>getAllItems</code>
+ * or <code>getSnapshot</code>, because they would require to map each row of the cursor to an
+ * item, which defeats loading pages lazily.</li>
+ * <li>Sorting items by using a {@link java.util.Comparator} and filtering them by using a {@link
+ * de.mrapp.android.adapter.Filter}, because the order and selection of the rows are determined by
+ * the query. The methods <code>sort(String):void</code> and <code>applyFilter(String,
+ * String...):void</code> must be used instead.</li>
+ * <li>The hash index, item id providers, item codecs and diff callbacks, because they require the
+ * data of all items to be resident.</li>
+ * <li>Visualizing items by using a {@link android.widget.AbsListView}, because pages are only
+ * loaded when views are bound by a {@link androidx.recyclerview.widget.RecyclerView}.</li>
+ * <li>Saving and restoring the adapter's state, as well as cloning it, because the state of a
+ * cursor cannot be stored in a bundle.</li>
+ * </ul>
+ *
+ * @param <DataType>
+ *         The type of the adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class CursorListAdapter<DataType> extends PagedListAdapter<DataType> {
+
+    /**
+     * The loader, which is used to load pages from the cursor.
+     */
+    private final CursorPageLoader<DataType> cursorPageLoader;
+
+    /**
+     * Creates a new adapter, whose underlying data is read from a cursor.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         PagedListDecorator}. The decorator may not be null
+     * @param cursorPageLoader
+     *         The loader, which should be used to load pages from the cursor, as an instance of
+     *         the class {@link CursorPageLoader}. The loader may not be null
+     * @param pageSize
+     *         The number of items per page as an {@link Integer} value. The number of items must be
+     *         at least 1
+     * @param maxResidentPages
+     *         The maximum number of pages, which should be resident at once, as an {@link Integer}
+     *         value. The number of pages must be at least 1
+     */
+    private CursorListAdapter(@NonNull final Context context,
+                              @NonNull final PagedListDecorator<DataType> decorator,
+                              @NonNull final CursorPageLoader<DataType> cursorPageLoader,
+                              final int pageSize, final int maxResidentPages) {
+        super(context, decorator, cursorPageLoader, pageSize, maxResidentPages);
+        this.cursorPageLoader = cursorPageLoader;
+    }
+
+    /**
+     * Creates a new adapter, whose underlying data is read from a cursor.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         PagedListDecorator}. The decorator may not be null
+     * @param query
+     *         The query, which should be used to obtain the cursor, as an instance of the type
+     *         {@link CursorQuery}. The query may not be null
+     * @param rowMapper
+     *         The mapper, which should be used to map the rows of the cursor to items, as an
+     *         instance of the type {@link CursorRowMapper}. The mapper may not be null
+     * @param pageSize
+     *         The number of items per page as an {@link Integer} value. The number of items must be
+     *         at least 1
+     * @param maxResidentPages
+     *         The maximum number of pages, which should be resident at once, as an {@link Integer}
+     *         value. The number of pages must be at least 1
+     */
+    public CursorListAdapter(@NonNull final Context context,
+                             @NonNull final PagedListDecorator<DataType> decorator,
+                             @NonNull final CursorQuery query,
+                             @NonNull final CursorRowMapper<DataType> rowMapper,
+                             final int pageSize, final int maxResidentPages) {
+        this(context, decorator, new CursorPageLoader<>(query, rowMapper), pageSize,
+                maxResidentPages);
+    }
+
+    /**
+     * Returns the order of the adapter's items.
+     *
+     * @return The order of the adapter's items, formatted as a SQL ORDER BY clause, as a {@link
+     * String} or null, if the default order of the query is used
+     */
+    @Nullable
+    public final String getOrderBy() {
+        return cursorPageLoader.getOrderBy();
+    }
+
+    /**
+     * Sorts the adapter's items by executing the query again on a background thread. As the
+     * indices of the items change, whether items are selected or enabled and their states are
+     * reset.
+     *
+     * @param orderBy
+     *         The order, which should be used, formatted as a SQL ORDER BY clause (excluding the
+     *         ORDER BY itself), as a {@link String} or null, if the default order of the query
+     *         should be used
+     */
+    public final void sort(@Nullable final String orderBy) {
+        cursorPageLoader.setOrderBy(orderBy);
+        reload(false);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Sorting items by \"" + orderBy + "\"";
+            getLogger().logInfo(getClass(), message);
+        }
+    }
+
+    /**
+     * Returns the selection, which is used to filter the adapter's items.
+     *
+     * @return The selection, which is used to filter the adapter's items, formatted as a SQL WHERE
+     * clause, as a {@link String} or null, if no filter is applied
+     */
+    @Nullable
+    public final String getSelection() {
+        return cursorPageLoader.getSelection();
+    }
+
+    /**
+     * Returns the arguments of the selection, which is used to filter the adapter's items.
+     *
+     * @return An array, which contains the arguments of the selection, as a {@link String} array or
+     * null, if the selection does not contain any arguments
+     */
+    @Nullable
+    public final String[] getSelectionArgs() {
+        return cursorPageLoader.getSelectionArgs();
+    }
+
+    /**
+     * Returns, whether a filter is currently applied on the adapter's items, or not.
+     *
+     * @return True, if a filter is currently applied, false otherwise
+     */
+    public final boolean isFiltered() {
+        return getSelection() != null;
+    }
+
+    /**
+     * Filters the adapter's items by executing the query again on a background thread. A
+     * previously applied filter is replaced. As the indices of the items change, whether items are
+     * selected or enabled and their states are reset.
+     *
+     * @param selection
+     *         The selection, which should be used to filter the items, formatted as a SQL WHERE
+     *         clause (excluding the WHERE itself), as a {@link String}. The selection may not be
+     *         null
+     * @param selectionArgs
+     *         An array, which contains the arguments, which should replace the question marks in
+     *         the selection, as a {@link String} array or null, if the selection does not contain
+     *         any arguments
+     */
+    public final void applyFilter(@NonNull final String selection,
+                                  @Nullable final String... selectionArgs) {
+        Condition.INSTANCE.ensureNotNull(selection, "The selection may not be null");
+        cursorPageLoader.setSelection(selection, selectionArgs);
+        reload(false);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = "Applying filter \"" + selection + "\"";
+            getLogger().logInfo(getClass(), message);
+        }
+    }
+
+    /**
+     * Resets the filter, which is currently applied on the adapter's items, by executing the query
+     * again on a background thread. As the indices of the items change, whether items are selected
+     * or enabled and their states are reset.
+     */
+    public final void resetFilter() {
+        if (isFiltered()) {
+            cursorPageLoader.setSelection(null, null);
+            reload(false);
+            getLogger().logInfo(getClass(), "Reset filter");
+        }
+    }
+
+    /**
+     * Closes the cursor, the adapter's data is read from, on the thread, which is used to load
+     * pages. If further items are bound afterwards, the query is executed again.
+     */
+    public final void close() {
+        getLoadExecutor().execute(new Runnable() {
+
+            @Override
+            public void run() {
+                cursorPageLoader.close();
+            }
+
+        });
+    }
+
+    @Override
+    public final String toString() {
+        return "CursorListAdapter [pageSize=" + getPageSize() + ", maxResidentPages=" +
+                getMaxResidentPages() + ", orderBy=" + getOrderBy() + ", selection=" +
+                getSelection() + ", logLevel=" + getLogLevel() + "]";
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list.paged;
+
+import android.database.Cursor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import de.mrapp.android.adapter.CursorQuery;
+import de.mrapp.android.adapter.CursorRowMapper;
+import de.mrapp.android.adapter.PageLoader;
+import de.mrapp.util.Condition;
+
+/**
+ * A page loader, which loads pages from a cursor, which is obtained by using a {@link CursorQuery}.
+ * The rows of a page are mapped to items by using a {@link CursorRowMapper}, when the page is
+ * loaded. The selection and order of the query can be changed at any time. The cursor is
+ * re-queried the next time a page or the number of items is loaded. The cursor is only accessed
+ * by the threads, which load pages.
+ *
+ * @param <DataType>
+ *         The type of the loaded data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class CursorPageLoader<DataType> implements PageLoader<DataType> {
+
+    /**
+     * The parameters of a query.
+     */
+    private static final class Parameters {
+
+        /**
+         * The selection, which is used to filter the rows.
+         */
+        private final String selection;
+
+        /**
+         * The arguments of the selection.
+         */
+        private final String[] selectionArgs;
+
+        /**
+         * The order of the rows.
+         */
+        private final String orderBy;
+
+        /**
+         * Creates new parameters of a query.
+         *
+         * @param selection
+         *         The selection, which should be used to filter the rows, as a {@link String} or
+         *         null, if all rows should be returned
+         * @param selectionArgs
+         *         The arguments of the selection as a {@link String} array or null, if the
+         *         selection does not contain any arguments
+         * @param orderBy
+         *         The order of the rows as a {@link String} or null, if the default order should
+         *         be used
+         */
+        private Parameters(@Nullable final String selection,
+                           @Nullable final String[] selectionArgs,
+                           @Nullable final String orderBy) {
+            this.selection = selection;
+            this.selectionArgs = selectionArgs != null ? selectionArgs.clone() : null;
+            this.orderBy = orderBy;
+        }
+
+    }
+
+    /**
+     * The query, which is used to obtain the cursor.
+     */
+    private final CursorQuery query;
+
+    /**
+     * The mapper, which is used to map the rows of the cursor to items.
+     */
+    private final CursorRowMapper<DataType> rowMapper;
+
+    /**
+     * The current parameters of the query.
+     */
+    private volatile Parameters parameters;
+
+    /**
+     * The parameters, the current cursor has been obtained with.
+     */
+    private Parameters cursorParameters;
+
+    /**
+     * The current cursor or null, if the query has not been executed yet.
+     */
+    private Cursor cursor;
+
+    /**
+     * Returns a cursor, which corresponds to the current parameters of the query. If the
+     * parameters have been changed since the current cursor has been obtained, the current cursor
+     * is closed and the query is executed again.
+     *
+     * @return The cursor as an instance of the type {@link Cursor}. The cursor may not be null
+     */
+    @NonNull
+    private Cursor obtainCursor() {
+        Parameters currentParameters = parameters;
+
+        if (cursor == null || cursor.isClosed() || cursorParameters != currentParameters) {
+            closeCursor();
+            cursor = query.query(currentParameters.selection, currentParameters.selectionArgs,
+                    currentParameters.orderBy);
+            cursorParameters = currentParameters;
+        }
+
+        return cursor;
+    }
+
+    /**
+     * Closes the current cursor, if it has been obtained.
+     */
+    private void closeCursor() {
+        if (cursor != null) {
+            cursor.close();
+            cursor = null;
+            cursorParameters = null;
+        }
+    }
+
+    /**
+     * Creates a new page loader, which loads pages from a cursor.
+     *
+     * @param query
+     *         The query, which should be used to obtain the cursor, as an instance of the type
+     *         {@link CursorQuery}. The query may not be null
+     * @param rowMapper
+     *         The mapper, which should be used to map the rows of the cursor to items, as an
+     *         instance of the type {@link CursorRowMapper}. The mapper may not be null
+     */
+    public CursorPageLoader(@NonNull final CursorQuery query,
+                            @NonNull final CursorRowMapper<DataType> rowMapper) {
+        Condition.INSTANCE.ensureNotNull(query, "The query may not be null");
+        Condition.INSTANCE.ensureNotNull(rowMapper, "The row mapper may not be null");
+        this.query = query;
+        this.rowMapper = rowMapper;
+        this.parameters = new Parameters(null, null, null);
+        this.cursorParameters = null;
+        this.cursor = null;
+    }
+
+    /**
+     * Returns the selection, which is used to filter the rows.
+     *
+     * @return The selection, which is used to filter the rows, as a {@link String} or null, if all
+     * rows are returned
+     */
+    @Nullable
+    public final String getSelection() {
+        return parameters.selection;
+    }
+
+    /**
+     * Returns the arguments of the selection, which is used to filter the rows.
+     *
+     * @return An array, which contains the arguments of the selection, as a {@link String} array or
+     * null, if the selection does not contain any arguments
+     */
+    @Nullable
+    public final String[] getSelectionArgs() {
+        String[] selectionArgs = parameters.selectionArgs;
+        return selectionArgs != null ? selectionArgs.clone() : null;
+    }
+
+    /**
+     * Sets the selection, which should be used to filter the rows.
+     *
+     * @param selection
+     *         The selection, which should be set, formatted as a SQL WHERE clause (excluding the
+     *         WHERE itself), as a {@link String} or null, if all rows should be returned
+     * @param selectionArgs
+     *         An array, which contains the arguments, which should replace the question marks in
+     *         the selection, as a {@link String} array or null, if the selection does not contain
+     *         any arguments
+     */
+    public final void setSelection(@Nullable final String selection,
+                                   @Nullable final String[] selectionArgs) {
+        parameters = new Parameters(selection, selectionArgs, parameters.orderBy);
+    }
+
+    /**
+     * Returns the order of the rows.
+     *
+     * @return The order of the rows as a {@link String} or null, if the default order is used
+     */
+    @Nullable
+    public final String getOrderBy() {
+        return parameters.orderBy;
+    }
+
+    /**
+     * Sets the order of the rows.
+     *
+     * @param orderBy
+     *         The order, which should be set, formatted as a SQL ORDER BY clause (excluding the
+     *         ORDER BY itself), as a {@link String} or null, if the default order should be used
+     */
+    public final void setOrderBy(@Nullable final String orderBy) {
+        Parameters currentParameters = parameters;
+        parameters = new Parameters(currentParameters.selection, currentParameters.selectionArgs,
+                orderBy);
+    }
+
+    /**
+     * Closes the cursor, which has been obtained by the loader. The query is executed again, when
+     * the next page or the number of items is loaded.
+     */
+    public final synchronized void close() {
+        closeCursor();
+    }
+
+    @Override
+    public final synchronized int getItemCount() {
+        return obtainCursor().getCount();
+    }
+
+    @NonNull
+    @Override
+    public final synchronized List<DataType> loadPage(final int offset, final int count) {
+        Cursor currentCursor = obtainCursor();
+        List<DataType> page = new ArrayList<>(count);
+
+        if (count > 0 && currentCursor.moveToPosition(offset)) {
+            do {
+                page.add(rowMapper.map(currentCursor));
+            } while (page.size() < count && currentCursor.moveToNext());
+        }
+
+        return page;
+    }
+
+}
@@ -0,0 +1,718 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list.paged;
+
+import android.content.Context;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+import de.mrapp.android.adapter.PageLoader;
+import de.mrapp.android.adapter.PagedListDecorator;
+import de.mrapp.android.adapter.RecyclerViewAdapter.ListItemViewHolder;
+import de.mrapp.android.adapter.datastructure.item.PagedItemList;
+import de.mrapp.android.adapter.logging.Loggable;
+import de.mrapp.android.adapter.util.ThreadUtil;
+import de.mrapp.android.util.logging.LogLevel;
+import de.mrapp.android.util.logging.Logger;
+import de.mrapp.android.util.view.ViewHolder;
+import de.mrapp.util.Condition;
+
+/**
+ * An adapter, whose underlying data is loaded in pages of a fixed size by using a {@link
+ * PageLoader}, instead of being held in memory as a whole. Pages are loaded on a background thread,
+ * when views, which are close to items, whose data has not been loaded yet, are bound. Only a
+ * bounded number of pages is resident at once. Until their data is loaded, placeholders are shown
+ * for items. Whether items are selected or enabled and their states are retained for items, whose
+ * data is not resident.
+ *
+ * @param <DataType>
+ *         The type of the adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class PagedListAdapter<DataType> extends RecyclerView.Adapter<ViewHolder>
+        implements Loggable {
+
+    /**
+     * The context, the adapter belongs to.
+     */
+    private final Context context;
+
+    /**
+     * The decorator, which allows to customize the appearance of the views, which are used to
+     * visualize the items of the adapter.
+     */
+    private final PagedListDecorator<DataType> decorator;
+
+    /**
+     * The loader, which is used to load the adapter's underlying data.
+     */
+    private final PageLoader<DataType> pageLoader;
+
+    /**
+     * The data structure, which stores the resident pages and the states of the adapter's items.
+     */
+    private final PagedItemList<DataType> items;
+
+    /**
+     * The logger, which is used for logging.
+     */
+    private final Logger logger;
+
+    /**
+     * The executor, which is used to load pages in the background.
+     */
+    private Executor loadExecutor;
+
+    /**
+     * The number of items, whose pages are loaded in advance, when a view is bound.
+     */
+    private int prefetchDistance;
+
+    /**
+     * The generation of the adapter's data. It is incremented whenever the data is reloaded, in
+     * order to discard pages, which have been loaded before.
+     */
+    private int generation;
+
+    /**
+     * True, if the adapter's underlying data is currently reloaded in the background, false
+     * otherwise.
+     */
+    private boolean reloading;
+
+    /**
+     * The recycler view, the adapter is currently attached to.
+     */
+    private RecyclerView recyclerView;
+
+    /**
+     * Loads the page, a specific item belongs to, as well as the pages of the items within the
+     * prefetch distance, unless they are already resident or have already been requested. While
+     * the adapter's data is reloaded, no pages are loaded.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     */
+    private void loadPages(final int index) {
+        if (reloading) {
+            return;
+        }
+
+        int firstPageIndex = items.getPageIndex(Math.max(0, index - prefetchDistance));
+        int lastPageIndex =
+                items.getPageIndex(Math.min(items.getItemCount() - 1, index + prefetchDistance));
+        loadPage(items.getPageIndex(index));
+
+        for (int i = firstPageIndex; i <= lastPageIndex; i++) {
+            loadPage(i);
+        }
+    }
+
+    /**
+     * Loads a specific page in the background, unless it is already resident or has already been
+     * requested.
+     *
+     * @param pageIndex
+     *         The index of the page, which should be loaded, as an {@link Integer} value
+     */
+    private void loadPage(final int pageIndex) {
+        if (items.request(pageIndex)) {
+            final int offset = items.getPageOffset(pageIndex);
+            final int count = items.getPageItemCount(pageIndex);
+            final int currentGeneration = generation;
+
+            if (isLoggable(LogLevel.VERBOSE)) {
+                String message = "Loading page " + pageIndex + " (items " + offset + " to " +
+                        (offset + count - 1) + ")";
+                getLogger().logVerbose(getClass(), message);
+            }
+
+            loadExecutor.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    List<DataType> data = null;
+
+                    try {
+                        data = pageLoader.loadPage(offset, count);
+                    } catch (RuntimeException e) {
+                        if (isLoggable(LogLevel.ERROR)) {
+                            String message = "Failed to load page " + pageIndex;
+                            getLogger().logError(getClass(), message, e);
+                        }
+                    }
+
+                    final List<DataType> loadedData = data;
+                    ThreadUtil.postOnUiThread(new Runnable() {
+
+                        @Override
+                        public void run() {
+                            onPageLoaded(pageIndex, currentGeneration, loadedData);
+                        }
+
+                    });
+                }
+
+            });
+        }
+    }
+
+    /**
+     * The method, which is invoked on the UI thread, when a page has been loaded.
+     *
+     * @param pageIndex
+     *         The index of the page, which has been loaded, as an {@link Integer} value
+     * @param loadedGeneration
+     *         The generation of the adapter's data, the page has been loaded for, as an {@link
+     *         Integer} value
+     * @param data
+     *         A list, which contains the data of the page's items, as an instance of the type
+     *         {@link List} or null, if the page could not be loaded
+     */
+    private void onPageLoaded(final int pageIndex, final int loadedGeneration,
+                              @Nullable final List<DataType> data) {
+        if (loadedGeneration != generation) {
+            if (isLoggable(LogLevel.VERBOSE)) {
+                String message = "Discarded page " + pageIndex + ", because the data has been " +
+                        "reloaded in the meantime";
+                getLogger().logVerbose(getClass(), message);
+            }
+        } else if (data == null) {
+            items.discardRequest(pageIndex);
+        } else {
+            int evictedPageIndex = items.putPage(pageIndex, data);
+            int count = Math.min(data.size(), items.getPageItemCount(pageIndex));
+
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Loaded page " + pageIndex + (evictedPageIndex != -1 ?
+                        ", evicted page " + evictedPageIndex : "");
+                getLogger().logDebug(getClass(), message);
+            }
+
+            if (count > 0) {
+                notifyItemRangeChanged(items.getPageOffset(pageIndex), count);
+            }
+        }
+    }
+
+    /**
+     * The method, which is invoked on the UI thread, when the number of items has been queried
+     * while reloading the adapter's underlying data.
+     *
+     * @param reloadedGeneration
+     *         The generation of the adapter's data, the number of items has been queried for, as
+     *         an {@link Integer} value
+     * @param itemCount
+     *         The number of items as an {@link Integer} value or -1, if the number of items could
+     *         not be queried
+     * @param retainStates
+     *         True, if whether items are selected or enabled and their states should be retained,
+     *         false otherwise
+     */
+    private void onReloaded(final int reloadedGeneration, final int itemCount,
+                            final boolean retainStates) {
+        if (reloadedGeneration == generation) {
+            reloading = false;
+
+            if (itemCount >= 0) {
+                if (!retainStates) {
+                    items.clearStates();
+                }
+
+                items.reset(itemCount);
+                notifyDataSetChanged();
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message = "Reloaded the adapter's data, containing " + itemCount +
+                            " items";
+                    getLogger().logInfo(getClass(), message);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the logger, which is used for logging.
+     *
+     * @return The logger, which is used for logging, as an instance of the class Logger. The
+     * logger may not be null
+     */
+    protected final Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Returns, whether log messages with a specific log level are currently written to the output,
+     * or not.
+     *
+     * @param logLevel
+     *         The log level, which should be checked, as a value of the enum {@link LogLevel}. The
+     *         log level may not be null
+     * @return True, if log messages with the given log level are written to the output, false
+     * otherwise
+     */
+    protected final boolean isLoggable(@NonNull final LogLevel logLevel) {
+        return logLevel.getRank() >= getLogLevel().getRank();
+    }
+
+    /**
+     * Discards all resident pages and reloads the adapter's underlying data in the background.
+     * The number of items is queried by using the adapter's page loader. Until it is published on
+     * the UI thread, the previously loaded data remains visible and no further pages are loaded.
+     *
+     * @param retainStates
+     *         True, if whether items are selected or enabled and their states should be retained,
+     *         as long as their indices are still valid, false, if they should be reset
+     */
+    protected final void reload(final boolean retainStates) {
+        final int currentGeneration = ++generation;
+        reloading = true;
+        loadExecutor.execute(new Runnable() {
+
+            @Override
+            public void run() {
+                int count = -1;
+
+                try {
+                    count = pageLoader.getItemCount();
+                } catch (RuntimeException e) {
+                    if (isLoggable(LogLevel.ERROR)) {
+                        getLogger().logError(getClass(), "Failed to query the number of items", e);
+                    }
+                }
+
+                final int itemCount = count;
+                ThreadUtil.postOnUiThread(new Runnable() {
+
+                    @Override
+                    public void run() {
+                        onReloaded(currentGeneration, itemCount, retainStates);
+                    }
+
+                });
+            }
+
+        });
+    }
+
+    /**
+     * Creates a new adapter, whose underlying data is loaded in pages of a fixed size.
+     *
+     * @param context
+     *         The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     *         context may not be null
+     * @param decorator
+     *         The decorator, which should be used to customize the appearance of the views, which
+     *         are used to visualize the items of the adapter, as an instance of the type {@link
+     *         PagedListDecorator}. The decorator may not be null
+     * @param pageLoader
+     *         The loader, which should be used to load the adapter's underlying data, as an
+     *         instance of the type {@link PageLoader}. The loader may not be null
+     * @param pageSize
+     *         The number of items per page as an {@link Integer} value. The number of items must be
+     *         at least 1
+     * @param maxResidentPages
+     *         The maximum number of pages, which should be resident at once, as an {@link Integer}
+     *         value. The number of pages must be at least 1
+     */
+    public PagedListAdapter(@NonNull final Context context,
+                            @NonNull final PagedListDecorator<DataType> decorator,
+                            @NonNull final PageLoader<DataType> pageLoader, final int pageSize,
+                            final int maxResidentPages) {
+        Condition.INSTANCE.ensureNotNull(context, "The context may not be null");
+        Condition.INSTANCE.ensureNotNull(decorator, "The decorator may not be null");
+        Condition.INSTANCE.ensureNotNull(pageLoader, "The page loader may not be null");
+        this.context = context;
+        this.decorator = decorator;
+        this.pageLoader = pageLoader;
+        this.items = new PagedItemList<>(pageSize, maxResidentPages);
+        this.logger = new Logger(LogLevel.INFO);
+        this.loadExecutor = ThreadUtil.getDefaultLoadExecutor();
+        this.prefetchDistance = pageSize / 2;
+        this.generation = 0;
+        this.reloading = false;
+        reload(true);
+    }
+
+    /**
+     * Returns the context, the adapter belongs to.
+     *
+     * @return The context, the adapter belongs to, as an instance of the class {@link Context}. The
+     * context may not be null
+     */
+    public final Context getContext() {
+        return context;
+    }
+
+    /**
+     * Returns the decorator, which allows to customize the appearance of the views, which are used
+     * to visualize the items of the adapter.
+     *
+     * @return The decorator, which allows to customize the appearance of the views, which are used
+     * to visualize the items of the adapter, as an instance of the type {@link PagedListDecorator}.
+     * The decorator may not be null
+     */
+    public final PagedListDecorator<DataType> getDecorator() {
+        return decorator;
+    }
+
+    /**
+     * Returns the loader, which is used to load the adapter's underlying data.
+     *
+     * @return The loader, which is used to load the adapter's underlying data, as an instance of
+     * the type {@link PageLoader}. The loader may not be null
+     */
+    public final PageLoader<DataType> getPageLoader() {
+        return pageLoader;
+    }
+
+    /**
+     * Returns the number of items per page.
+     *
+     * @return The number of items per page as an {@link Integer} value
+     */
+    public final int getPageSize() {
+        return items.getPageSize();
+    }
+
+    /**
+     * Returns the maximum number of pages, which are resident at once.
+     *
+     * @return The maximum number of pages, which are resident at once, as an {@link Integer} value
+     */
+    public final int getMaxResidentPages() {
+        return items.getMaxResidentPages();
+    }
+
+    /**
+     * Returns the number of items, whose pages are loaded in advance, when a view is bound.
+     *
+     * @return The number of items, whose pages are loaded in advance, when a view is bound, as an
+     * {@link Integer} value
+     */
+    public final int getPrefetchDistance() {
+        return prefetchDistance;
+    }
+
+    /**
+     * Sets the number of items, whose pages should be loaded in advance, when a view is bound. By
+     * default, the prefetch distance corresponds to half of the page size.
+     *
+     * @param prefetchDistance
+     *         The number of items, which should be set, as an {@link Integer} value. The number of
+     *         items must be at least 0
+     */
+    public final void setPrefetchDistance(final int prefetchDistance) {
+        Condition.INSTANCE.ensureAtLeast(prefetchDistance, 0,
+                "The prefetch distance must be at least 0");
+        this.prefetchDistance = prefetchDistance;
+    }
+
+    /**
+     * Returns the executor, which is used to load pages in the background.
+     *
+     * @return The executor, which is used to load pages in the background, as an instance of the
+     * type {@link Executor}. The executor may not be null
+     */
+    public final Executor getLoadExecutor() {
+        return loadExecutor;
+    }
+
+    /**
+     * Sets the executor, which should be used to load pages in the background. By default, a
+     * single background thread, which is shared by all paged adapters, is used.
+     *
+     * @param executor
+     *         The executor, which should be set, as an instance of the type {@link Executor}. The
+     *         executor may not be null
+     */
+    public final void setLoadExecutor(@NonNull final Executor executor) {
+        Condition.INSTANCE.ensureNotNull(executor, "The executor may not be null");
+        this.loadExecutor = executor;
+    }
+
+    /**
+     * Discards all resident pages and reloads the adapter's underlying data in the background.
+     * Pages, which are currently loaded, are discarded, when they are published. Whether items are
+     * selected or enabled and their states are retained, as long as their indices are still valid.
+     */
+    public final void reload() {
+        reload(true);
+    }
+
+    /**
+     * Returns, whether the adapter's underlying data is currently reloaded in the background, or
+     * not.
+     *
+     * @return True, if the adapter's underlying data is currently reloaded, false otherwise
+     */
+    public final boolean isReloading() {
+        return reloading;
+    }
+
+    /**
+     * Returns the number of items, which are contained by the adapter, regardless of whether their
+     * data has been loaded or not.
+     *
+     * @return The number of items, which are contained by the adapter, as an {@link Integer} value
+     */
+    public final int getCount() {
+        return items.getItemCount();
+    }
+
+    /**
+     * Returns the data of the item, which belongs to a specific index.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return The data of the item, which belongs to the given index, as an instance of the generic
+     * type DataType or null, if the item's data has not been loaded yet
+     */
+    @Nullable
+    public final DataType getItem(final int index) {
+        return items.getData(index);
+    }
+
+    /**
+     * Returns, whether the data of the item, which belongs to a specific index, is resident, or
+     * not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return True, if the data of the item, which belongs to the given index, is resident, false
+     * otherwise
+     */
+    public final boolean isResident(final int index) {
+        return items.isResident(index);
+    }
+
+    /**
+     * Returns, whether the item, which belongs to a specific index, is selected, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return True, if the item is selected, false otherwise
+     */
+    public final boolean isSelected(final int index) {
+        return items.isSelected(index);
+    }
+
+    /**
+     * Sets, whether the item, which belongs to a specific index, should be selected, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param selected
+     *         True, if the item should be selected, false otherwise
+     */
+    public final void setSelected(final int index, final boolean selected) {
+        if (items.isSelected(index) != selected) {
+            items.setSelected(index, selected);
+            notifyItemChanged(index);
+        }
+    }
+
+    /**
+     * Triggers the selection of the item, which belongs to a specific index.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     */
+    public final void triggerSelection(final int index) {
+        setSelected(index, !isSelected(index));
+    }
+
+    /**
+     * Returns the number of selected items.
+     *
+     * @return The number of selected items as an {@link Integer} value
+     */
+    public final int getSelectedItemCount() {
+        return items.getSelectedItemCount();
+    }
+
+    /**
+     * Returns, whether the item, which belongs to a specific index, is enabled, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return True, if the item is enabled, false otherwise
+     */
+    public final boolean isEnabled(final int index) {
+        return items.isEnabled(index);
+    }
+
+    /**
+     * Sets, whether the item, which belongs to a specific index, should be enabled, or not.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param enabled
+     *         True, if the item should be enabled, false otherwise
+     */
+    public final void setEnabled(final int index, final boolean enabled) {
+        if (items.isEnabled(index) != enabled) {
+            items.setEnabled(index, enabled);
+            notifyItemChanged(index);
+        }
+    }
+
+    /**
+     * Triggers the enable state of the item, which belongs to a specific index.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     */
+    public final void triggerEnableState(final int index) {
+        setEnabled(index, !isEnabled(index));
+    }
+
+    /**
+     * Returns the number of enabled items.
+     *
+     * @return The number of enabled items as an {@link Integer} value
+     */
+    public final int getEnabledItemCount() {
+        return items.getEnabledItemCount();
+    }
+
+    /**
+     * Returns the state of the item, which belongs to a specific index.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @return The state of the item as an {@link Integer} value
+     */
+    public final int getItemState(final int index) {
+        return items.getItemState(index);
+    }
+
+    /**
+     * Sets the state of the item, which belongs to a specific index.
+     *
+     * @param index
+     *         The index of the item as an {@link Integer} value
+     * @param state
+     *         The state, which should be set, as an {@link Integer} value. The state must be at
+     *         least 0
+     */
+    public final void setItemState(final int index, final int state) {
+        if (items.getItemState(index) != state) {
+            items.setItemState(index, state);
+            notifyItemChanged(index);
+        }
+    }
+
+    /**
+     * Attaches the adapter to a view.
+     *
+     * @param adapterView
+     *         The view, the adapter should be attached to, as an instance of the class {@link
+     *         RecyclerView}. The view may not be null
+     */
+    public final void attach(@NonNull final RecyclerView adapterView) {
+        Condition.INSTANCE.ensureNotNull(adapterView, "The adapter view may not be null");
+        detach();
+        adapterView.setAdapter(this);
+        this.recyclerView = adapterView;
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Attached adapter to view \"" + adapterView + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
+    }
+
+    /**
+     * Detaches the adapter from the view, it is currently attached to.
+     */
+    public final void detach() {
+        if (recyclerView != null) {
+            if (recyclerView.getAdapter() == this) {
+                recyclerView.setAdapter(null);
+
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Detached adapter from view \"" + recyclerView + "\"";
+                    getLogger().logDebug(getClass(), message);
+                }
+            }
+
+            recyclerView = null;
+        }
+    }
+
+    @Override
+    public final LogLevel getLogLevel() {
+        return getLogger().getLogLevel();
+    }
+
+    @Override
+    public final void setLogLevel(@NonNull final LogLevel logLevel) {
+        getLogger().setLogLevel(logLevel);
+    }
+
+    @Override
+    public final int getItemCount() {
+        return getCount();
+    }
+
+    @Override
+    public final int getItemViewType(final int index) {
+        DataType item = items.getData(index);
+        return item != null ? decorator.getViewType(item) : decorator.getPlaceholderViewType();
+    }
+
+    @NonNull
+    @Override
+    public final ViewHolder onCreateViewHolder(@NonNull final ViewGroup parent,
+                                               final int viewType) {
+        LayoutInflater inflater = LayoutInflater.from(getContext());
+        View view = decorator.onInflateView(inflater, parent, viewType);
+        return new ListItemViewHolder(view);
+    }
+
+    @Override
+    public final void onBindViewHolder(@NonNull final ViewHolder viewHolder, final int index) {
+        ListItemViewHolder listItemViewHolder = (ListItemViewHolder) viewHolder;
+        listItemViewHolder.setItemIndex(index);
+        loadPages(index);
+        View view = listItemViewHolder.getParentView();
+        DataType item = items.getData(index);
+        boolean enabled = items.isEnabled(index);
+        int state = items.getItemState(index);
+        boolean selected = items.isSelected(index);
+
+        if (item != null) {
+            decorator.applyDecorator(getContext(), this, view, item, index, enabled, state,
+                    selected);
+        } else {
+            decorator.applyPlaceholderDecorator(getContext(), this, view, index, enabled, state,
+                    selected);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PagedListAdapter [pageSize=" + getPageSize() + ", maxResidentPages=" +
+                getMaxResidentPages() + ", logLevel=" + getLogLevel() + "]";
+    }
+
+}
@@ -25,8 +25,10 @@ import java.util.Set;
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.SelectableListDecorator;
 import de.mrapp.android.adapter.datastructure.AppliedFilter;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.item.Item;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
 import de.mrapp.android.adapter.list.ListAdapterItemLongClickListener;
@@ -77,35 +79,6 @@ public abstract class AbstractSelectableListAdapter<DataType>
      */
     private boolean selectItemOnClick;
 
-    /**
-     * Creates and returns a listener, which allows to adapt the unfiltered items, when an item has
-     * been selected or unselected.
-     *
-     * @return The listener, which has been created, as an instance of the type {@link
-     * ListSelectionListener}
-     */
-    private ListSelectionListener<DataType> createSelectionListener() {
-        return new ListSelectionListener<DataType>() {
-
-            @Override
-            public void onItemSelected(@NonNull final SelectableListAdapter<DataType> adapter,
-                                       @NonNull final DataType item, final int index) {
-                if (isFiltered()) {
-                    getUnfilteredItems().get(getUnfilteredIndex(index)).setSelected(true);
-                }
-            }
-
-            @Override
-            public void onItemUnselected(@NonNull final SelectableListAdapter<DataType> adapter,
-                                         @NonNull final DataType item, final int index) {
-                if (isFiltered()) {
-                    getUnfilteredItems().get(getUnfilteredIndex(index)).setSelected(false);
-                }
-            }
-
-        };
-    }
-
     /**
      * Notifies all listeners, which have been registered to be notified when the selection of an
      * item of the adapter has been changed, about an item, which has been selected.
@@ -140,6 +113,48 @@ public abstract class AbstractSelectableListAdapter<DataType>
         }
     }
 
+    /**
+     * Notifies all listeners, which have been registered to be notified when the selection of an
+     * item of the adapter has been changed, about multiple items, which have been selected or
+     * unselected at once. Listeners, which do not implement the interface {@link
+     * ListSelectionBatchListener}, are notified about each item separately.
+     *
+     * @param indices
+     *         The indices of the items, which have been selected or unselected, as an instance of
+     *         the class {@link IndexList}. The list may not be null
+     * @param selected
+     *         True, if the items have been selected, false, if they have been unselected
+     */
+    @SuppressWarnings("unchecked")
+    protected final void notifyOnSelectionsChanged(@NonNull final IndexList indices,
+                                                   final boolean selected) {
+        if (!indices.isEmpty()) {
+            for (ListSelectionListener<DataType> listener : selectionListeners) {
+                if (listener instanceof ListSelectionBatchListener) {
+                    ListSelectionBatchListener<DataType> batchListener =
+                            (ListSelectionBatchListener<DataType>) listener;
+
+                    if (selected) {
+                        batchListener.onItemsSelected(this, indices);
+                    } else {
+                        batchListener.onItemsUnselected(this, indices);
+                    }
+                } else {
+                    for (int i = 0; i < indices.size(); i++) {
+                        int index = indices.get(i);
+                        DataType item = getItem(index);
+
+                        if (selected) {
+                            listener.onItemSelected(this, item, index);
+                        } else {
+                            listener.onItemUnselected(this, item, index);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Returns a set, which contains the listeners, which should be notified, when the selection of
      * an item of the adapter has been changed.
@@ -250,7 +265,6 @@ public abstract class AbstractSelectableListAdapter<DataType>
                 filterListeners, appliedFilters);
         selectItemOnClick(selectItemOnClick);
         setSelectionListeners(selectionListeners);
-        addSelectionListener(createSelectionListener());
     }
 
     @CallSuper
@@ -278,11 +292,35 @@ public abstract class AbstractSelectableListAdapter<DataType>
         getDecorator()
                 .applyDecorator(context, this, view, item, index, enabled, itemState, filtered,
                         selected);
-        String message =
-                "Applied decorator \"" + getDecorator() + "\" using arguments: Item=[" + item +
-                        ", index=" + index + ", enabled=" + enabled + ", itemState=" + itemState +
-                        ", filtered=" + filtered + "]";
-        getLogger().logVerbose(getClass(), message);
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            String message = "Applied decorator \"" + getDecorator() + "\" using arguments: " +
+                    "Item=[" + item + ", index=" + index + ", enabled=" + enabled + ", itemState=" +
+                    itemState + ", filtered=" + filtered + "]";
+            getLogger().logVerbose(getClass(), message);
+        }
+    }
+
+    @Override
+    protected final void applyDecoratorPartially(@NonNull final Context context,
+                                                 @NonNull final View view, final int index,
+                                                 @NonNull final Set<ChangePayload> payloads) {
+        DataType item = getItem(index);
+        boolean enabled = isEnabled(index);
+        int itemState = getItemState(index);
+        boolean filtered = isFiltered();
+        boolean selected = isSelected(index);
+        getDecorator()
+                .applyDecoratorPartially(context, this, view, item, index, enabled, itemState,
+                        filtered, selected, payloads);
+
+        if (isLoggable(LogLevel.VERBOSE)) {
+            String message = "Applied decorator \"" + getDecorator() + "\" partially using " +
+                    "payloads " + payloads + " and arguments: Item=[" + item + ", index=" + index +
+                    ", enabled=" + enabled + ", itemState=" + itemState + ", filtered=" +
+                    filtered + "]";
+            getLogger().logVerbose(getClass(), message);
+        }
     }
 
     @Override
@@ -290,8 +328,11 @@ public abstract class AbstractSelectableListAdapter<DataType>
             @NonNull final ListSelectionListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         selectionListeners.add(listener);
-        String message = "Added selection listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added selection listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
@@ -299,21 +340,16 @@ public abstract class AbstractSelectableListAdapter<DataType>
             @NonNull final ListSelectionListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         selectionListeners.remove(listener);
-        String message = "Removed selection listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed selection listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
     public final int getSelectedItemCount() {
-        int result = 0;
-
-        for (Item<DataType> item : getItems()) {
-            if (item.isSelected()) {
-                result++;
-            }
-        }
-
-        return result;
+        return getItemCounter().getSelectedCount();
     }
 
     @Override
@@ -334,8 +370,12 @@ public abstract class AbstractSelectableListAdapter<DataType>
     @Override
     public final void selectItemOnClick(final boolean selectItemOnClick) {
         this.selectItemOnClick = selectItemOnClick;
-        String message = "Items are now " + (selectItemOnClick ? "" : "not ") + "selected on click";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Items are now " + (selectItemOnClick ? "" : "not ") +
+                    "selected on click";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @CallSuper
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.list.selectable;
+
+import androidx.annotation.NonNull;
+import de.mrapp.android.adapter.datastructure.IndexList;
+
+/**
+ * Defines the interface, all listeners, which should be notified when the selection of items of a
+ * {@link SelectableListAdapter} has been modified, must implement, if they should be notified about
+ * items, which have been selected or unselected by a single bulk operation, at once. Listeners,
+ * which only implement the interface {@link ListSelectionListener}, are notified about each of
+ * these items separately.
+ *
+ * @param <DataType>
+ *         The type of the observed adapter's underlying data
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public interface ListSelectionBatchListener<DataType> extends ListSelectionListener<DataType> {
+
+    /**
+     * The method, which is invoked, when multiple items have been selected at once.
+     *
+     * @param adapter
+     *         The observed adapter as an instance of the type {@link SelectableListAdapter}. The
+     *         adapter may not be null
+     * @param indices
+     *         The indices of the items, which have been selected, as an instance of the class
+     *         {@link IndexList}. The list may not be null
+     */
+    void onItemsSelected(@NonNull SelectableListAdapter<DataType> adapter,
+                         @NonNull IndexList indices);
+
+    /**
+     * The method, which is invoked, when multiple items have been unselected at once.
+     *
+     * @param adapter
+     *         The observed adapter as an instance of the type {@link SelectableListAdapter}. The
+     *         adapter may not be null
+     * @param indices
+     *         The indices of the items, which have been unselected, as an instance of the class
+     *         {@link IndexList}. The list may not be null
+     */
+    void onItemsUnselected(@NonNull SelectableListAdapter<DataType> adapter,
+                           @NonNull IndexList indices);
+
+}
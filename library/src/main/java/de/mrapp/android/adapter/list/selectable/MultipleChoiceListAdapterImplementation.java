@@ -19,16 +19,20 @@ import android.view.View;
 import android.widget.AbsListView;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.MultipleChoiceListAdapter;
 import de.mrapp.android.adapter.SelectableListDecorator;
 import de.mrapp.android.adapter.datastructure.AppliedFilter;
+import de.mrapp.android.adapter.datastructure.IndexList;
 import de.mrapp.android.adapter.datastructure.UnmodifiableList;
 import de.mrapp.android.adapter.datastructure.item.Item;
+import de.mrapp.android.adapter.datastructure.item.ItemFlagIndex;
 import de.mrapp.android.adapter.list.ListAdapter;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
 import de.mrapp.android.adapter.list.ListAdapterItemLongClickListener;
@@ -111,9 +115,9 @@ public class MultipleChoiceListAdapterImplementation<DataType>
             @Override
             public void onItemDisabled(@NonNull final ListAdapter<DataType> adapter,
                                        @NonNull final DataType item, final int index) {
-                getItems().get(index).setSelected(false);
+                storeSelection(index, false);
                 notifyOnItemUnselected(item, index);
-                notifyObserversOnItemChanged(index);
+                notifyObserversOnItemChanged(index, ChangePayload.SELECTION);
             }
 
         };
@@ -236,13 +240,7 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final int getFirstSelectedIndex() {
-        for (int i = 0; i < getCount(); i++) {
-            if (isSelected(i)) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().nextSelectedIndex(0, true);
     }
 
     @Override
@@ -258,13 +256,7 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final int getLastSelectedIndex() {
-        for (int i = getCount() - 1; i >= 0; i--) {
-            if (isSelected(i)) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().previousSelectedIndex(getCount() - 1, true);
     }
 
     @Override
@@ -280,13 +272,7 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final int getFirstUnselectedIndex() {
-        for (int i = 0; i < getCount(); i++) {
-            if (!isSelected(i)) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().nextSelectedIndex(0, false);
     }
 
     @Override
@@ -302,13 +288,7 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final int getLastUnselectedIndex() {
-        for (int i = getCount() - 1; i >= 0; i--) {
-            if (!isSelected(i)) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().previousSelectedIndex(getCount() - 1, false);
     }
 
     @Override
@@ -324,12 +304,12 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final List<Integer> getSelectedIndices() {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<Integer> selectedIndices = new ArrayList<>();
 
-        for (int i = 0; i < getCount(); i++) {
-            if (isSelected(i)) {
-                selectedIndices.add(i);
-            }
+        for (int i = flagIndex.nextSelectedIndex(0, true); i != -1;
+             i = flagIndex.nextSelectedIndex(i + 1, true)) {
+            selectedIndices.add(i);
         }
 
         return new UnmodifiableList<>(selectedIndices);
@@ -337,12 +317,12 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final List<DataType> getSelectedItems() {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<DataType> selectedItems = new ArrayList<>();
 
-        for (Item<DataType> item : getItems()) {
-            if (item.isSelected()) {
-                selectedItems.add(item.getData());
-            }
+        for (int i = flagIndex.nextSelectedIndex(0, true); i != -1;
+             i = flagIndex.nextSelectedIndex(i + 1, true)) {
+            selectedItems.add(getItems().get(i).getData());
         }
 
         return new UnmodifiableList<>(selectedItems);
@@ -350,25 +330,35 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final List<Integer> getUnselectedIndices() {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<Integer> unselectedIndices = new ArrayList<>();
 
-        for (int i = 0; i < getCount(); i++) {
-            if (!isSelected(i)) {
-                unselectedIndices.add(i);
-            }
+        for (int i = flagIndex.nextSelectedIndex(0, false); i != -1;
+             i = flagIndex.nextSelectedIndex(i + 1, false)) {
+            unselectedIndices.add(i);
         }
 
         return new UnmodifiableList<>(unselectedIndices);
     }
 
+    @Override
+    public final IndexList getSelectedIndexList() {
+        return new IndexList(getFlagIndex().getSelectedIndices(true));
+    }
+
+    @Override
+    public final IndexList getUnselectedIndexList() {
+        return new IndexList(getFlagIndex().getSelectedIndices(false));
+    }
+
     @Override
     public final List<DataType> getUnselectedItems() {
+        ItemFlagIndex flagIndex = getFlagIndex();
         List<DataType> unselectedItems = new ArrayList<>();
 
-        for (Item<DataType> item : getItems()) {
-            if (!item.isSelected()) {
-                unselectedItems.add(item.getData());
-            }
+        for (int i = flagIndex.nextSelectedIndex(0, false); i != -1;
+             i = flagIndex.nextSelectedIndex(i + 1, false)) {
+            unselectedItems.add(getItems().get(i).getData());
         }
 
         return new UnmodifiableList<>(unselectedItems);
@@ -380,7 +370,7 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
         if (item.isEnabled()) {
             if (item.isSelected() != selected) {
-                item.setSelected(selected);
+                storeSelection(index, selected);
 
                 if (selected) {
                     notifyOnItemSelected(item.getData(), index);
@@ -388,23 +378,33 @@ public class MultipleChoiceListAdapterImplementation<DataType>
                     notifyOnItemUnselected(item.getData(), index);
                 }
 
-                notifyObserversOnItemChanged(index);
-                String message = selected ? "Selected" :
-                        "Unselected" + " item \"" + item + "\" at index " + index;
-                getLogger().logInfo(getClass(), message);
+                notifyObserversOnItemChanged(index, ChangePayload.SELECTION);
+
+                if (isLoggable(LogLevel.INFO)) {
+                    String message = selected ? "Selected" :
+                            "Unselected" + " item \"" + item + "\" at index " + index;
+                    getLogger().logInfo(getClass(), message);
+                }
+
                 return true;
             } else {
-                String message =
-                        "The selection of item \"" + item.getData() + " at index " + index +
-                                " has not been changed, because it is already " +
-                                (selected ? "selected" : "unselected");
-                getLogger().logDebug(getClass(), message);
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message =
+                            "The selection of item \"" + item.getData() + " at index " + index +
+                                    " has not been changed, because it is already " +
+                                    (selected ? "selected" : "unselected");
+                    getLogger().logDebug(getClass(), message);
+                }
+
                 return false;
             }
         } else {
-            String message = "Item \"" + item.getData() + " at index " + index +
-                    " not selected, because it is disabled";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Item \"" + item.getData() + " at index " + index +
+                        " not selected, because it is disabled";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
     }
@@ -430,10 +430,46 @@ public class MultipleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final boolean setAllSelected(final boolean selected) {
+        boolean result = setRangeSelected(0, getCount(), selected);
+
+        if (isLoggable(LogLevel.INFO)) {
+            String message = (selected ? "Selected" : "Unselected") + " all items";
+            getLogger().logInfo(getClass(), message);
+        }
+
+        return result;
+    }
+
+    @Override
+    public final boolean setRangeSelected(final int start, final int end, final boolean selected) {
+        ensureValidRange(start, end);
         boolean result = true;
+        int[] changedIndices = new int[end - start];
+        int changedCount = 0;
 
-        for (int i = 0; i < getCount(); i++) {
-            result &= setSelected(i, selected);
+        for (int i = start; i < end; i++) {
+            Item<DataType> item = getItems().get(i);
+
+            if (item.isEnabled() && item.isSelected() != selected) {
+                storeSelection(i, selected);
+                changedIndices[changedCount++] = i;
+            } else {
+                result = false;
+            }
+        }
+
+        if (changedCount > 0) {
+            int first = changedIndices[0];
+            int last = changedIndices[changedCount - 1];
+            notifyOnSelectionsChanged(new IndexList(Arrays.copyOf(changedIndices, changedCount)),
+                    selected);
+            notifyObserversOnItemRangeChanged(first, last - first + 1, ChangePayload.SELECTION);
+        }
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = (selected ? "Selected " : "Unselected ") + changedCount +
+                    " items in range [" + start + ", " + end + ")";
+            getLogger().logDebug(getClass(), message);
         }
 
         return result;
@@ -442,11 +478,44 @@ public class MultipleChoiceListAdapterImplementation<DataType>
     @Override
     public final boolean triggerAllSelections() {
         boolean result = true;
+        int[] selectedIndices = new int[getCount()];
+        int selectedCount = 0;
+        int[] unselectedIndices = new int[getCount()];
+        int unselectedCount = 0;
+        int first = -1;
+        int last = -1;
 
         for (int i = 0; i < getCount(); i++) {
-            result &= triggerSelection(i);
+            Item<DataType> item = getItems().get(i);
+
+            if (item.isEnabled()) {
+                if (item.isSelected()) {
+                    storeSelection(i, false);
+                    unselectedIndices[unselectedCount++] = i;
+                } else {
+                    storeSelection(i, true);
+                    selectedIndices[selectedCount++] = i;
+                }
+
+                if (first == -1) {
+                    first = i;
+                }
+
+                last = i;
+            } else {
+                result = false;
+            }
+        }
+
+        if (first != -1) {
+            notifyOnSelectionsChanged(
+                    new IndexList(Arrays.copyOf(selectedIndices, selectedCount)), true);
+            notifyOnSelectionsChanged(
+                    new IndexList(Arrays.copyOf(unselectedIndices, unselectedCount)), false);
+            notifyObserversOnItemRangeChanged(first, last - first + 1, ChangePayload.SELECTION);
         }
 
+        getLogger().logInfo(getClass(), "Triggered the selections of all items");
         return result;
     }
 
@@ -463,12 +532,19 @@ public class MultipleChoiceListAdapterImplementation<DataType>
     @Override
     public final MultipleChoiceListAdapterImplementation<DataType> clone()
             throws CloneNotSupportedException {
-        return new MultipleChoiceListAdapterImplementation<>(getContext(), getDecorator(),
-                getLogLevel(), cloneItems(), areDuplicatesAllowed(), isNotifiedOnChange(),
-                getItemClickListeners(), getItemLongClickListeners(), getAdapterListeners(),
-                getEnableStateListeners(), getNumberOfItemStates(), isItemStateTriggeredOnClick(),
-                getItemStateListeners(), getSortingListeners(), getFilterListeners(),
-                cloneAppliedFilters(), isItemSelectedOnClick(), getSelectionListeners());
+        MultipleChoiceListAdapterImplementation<DataType> clonedAdapter =
+                new MultipleChoiceListAdapterImplementation<>(getContext(), getDecorator(),
+                        getLogLevel(), cloneItems(), areDuplicatesAllowed(), isNotifiedOnChange(),
+                        getItemClickListeners(), getItemLongClickListeners(),
+                        getAdapterListeners(), getEnableStateListeners(), getNumberOfItemStates(),
+                        isItemStateTriggeredOnClick(), getItemStateListeners(),
+                        getSortingListeners(), getFilterListeners(), cloneAppliedFilters(),
+                        isItemSelectedOnClick(), getSelectionListeners());
+        clonedAdapter.useHashIndex(isHashIndexUsed());
+        clonedAdapter.setDiffCallback(getDiffCallback());
+        clonedAdapter.setItemIdProvider(getItemIdProvider());
+        clonedAdapter.setItemCodec(getItemCodec());
+        return clonedAdapter;
     }
 
 }
\ No newline at end of file
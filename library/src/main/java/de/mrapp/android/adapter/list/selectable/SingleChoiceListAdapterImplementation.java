@@ -27,12 +27,14 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 
+import de.mrapp.android.adapter.ChangePayload;
 import de.mrapp.android.adapter.Filter;
 import de.mrapp.android.adapter.SelectableListDecorator;
 import de.mrapp.android.adapter.SingleChoiceListAdapter;
 import de.mrapp.android.adapter.datastructure.AppliedFilter;
 import de.mrapp.android.adapter.datastructure.item.Item;
 import de.mrapp.android.adapter.list.ListAdapter;
+import de.mrapp.android.adapter.list.ListAdapterBatchListener;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
 import de.mrapp.android.adapter.list.ListAdapterItemLongClickListener;
 import de.mrapp.android.adapter.list.ListAdapterListener;
@@ -114,10 +116,10 @@ public class SingleChoiceListAdapterImplementation<DataType>
      * when an item has been removed from or added to the adapter.
      *
      * @return The listener, which has been created, as an instance of the type {@link
-     * ListAdapterListener}
+     * ListAdapterBatchListener}
      */
-    private ListAdapterListener<DataType> createAdapterListener() {
-        return new ListAdapterListener<DataType>() {
+    private ListAdapterBatchListener<DataType> createAdapterListener() {
+        return new ListAdapterBatchListener<DataType>() {
 
             @Override
             public void onItemAdded(@NonNull final ListAdapter<DataType> adapter,
@@ -135,6 +137,22 @@ public class SingleChoiceListAdapterImplementation<DataType>
                 }
             }
 
+            @Override
+            public void onItemsAdded(@NonNull final ListAdapter<DataType> adapter,
+                                     @NonNull final List<DataType> items, final int index) {
+                if (isSelectionAdaptedAutomatically() && getCount() == items.size()) {
+                    selectItem(index);
+                }
+            }
+
+            @Override
+            public void onItemsRemoved(@NonNull final ListAdapter<DataType> adapter,
+                                       @NonNull final List<DataType> items, final int index) {
+                if (isSelectionAdaptedAutomatically() && !isEmpty() && getSelectedIndex() == -1) {
+                    selectNearestEnabledItem(index);
+                }
+            }
+
         };
     }
 
@@ -160,9 +178,9 @@ public class SingleChoiceListAdapterImplementation<DataType>
             public void onItemDisabled(@NonNull final ListAdapter<DataType> adapter,
                                        @NonNull final DataType item, final int index) {
                 if (isSelectionAdaptedAutomatically() && isSelected(index)) {
-                    getItems().get(index).setSelected(false);
+                    storeSelection(index, false);
                     notifyOnItemUnselected(item, index);
-                    notifyObserversOnItemChanged(index);
+                    notifyObserversOnItemChanged(index, ChangePayload.SELECTION);
                     selectNearestEnabledItem(index);
                 }
             }
@@ -199,6 +217,7 @@ public class SingleChoiceListAdapterImplementation<DataType>
                     selectItem(0);
                 }
             }
+
         };
     }
 
@@ -243,19 +262,25 @@ public class SingleChoiceListAdapterImplementation<DataType>
                     Item<DataType> currentItem = getItems().get(i);
 
                     if (i == index && !currentItem.isSelected()) {
-                        currentItem.setSelected(true);
+                        storeSelection(i, true);
                         notifyOnItemSelected(currentItem.getData(), i);
-                        notifyObserversOnItemChanged(i);
-                        String message =
-                                "Selected item \"" + currentItem.getData() + "\" at index " + i;
-                        getLogger().logInfo(getClass(), message);
+                        notifyObserversOnItemChanged(i, ChangePayload.SELECTION);
+
+                        if (isLoggable(LogLevel.INFO)) {
+                            String message =
+                                    "Selected item \"" + currentItem.getData() + "\" at index " + i;
+                            getLogger().logInfo(getClass(), message);
+                        }
                     } else if (i != index && currentItem.isSelected()) {
-                        currentItem.setSelected(false);
+                        storeSelection(i, false);
                         notifyOnItemUnselected(currentItem.getData(), i);
-                        notifyObserversOnItemChanged(i);
-                        String message =
-                                "Unselected item \"" + currentItem.getData() + "\" at index " + i;
-                        getLogger().logInfo(getClass(), message);
+                        notifyObserversOnItemChanged(i, ChangePayload.SELECTION);
+
+                        if (isLoggable(LogLevel.INFO)) {
+                            String message = "Unselected item \"" + currentItem.getData() +
+                                    "\" at index " + i;
+                            getLogger().logInfo(getClass(), message);
+                        }
                     }
                 }
             }
@@ -385,24 +410,13 @@ public class SingleChoiceListAdapterImplementation<DataType>
 
     @Override
     public final int getSelectedIndex() {
-        for (int i = 0; i < getCount(); i++) {
-            if (getItems().get(i).isSelected()) {
-                return i;
-            }
-        }
-
-        return -1;
+        return getFlagIndex().nextSelectedIndex(0, true);
     }
 
     @Override
     public final DataType getSelectedItem() {
-        for (Item<DataType> item : getItems()) {
-            if (item.isSelected()) {
-                return item.getData();
-            }
-        }
-
-        return null;
+        int index = getSelectedIndex();
+        return index != -1 ? getItem(index) : null;
     }
 
     @Override
@@ -414,17 +428,24 @@ public class SingleChoiceListAdapterImplementation<DataType>
                 selectItem(index);
                 return true;
             } else {
-                item.setSelected(false);
+                storeSelection(index, false);
                 notifyOnItemUnselected(item.getData(), index);
-                notifyObserversOnItemChanged(index);
-                String message = "Unselected item \"" + item.getData() + "\" at index " + index;
-                getLogger().logDebug(getClass(), message);
+                notifyObserversOnItemChanged(index, ChangePayload.SELECTION);
+
+                if (isLoggable(LogLevel.DEBUG)) {
+                    String message = "Unselected item \"" + item.getData() + "\" at index " + index;
+                    getLogger().logDebug(getClass(), message);
+                }
+
                 return true;
             }
         } else {
-            String message = "Item \"" + item.getData() + "\" at index " + index +
-                    " not selected, because it is disabled";
-            getLogger().logDebug(getClass(), message);
+            if (isLoggable(LogLevel.DEBUG)) {
+                String message = "Item \"" + item.getData() + "\" at index " + index +
+                        " not selected, because it is disabled";
+                getLogger().logDebug(getClass(), message);
+            }
+
             return false;
         }
     }
@@ -476,13 +497,20 @@ public class SingleChoiceListAdapterImplementation<DataType>
     @Override
     public final SingleChoiceListAdapterImplementation<DataType> clone()
             throws CloneNotSupportedException {
-        return new SingleChoiceListAdapterImplementation<>(getContext(), getDecorator(),
-                getLogLevel(), cloneItems(), areDuplicatesAllowed(), isNotifiedOnChange(),
-                getItemClickListeners(), getItemLongClickListeners(), getAdapterListeners(),
-                getEnableStateListeners(), getNumberOfItemStates(), isItemStateTriggeredOnClick(),
-                getItemStateListeners(), getSortingListeners(), getFilterListeners(),
-                cloneAppliedFilters(), isItemSelectedOnClick(), getSelectionListeners(),
-                isSelectionAdaptedAutomatically());
+        SingleChoiceListAdapterImplementation<DataType> clonedAdapter =
+                new SingleChoiceListAdapterImplementation<>(getContext(), getDecorator(),
+                        getLogLevel(), cloneItems(), areDuplicatesAllowed(), isNotifiedOnChange(),
+                        getItemClickListeners(), getItemLongClickListeners(),
+                        getAdapterListeners(), getEnableStateListeners(), getNumberOfItemStates(),
+                        isItemStateTriggeredOnClick(), getItemStateListeners(),
+                        getSortingListeners(), getFilterListeners(), cloneAppliedFilters(),
+                        isItemSelectedOnClick(), getSelectionListeners(),
+                        isSelectionAdaptedAutomatically());
+        clonedAdapter.useHashIndex(isHashIndexUsed());
+        clonedAdapter.setDiffCallback(getDiffCallback());
+        clonedAdapter.setItemIdProvider(getItemIdProvider());
+        clonedAdapter.setItemCodec(getItemCodec());
+        return clonedAdapter;
     }
 
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 
 import androidx.annotation.CallSuper;
@@ -33,6 +34,7 @@ import de.mrapp.android.adapter.datastructure.item.Item;
 import de.mrapp.android.adapter.datastructure.item.ItemComparator;
 import de.mrapp.android.adapter.decorator.AbstractListDecorator;
 import de.mrapp.android.adapter.list.ListAdapter;
+import de.mrapp.android.adapter.list.ListAdapterBatchListener;
 import de.mrapp.android.adapter.list.ListAdapterItemClickListener;
 import de.mrapp.android.adapter.list.ListAdapterItemLongClickListener;
 import de.mrapp.android.adapter.list.ListAdapterListener;
@@ -110,10 +112,11 @@ public abstract class AbstractSortableListAdapter<DataType, DecoratorType extend
      * Creates and returns a listener, which allows to invalidate the current order of the adapter's
      * items, when its underlying data is changed.
      *
-     * @return The listener, which has been created, as an instance of the type {@link ListAdapter}
+     * @return The listener, which has been created, as an instance of the type {@link
+     * ListAdapterBatchListener}
      */
-    private ListAdapterListener<DataType> createAdapterListener() {
-        return new ListAdapterListener<DataType>() {
+    private ListAdapterBatchListener<DataType> createAdapterListener() {
+        return new ListAdapterBatchListener<DataType>() {
 
             @Override
             public void onItemAdded(@NonNull final ListAdapter<DataType> adapter,
@@ -127,6 +130,18 @@ public abstract class AbstractSortableListAdapter<DataType, DecoratorType extend
 
             }
 
+            @Override
+            public void onItemsAdded(@NonNull final ListAdapter<DataType> adapter,
+                                     @NonNull final List<DataType> items, final int index) {
+                order = null;
+            }
+
+            @Override
+            public void onItemsRemoved(@NonNull final ListAdapter<DataType> adapter,
+                                       @NonNull final List<DataType> items, final int index) {
+
+            }
+
         };
     }
 
@@ -261,8 +276,10 @@ public abstract class AbstractSortableListAdapter<DataType, DecoratorType extend
     public final void sort(@NonNull final Order order,
                            @Nullable final Comparator<DataType> comparator) {
         Condition.INSTANCE.ensureNotNull(order, "The order may not be null");
+        List<DataType> snapshot = createDiffSnapshot();
         this.order = order;
         Comparator<Item<DataType>> itemComparator = new ItemComparator<>(comparator);
+        prepareItemsForModification();
 
         if (order == Order.ASCENDING) {
             Collections.sort(getItems(), itemComparator);
@@ -274,8 +291,10 @@ public abstract class AbstractSortableListAdapter<DataType, DecoratorType extend
             getLogger().logInfo(getClass(), message);
         }
 
+        invalidateHashIndex();
+        invalidateFlagIndex();
         notifyOnSorted(getAllItems(), order, comparator);
-        notifyObserversOnDataSetChanged();
+        notifyObserversOnDataSetChanged(snapshot);
     }
 
     @Override
@@ -351,16 +370,22 @@ public abstract class AbstractSortableListAdapter<DataType, DecoratorType extend
     public final void addSortingListener(@NonNull final ListSortingListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         sortingListeners.add(listener);
-        String message = "Added sorting listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Added sorting listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @Override
     public final void removeSortingListener(@NonNull final ListSortingListener<DataType> listener) {
         Condition.INSTANCE.ensureNotNull(listener, "The listener may not be null");
         sortingListeners.remove(listener);
-        String message = "Removed sorting listener \"" + listener + "\"";
-        getLogger().logDebug(getClass(), message);
+
+        if (isLoggable(LogLevel.DEBUG)) {
+            String message = "Removed sorting listener \"" + listener + "\"";
+            getLogger().logDebug(getClass(), message);
+        }
     }
 
     @CallSuper
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.util;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * An utility class, which provides static methods, which allow to write the saved state of
+ * adapters to files and to read it again.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public final class FileUtil {
+
+    /**
+     * The suffix of the temporary file, data is written to, before it replaces the actual file.
+     */
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Creates a new utility class, which provides static methods, which allow to write the saved
+     * state of adapters to files and to read it again.
+     */
+    private FileUtil() {
+
+    }
+
+    /**
+     * Writes specific data to a file. The data is written to a temporary file first, which
+     * replaces the given file, once it has been written completely. If necessary, the file's
+     * parent directory is created.
+     *
+     * @param file
+     *         The file, the data should be written to, as an instance of the class {@link File}.
+     *         The file may not be null
+     * @param data
+     *         The data, which should be written, as a {@link Byte} array. The array may not be
+     *         null
+     * @param sync
+     *         True, if the data should be synced to the storage device, before the given file is
+     *         replaced, false otherwise
+     * @throws IOException
+     *         The exception, which is thrown, if the file could not be written
+     */
+    public static void write(@NonNull final File file, @NonNull final byte[] data,
+                             final boolean sync) throws IOException {
+        Condition.INSTANCE.ensureNotNull(file, "The file may not be null");
+        Condition.INSTANCE.ensureNotNull(data, "The data may not be null");
+        File directory = file.getParentFile();
+
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Failed to create directory " + directory);
+        }
+
+        File temporaryFile = new File(directory, file.getName() + TEMPORARY_FILE_SUFFIX);
+        FileOutputStream stream = new FileOutputStream(temporaryFile);
+
+        try {
+            stream.write(data);
+
+            if (sync) {
+                stream.getFD().sync();
+            }
+        } finally {
+            stream.close();
+        }
+
+        if (!temporaryFile.renameTo(file)) {
+            temporaryFile.delete();
+            throw new IOException("Failed to replace file " + file);
+        }
+    }
+
+    /**
+     * Reads the whole content of a file.
+     *
+     * @param file
+     *         The file, which should be read, as an instance of the class {@link File}. The file
+     *         may not be null
+     * @return The content of the file as a {@link Byte} array. The array may not be null
+     * @throws IOException
+     *         The exception, which is thrown, if the file could not be read
+     */
+    @NonNull
+    public static byte[] read(@NonNull final File file) throws IOException {
+        Condition.INSTANCE.ensureNotNull(file, "The file may not be null");
+        long length = file.length();
+
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("File " + file + " is too large");
+        }
+
+        byte[] data = new byte[(int) length];
+        DataInputStream stream = new DataInputStream(new FileInputStream(file));
+
+        try {
+            stream.readFully(data);
+        } finally {
+            stream.close();
+        }
+
+        return data;
+    }
+
+}
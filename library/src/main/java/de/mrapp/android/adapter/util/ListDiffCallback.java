@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.util;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import de.mrapp.util.Condition;
+
+/**
+ * A callback, which allows to calculate the difference between two lists by using the class
+ * {@link DiffUtil}. Whether two items represent the same entity and whether their contents are the
+ * same is decided by a {@link DiffUtil.ItemCallback}.
+ *
+ * @param <Type>
+ *         The type of the lists' items
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class ListDiffCallback<Type> extends DiffUtil.Callback {
+
+    /**
+     * The maximum total number of items of both lists, for which the difference should be
+     * calculated. For larger lists, calculating the difference may take longer than rebinding all
+     * views.
+     */
+    public static final int MAX_ITEM_COUNT = 5000;
+
+    /**
+     * The list, which contains the items before they have been modified.
+     */
+    private final List<Type> oldList;
+
+    /**
+     * The list, which contains the items after they have been modified.
+     */
+    private final List<Type> newList;
+
+    /**
+     * The callback, which is used to compare the items.
+     */
+    private final DiffUtil.ItemCallback<Type> itemCallback;
+
+    /**
+     * Creates a new callback, which allows to calculate the difference between two lists.
+     *
+     * @param oldList
+     *         The list, which contains the items before they have been modified, as an instance of
+     *         the type {@link List}. The list may not be null
+     * @param newList
+     *         The list, which contains the items after they have been modified, as an instance of
+     *         the type {@link List}. The list may not be null
+     * @param itemCallback
+     *         The callback, which should be used to compare the items, as an instance of the class
+     *         {@link DiffUtil.ItemCallback}. The callback may not be null
+     */
+    public ListDiffCallback(@NonNull final List<Type> oldList, @NonNull final List<Type> newList,
+                            @NonNull final DiffUtil.ItemCallback<Type> itemCallback) {
+        Condition.INSTANCE.ensureNotNull(oldList, "The old list may not be null");
+        Condition.INSTANCE.ensureNotNull(newList, "The new list may not be null");
+        Condition.INSTANCE.ensureNotNull(itemCallback, "The item callback may not be null");
+        this.oldList = oldList;
+        this.newList = newList;
+        this.itemCallback = itemCallback;
+    }
+
+    /**
+     * Returns, whether the difference between two lists, which contain a specific number of items,
+     * should be calculated, or not.
+     *
+     * @param oldSize
+     *         The number of items, which are contained by the list before it has been modified, as
+     *         an {@link Integer} value
+     * @param newSize
+     *         The number of items, which are contained by the list after it has been modified, as
+     *         an {@link Integer} value
+     * @return True, if the difference should be calculated, false otherwise
+     */
+    public static boolean isDiffFeasible(final int oldSize, final int newSize) {
+        return oldSize + newSize <= MAX_ITEM_COUNT;
+    }
+
+    @Override
+    public final int getOldListSize() {
+        return oldList.size();
+    }
+
+    @Override
+    public final int getNewListSize() {
+        return newList.size();
+    }
+
+    @Override
+    public final boolean areItemsTheSame(final int oldItemPosition, final int newItemPosition) {
+        return itemCallback
+                .areItemsTheSame(oldList.get(oldItemPosition), newList.get(newItemPosition));
+    }
+
+    @Override
+    public final boolean areContentsTheSame(final int oldItemPosition,
+                                            final int newItemPosition) {
+        return itemCallback
+                .areContentsTheSame(oldList.get(oldItemPosition), newList.get(newItemPosition));
+    }
+
+    @Nullable
+    @Override
+    public final Object getChangePayload(final int oldItemPosition, final int newItemPosition) {
+        return itemCallback
+                .getChangePayload(oldList.get(oldItemPosition), newList.get(newItemPosition));
+    }
+
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.util;
+
+import android.os.Build;
+import android.view.Choreographer;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.recyclerview.widget.RecyclerView;
+import de.mrapp.android.adapter.ChangePayload;
+import de.mrapp.util.Condition;
+
+/**
+ * A scheduler, which allows to collect notifications about items of an adapter, which have been
+ * changed, and to dispatch them once per frame. Changed items are merged into consecutive ranges,
+ * which are dispatched by using the method <code>notifyItemRangeChanged(int, int,
+ * Object):void</code>. The changed items are tracked separately for each {@link ChangePayload}, so
+ * that one notification per payload is dispatched for each range, instead of falling back to a
+ * full rebind, if items have been changed in different ways. If a full notification has been scheduled, all pending notifications are
+ * dispatched by a single call of the method <code>notifyDataSetChanged():void</code>. Notifications
+ * about inserted, moved or removed items must not be deferred and are therefore not supported.
+ * Instead, pending notifications must be flushed before such notifications are dispatched. All
+ * methods of the scheduler must be called on the UI thread.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public class NotificationScheduler {
+
+    /**
+     * The adapter, whose observers are notified.
+     */
+    private final RecyclerView.Adapter<?> adapter;
+
+    /**
+     * The runnable, which is used to flush the pending notifications on devices, which do not
+     * provide a {@link Choreographer}.
+     */
+    private final Runnable flushRunnable;
+
+    /**
+     * The callback, which is used to flush the pending notifications once per frame, or null, if
+     * it has not been created yet.
+     */
+    private Choreographer.FrameCallback frameCallback;
+
+    /**
+     * An array, which contains a bit set for each {@link ChangePayload}, which contains the indices
+     * of the items, which have been changed in the way described by the payload. An array element
+     * is null, if no items have been changed in this way.
+     */
+    private final BitSet[] changedItemsByPayload;
+
+    /**
+     * A bit set, which contains the indices of the items, which have been changed without a payload
+     * or with a payload, which is not a {@link ChangePayload}, or null, if no such items have been
+     * changed.
+     */
+    private BitSet changedItems;
+
+    /**
+     * The payload, which describes the changes of the items, which are contained by the bit set
+     * <code>changedItems</code>, or null, if no payload is available.
+     */
+    private Object payload;
+
+    /**
+     * Returns, whether a specific bit set contains any indices, or not.
+     *
+     * @param bitSet
+     *         The bit set, which should be checked, as an instance of the class {@link BitSet} or
+     *         null
+     * @return True, if the given bit set is not null and contains any indices, false otherwise
+     */
+    private static boolean isNotEmpty(@Nullable final BitSet bitSet) {
+        return bitSet != null && !bitSet.isEmpty();
+    }
+
+    /**
+     * Notifies the adapter's observers about the consecutive ranges of items, which are contained
+     * by a specific bit set.
+     *
+     * @param items
+     *         The bit set, which contains the indices of the changed items, as an instance of the
+     *         class {@link BitSet}. The bit set may not be null
+     * @param itemPayload
+     *         The payload, which should be dispatched, as an instance of the class {@link Object}
+     *         or null, if no payload should be dispatched
+     */
+    private void notifyItemRangesChanged(@NonNull final BitSet items,
+                                         @Nullable final Object itemPayload) {
+        int start = items.nextSetBit(0);
+
+        while (start >= 0) {
+            int end = items.nextClearBit(start);
+            adapter.notifyItemRangeChanged(start, end - start, itemPayload);
+            start = items.nextSetBit(end);
+        }
+    }
+
+    /**
+     * Clears all bit sets, which contain the indices of changed items.
+     */
+    private void clearChangedItems() {
+        payload = null;
+
+        if (changedItems != null) {
+            changedItems.clear();
+        }
+
+        for (BitSet items : changedItemsByPayload) {
+            if (items != null) {
+                items.clear();
+            }
+        }
+    }
+
+    /**
+     * True, if a full notification has been scheduled, false otherwise.
+     */
+    private boolean dataSetChanged;
+
+    /**
+     * True, if flushing the pending notifications has been scheduled, false otherwise.
+     */
+    private boolean scheduled;
+
+    /**
+     * Creates and returns a runnable, which flushes the pending notifications.
+     *
+     * @return The runnable, which has been created, as an instance of the type {@link Runnable}.
+     * The runnable may not be null
+     */
+    @NonNull
+    private Runnable createFlushRunnable() {
+        return new Runnable() {
+
+            @Override
+            public void run() {
+                scheduled = false;
+                flushNow();
+            }
+
+        };
+    }
+
+    /**
+     * Returns the callback, which is used to flush the pending notifications once per frame. The
+     * callback is created, if necessary.
+     *
+     * @return The callback as an instance of the type {@link Choreographer.FrameCallback}. The
+     * callback may not be null
+     */
+    @NonNull
+    @RequiresApi(api = Build.VERSION_CODES.JELLY_BEAN)
+    private Choreographer.FrameCallback getFrameCallback() {
+        if (frameCallback == null) {
+            frameCallback = new Choreographer.FrameCallback() {
+
+                @Override
+                public void doFrame(final long frameTimeNanos) {
+                    scheduled = false;
+                    flushNow();
+                }
+
+            };
+        }
+
+        return frameCallback;
+    }
+
+    /**
+     * Schedules to flush the pending notifications on the next frame, if not already scheduled.
+     */
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+                Choreographer.getInstance().postFrameCallback(getFrameCallback());
+            } else {
+                ThreadUtil.postOnUiThread(flushRunnable);
+            }
+        }
+    }
+
+    /**
+     * Cancels flushing the pending notifications, if it has been scheduled.
+     */
+    private void cancel() {
+        if (scheduled) {
+            scheduled = false;
+
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+                Choreographer.getInstance().removeFrameCallback(getFrameCallback());
+            } else {
+                ThreadUtil.getMainThreadHandler().removeCallbacks(flushRunnable);
+            }
+        }
+    }
+
+    /**
+     * Creates a new scheduler, which allows to collect notifications about items of an adapter,
+     * which have been changed, and to dispatch them once per frame.
+     *
+     * @param adapter
+     *         The adapter, whose observers should be notified, as an instance of the class {@link
+     *         RecyclerView.Adapter}. The adapter may not be null
+     */
+    public NotificationScheduler(@NonNull final RecyclerView.Adapter<?> adapter) {
+        Condition.INSTANCE.ensureNotNull(adapter, "The adapter may not be null");
+        this.adapter = adapter;
+        this.flushRunnable = createFlushRunnable();
+        this.frameCallback = null;
+        this.changedItemsByPayload = new BitSet[ChangePayload.values().length];
+        this.changedItems = null;
+        this.payload = null;
+        this.dataSetChanged = false;
+        this.scheduled = false;
+    }
+
+    /**
+     * Schedules a notification about multiple consecutive items, which have been changed. If the
+     * payload is a {@link ChangePayload}, the items are tracked separately for this payload. Items,
+     * which have been changed without a payload, or with any other payload, are merged. If such
+     * items have different payloads, no payload is dispatched for them.
+     *
+     * @param index
+     *         The index of the first item, which has been changed, as an {@link Integer} value.
+     *         The index must be at least 0
+     * @param itemCount
+     *         The number of items, which have been changed, as an {@link Integer} value
+     * @param payload
+     *         An optional payload, which describes the change, as an instance of the class {@link
+     *         Object} or null, if no payload is available
+     */
+    public final void scheduleItemRangeChanged(final int index, final int itemCount,
+                                               @Nullable final Object payload) {
+        Condition.INSTANCE.ensureAtLeast(index, 0, "The index must be at least 0");
+
+        if (!dataSetChanged && itemCount > 0) {
+            if (payload instanceof ChangePayload) {
+                int ordinal = ((ChangePayload) payload).ordinal();
+
+                if (changedItemsByPayload[ordinal] == null) {
+                    changedItemsByPayload[ordinal] = new BitSet();
+                }
+
+                changedItemsByPayload[ordinal].set(index, index + itemCount);
+            } else {
+                if (changedItems == null) {
+                    changedItems = new BitSet();
+                }
+
+                if (changedItems.isEmpty()) {
+                    this.payload = payload;
+                } else if (this.payload != null && !this.payload.equals(payload)) {
+                    this.payload = null;
+                }
+
+                changedItems.set(index, index + itemCount);
+            }
+
+            schedule();
+        }
+    }
+
+    /**
+     * Schedules a notification about the adapter's underlying data, which has been changed. Any
+     * pending notifications about changed items are dispatched by this notification as well.
+     */
+    public final void scheduleDataSetChanged() {
+        dataSetChanged = true;
+        clearChangedItems();
+        schedule();
+    }
+
+    /**
+     * Returns, whether notifications are pending, or not.
+     *
+     * @return True, if notifications are pending, false otherwise
+     */
+    public final boolean hasPendingNotifications() {
+        if (dataSetChanged || isNotEmpty(changedItems)) {
+            return true;
+        }
+
+        for (BitSet items : changedItemsByPayload) {
+            if (isNotEmpty(items)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Discards all pending notifications without dispatching them. This method must only be
+     * called, if a full notification is dispatched right away.
+     */
+    public final void discard() {
+        cancel();
+        dataSetChanged = false;
+        clearChangedItems();
+    }
+
+    /**
+     * Dispatches all pending notifications immediately instead of waiting for the next frame.
+     * Items, which must be rebound completely, are not notified about any {@link ChangePayload}.
+     * All other items are notified once for each {@link ChangePayload}, which applies to them.
+     */
+    public final void flushNow() {
+        cancel();
+
+        if (dataSetChanged) {
+            dataSetChanged = false;
+            adapter.notifyDataSetChanged();
+        } else if (hasPendingNotifications()) {
+            BitSet items = changedItems;
+            Object itemPayload = payload;
+            BitSet[] itemsByPayload = changedItemsByPayload.clone();
+            changedItems = null;
+            payload = null;
+            Arrays.fill(changedItemsByPayload, null);
+
+            if (isNotEmpty(items)) {
+                notifyItemRangesChanged(items, itemPayload);
+            }
+
+            ChangePayload[] payloads = ChangePayload.values();
+
+            for (int i = 0; i < itemsByPayload.length; i++) {
+                BitSet payloadItems = itemsByPayload[i];
+
+                if (isNotEmpty(payloadItems)) {
+                    if (itemPayload == null && items != null) {
+                        payloadItems.andNot(items);
+                    }
+
+                    notifyItemRangesChanged(payloadItems, payloads[i]);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014 - 2019 Michael Rapp
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package de.mrapp.android.adapter.util;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import androidx.annotation.NonNull;
+import de.mrapp.util.Condition;
+
+/**
+ * An utility class, which provides static methods, which allow to run tasks on the UI thread and
+ * provides the executors, which are used by default to run tasks of adapters in the background.
+ * The handler and the executors are shared by all adapters and are created lazily, when they are
+ * first used.
+ *
+ * @author Michael Rapp
+ * @since 0.13.0
+ */
+public final class ThreadUtil {
+
+    /**
+     * The handler, which is used to post tasks to the UI thread.
+     */
+    private static Handler mainThreadHandler;
+
+    /**
+     * The executor, which is used by default to restore and save the state of adapters, as well as
+     * to calculate differences between their items, in the background.
+     */
+    private static Executor restoreExecutor;
+
+    /**
+     * The executor, which is used by default to filter the items of adapters in the background.
+     */
+    private static Executor filterExecutor;
+
+    /**
+     * The executor, which is used by default to load the pages of adapters in the background.
+     */
+    private static Executor loadExecutor;
+
+    /**
+     * Creates a new utility class, which provides static methods, which allow to run tasks on the
+     * UI thread and provides the executors, which are used by default to run tasks of adapters in
+     * the background.
+     */
+    private ThreadUtil() {
+
+    }
+
+    /**
+     * Returns, whether the current thread is the UI thread, or not.
+     *
+     * @return True, if the current thread is the UI thread, false otherwise
+     */
+    public static boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    /**
+     * Returns the handler, which is used to post tasks to the UI thread.
+     *
+     * @return The handler, which is used to post tasks to the UI thread, as an instance of the
+     * class {@link Handler}. The handler may not be null
+     */
+    @NonNull
+    public static synchronized Handler getMainThreadHandler() {
+        if (mainThreadHandler == null) {
+            mainThreadHandler = new Handler(Looper.getMainLooper());
+        }
+
+        return mainThreadHandler;
+    }
+
+    /**
+     * Runs a specific task on the UI thread. If the current thread is the UI thread, the task is
+     * run immediately, otherwise it is posted to the UI thread.
+     *
+     * @param runnable
+     *         The task, which should be run, as an instance of the type {@link Runnable}. The task
+     *         may not be null
+     */
+    public static void runOnUiThread(@NonNull final Runnable runnable) {
+        Condition.INSTANCE.ensureNotNull(runnable, "The runnable may not be null");
+
+        if (isMainThread()) {
+            runnable.run();
+        } else {
+            getMainThreadHandler().post(runnable);
+        }
+    }
+
+    /**
+     * Posts a specific task to the UI thread. The task is run asynchronously, even if the current
+     * thread is the UI thread.
+     *
+     * @param runnable
+     *         The task, which should be posted, as an instance of the type {@link Runnable}. The
+     *         task may not be null
+     */
+    public static void postOnUiThread(@NonNull final Runnable runnable) {
+        Condition.INSTANCE.ensureNotNull(runnable, "The runnable may not be null");
+        getMainThreadHandler().post(runnable);
+    }
+
+    /**
+     * Returns the executor, which is used by default to restore and save the state of adapters, as
+     * well as to calculate differences between their items, in the background.
+     *
+     * @return The executor, which is used by default to restore and save the state of adapters, as
+     * an instance of the type {@link Executor}. The executor may not be null
+     */
+    @NonNull
+    public static synchronized Executor getDefaultRestoreExecutor() {
+        if (restoreExecutor == null) {
+            restoreExecutor = Executors.newSingleThreadExecutor();
+        }
+
+        return restoreExecutor;
+    }
+
+    /**
+     * Returns the executor, which is used by default to filter the items of adapters in the
+     * background.
+     *
+     * @return The executor, which is used by default to filter the items of adapters, as an
+     * instance of the type {@link Executor}. The executor may not be null
+     */
+    @NonNull
+    public static synchronized Executor getDefaultFilterExecutor() {
+        if (filterExecutor == null) {
+            filterExecutor = Executors.newSingleThreadExecutor();
+        }
+
+        return filterExecutor;
+    }
+
+    /**
+     * Returns the executor, which is used by default to load the pages of adapters in the
+     * background.
+     *
+     * @return The executor, which is used by default to load the pages of adapters, as an instance
+     * of the type {@link Executor}. The executor may not be null
+     */
+    @NonNull
+    public static synchronized Executor getDefaultLoadExecutor() {
+        if (loadExecutor == null) {
+            loadExecutor = Executors.newSingleThreadExecutor();
+        }
+
+        return loadExecutor;
+    }
+
+}